@@ -0,0 +1,104 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the {@link Validator} compiled by the {@link RuleLoader} against the same checks written by hand, on a valid
+ * and an invalid set of parameters. Run using {@code gradle jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RuleLoaderBenchmark
+{
+
+    private static final String RULES = "username text isPresent\n" +
+                                        "username text notLongerThan 32\n" +
+                                        "username text isMatch ^[a-z0-9_]+$\n" +
+                                        "role     text isIn admin, user, guest\n" +
+                                        "age      int  isBetween 18 130\n";
+
+    private static final Pattern      USERNAME = Pattern.compile("^[a-z0-9_]+$");
+    private static final List<String> ROLES    = Arrays.asList("admin", "user", "guest");
+
+    private Validator<Parameters<String>> rules;
+    private Parameters<String>            valid;
+    private Parameters<String>            invalid;
+
+    @Setup public void setup() throws IOException
+    {
+        rules = RuleLoader.load(new StringReader(RULES));
+        valid = parameters("thomas_vestergaard", "admin", "25");
+        invalid = parameters("Thomas Vestergaard", "root", "17");
+    }
+
+    @Benchmark public boolean rulesValid()
+    {
+        return rules.validate(valid);
+    }
+
+    @Benchmark public boolean handWrittenValid()
+    {
+        return handWritten(valid);
+    }
+
+    @Benchmark public boolean rulesInvalid()
+    {
+        return rules.validate(invalid);
+    }
+
+    @Benchmark public boolean handWrittenInvalid()
+    {
+        return handWritten(invalid);
+    }
+
+    /**
+     * The checks declared by {@link RuleLoaderBenchmark#RULES}, written by hand.
+     */
+    private static boolean handWritten(Parameters<String> parameters)
+    {
+        boolean passed = parameters.onText("username", username -> {
+            if (username.isPresent()) {
+                username.notLongerThan(32);
+                username.isMatch(USERNAME);
+            }
+        });
+
+        passed &= parameters.onText("role", role -> {
+            if (role.getValue() != null)
+                role.isIn(ROLES);
+        });
+
+        passed &= parameters.isInt("age") && parameters.onInt("age", age -> age.isBetween(18, 130));
+
+        return passed;
+    }
+
+    private static Parameters<String> parameters(String username, String role, String age)
+    {
+        Map<String, String> values = new HashMap<>();
+        values.put("username", username);
+        values.put("role", role);
+        values.put("age", age);
+
+        return new HttpServletRequestParameters(null)
+        {
+            @Override protected String lookup(String name)
+            {
+                return values.get(name);
+            }
+        };
+    }
+}
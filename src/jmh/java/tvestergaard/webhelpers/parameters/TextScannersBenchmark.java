@@ -0,0 +1,117 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.apache.commons.validator.routines.DomainValidator;
+import org.apache.commons.validator.routines.EmailValidator;
+import org.apache.commons.validator.routines.InetAddressValidator;
+import org.apache.commons.validator.routines.UrlValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link TextScanners} against the regular expression based validators in commons-validator, using the
+ * conformance corpus shared with the {@code TextScannersTest}. Run using {@code gradle jmh}, preferably with
+ * {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TextScannersBenchmark
+{
+
+    private final List<String> hostnames = new ArrayList<>();
+    private final List<String> addresses = new ArrayList<>();
+    private final List<String> emails    = new ArrayList<>();
+    private final List<String> urls      = new ArrayList<>();
+
+    private final DomainValidator      domainValidator      = DomainValidator.getInstance(true);
+    private final InetAddressValidator inetAddressValidator = InetAddressValidator.getInstance();
+    private final EmailValidator       emailValidator       = EmailValidator.getInstance(true, true);
+    private final UrlValidator         urlValidator         = new UrlValidator(UrlValidator.ALLOW_ALL_SCHEMES + UrlValidator.ALLOW_LOCAL_URLS);
+
+    @Setup public void setup() throws IOException
+    {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("text-scanners-corpus.txt"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                String[] parts = line.split(" ", 3);
+                switch (parts[0]) {
+                    case "hostname":
+                        hostnames.add(parts[2]);
+                        break;
+                    case "inet":
+                        addresses.add(parts[2]);
+                        break;
+                    case "email":
+                        emails.add(parts[2]);
+                        break;
+                    case "url":
+                        urls.add(parts[2]);
+                        break;
+                }
+            }
+        }
+    }
+
+    @Benchmark public void hostnameScanner(Blackhole blackhole)
+    {
+        for (String hostname : hostnames)
+            blackhole.consume(TextScanners.isHostname(hostname));
+    }
+
+    @Benchmark public void hostnameValidator(Blackhole blackhole)
+    {
+        for (String hostname : hostnames)
+            blackhole.consume(domainValidator.isValid(hostname));
+    }
+
+    @Benchmark public void inetAddressScanner(Blackhole blackhole)
+    {
+        for (String address : addresses)
+            blackhole.consume(TextScanners.isInetAddress(address));
+    }
+
+    @Benchmark public void inetAddressValidator(Blackhole blackhole)
+    {
+        for (String address : addresses)
+            blackhole.consume(inetAddressValidator.isValid(address));
+    }
+
+    @Benchmark public void emailScanner(Blackhole blackhole)
+    {
+        for (String email : emails)
+            blackhole.consume(TextScanners.isEmail(email));
+    }
+
+    @Benchmark public void emailValidator(Blackhole blackhole)
+    {
+        for (String email : emails)
+            blackhole.consume(emailValidator.isValid(email));
+    }
+
+    @Benchmark public void urlScanner(Blackhole blackhole)
+    {
+        for (String url : urls)
+            blackhole.consume(TextScanners.isUrl(url));
+    }
+
+    @Benchmark public void urlValidator(Blackhole blackhole)
+    {
+        for (String url : urls)
+            blackhole.consume(urlValidator.isValid(url));
+    }
+}
@@ -0,0 +1,142 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.Arrays;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds. Every power of two is divided into {@code 32} buckets, so the
+ * reported percentiles are within about three percent of the recorded latencies, using a fixed amount of memory and
+ * without allocating while recording. Instances are not thread safe, every driver thread records into its own
+ * {@link LatencyHistogram}, which are merged when the run completes.
+ */
+final class LatencyHistogram
+{
+
+    /**
+     * The number of bits of each latency kept below its highest bit.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The number of buckets each power of two is divided into.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The number of latencies recorded in each bucket.
+     */
+    private final long[] counts = new long[64 * SUB_BUCKETS];
+
+    /**
+     * The number of latencies recorded.
+     */
+    private long count;
+
+    /**
+     * The highest latency recorded.
+     */
+    private long max;
+
+    /**
+     * Records the provided latency.
+     *
+     * @param nanos The latency to record, in nanoseconds.
+     */
+    void record(long nanos)
+    {
+        if (nanos < 0)
+            nanos = 0;
+
+        counts[index(nanos)]++;
+        count++;
+        if (nanos > max)
+            max = nanos;
+    }
+
+    /**
+     * Adds the latencies recorded by the provided {@link LatencyHistogram} to this {@link LatencyHistogram}.
+     *
+     * @param other The {@link LatencyHistogram} whose latencies to add.
+     */
+    void add(LatencyHistogram other)
+    {
+        for (int x = 0; x < counts.length; x++)
+            counts[x] += other.counts[x];
+        count += other.count;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Discards the recorded latencies.
+     */
+    void reset()
+    {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     *
+     * @return The number of latencies recorded.
+     */
+    long getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Returns the highest latency recorded.
+     *
+     * @return The highest latency recorded, in nanoseconds.
+     */
+    long getMax()
+    {
+        return max;
+    }
+
+    /**
+     * Returns the latency below which the provided {@code percentile} of the recorded latencies lie, rounded up to the
+     * upper bound of its bucket.
+     *
+     * @param percentile The percentile, between {@code 0} and {@code 100}.
+     *
+     * @return The latency at the provided {@code percentile}, in nanoseconds, {@code 0} when no latencies are recorded.
+     */
+    long getPercentile(double percentile)
+    {
+        if (count == 0)
+            return 0;
+
+        long rank  = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long total = 0;
+        for (int x = 0; x < counts.length; x++) {
+            total += counts[x];
+            if (total >= rank)
+                return Math.min(upperBound(x), max);
+        }
+
+        return max;
+    }
+
+    private static int index(long nanos)
+    {
+        if (nanos < SUB_BUCKETS)
+            return (int) nanos;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BUCKET_BITS;
+
+        return exponent * SUB_BUCKETS + (int) (nanos >>> exponent);
+    }
+
+    private static long upperBound(int index)
+    {
+        if (index < SUB_BUCKETS)
+            return index;
+
+        int exponent = index / SUB_BUCKETS - 1;
+        int top      = index % SUB_BUCKETS + SUB_BUCKETS;
+
+        return ((long) (top + 1) << exponent) - 1;
+    }
+}
@@ -0,0 +1,406 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+/**
+ * End-to-end load test validating whole requests through {@link HttpServletRequestParameters}. A number of driver
+ * threads validate pregenerated {@link StubRequests} in closed loops, writing the failures of the invalid requests
+ * using a {@link JsonFailureWriter}. After a warmup, the harness measures the throughput, the latency percentiles and
+ * the number of bytes allocated per request.
+ * <p>
+ * Only the number of bytes allocated per request is compared with the baseline: for a fixed configuration and seed it
+ * depends on the code rather than the machine, while the throughput and the latencies vary with the hardware and the
+ * load of the machine running the test. The throughput and the latencies are reported, to be compared by hand.
+ * <p>
+ * The harness is configured using {@code key=value} arguments:
+ * <ul>
+ * <li>{@code threads} The number of driver threads, defaults to the number of processors.</li>
+ * <li>{@code fields} The number of fields of each request, defaults to {@code 10}.</li>
+ * <li>{@code invalidRatio} The ratio of the requests having an invalid field, defaults to {@code 0.2}.</li>
+ * <li>{@code warmup} The number of seconds to warm up, defaults to {@code 10}.</li>
+ * <li>{@code duration} The number of seconds to measure, defaults to {@code 20}.</li>
+ * <li>{@code seed} The seed of the generated requests, defaults to {@code 42}.</li>
+ * <li>{@code arena} Whether the {@link Parameters} are drawn from a {@link RequestArena}, defaults to {@code false}.</li>
+ * <li>{@code views} Whether the fields are checked using the {@code on} methods, defaults to {@code false}.</li>
+ * <li>{@code baseline} The baseline file to compare the results with.</li>
+ * <li>{@code allocationTolerance} The allowed relative regression of the allocation rate, defaults to {@code 0.1}.</li>
+ * <li>{@code updateBaseline} Whether the results are written to the baseline file, defaults to {@code false}.</li>
+ * </ul>
+ * When the allocation rate regresses beyond the tolerance from the baseline, the harness exits with the status
+ * {@code 1}. The results are only compared with a baseline recorded using the same number of threads and fields, the
+ * same invalid ratio and seed, and the same style of validation. Run using {@code gradle loadTest}, which is part of
+ * {@code gradle check}, passing the arguments as project properties, like
+ * {@code gradle loadTest -Pduration=60 -PupdateBaseline=true}.
+ */
+public final class LoadTest
+{
+
+    /**
+     * The number of distinct requests validated by each driver thread.
+     */
+    private static final int REQUESTS = 4096;
+
+    /**
+     * The results that must match for a baseline to be compared.
+     */
+    private static final String[] CONFIGURATION_KEYS = {"threads", "fields", "invalidRatio", "seed", "arena", "views"};
+
+    /**
+     * The results recorded in the baseline: the configuration, and the allocation rate compared with it.
+     */
+    private static final String[] BASELINE_KEYS = {"threads", "fields", "invalidRatio", "seed", "arena", "views", "allocation"};
+
+    private static final Consumer<TextParameter<String>> NAME_CHECKS = parameter -> {
+        parameter.notEmpty();
+        parameter.notLongerThan(32);
+        parameter.isAlphanumeric();
+    };
+
+    private static final Consumer<TextParameter<String>> EMAIL_CHECKS = parameter -> {
+        parameter.notLongerThan(254);
+        parameter.isEmail();
+    };
+
+    private static final Consumer<IntParameter<String>> AGE_CHECKS = parameter -> parameter.isBetween(18, 130);
+
+    private static final Consumer<TextParameter<String>> URL_CHECKS = TextParameter::isUrl;
+
+    private static final Consumer<LongParameter<String>> ID_CHECKS = parameter -> parameter.isGreaterThan(0L);
+
+    /**
+     * Output stream discarding the failure documents.
+     */
+    private static final OutputStream DISCARD = new OutputStream()
+    {
+        @Override public void write(int b)
+        {
+
+        }
+
+        @Override public void write(byte[] bytes, int offset, int length)
+        {
+
+        }
+    };
+
+    private LoadTest()
+    {
+
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param arguments The {@code key=value} arguments configuring the load test.
+     *
+     * @throws Exception When the load test could not be run.
+     */
+    public static void main(String[] arguments) throws Exception
+    {
+        Properties configuration = new Properties();
+        for (String argument : arguments) {
+            int equals = argument.indexOf('=');
+            if (equals < 1)
+                throw new IllegalArgumentException("Arguments must be provided as key=value, not " + argument + '.');
+            configuration.setProperty(argument.substring(0, equals), argument.substring(equals + 1));
+        }
+
+        int     threads      = Integer.parseInt(configuration.getProperty("threads", Integer.toString(Runtime.getRuntime().availableProcessors())));
+        int     fields       = Integer.parseInt(configuration.getProperty("fields", "10"));
+        double  invalidRatio = Double.parseDouble(configuration.getProperty("invalidRatio", "0.2"));
+        int     warmup       = Integer.parseInt(configuration.getProperty("warmup", "10"));
+        int     duration     = Integer.parseInt(configuration.getProperty("duration", "20"));
+        long    seed         = Long.parseLong(configuration.getProperty("seed", "42"));
+        boolean arena        = Boolean.parseBoolean(configuration.getProperty("arena", "false"));
+        boolean views        = Boolean.parseBoolean(configuration.getProperty("views", "false"));
+
+        System.out.printf("threads=%d fields=%d invalidRatio=%s seed=%d warmup=%ds duration=%ds arena=%s views=%s%n",
+                          threads, fields, invalidRatio, seed, warmup, duration, arena, views);
+
+        Driver[] drivers = new Driver[threads];
+        for (int x = 0; x < threads; x++)
+            drivers[x] = new Driver(StubRequests.generate(REQUESTS, fields, invalidRatio, seed + x), fields, arena, views);
+
+        CountDownLatch start = new CountDownLatch(1);
+        for (Driver driver : drivers) {
+            driver.start = start;
+            driver.warmupNanos = warmup * 1_000_000_000L;
+            driver.durationNanos = duration * 1_000_000_000L;
+            driver.thread.start();
+        }
+
+        start.countDown();
+        LatencyHistogram histogram = new LatencyHistogram();
+        long             allocated = 0;
+        long             checksum  = 0;
+        for (Driver driver : drivers) {
+            driver.thread.join();
+            if (driver.failure != null)
+                throw new IllegalStateException("A driver thread failed.", driver.failure);
+            histogram.add(driver.histogram);
+            allocated = allocated < 0 || driver.allocated < 0 ? -1 : allocated + driver.allocated;
+            checksum += driver.checksum;
+        }
+
+        Properties results = new Properties();
+        results.setProperty("threads", Integer.toString(threads));
+        results.setProperty("fields", Integer.toString(fields));
+        results.setProperty("invalidRatio", Double.toString(invalidRatio));
+        results.setProperty("seed", Long.toString(seed));
+        results.setProperty("arena", Boolean.toString(arena));
+        results.setProperty("views", Boolean.toString(views));
+        results.setProperty("throughput", Long.toString(histogram.getCount() / Math.max(duration, 1)));
+        results.setProperty("p50", Long.toString(histogram.getPercentile(50)));
+        results.setProperty("p99", Long.toString(histogram.getPercentile(99)));
+        results.setProperty("p999", Long.toString(histogram.getPercentile(99.9)));
+        if (allocated >= 0)
+            results.setProperty("allocation", Long.toString(allocated / Math.max(histogram.getCount(), 1)));
+
+        System.out.printf("requests    %d (%d invalid fields)%n", histogram.getCount(), checksum);
+        System.out.printf("throughput  %s requests/s%n", results.getProperty("throughput"));
+        System.out.printf("p50         %s%n", micros(histogram.getPercentile(50)));
+        System.out.printf("p99         %s%n", micros(histogram.getPercentile(99)));
+        System.out.printf("p999        %s%n", micros(histogram.getPercentile(99.9)));
+        System.out.printf("max         %s%n", micros(histogram.getMax()));
+        System.out.printf("allocation  %s bytes/request%n", results.getProperty("allocation", "unknown"));
+
+        String baseline = configuration.getProperty("baseline");
+        if (baseline == null)
+            return;
+
+        Path baselineFile = Paths.get(baseline);
+        if (Boolean.parseBoolean(configuration.getProperty("updateBaseline", "false"))) {
+            Properties recorded = new Properties();
+            for (String key : BASELINE_KEYS)
+                if (results.containsKey(key))
+                    recorded.setProperty(key, results.getProperty(key));
+            try (Writer writer = Files.newBufferedWriter(baselineFile, StandardCharsets.UTF_8)) {
+                recorded.store(writer, "Load test baseline, update using gradle loadTest -PupdateBaseline=true");
+            }
+            System.out.println("Updated the baseline " + baselineFile + '.');
+            return;
+        }
+
+        if (!Files.exists(baselineFile)) {
+            System.out.println("No baseline at " + baselineFile + ", not compared.");
+            return;
+        }
+
+        Properties expected = new Properties();
+        try (Reader reader = Files.newBufferedReader(baselineFile, StandardCharsets.UTF_8)) {
+            expected.load(reader);
+        }
+
+        List<String> regressions = compare(expected, results,
+                                           Double.parseDouble(configuration.getProperty("allocationTolerance", "0.1")));
+        if (regressions == null) {
+            System.out.println("The baseline " + baselineFile + " was recorded using another configuration, not compared.");
+            return;
+        }
+
+        if (!regressions.isEmpty()) {
+            regressions.forEach(System.out::println);
+            System.exit(1);
+        }
+
+        System.out.println("No regressions from the baseline " + baselineFile + '.');
+    }
+
+    /**
+     * Compares the allocation rate of the provided {@code results} with the {@code expected} results of the baseline.
+     *
+     * @return The descriptions of the regressions, {@code null} when the baseline was recorded using another
+     * configuration.
+     */
+    static List<String> compare(Properties expected, Properties results, double allocationTolerance)
+    {
+        for (String key : CONFIGURATION_KEYS)
+            if (!results.getProperty(key).equals(expected.getProperty(key)))
+                return null;
+
+        List<String> regressions = new ArrayList<>();
+        if (expected.containsKey("allocation") && !results.containsKey("allocation"))
+            System.out.println("Allocation measurement is not supported by the JVM, not compared.");
+        if (expected.containsKey("allocation") && results.containsKey("allocation") &&
+            value(results, "allocation") > value(expected, "allocation") * (1 + allocationTolerance))
+            regressions.add(regression("allocation", expected, results));
+
+        return regressions;
+    }
+
+    private static double value(Properties properties, String key)
+    {
+        return Double.parseDouble(properties.getProperty(key));
+    }
+
+    private static String regression(String key, Properties expected, Properties results)
+    {
+        return "Regression of " + key + ": " + results.getProperty(key) + ", baseline " + expected.getProperty(key) + '.';
+    }
+
+    private static String micros(long nanos)
+    {
+        return String.format(Locale.ROOT, "%.2f us", nanos / 1000.0);
+    }
+
+    /**
+     * Driver thread validating requests in a closed loop.
+     */
+    private static final class Driver implements Runnable
+    {
+
+        private final Thread                    thread    = new Thread(this, "load-test-driver");
+        private final LatencyHistogram          histogram = new LatencyHistogram();
+        private final JsonFailureWriter<String> writer    = new JsonFailureWriter<>();
+        private final HttpServletRequest[]      requests;
+        private final String[]                  names;
+        private final boolean                   arena;
+        private final boolean                   views;
+
+        private CountDownLatch start;
+        private long           warmupNanos;
+        private long           durationNanos;
+
+        /**
+         * The number of bytes allocated by the thread while measuring, {@code -1} when unsupported by the JVM.
+         */
+        private long allocated;
+
+        /**
+         * The number of invalid fields validated, keeping the validation from being optimized away.
+         */
+        private long checksum;
+
+        private Throwable failure;
+
+        Driver(HttpServletRequest[] requests, int fields, boolean arena, boolean views)
+        {
+            this.requests = requests;
+            this.arena = arena;
+            this.views = views;
+            this.names = new String[fields];
+            for (int x = 0; x < fields; x++) {
+                names[x] = StubRequests.name(x);
+                writer.declare(names[x]);
+            }
+        }
+
+        @Override public void run()
+        {
+            try {
+                start.await();
+                loop(System.nanoTime() + warmupNanos);
+                histogram.reset();
+                checksum = 0;
+
+                long before = allocatedBytes();
+                loop(System.nanoTime() + durationNanos);
+                long after = allocatedBytes();
+                allocated = before < 0 || after < 0 ? -1 : after - before;
+            } catch (Throwable e) {
+                failure = e;
+            }
+        }
+
+        private void loop(long deadline) throws IOException
+        {
+            int next = 0;
+            while (true) {
+                long started = System.nanoTime();
+                if (started >= deadline)
+                    return;
+
+                validate(requests[next]);
+                histogram.record(System.nanoTime() - started);
+                next = next + 1 == requests.length ? 0 : next + 1;
+            }
+        }
+
+        /**
+         * Validates the provided {@code request}, writing the failures when it is invalid.
+         */
+        private void validate(HttpServletRequest request) throws IOException
+        {
+            writer.reset();
+            if (arena) {
+                try (RequestArena requestArena = RequestArena.open()) {
+                    validate(requestArena.parameters(request));
+                }
+            } else
+                validate(new HttpServletRequestParameters(request));
+
+            if (writer.getFailureCount() > 0) {
+                checksum += writer.getFailureCount();
+                writer.writeTo(DISCARD);
+            }
+        }
+
+        private void validate(HttpServletRequestParameters parameters)
+        {
+            writer.attach(parameters);
+            for (int x = 0; x < names.length; x++) {
+                String name = names[x];
+                switch (x % StubRequests.KINDS) {
+                    case StubRequests.NAME:
+                        if (views)
+                            parameters.onText(name, NAME_CHECKS);
+                        else
+                            NAME_CHECKS.accept(parameters.getText(name));
+                        break;
+                    case StubRequests.EMAIL:
+                        if (views)
+                            parameters.onText(name, EMAIL_CHECKS);
+                        else
+                            EMAIL_CHECKS.accept(parameters.getText(name));
+                        break;
+                    case StubRequests.AGE:
+                        if (views)
+                            parameters.onInt(name, AGE_CHECKS);
+                        else
+                            AGE_CHECKS.accept(parameters.getInt(name));
+                        break;
+                    case StubRequests.URL:
+                        if (views)
+                            parameters.onText(name, URL_CHECKS);
+                        else
+                            URL_CHECKS.accept(parameters.getText(name));
+                        break;
+                    default:
+                        if (views)
+                            parameters.onLong(name, ID_CHECKS);
+                        else
+                            ID_CHECKS.accept(parameters.getLong(name));
+                }
+            }
+        }
+
+        /**
+         * Returns the number of bytes allocated by the current thread.
+         *
+         * @return The number of bytes allocated by the current thread, {@code -1} when unsupported by the JVM.
+         */
+        private static long allocatedBytes()
+        {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean))
+                return -1;
+
+            return ((com.sun.management.ThreadMXBean) bean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+    }
+}
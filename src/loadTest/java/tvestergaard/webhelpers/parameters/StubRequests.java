@@ -0,0 +1,186 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates the in-process requests validated by the {@link LoadTest}. The requests are generated up front from a seed,
+ * so every run validates the same requests. Each request has the configured number of fields, cycling through a text
+ * field, an email address, an age, a url and an identifier. The configured ratio of the requests has a single field
+ * made invalid.
+ */
+final class StubRequests
+{
+
+    /**
+     * The number of kinds of fields.
+     */
+    static final int KINDS = 5;
+
+    static final int NAME  = 0;
+    static final int EMAIL = 1;
+    static final int AGE   = 2;
+    static final int URL   = 3;
+    static final int ID    = 4;
+
+    private static final String ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    private StubRequests()
+    {
+
+    }
+
+    /**
+     * Returns the name of the field at the provided {@code index}.
+     *
+     * @param index The index of the field.
+     *
+     * @return The name of the field at the provided {@code index}.
+     */
+    static String name(int index)
+    {
+        switch (index % KINDS) {
+            case NAME:
+                return "name" + index;
+            case EMAIL:
+                return "email" + index;
+            case AGE:
+                return "age" + index;
+            case URL:
+                return "url" + index;
+            default:
+                return "id" + index;
+        }
+    }
+
+    /**
+     * Generates requests.
+     *
+     * @param count        The number of requests to generate.
+     * @param fields       The number of fields of each request.
+     * @param invalidRatio The ratio of the requests having an invalid field.
+     * @param seed         The seed of the generated values.
+     *
+     * @return The generated requests.
+     */
+    static HttpServletRequest[] generate(int count, int fields, double invalidRatio, long seed)
+    {
+        Random               random   = new Random(seed);
+        HttpServletRequest[] requests = new HttpServletRequest[count];
+        for (int x = 0; x < count; x++) {
+            int                 invalid    = random.nextDouble() < invalidRatio ? random.nextInt(fields) : -1;
+            Map<String, String> parameters = new LinkedHashMap<>();
+            for (int field = 0; field < fields; field++)
+                parameters.put(name(field), field == invalid ? invalid(field % KINDS, random) : valid(field % KINDS, random));
+            requests[x] = request(parameters);
+        }
+
+        return requests;
+    }
+
+    private static String valid(int kind, Random random)
+    {
+        switch (kind) {
+            case NAME:
+                return alphanumeric(random, 3 + random.nextInt(14));
+            case EMAIL:
+                return alphanumeric(random, 6).toLowerCase() + '@' + alphanumeric(random, 8).toLowerCase() + ".com";
+            case AGE:
+                return Integer.toString(18 + random.nextInt(82));
+            case URL:
+                return "https://www." + alphanumeric(random, 10).toLowerCase() + ".com/path/" + random.nextInt(1000) +
+                       "?q=" + alphanumeric(random, 5);
+            default:
+                return Long.toString(1 + (random.nextLong() >>> 1));
+        }
+    }
+
+    private static String invalid(int kind, Random random)
+    {
+        switch (kind) {
+            case NAME:
+                return random.nextBoolean() ? alphanumeric(random, 40) : alphanumeric(random, 6) + '!';
+            case EMAIL:
+                return alphanumeric(random, 6) + "@@example";
+            case AGE:
+                return Integer.toString(131 + random.nextInt(100));
+            case URL:
+                return "htp:/" + alphanumeric(random, 10);
+            default:
+                return Long.toString(-1 - random.nextInt(1000));
+        }
+    }
+
+    private static String alphanumeric(Random random, int length)
+    {
+        char[] characters = new char[length];
+        for (int x = 0; x < length; x++)
+            characters[x] = ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length()));
+
+        return new String(characters);
+    }
+
+    /**
+     * Returns a {@code HttpServletRequest} providing the provided {@code parameters}. The parameters are returned by a
+     * {@code HttpServletRequestWrapper}, so that looking them up does not allocate. The other methods of the request
+     * throw an {@code UnsupportedOperationException}.
+     */
+    private static HttpServletRequest request(Map<String, String> parameters)
+    {
+        HttpServletRequest unsupported = (HttpServletRequest) Proxy.newProxyInstance(
+                StubRequests.class.getClassLoader(), new Class<?>[]{HttpServletRequest.class}, (proxy, method, arguments) -> {
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        return new StubRequest(unsupported, parameters);
+    }
+
+    /**
+     * Request providing a fixed set of parameters.
+     */
+    private static final class StubRequest extends HttpServletRequestWrapper
+    {
+
+        private final Map<String, String>   parameters;
+        private final Map<String, String[]> parameterMap = new HashMap<>();
+
+        StubRequest(HttpServletRequest request, Map<String, String> parameters)
+        {
+            super(request);
+            this.parameters = parameters;
+            parameters.forEach((name, value) -> parameterMap.put(name, new String[]{value}));
+        }
+
+        @Override public String getParameter(String name)
+        {
+            return parameters.get(name);
+        }
+
+        @Override public String[] getParameterValues(String name)
+        {
+            return parameterMap.get(name);
+        }
+
+        @Override public Map<String, String[]> getParameterMap()
+        {
+            return Collections.unmodifiableMap(parameterMap);
+        }
+
+        @Override public Enumeration<String> getParameterNames()
+        {
+            return Collections.enumeration(parameters.keySet());
+        }
+
+        @Override public String toString()
+        {
+            return "StubRequest" + parameters;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package tvestergaard.webhelpers.parameters;
 
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
 /**
  * An abstract implementation of the {@link Parameter} interface.
  *
@@ -9,23 +11,41 @@ package tvestergaard.webhelpers.parameters;
 public abstract class AbstractParameter<N, V> implements Parameter<N, V>
 {
 
+    /**
+     * Updater incrementing {@link AbstractParameter#failureCount} atomically.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<AbstractParameter> failureCountUpdater =
+            AtomicIntegerFieldUpdater.newUpdater(AbstractParameter.class, "failureCount");
+
     /**
      * The name of the {@link Parameter}.
      */
-    protected final N name;
+    protected N name;
 
     /**
      * The value of the {@link Parameter}.
      */
-    protected final V value;
+    protected V value;
 
     /**
-     * The number of failures that have occurred on checks performed on this instance of {@link Parameter}.
+     * The number of failures that have occurred on checks performed on this instance of {@link Parameter}. The counter
+     * is the only part of the instance updated atomically: instances of {@link Parameter} are still confined to a single
+     * thread at a time. Fields validated in parallel each get their own instance, and their failures are replayed to the
+     * failure handlers on the calling thread.
      *
      * @see AbstractParameter#getFailureCount()
      * @see AbstractParameter#hasFailures()
      */
-    private int failureCount = 0;
+    private volatile int failureCount = 0;
+
+    /**
+     * Whether or not the {@link Parameter} is retained beyond the consumer it was provided to, by a check completing
+     * later.
+     *
+     * @see ParameterView#release(AbstractParameter)
+     */
+    private boolean retained = false;
 
     /**
      * Creates a new {@link AbstractParameter}.
@@ -39,6 +59,41 @@ public abstract class AbstractParameter<N, V> implements Parameter<N, V>
         this.value = value;
     }
 
+    /**
+     * Binds this instance of {@link Parameter} to the provided {@code name} and {@code value}, resetting the number of
+     * failures that have occurred on checks performed on this instance of {@link Parameter}.
+     *
+     * @param name  The new name of the {@link Parameter}.
+     * @param value The new value of the {@link Parameter}.
+     *
+     * @see ParameterView
+     */
+    void rebind(N name, V value)
+    {
+        this.name = name;
+        this.value = value;
+        this.failureCount = 0;
+    }
+
+    /**
+     * Marks this instance of {@link Parameter} as retained by a check completing later, so that a {@link ParameterView}
+     * owning the instance hands it over instead of rebinding it when it is released.
+     */
+    void retain()
+    {
+        this.retained = true;
+    }
+
+    /**
+     * Returns whether or not this instance of {@link Parameter} is retained by a check completing later.
+     *
+     * @return {@code true} when this instance of {@link Parameter} is retained by a check completing later.
+     */
+    boolean isRetained()
+    {
+        return this.retained;
+    }
+
     /**
      * Increments the counter recording the number of checks that have failed on this instance of {@link Parameter}.
      *
@@ -46,7 +101,7 @@ public abstract class AbstractParameter<N, V> implements Parameter<N, V>
      */
     protected int incrementFailureCount()
     {
-        return ++failureCount;
+        return failureCountUpdater.incrementAndGet(this);
     }
 
     /**
@@ -66,9 +121,36 @@ public abstract class AbstractParameter<N, V> implements Parameter<N, V>
      */
     @Override public final V getValue()
     {
+        if (value == null && hasValue())
+            value = createValue();
+
         return this.value;
     }
 
+    /**
+     * Returns whether or not the {@link Parameter} has a value. Implementations holding their value in another form,
+     * like a primitive, override this method together with {@link AbstractParameter#createValue()}, so that the value is
+     * only created when it is retrieved.
+     *
+     * @return {@code true} when the {@link Parameter} has a value.
+     */
+    protected boolean hasValue()
+    {
+        return value != null;
+    }
+
+    /**
+     * Creates the value of the {@link Parameter} from the form it is held in. Called by
+     * {@link AbstractParameter#getValue()} the first time the value is retrieved, when {@link AbstractParameter#hasValue()}
+     * returns {@code true} while no value was created yet.
+     *
+     * @return The value of the {@link Parameter}.
+     */
+    protected V createValue()
+    {
+        return value;
+    }
+
     /**
      * Returns the number of failures that have occurred on checks performed on this instance of {@link Parameter}.
      *
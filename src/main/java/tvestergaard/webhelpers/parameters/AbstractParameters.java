@@ -31,6 +31,46 @@ public abstract class AbstractParameters<N> implements Parameters<N>
      */
     protected final List<DoubleParameter.FailureHandler<N, Double>> doubleParameterFailureHandlers = new ArrayList<>();
 
+    /**
+     * The failure handlers to provide to new instances of {@link BooleanParameter}.
+     */
+    protected final List<BooleanParameter.FailureHandler<N>> booleanParameterFailureHandlers = new ArrayList<>();
+
+    /**
+     * The failure handlers to provide to new instances of {@link EnumParameter}.
+     */
+    protected final List<EnumParameter.FailureHandler<N>> enumParameterFailureHandlers = new ArrayList<>();
+
+    /**
+     * The failure handlers to provide to new instances of {@link DateParameter}.
+     */
+    protected final List<DateParameter.FailureHandler<N>> dateParameterFailureHandlers = new ArrayList<>();
+
+    /**
+     * The failure handlers to provide to new instances of {@link InstantParameter}.
+     */
+    protected final List<InstantParameter.FailureHandler<N>> instantParameterFailureHandlers = new ArrayList<>();
+
+    /**
+     * The failure handlers to provide to new instances of {@link DurationParameter}.
+     */
+    protected final List<DurationParameter.FailureHandler<N>> durationParameterFailureHandlers = new ArrayList<>();
+
+    /**
+     * The failure handlers to provide to new instances of {@link UuidParameter}.
+     */
+    protected final List<UuidParameter.FailureHandler<N>> uuidParameterFailureHandlers = new ArrayList<>();
+
+    /**
+     * The failure handlers to provide to new instances of {@link DecimalParameter}.
+     */
+    protected final List<DecimalParameter.FailureHandler<N>> decimalParameterFailureHandlers = new ArrayList<>();
+
+    /**
+     * The failure handlers to provide to new instances of {@link InetParameter}.
+     */
+    protected final List<InetParameter.FailureHandler<N>> inetParameterFailureHandlers = new ArrayList<>();
+
     /**
      * Adds an object to handle failure raised by checks performed on instances of {@link TextParameter} created by this
      * object.
@@ -85,4 +125,112 @@ public abstract class AbstractParameters<N> implements Parameters<N>
     {
         doubleParameterFailureHandlers.add(onFailure);
     }
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link BooleanParameter} created by
+     * this object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    @Override public void addBooleanFailureHandler(BooleanParameter.FailureHandler<N> onFailure)
+    {
+        booleanParameterFailureHandlers.add(onFailure);
+    }
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link EnumParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    @Override public void addEnumFailureHandler(EnumParameter.FailureHandler<N> onFailure)
+    {
+        enumParameterFailureHandlers.add(onFailure);
+    }
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link DateParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    @Override public void addDateFailureHandler(DateParameter.FailureHandler<N> onFailure)
+    {
+        dateParameterFailureHandlers.add(onFailure);
+    }
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link InstantParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    @Override public void addInstantFailureHandler(InstantParameter.FailureHandler<N> onFailure)
+    {
+        instantParameterFailureHandlers.add(onFailure);
+    }
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link DurationParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    @Override public void addDurationFailureHandler(DurationParameter.FailureHandler<N> onFailure)
+    {
+        durationParameterFailureHandlers.add(onFailure);
+    }
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link UuidParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    @Override public void addUuidFailureHandler(UuidParameter.FailureHandler<N> onFailure)
+    {
+        uuidParameterFailureHandlers.add(onFailure);
+    }
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link DecimalParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    @Override public void addDecimalFailureHandler(DecimalParameter.FailureHandler<N> onFailure)
+    {
+        decimalParameterFailureHandlers.add(onFailure);
+    }
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link InetParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    @Override public void addInetFailureHandler(InetParameter.FailureHandler<N> onFailure)
+    {
+        inetParameterFailureHandlers.add(onFailure);
+    }
+
+    /**
+     * Removes all the failure handlers added to this object.
+     */
+    protected void clearFailureHandlers()
+    {
+        textParameterFailureHandlers.clear();
+        intParameterFailureHandlers.clear();
+        longParameterFailureHandlers.clear();
+        floatParameterFailureHandlers.clear();
+        doubleParameterFailureHandlers.clear();
+        booleanParameterFailureHandlers.clear();
+        enumParameterFailureHandlers.clear();
+        dateParameterFailureHandlers.clear();
+        instantParameterFailureHandlers.clear();
+        durationParameterFailureHandlers.clear();
+        uuidParameterFailureHandlers.clear();
+        decimalParameterFailureHandlers.clear();
+        inetParameterFailureHandlers.clear();
+    }
 }
@@ -0,0 +1,986 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Abstract implementation of the {@link Parameters} interface, for mappings from {@code String} names to {@code String}
+ * values. Implementations provide the values through the {@link AbstractStringParameters#lookup(String)} method, which
+ * are then converted into the requested type of {@link Parameter}.
+ */
+public abstract class AbstractStringParameters extends AbstractParameters<String>
+{
+
+    /**
+     * The default number of fields from which {@link AbstractStringParameters#onTexts(List, Consumer)} and
+     * {@link AbstractStringParameters#onInts(List, Consumer)} validate the fields in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 2048;
+
+    /**
+     * The number of fields from which {@link AbstractStringParameters#onTexts(List, Consumer)} and
+     * {@link AbstractStringParameters#onInts(List, Consumer)} validate the fields in parallel.
+     */
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * The {@code ForkJoinPool} on which the fields are validated in parallel.
+     */
+    private ForkJoinPool forkJoinPool = ForkJoinPool.commonPool();
+
+    /**
+     * The {@link TextNormalizer} applied to the values of the {@link TextParameter} instances created by this object.
+     */
+    private TextNormalizer textNormalizer = TextNormalizer.NONE;
+
+    /**
+     * The {@link CheckCache} memoizing the pure checks of the {@link TextParameter} instances created by this object,
+     * {@code null} when the checks are not memoized.
+     */
+    private CheckCache checkCache;
+
+    /**
+     * The reused {@link TextParameter} provided to the consumers of {@link AbstractStringParameters#onText(String, Consumer)}.
+     */
+    private ParameterView<String, String, TextParameter<String>> textView = createTextView();
+
+    /**
+     * The reused {@link IntParameter} provided to the consumers of {@link AbstractStringParameters#onInt(String, Consumer)}.
+     */
+    private final ParameterView<String, Integer, IntParameter<String>> intView =
+            new ParameterView<>((name, value) -> new IntParameter<>(name, value, intParameterFailureHandlers));
+
+    /**
+     * The reused {@link LongParameter} provided to the consumers of {@link AbstractStringParameters#onLong(String, Consumer)}.
+     */
+    private final ParameterView<String, Long, LongParameter<String>> longView =
+            new ParameterView<>((name, value) -> new LongParameter<>(name, value, longParameterFailureHandlers));
+
+    /**
+     * The reused {@link FloatParameter} provided to the consumers of {@link AbstractStringParameters#onFloat(String, Consumer)}.
+     */
+    private final ParameterView<String, Float, FloatParameter<String>> floatView =
+            new ParameterView<>((name, value) -> new FloatParameter<>(name, value, floatParameterFailureHandlers));
+
+    /**
+     * Returns the value of the mapping with the provided {@code name}.
+     *
+     * @param name The name of the mapping to return the value of.
+     *
+     * @return The value of the mapping with the provided {@code name}, {@code null} when no such mapping exists.
+     */
+    protected abstract String lookup(String name);
+
+    /**
+     * Sets the {@link TextNormalizer} applied to the values of the {@link TextParameter} instances created by this object
+     * from then on. The values are normalized when the {@link TextParameter} instances are created, so mappings that are
+     * never requested are never normalized.
+     *
+     * @param normalizer The {@link TextNormalizer} to apply, {@link TextNormalizer#NONE} to stop normalizing.
+     */
+    public void setTextNormalizer(TextNormalizer normalizer)
+    {
+        this.textNormalizer = normalizer;
+        this.textView = createTextView();
+    }
+
+    /**
+     * Sets the {@link CheckCache} memoizing the pure checks, {@code isMatch}, {@code notMatch} and {@code isValid}, of
+     * the {@link TextParameter} instances created by this object from then on. The same {@link CheckCache} is usually
+     * shared by the {@link Parameters} of every request.
+     *
+     * @param checkCache The {@link CheckCache} to use, {@code null} to stop memoizing.
+     */
+    public void setCheckCache(CheckCache checkCache)
+    {
+        this.checkCache = checkCache;
+        this.textView = createTextView();
+    }
+
+    /**
+     * Sets the number of fields from which {@link AbstractStringParameters#onTexts(List, Consumer)} and
+     * {@link AbstractStringParameters#onInts(List, Consumer)} validate the fields in parallel. Below the threshold, the
+     * fields are validated one by one on the calling thread, as the cost of handing them to other threads would exceed
+     * the time saved.
+     *
+     * @param parallelThreshold The number of fields from which the fields are validated in parallel,
+     *                          {@code Integer.MAX_VALUE} to never validate in parallel.
+     *
+     * @throws IllegalArgumentException When the {@code parallelThreshold} is not positive.
+     */
+    public void setParallelThreshold(int parallelThreshold) throws IllegalArgumentException
+    {
+        if (parallelThreshold < 1)
+            throw new IllegalArgumentException("The parallel threshold must be positive.");
+
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Sets the {@code ForkJoinPool} on which the fields are validated in parallel, by default the common pool.
+     *
+     * @param forkJoinPool The {@code ForkJoinPool} on which the fields are validated in parallel.
+     */
+    public void setForkJoinPool(ForkJoinPool forkJoinPool)
+    {
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Resets the settings of this object, its {@link TextNormalizer}, {@link CheckCache}, parallel threshold and
+     * {@code ForkJoinPool}, to their defaults. Used by implementations that are reused across requests, so that the
+     * settings of one request do not carry over into the next.
+     */
+    protected void resetSettings()
+    {
+        if (textNormalizer != TextNormalizer.NONE || checkCache != null) {
+            textNormalizer = TextNormalizer.NONE;
+            checkCache = null;
+            textView = createTextView();
+        }
+
+        parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+        forkJoinPool = ForkJoinPool.commonPool();
+    }
+
+    /**
+     * Creates a new instance of {@link TextParameter} with the provided {@code name} and {@code value}, applying the
+     * {@link TextNormalizer} and {@link CheckCache} of this object. Implementations providing additional ways of
+     * creating instances of {@link TextParameter} must use this method, so that all the instances are validated alike.
+     *
+     * @param name  The name of the {@link TextParameter}.
+     * @param value The value of the {@link TextParameter}, before normalization.
+     *
+     * @return The newly created {@link TextParameter}.
+     */
+    protected TextParameter<String> createText(String name, String value)
+    {
+        return new TextParameter<>(name, value, textNormalizer, checkCache, textParameterFailureHandlers);
+    }
+
+    private ParameterView<String, String, TextParameter<String>> createTextView()
+    {
+        TextNormalizer normalizer = textNormalizer;
+        CheckCache     cache      = checkCache;
+        return new ParameterView<>((name, value) -> new TextParameter<>(name, value, normalizer, cache, textParameterFailureHandlers));
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can safely be converted to an instance of
+     * {@link TextParameter} using the {@link Parameters#getText(Object)} method. When this method returns {@code true},
+     * the {@link Parameters#getText(Object)} method must not throw an exception when provided the same {@code name}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} can safely be converted to the instance of {@link TextParameter}.
+     */
+    @Override public boolean isText(String name)
+    {
+        return true;
+    }
+
+    /**
+     * Returns an instance of {@link TextParameter} from the mapping of the provided {@code name}. When no mapping
+     * with the provided {@code name} exists, the method must return a new instance of {@link TextParameter} with the
+     * provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link TextParameter}.
+     *
+     * @return The newly created {@link TextParameter}.
+     * @throws ParameterConversionException When the mapping associated with the provided {@code name} cannot be converted
+     *                                      to the instance of {@link TextParameter}.
+     */
+    @Override public TextParameter<String> getText(String name) throws ParameterConversionException
+    {
+        return createText(name, lookup(name));
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link TextParameter} from the mapping of the provided
+     * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link TextParameter}
+     * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * The provided instance of {@link TextParameter} is owned by this object and rebound on each call, so it is only valid
+     * until the {@code consumer} returns.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link TextParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link TextParameter}.
+     *
+     * @return {@code true} when the checks performed on the instance of {@link TextParameter} during the execution of
+     * the provided {@code Consumer} passed.
+     */
+    @Override public boolean onText(String name, Consumer<TextParameter<String>> consumer) throws ParameterConversionException
+    {
+        TextParameter<String> parameter = textView.acquire(name, lookup(name));
+        try {
+            consumer.accept(parameter);
+            return !parameter.hasFailures();
+        } finally {
+            textView.release(parameter);
+        }
+    }
+
+    /**
+     * Provides the mapping of each of the provided {@code names} to the {@code consumer} as an instance of
+     * {@link TextParameter}. When there are at least as many {@code names} as the parallel threshold, the mappings are
+     * validated in parallel on the {@code ForkJoinPool}, in which case the {@code consumer} is called from multiple
+     * threads. The failures are then buffered, and the failure handlers are notified on the calling thread, in the order
+     * of the provided {@code names}.
+     *
+     * @param names    The names of the mappings from which to create instances of {@link TextParameter}.
+     * @param consumer The consumer that is provided the instances of {@link TextParameter}.
+     *
+     * @return {@code true} when the checks performed on all the instances of {@link TextParameter} passed.
+     * @see AbstractStringParameters#setParallelThreshold(int)
+     */
+    @Override public boolean onTexts(List<? extends String> names, Consumer<TextParameter<String>> consumer)
+    {
+        if (!isParallel(names))
+            return super.onTexts(names, consumer);
+
+        TextNormalizer normalizer = textNormalizer;
+        CheckCache     cache      = checkCache;
+        return ParallelValidation.validate(forkJoinPool, names, lookup(names), value -> value,
+                                           handlers -> new TextParameter<>(null, null, normalizer, cache, handlers),
+                                           FailureRecorder.TextRecorder::new, textParameterFailureHandlers, consumer);
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can safely be converted to an instance of
+     * {@link IntParameter} using the {@link Parameters#getInt(Object)} method. When this method returns {@code true},
+     * the {@link Parameters#getInt(Object)} method must not throw an exception when provided the same {@code name}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} can safely be converted to the instance of {@link IntParameter}.
+     */
+    @Override public boolean isInt(String name)
+    {
+        String value = lookup(name);
+
+        try {
+            Integer.parseInt(value);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns an instance of {@link IntParameter} from the mapping of the provided {@code name}. When no mapping
+     * with the provided {@code name} exists, the method must return a new instance of {@link IntParameter} with the
+     * provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link IntParameter}.
+     *
+     * @return The newly created {@link IntParameter}.
+     * @throws ParameterConversionException When the mapping associated with the provided {@code name} cannot be converted
+     *                                      to the instance of {@link IntParameter}.
+     */
+    @Override public IntParameter<String> getInt(String name) throws ParameterConversionException
+    {
+        return new IntParameter<>(name, toInt(name), intParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link IntParameter} from the mapping of the provided
+     * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link IntParameter}
+     * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * The provided instance of {@link IntParameter} is owned by this object and rebound on each call, so it is only valid
+     * until the {@code consumer} returns.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link IntParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link IntParameter}.
+     *
+     * @return {@code true} when the checks performed on the instance of {@link IntParameter} during the execution of
+     * the provided {@code Consumer} passed.
+     */
+    @Override public boolean onInt(String name, Consumer<IntParameter<String>> consumer) throws ParameterConversionException
+    {
+        IntParameter<String> parameter = intView.acquire(name, toInt(name));
+        try {
+            consumer.accept(parameter);
+            return !parameter.hasFailures();
+        } finally {
+            intView.release(parameter);
+        }
+    }
+
+    /**
+     * Provides the mapping of each of the provided {@code names} to the {@code consumer} as an instance of
+     * {@link IntParameter}. When there are at least as many {@code names} as the parallel threshold, the mappings are
+     * validated in parallel on the {@code ForkJoinPool}, in which case the {@code consumer} is called from multiple
+     * threads. The failures are then buffered, and the failure handlers are notified on the calling thread, in the order
+     * of the provided {@code names}.
+     *
+     * @param names    The names of the mappings from which to create instances of {@link IntParameter}.
+     * @param consumer The consumer that is provided the instances of {@link IntParameter}.
+     *
+     * @return {@code true} when the checks performed on all the instances of {@link IntParameter} passed.
+     * @throws ParameterConversionException When a mapping cannot be converted to an {@code int}. The failure handlers are
+     *                                      notified of the failures of the preceding mappings.
+     * @see AbstractStringParameters#setParallelThreshold(int)
+     */
+    @Override public boolean onInts(List<? extends String> names, Consumer<IntParameter<String>> consumer)
+            throws ParameterConversionException
+    {
+        if (!isParallel(names))
+            return super.onInts(names, consumer);
+
+        return ParallelValidation.validate(forkJoinPool, names, lookup(names), AbstractStringParameters::parseInt,
+                                           handlers -> new IntParameter<>(null, null, handlers),
+                                           FailureRecorder.NumberRecorder::new, intParameterFailureHandlers, consumer);
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can safely be converted to an instance of
+     * {@link LongParameter} using the {@link Parameters#getLong(Object)} method. When this method returns {@code true},
+     * the {@link Parameters#getLong(Object)} method must not throw an exception when provided the same {@code name}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} can safely be converted to the instance of {@link LongParameter}.
+     */
+    @Override public boolean isLong(String name)
+    {
+        try {
+            Long.parseLong(lookup(name));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns an instance of {@link LongParameter} from the mapping of the provided {@code name}. When no mapping
+     * with the provided {@code name} exists, the method must return a new instance of {@link LongParameter} with the
+     * provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link LongParameter}.
+     *
+     * @return The newly created {@link LongParameter}.
+     * @throws ParameterConversionException When the mapping associated with the provided {@code name} cannot be converted
+     *                                      to the instance of {@link LongParameter}.
+     */
+    @Override public LongParameter<String> getLong(String name) throws ParameterConversionException
+    {
+        return new LongParameter<>(name, toLong(name), longParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link LongParameter} from the mapping of the provided
+     * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link LongParameter}
+     * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * The provided instance of {@link LongParameter} is owned by this object and rebound on each call, so it is only valid
+     * until the {@code consumer} returns.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link LongParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link LongParameter}.
+     *
+     * @return {@code true} when the checks performed on the instance of {@link LongParameter} during the execution of
+     * the provided {@code Consumer} passed.
+     */
+    @Override public boolean onLong(String name, Consumer<LongParameter<String>> consumer) throws ParameterConversionException
+    {
+        LongParameter<String> parameter = longView.acquire(name, toLong(name));
+        try {
+            consumer.accept(parameter);
+            return !parameter.hasFailures();
+        } finally {
+            longView.release(parameter);
+        }
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can safely be converted to an instance of
+     * {@link FloatParameter} using the {@link Parameters#getFloat(Object)} method. When this method returns {@code true},
+     * the {@link Parameters#getFloat(Object)} method must not throw an exception when provided the same {@code name}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} can safely be converted to the instance of {@link FloatParameter}.
+     */
+    @Override public boolean isFloat(String name)
+    {
+        try {
+            Float.parseFloat(lookup(name));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns an instance of {@link FloatParameter} from the mapping of the provided {@code name}. When no mapping
+     * with the provided {@code name} exists, the method must return a new instance of {@link FloatParameter} with the
+     * provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link FloatParameter}.
+     *
+     * @return The newly created {@link FloatParameter}.
+     * @throws ParameterConversionException When the mapping associated with the provided {@code name} cannot be converted
+     *                                      to the instance of {@link FloatParameter}.
+     */
+    @Override public FloatParameter<String> getFloat(String name) throws ParameterConversionException
+    {
+        return new FloatParameter<>(name, toFloat(name), floatParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link FloatParameter} from the mapping of the provided
+     * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link FloatParameter}
+     * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * The provided instance of {@link FloatParameter} is owned by this object and rebound on each call, so it is only valid
+     * until the {@code consumer} returns.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link FloatParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link FloatParameter}.
+     *
+     * @return {@code true} when the checks performed on the instance of {@link FloatParameter} during the execution of
+     * the provided {@code Consumer} passed.
+     */
+    @Override public boolean onFloat(String name, Consumer<FloatParameter<String>> consumer) throws ParameterConversionException
+    {
+        FloatParameter<String> parameter = floatView.acquire(name, toFloat(name));
+        try {
+            consumer.accept(parameter);
+            return !parameter.hasFailures();
+        } finally {
+            floatView.release(parameter);
+        }
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can safely be converted to an instance of
+     * {@link DoubleParameter} using the {@link Parameters#getDouble(Object)} method. When this method returns {@code true},
+     * the {@link Parameters#getDouble(Object)} method must not throw an exception when provided the same {@code name}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} can safely be converted to the instance of {@link DoubleParameter}.
+     */
+    @Override public boolean isDouble(String name)
+    {
+        String value = lookup(name);
+
+        if (value == null)
+            return true;
+
+        try {
+
+            Double.parseDouble(lookup(name));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns an instance of {@link DoubleParameter} from the mapping of the provided {@code name}. When no mapping
+     * with the provided {@code name} exists, the method must return a new instance of {@link DoubleParameter} with the
+     * provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link DoubleParameter}.
+     *
+     * @return The newly created {@link DoubleParameter}.
+     * @throws ParameterConversionException When the mapping associated with the provided {@code name} cannot be converted
+     *                                      to the instance of {@link DoubleParameter}.
+     */
+    @Override public DoubleParameter<String> getDouble(String name) throws ParameterConversionException
+    {
+        return null;
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link DoubleParameter} from the mapping of the provided
+     * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link DoubleParameter}
+     * with be created using the provided {@code name} and {@code value = null}.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link DoubleParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link DoubleParameter}.
+     *
+     * @return {@code true} when the checks performed on the instance of {@link DoubleParameter} during the execution of
+     * the provided {@code Consumer} passed.
+     */
+    @Override public boolean onDouble(String name, Consumer<DoubleParameter<String>> consumer) throws ParameterConversionException
+    {
+        return false;
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be converted to an instance of
+     * {@link BooleanParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and can be converted to a boolean.
+     */
+    @Override public boolean isBoolean(String name)
+    {
+        return BooleanParameter.convert(lookup(name)) != null;
+    }
+
+    /**
+     * Returns an instance of {@link BooleanParameter} from the mapping of the provided {@code name}. When no mapping
+     * with the provided {@code name} exists, or the mapping cannot be converted, the method returns a new instance of
+     * {@link BooleanParameter} with the provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link BooleanParameter}.
+     *
+     * @return The newly created {@link BooleanParameter}.
+     */
+    @Override public BooleanParameter<String> getBoolean(String name)
+    {
+        return new BooleanParameter<>(name, lookup(name), booleanParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link BooleanParameter} from the mapping of the
+     * provided {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is
+     * provided to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link BooleanParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link BooleanParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link BooleanParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    @Override public boolean onBoolean(String name, Consumer<BooleanParameter<String>> consumer)
+    {
+        BooleanParameter<String> parameter = getBoolean(name);
+        if (parameter.isWellFormed())
+            consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} maps to a constant in the provided
+     * {@link ConstantTable}.
+     *
+     * @param name      The name of the mapping to check.
+     * @param constants The table mapping texts to the constants of the enum class.
+     * @param <E>       The type of the enum class.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and maps to a constant.
+     */
+    @Override public <E extends Enum<E>> boolean isEnum(String name, ConstantTable<E> constants)
+    {
+        return constants.get(lookup(name)) != null;
+    }
+
+    /**
+     * Returns an instance of {@link EnumParameter} from the mapping of the provided {@code name}, converted using the
+     * provided {@link ConstantTable}. When no mapping with the provided {@code name} exists, or the mapping does not map
+     * to a constant, the method returns a new instance of {@link EnumParameter} with the provided {@code name} and
+     * {@code value = null}.
+     *
+     * @param name      The name of the mapping from which to create the new {@link EnumParameter}.
+     * @param constants The table mapping texts to the constants of the enum class.
+     * @param <E>       The type of the enum class.
+     *
+     * @return The newly created {@link EnumParameter}.
+     */
+    @Override public <E extends Enum<E>> EnumParameter<String, E> getEnum(String name, ConstantTable<E> constants)
+    {
+        return new EnumParameter<>(name, lookup(name), constants, enumParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link EnumParameter} from the mapping of the provided
+     * {@code name}, converted using the provided {@link ConstantTable}. The {@link ConvertedParameter#isWellFormed()}
+     * check is performed before the instance is provided to the {@code consumer}, and the {@code consumer} is not called
+     * when the check fails.
+     *
+     * @param name      The name of the mapping from which to create an instance of {@link EnumParameter}.
+     * @param constants The table mapping texts to the constants of the enum class.
+     * @param consumer  The consumer that is provided the newly created instance of {@link EnumParameter}.
+     * @param <E>       The type of the enum class.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link EnumParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    @Override public <E extends Enum<E>> boolean onEnum(String name, ConstantTable<E> constants,
+                                                       Consumer<EnumParameter<String, E>> consumer)
+    {
+        EnumParameter<String, E> parameter = getEnum(name, constants);
+        if (parameter.isWellFormed())
+            consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be parsed into an instance of
+     * {@link DateParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and can be parsed.
+     */
+    @Override public boolean isDate(String name)
+    {
+        return Iso8601.parseDate(lookup(name)) != Iso8601.INVALID;
+    }
+
+    /**
+     * Returns an instance of {@link DateParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be parsed, the method returns a new instance of
+     * {@link DateParameter} with the provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link DateParameter}.
+     *
+     * @return The newly created {@link DateParameter}.
+     */
+    @Override public DateParameter<String> getDate(String name)
+    {
+        return new DateParameter<>(name, lookup(name), dateParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link DateParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link DateParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link DateParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link DateParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    @Override public boolean onDate(String name, Consumer<DateParameter<String>> consumer)
+    {
+        DateParameter<String> parameter = getDate(name);
+        if (parameter.isWellFormed())
+            consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be parsed into an instance of
+     * {@link InstantParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and can be parsed.
+     */
+    @Override public boolean isInstant(String name)
+    {
+        return Iso8601.parseInstant(lookup(name)) != Iso8601.INVALID;
+    }
+
+    /**
+     * Returns an instance of {@link InstantParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be parsed, the method returns a new instance of
+     * {@link InstantParameter} with the provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link InstantParameter}.
+     *
+     * @return The newly created {@link InstantParameter}.
+     */
+    @Override public InstantParameter<String> getInstant(String name)
+    {
+        return new InstantParameter<>(name, lookup(name), instantParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link InstantParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link InstantParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link InstantParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link InstantParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    @Override public boolean onInstant(String name, Consumer<InstantParameter<String>> consumer)
+    {
+        InstantParameter<String> parameter = getInstant(name);
+        if (parameter.isWellFormed())
+            consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be parsed into an instance of
+     * {@link DurationParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and can be parsed.
+     */
+    @Override public boolean isDuration(String name)
+    {
+        return Iso8601.parseDuration(lookup(name)) != Iso8601.INVALID;
+    }
+
+    /**
+     * Returns an instance of {@link DurationParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be parsed, the method returns a new instance of
+     * {@link DurationParameter} with the provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link DurationParameter}.
+     *
+     * @return The newly created {@link DurationParameter}.
+     */
+    @Override public DurationParameter<String> getDuration(String name)
+    {
+        return new DurationParameter<>(name, lookup(name), durationParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link DurationParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link DurationParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link DurationParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link DurationParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    @Override public boolean onDuration(String name, Consumer<DurationParameter<String>> consumer)
+    {
+        DurationParameter<String> parameter = getDuration(name);
+        if (parameter.isWellFormed())
+            consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be converted to an instance of
+     * {@link UuidParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and is a {@code UUID} in the canonical layout.
+     */
+    @Override public boolean isUuid(String name)
+    {
+        return UuidParameter.isCanonical(lookup(name));
+    }
+
+    /**
+     * Returns an instance of {@link UuidParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be converted, the method returns a new instance of
+     * {@link UuidParameter} with the provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link UuidParameter}.
+     *
+     * @return The newly created {@link UuidParameter}.
+     */
+    @Override public UuidParameter<String> getUuid(String name)
+    {
+        return new UuidParameter<>(name, lookup(name), uuidParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link UuidParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link UuidParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link UuidParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link UuidParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    @Override public boolean onUuid(String name, Consumer<UuidParameter<String>> consumer)
+    {
+        UuidParameter<String> parameter = getUuid(name);
+        if (parameter.isWellFormed())
+            consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be converted to an instance of
+     * {@link DecimalParameter} with a value other than {@code null}.
+     *
+     * @param name  The name of the mapping to check.
+     * @param scale The number of digits after the decimal point.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and is a decimal number representable at the provided {@code scale}.
+     */
+    @Override public boolean isDecimal(String name, int scale)
+    {
+        return Decimal.parse(lookup(name), scale) != Decimal.INVALID;
+    }
+
+    /**
+     * Returns an instance of {@link DecimalParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be converted, the method returns a new instance of
+     * {@link DecimalParameter} with the provided {@code name} and {@code value = null}.
+     *
+     * @param name  The name of the mapping from which to create the new {@link DecimalParameter}.
+     * @param scale The number of digits after the decimal point.
+     *
+     * @return The newly created {@link DecimalParameter}.
+     */
+    @Override public DecimalParameter<String> getDecimal(String name, int scale)
+    {
+        return new DecimalParameter<>(name, lookup(name), scale, decimalParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link DecimalParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link DecimalParameter}.
+     * @param scale    The number of digits after the decimal point.
+     * @param consumer The consumer that is provided the newly created instance of {@link DecimalParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link DecimalParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    @Override public boolean onDecimal(String name, int scale, Consumer<DecimalParameter<String>> consumer)
+    {
+        DecimalParameter<String> parameter = getDecimal(name, scale);
+        if (parameter.isWellFormed())
+            consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be converted to an instance of
+     * {@link InetParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and is an IPv4 or IPv6 address.
+     */
+    @Override public boolean isInet(String name)
+    {
+        return InetParameter.isAddress(lookup(name));
+    }
+
+    /**
+     * Returns an instance of {@link InetParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be converted, the method returns a new instance of
+     * {@link InetParameter} with the provided {@code name} and {@code value = null}.
+     *
+     * @param name The name of the mapping from which to create the new {@link InetParameter}.
+     *
+     * @return The newly created {@link InetParameter}.
+     */
+    @Override public InetParameter<String> getInet(String name)
+    {
+        return new InetParameter<>(name, lookup(name), inetParameterFailureHandlers);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link InetParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link InetParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link InetParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link InetParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    @Override public boolean onInet(String name, Consumer<InetParameter<String>> consumer)
+    {
+        InetParameter<String> parameter = getInet(name);
+        if (parameter.isWellFormed())
+            consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Converts the mapping associated with the provided {@code name} to an {@code int}.
+     *
+     * @param name The name of the mapping to convert.
+     *
+     * @return The converted value.
+     * @throws ParameterConversionException When the mapping cannot be converted to an {@code int}.
+     */
+    private int toInt(String name) throws ParameterConversionException
+    {
+        return parseInt(lookup(name));
+    }
+
+    /**
+     * Converts the provided value to an {@code int}.
+     *
+     * @param value The value to convert.
+     *
+     * @return The converted value.
+     * @throws ParameterConversionException When the value cannot be converted to an {@code int}.
+     */
+    private static int parseInt(String value) throws ParameterConversionException
+    {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ParameterConversionException(e, IntParameter.class);
+        }
+    }
+
+    /**
+     * Converts the mapping associated with the provided {@code name} to a {@code long}.
+     *
+     * @param name The name of the mapping to convert.
+     *
+     * @return The converted value.
+     * @throws ParameterConversionException When the mapping cannot be converted to a {@code long}.
+     */
+    private long toLong(String name) throws ParameterConversionException
+    {
+        try {
+            return Long.parseLong(lookup(name));
+        } catch (NumberFormatException e) {
+            throw new ParameterConversionException(e, LongParameter.class);
+        }
+    }
+
+    /**
+     * Converts the mapping associated with the provided {@code name} to a {@code float}.
+     *
+     * @param name The name of the mapping to convert.
+     *
+     * @return The converted value.
+     * @throws ParameterConversionException When the mapping cannot be converted to a {@code float}.
+     */
+    private float toFloat(String name) throws ParameterConversionException
+    {
+        try {
+            return Float.parseFloat(lookup(name));
+        } catch (NumberFormatException | NullPointerException e) {
+            throw new ParameterConversionException(e, FloatParameter.class);
+        }
+    }
+
+    /**
+     * Returns whether or not the provided {@code names} are validated in parallel.
+     */
+    private boolean isParallel(List<? extends String> names)
+    {
+        return names.size() >= parallelThreshold && forkJoinPool.getParallelism() > 1;
+    }
+
+    /**
+     * Looks up the values of the provided {@code names} on the calling thread, as the mappings are not necessarily
+     * safe to read from multiple threads.
+     */
+    private String[] lookup(List<? extends String> names)
+    {
+        String[] values = new String[names.size()];
+        for (int x = 0; x < values.length; x++)
+            values[x] = lookup(names.get(x));
+
+        return values;
+    }
+}
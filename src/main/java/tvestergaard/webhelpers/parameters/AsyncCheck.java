@@ -0,0 +1,41 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
+
+/**
+ * A check on the value of a {@link GenericParameter} whose result is computed asynchronously.
+ *
+ * @param <V> The type of the value checked by the {@link AsyncCheck}.
+ *
+ * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck)
+ */
+@FunctionalInterface public interface AsyncCheck<V>
+{
+
+    /**
+     * Starts checking the provided {@code value}.
+     *
+     * @param value    The value to check.
+     * @param executor The executor on which blocking work should be performed.
+     *
+     * @return The {@code CompletionStage} completed with {@code true} when the check passes, {@code false} when the
+     * check fails.
+     */
+    CompletionStage<Boolean> check(V value, Executor executor);
+
+    /**
+     * Creates an {@link AsyncCheck} performing the provided blocking {@code predicate} on the executor.
+     *
+     * @param predicate The blocking predicate returning {@code true} when the check passes.
+     * @param <V>       The type of the value checked by the {@link AsyncCheck}.
+     *
+     * @return The new {@link AsyncCheck}.
+     */
+    static <V> AsyncCheck<V> blocking(Predicate<? super V> predicate)
+    {
+        return (value, executor) -> CompletableFuture.supplyAsync(() -> predicate.test(value), executor);
+    }
+}
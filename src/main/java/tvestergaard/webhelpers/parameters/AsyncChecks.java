@@ -0,0 +1,219 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the {@link AsyncCheck}s performed on the parameters of a single request concurrently, and merges their results
+ * into the failure counts and failure handlers of the parameters.
+ * <p>
+ * The results are merged when the {@code CompletionStage} returned from {@link AsyncChecks#all()} completes. At that
+ * point the failure counts of the parameters are updated, and the failure callbacks of the failed checks are notified,
+ * in the order in which the checks were started. Merging happens on a single thread, so the failure handlers are never
+ * notified concurrently. Checks are started from the thread handling the request, as instances of
+ * {@link AsyncChecks} are not thread safe.
+ * <p>
+ * The checked parameters are retained until their results are merged, so parameters provided to the consumers of the
+ * {@code on*} methods of {@link Parameters} keep their name and value after the consumer returns.
+ */
+public class AsyncChecks
+{
+
+    /**
+     * The executor used when no executor is provided: a virtual thread per task executor when available, the common
+     * {@code ForkJoinPool} otherwise.
+     */
+    private static final Executor defaultExecutor = createDefaultExecutor();
+
+    /**
+     * The executor on which the {@link AsyncCheck}s perform their blocking work.
+     */
+    private final Executor executor;
+
+    /**
+     * The checks started since the last call to {@link AsyncChecks#all()}.
+     */
+    private List<Pending<?, ?>> pending = new ArrayList<>();
+
+    /**
+     * Creates a new {@link AsyncChecks} using virtual threads when available, and the common {@code ForkJoinPool}
+     * otherwise.
+     */
+    public AsyncChecks()
+    {
+        this(defaultExecutor);
+    }
+
+    /**
+     * Creates a new {@link AsyncChecks}.
+     *
+     * @param executor The executor on which the {@link AsyncCheck}s perform their blocking work.
+     */
+    public AsyncChecks(Executor executor)
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the provided {@code check} on the value of the provided {@code parameter}.
+     *
+     * @param parameter        The {@link GenericParameter} to check.
+     * @param check            The check to start.
+     * @param failureCallbacks The callbacks notified when the results are merged, in case the check fails.
+     * @param <N>              The type of the name of the {@link GenericParameter}.
+     * @param <V>              The type of the value of the {@link GenericParameter}.
+     *
+     * @return The {@code CompletionStage} completed with the result of the check.
+     */
+    <N, V> CompletionStage<Boolean> start(GenericParameter<N, V> parameter,
+                                          AsyncCheck<? super V> check,
+                                          Iterable<? extends GenericParameter.CheckAsyncFailureCallback<N, V>> failureCallbacks)
+    {
+        parameter.retain();
+
+        CompletableFuture<Boolean> result;
+        try {
+            result = check.check(parameter.getValue(), executor).toCompletableFuture();
+        } catch (RuntimeException e) {
+            result = new CompletableFuture<>();
+            result.completeExceptionally(e);
+        }
+
+        pending.add(new Pending<>(parameter, check, failureCallbacks, result));
+        return result;
+    }
+
+    /**
+     * Returns a {@code CompletionStage} completed when all the checks started since the last call to this method have
+     * completed, and their results have been merged into their parameters. The results of the checks completing
+     * normally are merged even when other checks completed exceptionally, in which case the returned
+     * {@code CompletionStage} then completes exceptionally with the exception of the first such check, the exceptions
+     * of the later checks added as suppressed.
+     *
+     * @return The {@code CompletionStage} completed with {@code true} when all the checks passed, {@code false} when one
+     * or more checks failed.
+     */
+    public CompletionStage<Boolean> all()
+    {
+        List<Pending<?, ?>> checks = pending;
+        pending = new ArrayList<>();
+
+        CompletableFuture<?>[] settled = new CompletableFuture<?>[checks.size()];
+        for (int x = 0; x < settled.length; x++)
+            settled[x] = checks.get(x).settle();
+
+        return CompletableFuture.allOf(settled).thenApply(ignored -> {
+            boolean   passed    = true;
+            Throwable exception = null;
+            for (Pending<?, ?> check : checks) {
+                if (check.exception == null)
+                    passed &= check.merge();
+                else if (exception == null)
+                    exception = check.exception;
+                else if (exception != check.exception)
+                    exception.addSuppressed(check.exception);
+            }
+
+            if (exception instanceof CompletionException)
+                throw (CompletionException) exception;
+            if (exception != null)
+                throw new CompletionException(exception);
+
+            return passed;
+        });
+    }
+
+    /**
+     * Returns the executor on which the {@link AsyncCheck}s perform their blocking work.
+     *
+     * @return The executor on which the {@link AsyncCheck}s perform their blocking work.
+     */
+    public Executor getExecutor()
+    {
+        return this.executor;
+    }
+
+    private static Executor createDefaultExecutor()
+    {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+
+    /**
+     * A started check, waiting for its result to be merged into its {@link GenericParameter}.
+     *
+     * @param <N> The type of the name of the {@link GenericParameter}.
+     * @param <V> The type of the value of the {@link GenericParameter}.
+     */
+    private static final class Pending<N, V>
+    {
+
+        private final GenericParameter<N, V>                                                 parameter;
+        private final AsyncCheck<? super V>                                                  check;
+        private final Iterable<? extends GenericParameter.CheckAsyncFailureCallback<N, V>> failureCallbacks;
+        private final CompletableFuture<Boolean>                                             result;
+
+        /**
+         * The result of the check, set when the check completes normally.
+         */
+        private Boolean passed;
+
+        /**
+         * The exception of the check, set when the check completes exceptionally.
+         */
+        private Throwable exception;
+
+        Pending(GenericParameter<N, V> parameter,
+                AsyncCheck<? super V> check,
+                Iterable<? extends GenericParameter.CheckAsyncFailureCallback<N, V>> failureCallbacks,
+                CompletableFuture<Boolean> result)
+        {
+            this.parameter = parameter;
+            this.check = check;
+            this.failureCallbacks = failureCallbacks;
+            this.result = result;
+        }
+
+        /**
+         * Returns a {@code CompletableFuture} completing normally once the check completes, normally or exceptionally,
+         * recording the result or the exception of the check.
+         *
+         * @return The {@code CompletableFuture} completing once the check completes.
+         */
+        CompletableFuture<Void> settle()
+        {
+            return result.handle((passed, exception) -> {
+                this.passed = passed;
+                this.exception = exception;
+                return null;
+            });
+        }
+
+        /**
+         * Merges the result of the check into the {@link GenericParameter}. Must only be called once the check
+         * completed normally.
+         *
+         * @return The result of the check.
+         */
+        boolean merge()
+        {
+            boolean passed = Boolean.TRUE.equals(this.passed);
+            if (!passed) {
+                parameter.incrementFailureCount();
+                for (GenericParameter.CheckAsyncFailureCallback<N, V> failureCallback : failureCallbacks)
+                    failureCallback.checkAsyncFailure(parameter, check);
+            }
+
+            return passed;
+        }
+    }
+}
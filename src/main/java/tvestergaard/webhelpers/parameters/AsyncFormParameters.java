@@ -0,0 +1,338 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * {@link Parameters} implementation reading {@code application/x-www-form-urlencoded} request bodies using non-blocking
+ * IO. The body is parsed as the bytes arrive, so no container thread waits for slow clients to finish their upload.
+ * <p>
+ * Checks added using {@link AsyncFormParameters#addFieldCheck(String, Consumer)} are performed as soon as their field
+ * has been read. When such a check fails, or the body violates one of the guardrails provided to the constructor, the
+ * {@code CompletionStage} returned from {@link AsyncFormParameters#read(HttpServletRequest)} completes exceptionally
+ * with a {@link FormRejectedException}, and the rest of the body is not read. The caller is responsible for writing the
+ * response and completing the {@code AsyncContext} of the request.
+ * <p>
+ * When a field is provided multiple times, the first value is used, like {@code HttpServletRequest#getParameter}.
+ */
+public class AsyncFormParameters extends AbstractStringParameters
+{
+
+    /**
+     * The fields read from the body.
+     */
+    private final Map<String, String> fields = new HashMap<>();
+
+    /**
+     * The checks performed on the fields as they are read.
+     */
+    private final Map<String, Consumer<TextParameter<String>>> fieldChecks = new HashMap<>();
+
+    /**
+     * The maximum number of bytes in the body.
+     */
+    private final long maxBodyBytes;
+
+    /**
+     * The maximum number of fields in the body.
+     */
+    private final int maxFields;
+
+    /**
+     * The maximum number of decoded bytes in the name or the value of a single field.
+     */
+    private final int maxFieldBytes;
+
+    /**
+     * Creates a new {@link AsyncFormParameters}.
+     *
+     * @param maxBodyBytes  The maximum number of bytes in the body.
+     * @param maxFields     The maximum number of fields in the body.
+     * @param maxFieldBytes The maximum number of decoded bytes in the name or the value of a single field.
+     */
+    public AsyncFormParameters(long maxBodyBytes, int maxFields, int maxFieldBytes)
+    {
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxFields = maxFields;
+        this.maxFieldBytes = maxFieldBytes;
+    }
+
+    /**
+     * Adds a check to perform on the field with the provided {@code name} as soon as it has been read. The body is
+     * rejected when the checks performed by the {@code check} fail.
+     *
+     * @param name  The name of the field to check.
+     * @param check The consumer performing the checks on the field.
+     */
+    public void addFieldCheck(String name, Consumer<TextParameter<String>> check)
+    {
+        fieldChecks.put(name, check);
+    }
+
+    /**
+     * Starts reading the body of the provided {@code request}, putting the request into asynchronous mode when needed.
+     *
+     * @param request The request to read the body of.
+     *
+     * @return The {@code CompletionStage} completed with this object once the body has been read, or completed
+     * exceptionally with a {@link FormRejectedException} when the body is rejected.
+     * @throws IOException When the body of the request cannot be read.
+     */
+    public CompletionStage<Parameters<String>> read(HttpServletRequest request) throws IOException
+    {
+        if (!request.isAsyncStarted())
+            request.startAsync();
+
+        String   encoding = request.getCharacterEncoding();
+        Charset  charset  = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        BodyListener listener = new BodyListener(request.getInputStream(), charset);
+        listener.input.setReadListener(listener);
+
+        return listener.result;
+    }
+
+    /**
+     * Returns the value of the field with the provided {@code name}.
+     *
+     * @param name The name of the field to return the value of.
+     *
+     * @return The value of the field with the provided {@code name}, {@code null} when no such field was read.
+     */
+    @Override protected String lookup(String name)
+    {
+        return fields.get(name);
+    }
+
+    /**
+     * The {@code ReadListener} parsing the body as the bytes arrive.
+     */
+    private final class BodyListener implements ReadListener
+    {
+
+        /**
+         * The stream from which the body is read.
+         */
+        private final ServletInputStream input;
+
+        /**
+         * The character set used to decode the fields.
+         */
+        private final Charset charset;
+
+        /**
+         * The {@code CompletionStage} completed when the body has been read or rejected.
+         */
+        private final CompletableFuture<Parameters<String>> result = new CompletableFuture<>();
+
+        /**
+         * The buffer into which the body is read.
+         */
+        private final byte[] buffer = new byte[4096];
+
+        /**
+         * The decoded bytes of the name or value currently being read.
+         */
+        private byte[] token = new byte[64];
+
+        /**
+         * The number of decoded bytes in {@link BodyListener#token}.
+         */
+        private int tokenLength = 0;
+
+        /**
+         * The name of the field currently being read, when its value is being read.
+         */
+        private String name = null;
+
+        /**
+         * The number of characters of the percent-encoded byte currently being read, {@code 0} when no percent-encoded
+         * byte is being read.
+         */
+        private int escapeLength = 0;
+
+        /**
+         * The percent-encoded byte currently being read.
+         */
+        private int escapeValue = 0;
+
+        /**
+         * The number of bytes read from the body.
+         */
+        private long bodyBytes = 0;
+
+        /**
+         * The number of fields read from the body.
+         */
+        private int fieldCount = 0;
+
+        /**
+         * Whether or not the body has been read or rejected.
+         */
+        private boolean done = false;
+
+        BodyListener(ServletInputStream input, Charset charset)
+        {
+            this.input = input;
+            this.charset = charset;
+        }
+
+        @Override public void onDataAvailable() throws IOException
+        {
+            int read;
+            while (!done && input.isReady() && (read = input.read(buffer)) != -1) {
+                bodyBytes += read;
+                if (bodyBytes > maxBodyBytes) {
+                    reject(null, "The body exceeds " + maxBodyBytes + " bytes.");
+                    return;
+                }
+
+                for (int x = 0; x < read && !done; x++)
+                    accept(buffer[x]);
+            }
+        }
+
+        @Override public void onAllDataRead() throws IOException
+        {
+            if (done)
+                return;
+
+            if (escapeLength > 0) {
+                reject(name, "The body ends inside a percent-encoded byte.");
+                return;
+            }
+
+            endField();
+            if (!done) {
+                done = true;
+                result.complete(AsyncFormParameters.this);
+            }
+        }
+
+        @Override public void onError(Throwable t)
+        {
+            if (!done) {
+                done = true;
+                result.completeExceptionally(t);
+            }
+        }
+
+        /**
+         * Parses the provided byte of the body.
+         *
+         * @param b The byte to parse.
+         */
+        private void accept(byte b)
+        {
+            if (escapeLength > 0) {
+                int digit = Character.digit(b, 16);
+                if (digit < 0) {
+                    reject(name, "The body contains a malformed percent-encoded byte.");
+                    return;
+                }
+
+                escapeValue = escapeValue << 4 | digit;
+                if (++escapeLength == 3) {
+                    escapeLength = 0;
+                    append((byte) escapeValue);
+                }
+
+                return;
+            }
+
+            switch (b) {
+                case '%':
+                    escapeLength = 1;
+                    escapeValue = 0;
+                    break;
+                case '+':
+                    append((byte) ' ');
+                    break;
+                case '=':
+                    if (name == null) {
+                        name = new String(token, 0, tokenLength, charset);
+                        tokenLength = 0;
+                    } else {
+                        append(b);
+                    }
+                    break;
+                case '&':
+                    endField();
+                    break;
+                default:
+                    append(b);
+            }
+        }
+
+        /**
+         * Appends the provided decoded byte to the name or value currently being read.
+         *
+         * @param b The decoded byte to append.
+         */
+        private void append(byte b)
+        {
+            if (tokenLength == maxFieldBytes) {
+                reject(name, "A field exceeds " + maxFieldBytes + " bytes.");
+                return;
+            }
+
+            if (tokenLength == token.length)
+                token = Arrays.copyOf(token, Math.min(token.length * 2, maxFieldBytes));
+
+            token[tokenLength++] = b;
+        }
+
+        /**
+         * Completes the field currently being read, performing the checks added for the field.
+         */
+        private void endField()
+        {
+            String fieldName  = name;
+            String fieldValue = "";
+            if (fieldName == null) {
+                if (tokenLength == 0)
+                    return;
+                fieldName = new String(token, 0, tokenLength, charset);
+            } else {
+                fieldValue = new String(token, 0, tokenLength, charset);
+            }
+
+            name = null;
+            tokenLength = 0;
+
+            if (++fieldCount > maxFields) {
+                reject(null, "The body exceeds " + maxFields + " fields.");
+                return;
+            }
+
+            if (fields.putIfAbsent(fieldName, fieldValue) != null)
+                return;
+
+            Consumer<TextParameter<String>> check = fieldChecks.get(fieldName);
+            if (check != null && !onText(fieldName, check))
+                reject(fieldName, "The field '" + fieldName + "' failed its checks.");
+        }
+
+        /**
+         * Rejects the body, completing {@link BodyListener#result} exceptionally.
+         *
+         * @param name    The name of the field that caused the rejection, {@code null} when the rejection was not caused
+         *                by a single field.
+         * @param message The message describing why the body was rejected.
+         */
+        private void reject(String name, String message)
+        {
+            done = true;
+            result.completeExceptionally(new FormRejectedException(name, message));
+        }
+    }
+}
@@ -0,0 +1,867 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Audit log recording every failed check as a compact binary record in a memory-mapped ring file. Recording a failure
+ * encodes the record into a per-thread scratch array, reserves room in the ring by advancing a shared cursor with a
+ * compare-and-set, and copies the record into the mapped file. No locks are taken and no strings are formatted, and the
+ * operating system writes the mapped pages to disk in the background.
+ * <p>
+ * A record consists of a marker byte, the length of the record, the lap of the ring the record was written in, and
+ * var-int encoded fields: the timestamp in milliseconds, the id of the name of the {@link Parameter}, the
+ * {@link CheckCode} of the failed check, and the arguments of the check. The value of the {@link Parameter} is recorded
+ * as its hash code only, so that the audit log does not retain the submitted data. The ids of the names are assigned
+ * on first use and appended to a text file next to the ring file, named like the ring file with a {@code .names}
+ * suffix.
+ * <p>
+ * Once the ring is full, the oldest records are overwritten. The records are turned back into text by
+ * {@link AuditLogDecoder}, offline.
+ */
+public final class AuditLog implements Closeable
+{
+
+    /**
+     * The magic number at the start of the ring file, {@code WHAL}.
+     */
+    static final int MAGIC = 0x5748414C;
+
+    /**
+     * The version of the format of the ring file.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * The size of the header of the ring file, preceding the ring.
+     */
+    static final int HEADER_SIZE = 64;
+
+    /**
+     * The byte marking the start of a record, written after the rest of the record.
+     */
+    static final byte RECORD_MARK = (byte) 0xA7;
+
+    /**
+     * The maximum number of arguments recorded for a failed check.
+     */
+    static final int MAX_ARGUMENTS = 16;
+
+    /**
+     * The tag of an argument recorded as a zigzag encoded integer.
+     */
+    static final int INTEGER = 0;
+
+    /**
+     * The tag of an argument recorded as the bits of a {@code double}.
+     */
+    static final int DOUBLE = 1;
+
+    /**
+     * The tag of an argument recorded as its zigzag encoded hash code.
+     */
+    static final int HASH = 2;
+
+    /**
+     * The mapped ring file.
+     */
+    private final MappedByteBuffer buffer;
+
+    /**
+     * The capacity of the ring in bytes.
+     */
+    private final int capacity;
+
+    /**
+     * The number of bytes reserved in the ring since it was created, including the bytes skipped at the end of each
+     * lap.
+     */
+    private final AtomicLong cursor;
+
+    /**
+     * The ids of the names recorded in the audit log.
+     */
+    private final ConcurrentHashMap<String, Integer> names = new ConcurrentHashMap<>();
+
+    /**
+     * The writer appending new names to the names file. Guarded by this object.
+     */
+    private final Writer nameWriter;
+
+    /**
+     * The scratch arrays into which the records are encoded.
+     */
+    private final ThreadLocal<byte[]> scratch = ThreadLocal.withInitial(() -> new byte[255]);
+
+    private AuditLog(MappedByteBuffer buffer, int capacity, long cursor, Writer nameWriter)
+    {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.cursor = new AtomicLong(cursor);
+        this.nameWriter = nameWriter;
+    }
+
+    /**
+     * Opens the audit log in the provided ring file, creating the ring file when it does not exist. New records are
+     * appended after the records already in an existing ring file.
+     *
+     * @param file     The ring file.
+     * @param capacity The capacity of the ring in bytes, which must match the capacity of an existing ring file.
+     *
+     * @return The opened {@link AuditLog}.
+     * @throws IOException When the ring file cannot be opened, or is not a ring file of the provided capacity.
+     */
+    public static AuditLog open(Path file, int capacity) throws IOException
+    {
+        if (capacity < 256)
+            throw new IllegalArgumentException("The capacity must be at least 256 bytes.");
+
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            boolean exists = channel.size() > 0;
+            if (exists) {
+                ByteBuffer header = ByteBuffer.allocate(12);
+                int        read   = 0;
+                while (header.hasRemaining() && read >= 0)
+                    read = channel.read(header, header.position());
+                if (header.hasRemaining() || header.getInt(0) != MAGIC || header.getInt(4) != VERSION ||
+                    header.getInt(8) != capacity || channel.size() < HEADER_SIZE + (long) capacity)
+                    throw new IOException("The file " + file + " is not an audit log with a capacity of " + capacity + '.');
+            }
+
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) capacity);
+            if (!exists) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(8, capacity);
+            }
+        }
+
+        List<AuditLogDecoder.Record> records = AuditLogDecoder.read(buffer);
+        AuditLogDecoder.Record       last    = records.isEmpty() ? null : records.get(records.size() - 1);
+
+        Path     namesFile = namesFile(file);
+        AuditLog auditLog  = new AuditLog(buffer, capacity, last == null ? 0 : last.position + last.length,
+                                          Files.newBufferedWriter(namesFile, StandardCharsets.UTF_8,
+                                                                  StandardOpenOption.CREATE, StandardOpenOption.APPEND));
+        try (BufferedReader reader = Files.newBufferedReader(namesFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int tab = line.indexOf('\t');
+                if (tab > 0)
+                    auditLog.names.put(AuditLogDecoder.unescape(line.substring(tab + 1)),
+                                       Integer.parseInt(line.substring(0, tab)));
+            }
+        }
+
+        return auditLog;
+    }
+
+    /**
+     * Registers failure handlers recording every failed check in this audit log with the provided {@link Parameters}.
+     *
+     * @param parameters The {@link Parameters} whose failures to record.
+     * @param <N>        The type of the names of the {@link Parameters}.
+     */
+    public <N> void attach(Parameters<N> parameters)
+    {
+        parameters.addTextFailureHandler(new TextHandler<>());
+        parameters.addIntFailureHandler(new NumberHandler<>());
+        parameters.addLongFailureHandler(new NumberHandler<>());
+        parameters.addFloatFailureHandler(new NumberHandler<>());
+        parameters.addDoubleFailureHandler(new NumberHandler<>());
+        parameters.addBooleanFailureHandler(new BooleanHandler<>());
+        parameters.addEnumFailureHandler(new EnumHandler<>());
+        parameters.addDateFailureHandler(new DateHandler<>());
+        parameters.addInstantFailureHandler(new InstantHandler<>());
+        parameters.addDurationFailureHandler(new DurationHandler<>());
+        parameters.addUuidFailureHandler(new UuidHandler<>());
+        parameters.addDecimalFailureHandler(new DecimalHandler<>());
+        parameters.addInetFailureHandler(new InetHandler<>());
+    }
+
+    /**
+     * Records the failure of a check.
+     *
+     * @param checkCode The {@link CheckCode} of the failed check.
+     * @param name      The name of the {@link Parameter} on which the check failed.
+     * @param value     The value of the {@link Parameter} on which the check failed, of which only the hash code is
+     *                  recorded.
+     * @param arguments The arguments provided to the failed check. Integral numbers and floating point numbers are
+     *                  recorded as is, other arguments are recorded as their hash codes.
+     */
+    public void record(CheckCode checkCode, Object name, Object value, Object... arguments)
+    {
+        byte[] record = scratch.get();
+        int    count  = Math.min(arguments.length, MAX_ARGUMENTS);
+        int    length = begin(record, checkCode, name, count);
+        for (int x = 0; x < count; x++)
+            length = argument(record, length, arguments[x]);
+
+        end(record, length, value);
+    }
+
+    /**
+     * Records the failure of a check without arguments.
+     */
+    private void record(Parameter<?, ?> parameter, CheckCode checkCode)
+    {
+        byte[] record = scratch.get();
+        end(record, begin(record, checkCode, parameter.getName(), 0), parameter.getValue());
+    }
+
+    /**
+     * Records the failure of a check with an integral argument.
+     */
+    private void record(Parameter<?, ?> parameter, CheckCode checkCode, long argument)
+    {
+        byte[] record = scratch.get();
+        int    length = begin(record, checkCode, parameter.getName(), 1);
+        length = integer(record, length, argument);
+        end(record, length, parameter.getValue());
+    }
+
+    /**
+     * Records the failure of a check with an argument of another type.
+     */
+    private void record(Parameter<?, ?> parameter, CheckCode checkCode, Object argument)
+    {
+        byte[] record = scratch.get();
+        int    length = begin(record, checkCode, parameter.getName(), 1);
+        length = argument(record, length, argument);
+        end(record, length, parameter.getValue());
+    }
+
+    /**
+     * Records the failure of a check with an argument followed by an integral argument, like an index.
+     */
+    private void record(Parameter<?, ?> parameter, CheckCode checkCode, Object argument, long index)
+    {
+        byte[] record = scratch.get();
+        int    length = begin(record, checkCode, parameter.getName(), 2);
+        length = argument(record, length, argument);
+        length = integer(record, length, index);
+        end(record, length, parameter.getValue());
+    }
+
+    /**
+     * Records the failure of a check with a lower and an upper bound.
+     */
+    private void record(Parameter<?, ?> parameter, CheckCode checkCode, Object lower, Object upper)
+    {
+        byte[] record = scratch.get();
+        int    length = begin(record, checkCode, parameter.getName(), 2);
+        length = argument(record, length, lower);
+        length = argument(record, length, upper);
+        end(record, length, parameter.getValue());
+    }
+
+    /**
+     * Records the failure of a check with a lower and an upper bound, and whether the bounds are inclusive.
+     */
+    private void record(Parameter<?, ?> parameter, CheckCode checkCode, Object lower, Object upper, boolean inclusive)
+    {
+        byte[] record = scratch.get();
+        int    length = begin(record, checkCode, parameter.getName(), 3);
+        length = argument(record, length, lower);
+        length = argument(record, length, upper);
+        length = integer(record, length, inclusive ? 1 : 0);
+        end(record, length, parameter.getValue());
+    }
+
+    /**
+     * Encodes the start of a record into the provided scratch array: the timestamp, the id of the name, the
+     * {@link CheckCode} and the number of arguments.
+     *
+     * @return The length of the record so far.
+     */
+    private int begin(byte[] record, CheckCode checkCode, Object name, int count)
+    {
+        int length = 6;
+        length = putVarLong(record, length, System.currentTimeMillis());
+        length = putVarLong(record, length, nameId(String.valueOf(name)));
+        length = putVarLong(record, length, checkCode.getCode());
+
+        return putVarLong(record, length, count);
+    }
+
+    /**
+     * Encodes an argument, as an integer or a floating point number when it is a number, and as its hash code
+     * otherwise.
+     *
+     * @return The length of the record so far.
+     */
+    private static int argument(byte[] record, int length, Object argument)
+    {
+        if (argument instanceof Long || argument instanceof Integer || argument instanceof Short ||
+            argument instanceof Byte)
+            return integer(record, length, ((Number) argument).longValue());
+
+        if (argument instanceof Double || argument instanceof Float) {
+            record[length++] = DOUBLE;
+            return putVarLong(record, length, Double.doubleToLongBits(((Number) argument).doubleValue()));
+        }
+
+        record[length++] = HASH;
+        return putVarLong(record, length, zigzag(Objects.hashCode(argument)));
+    }
+
+    /**
+     * Encodes an integral argument.
+     *
+     * @return The length of the record so far.
+     */
+    private static int integer(byte[] record, int length, long argument)
+    {
+        record[length++] = INTEGER;
+
+        return putVarLong(record, length, zigzag(argument));
+    }
+
+    /**
+     * Encodes the hash code of the provided {@code value} to end the record, and copies the record into the ring.
+     */
+    private void end(byte[] record, int length, Object value)
+    {
+        int hash = Objects.hashCode(value);
+        record[length++] = (byte) (hash >>> 24);
+        record[length++] = (byte) (hash >>> 16);
+        record[length++] = (byte) (hash >>> 8);
+        record[length++] = (byte) hash;
+
+        long position = reserve(length);
+        int  lap      = (int) (position / capacity);
+        int  offset   = HEADER_SIZE + (int) (position % capacity);
+        record[1] = (byte) length;
+        record[2] = (byte) (lap >>> 24);
+        record[3] = (byte) (lap >>> 16);
+        record[4] = (byte) (lap >>> 8);
+        record[5] = (byte) lap;
+
+        buffer.put(offset, (byte) 0);
+        for (int x = 1; x < length; x++)
+            buffer.put(offset + x, record[x]);
+        buffer.put(offset, RECORD_MARK);
+    }
+
+    /**
+     * Writes the records in the ring to disk, and closes the names file. Records cannot be recorded after the
+     * {@link AuditLog} is closed.
+     *
+     * @throws IOException When the names file cannot be closed.
+     */
+    @Override public void close() throws IOException
+    {
+        buffer.force();
+        synchronized (this) {
+            nameWriter.close();
+        }
+    }
+
+    /**
+     * Returns the names file of the provided ring file.
+     *
+     * @param file The ring file.
+     *
+     * @return The names file of the provided ring file.
+     */
+    static Path namesFile(Path file)
+    {
+        return file.resolveSibling(file.getFileName() + ".names");
+    }
+
+    /**
+     * Reserves room for a record of the provided {@code length} in the ring. When the record does not fit before the end
+     * of the ring, the remainder of the lap is skipped.
+     *
+     * @return The position of the reserved room.
+     */
+    private long reserve(int length)
+    {
+        while (true) {
+            long current = cursor.get();
+            int  offset  = (int) (current % capacity);
+            if (offset + length > capacity)
+                cursor.compareAndSet(current, current + capacity - offset);
+            else if (cursor.compareAndSet(current, current + length))
+                return current;
+        }
+    }
+
+    /**
+     * Returns the id of the provided name, assigning the next id to names that have not been recorded before.
+     */
+    private int nameId(String name)
+    {
+        Integer id = names.get(name);
+        if (id != null)
+            return id;
+
+        synchronized (this) {
+            id = names.get(name);
+            if (id == null) {
+                id = names.size() + 1;
+                try {
+                    nameWriter.write(id + "\t" + AuditLogDecoder.escape(name) + "\n");
+                    nameWriter.flush();
+                } catch (IOException e) {
+                    throw new IllegalStateException("Could not write to the names file of the audit log.", e);
+                }
+                names.put(name, id);
+            }
+
+            return id;
+        }
+    }
+
+    /**
+     * Records the failures of the checks common to all {@link Parameter} types.
+     */
+    private class GenericHandler<N, V> implements GenericParameter.FailureHandler<N, V>
+    {
+
+        @Override public void isPresentFailure(GenericParameter<N, V> parameter)
+        {
+            record(parameter, CheckCode.IS_PRESENT);
+        }
+
+        @Override public void notPresentFailure(GenericParameter<N, V> parameter)
+        {
+            record(parameter, CheckCode.NOT_PRESENT);
+        }
+
+        @Override public void isEqualFailure(GenericParameter<N, V> parameter, V other)
+        {
+            record(parameter, CheckCode.IS_EQUAL, other);
+        }
+
+        @Override public void notEqualFailure(GenericParameter<N, V> parameter, V other)
+        {
+            record(parameter, CheckCode.NOT_EQUAL, other);
+        }
+
+        @Override public void isInFailure(GenericParameter<N, V> parameter, Iterable<? extends V> others)
+        {
+            record(parameter, CheckCode.IS_IN, others);
+        }
+
+        @Override public void notInFailure(GenericParameter<N, V> parameter, List<? extends V> others, int collision)
+        {
+            record(parameter, CheckCode.NOT_IN, others, collision);
+        }
+
+        @Override public void checkAsyncFailure(GenericParameter<N, V> parameter, AsyncCheck<? super V> check)
+        {
+            record(parameter, CheckCode.CHECK_ASYNC, check);
+        }
+    }
+
+    /**
+     * Records the failures of the checks common to all {@link ComparableParameter} types.
+     */
+    private class ComparableHandler<N, V extends Comparable<V>> extends GenericHandler<N, V>
+            implements ComparableParameter.FailureHandler<N, V>
+    {
+
+        @Override public void isGreaterThanFailure(ComparableParameter<N, V> parameter, V lower)
+        {
+            record(parameter, CheckCode.IS_GREATER_THAN, lower);
+        }
+
+        @Override public void notGreaterThanFailure(ComparableParameter<N, V> parameter, V upper)
+        {
+            record(parameter, CheckCode.NOT_GREATER_THAN, upper);
+        }
+
+        @Override public void isLessThanFailure(ComparableParameter<N, V> parameter, V upper)
+        {
+            record(parameter, CheckCode.IS_LESS_THAN, upper);
+        }
+
+        @Override public void notLessThanFailure(ComparableParameter<N, V> parameter, V lower)
+        {
+            record(parameter, CheckCode.NOT_LESS_THAN, lower);
+        }
+
+        @Override public void isBetweenFailure(ComparableParameter<N, V> parameter, V lower, V upper, boolean inclusive)
+        {
+            record(parameter, CheckCode.IS_BETWEEN, lower, upper, inclusive);
+        }
+
+        @Override public void notBetweenFailure(ComparableParameter<N, V> parameter, V lower, V upper, boolean inclusive)
+        {
+            record(parameter, CheckCode.NOT_BETWEEN, lower, upper, inclusive);
+        }
+    }
+
+    /**
+     * Records the failures of the checks common to all {@link ConvertedParameter} types.
+     */
+    private class ConvertedHandler<N, V> extends GenericHandler<N, V> implements ConvertedParameter.FailureHandler<N, V>
+    {
+
+        @Override public void isWellFormedFailure(ConvertedParameter<N, V> parameter, String text)
+        {
+            record(parameter, CheckCode.IS_WELL_FORMED, text);
+        }
+    }
+
+    /**
+     * Records the failures of the checks common to all {@link TemporalParameter} types.
+     */
+    private class TemporalHandler<N, V> extends ConvertedHandler<N, V> implements TemporalParameter.FailureHandler<N, V>
+    {
+
+        @Override public void isBeforeFailure(TemporalParameter<N, V> parameter, V upper)
+        {
+            record(parameter, CheckCode.IS_BEFORE, upper);
+        }
+
+        @Override public void isAfterFailure(TemporalParameter<N, V> parameter, V lower)
+        {
+            record(parameter, CheckCode.IS_AFTER, lower);
+        }
+
+        @Override public void isWithinFailure(TemporalParameter<N, V> parameter, V lower, V upper)
+        {
+            record(parameter, CheckCode.IS_WITHIN, lower, upper);
+        }
+    }
+
+    /**
+     * Records the failures of {@link TextParameter} instances.
+     */
+    private final class TextHandler<N> extends ComparableHandler<N, String> implements TextParameter.FailureHandler<N>
+    {
+
+        @Override public void isEmptyFailure(TextParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_EMPTY);
+        }
+
+        @Override public void notEmptyFailure(TextParameter<N> parameter)
+        {
+            record(parameter, CheckCode.NOT_EMPTY);
+        }
+
+        @Override public void isLengthFailure(TextParameter<N> parameter, int check)
+        {
+            record(parameter, CheckCode.IS_LENGTH, check);
+        }
+
+        @Override public void notLengthFailure(TextParameter<N> parameter, int check)
+        {
+            record(parameter, CheckCode.NOT_LENGTH, check);
+        }
+
+        @Override public void isShorterThanFailure(TextParameter<N> parameter, int check)
+        {
+            record(parameter, CheckCode.IS_SHORTER_THAN, check);
+        }
+
+        @Override public void notShorterThanFailure(TextParameter<N> parameter, int lower)
+        {
+            record(parameter, CheckCode.NOT_SHORTER_THAN, lower);
+        }
+
+        @Override public void isLongerThanFailure(TextParameter<N> parameter, int lower)
+        {
+            record(parameter, CheckCode.IS_LONGER_THAN, lower);
+        }
+
+        @Override public void notLongerThanFailure(TextParameter<N> parameter, int lower)
+        {
+            record(parameter, CheckCode.NOT_LONGER_THAN, lower);
+        }
+
+        @Override public void isMatchFailure(TextParameter<N> parameter, Pattern pattern)
+        {
+            record(parameter, CheckCode.IS_MATCH, pattern);
+        }
+
+        @Override public void notMatchFailure(TextParameter<N> parameter, Pattern pattern)
+        {
+            record(parameter, CheckCode.NOT_MATCH, pattern);
+        }
+
+        @Override public void isContainedFailure(TextParameter<N> parameter, CharSequence other)
+        {
+            record(parameter, CheckCode.IS_CONTAINED, other);
+        }
+
+        @Override public void notContainedFailure(TextParameter<N> parameter, CharSequence other)
+        {
+            record(parameter, CheckCode.NOT_CONTAINED, other);
+        }
+
+        @Override public void isEmailFailure(TextParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_EMAIL);
+        }
+
+        @Override public void isUrlFailure(TextParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_URL);
+        }
+
+        @Override public void isHostnameFailure(TextParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_HOSTNAME);
+        }
+
+        @Override public void isInetAddressFailure(TextParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_INET_ADDRESS);
+        }
+
+        @Override public void isAlphanumericFailure(TextParameter<N> parameter, int index)
+        {
+            record(parameter, CheckCode.IS_ALPHANUMERIC, index);
+        }
+
+        @Override public void isDigitsFailure(TextParameter<N> parameter, int index)
+        {
+            record(parameter, CheckCode.IS_DIGITS, index);
+        }
+
+        @Override public void isAsciiPrintableFailure(TextParameter<N> parameter, int index)
+        {
+            record(parameter, CheckCode.IS_ASCII_PRINTABLE, index);
+        }
+
+        @Override public void isInCharsetFailure(TextParameter<N> parameter, CharClass charClass, int index)
+        {
+            record(parameter, CheckCode.IS_IN_CHARSET, charClass, index);
+        }
+
+        @Override public void isValidFailure(TextParameter<N> parameter, PureCheck<String> check)
+        {
+            record(parameter, CheckCode.IS_VALID, check);
+        }
+    }
+
+    /**
+     * Records the failures of {@link NumberParameter} instances.
+     */
+    private final class NumberHandler<N, V extends Number & Comparable<V>> extends ComparableHandler<N, V>
+            implements NumberParameter.FailureHandler<N, V>
+    {
+
+        @Override public void isPositiveFailure(NumberParameter<N, V> parameter)
+        {
+            record(parameter, CheckCode.IS_POSITIVE);
+        }
+
+        @Override public void notPositiveFailure(NumberParameter<N, V> parameter)
+        {
+            record(parameter, CheckCode.NOT_POSITIVE);
+        }
+
+        @Override public void isNegativeFailure(NumberParameter<N, V> parameter)
+        {
+            record(parameter, CheckCode.IS_NEGATIVE);
+        }
+
+        @Override public void notNegativeFailure(NumberParameter<N, V> parameter)
+        {
+            record(parameter, CheckCode.NOT_NEGATIVE);
+        }
+    }
+
+    /**
+     * Records the failures of {@link BooleanParameter} instances.
+     */
+    private final class BooleanHandler<N> extends ConvertedHandler<N, Boolean> implements BooleanParameter.FailureHandler<N>
+    {
+
+        @Override public void isTrueFailure(BooleanParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_TRUE);
+        }
+
+        @Override public void isFalseFailure(BooleanParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_FALSE);
+        }
+    }
+
+    /**
+     * Records the failures of {@link EnumParameter} instances.
+     */
+    private final class EnumHandler<N> implements EnumParameter.FailureHandler<N>
+    {
+
+        @Override public void isPresentFailure(EnumParameter<N, ?> parameter)
+        {
+            record(parameter, CheckCode.IS_PRESENT);
+        }
+
+        @Override public void notPresentFailure(EnumParameter<N, ?> parameter)
+        {
+            record(parameter, CheckCode.NOT_PRESENT);
+        }
+
+        @Override public void isEqualFailure(EnumParameter<N, ?> parameter, Enum<?> other)
+        {
+            record(parameter, CheckCode.IS_EQUAL, other);
+        }
+
+        @Override public void notEqualFailure(EnumParameter<N, ?> parameter, Enum<?> other)
+        {
+            record(parameter, CheckCode.NOT_EQUAL, other);
+        }
+
+        @Override public void isInFailure(EnumParameter<N, ?> parameter, Iterable<? extends Enum<?>> others)
+        {
+            record(parameter, CheckCode.IS_IN, others);
+        }
+
+        @Override public void notInFailure(EnumParameter<N, ?> parameter, List<? extends Enum<?>> others, int collision)
+        {
+            record(parameter, CheckCode.NOT_IN, others, collision);
+        }
+
+        @Override public void checkAsyncFailure(EnumParameter<N, ?> parameter, AsyncCheck<?> check)
+        {
+            record(parameter, CheckCode.CHECK_ASYNC, check);
+        }
+
+        @Override public void isWellFormedFailure(EnumParameter<N, ?> parameter, String text)
+        {
+            record(parameter, CheckCode.IS_WELL_FORMED, text);
+        }
+    }
+
+    /**
+     * Records the failures of {@link DateParameter} instances.
+     */
+    private final class DateHandler<N> extends TemporalHandler<N, LocalDate> implements DateParameter.FailureHandler<N>
+    {
+
+    }
+
+    /**
+     * Records the failures of {@link InstantParameter} instances.
+     */
+    private final class InstantHandler<N> extends TemporalHandler<N, Instant> implements InstantParameter.FailureHandler<N>
+    {
+
+    }
+
+    /**
+     * Records the failures of {@link DurationParameter} instances.
+     */
+    private final class DurationHandler<N> extends TemporalHandler<N, Duration>
+            implements DurationParameter.FailureHandler<N>
+    {
+
+    }
+
+    /**
+     * Records the failures of {@link UuidParameter} instances.
+     */
+    private final class UuidHandler<N> extends ConvertedHandler<N, UUID> implements UuidParameter.FailureHandler<N>
+    {
+
+        @Override public void isVersionFailure(UuidParameter<N> parameter, int version)
+        {
+            record(parameter, CheckCode.IS_VERSION, version);
+        }
+
+        @Override public void isVariantFailure(UuidParameter<N> parameter, int variant)
+        {
+            record(parameter, CheckCode.IS_VARIANT, variant);
+        }
+
+        @Override public void isInSetFailure(UuidParameter<N> parameter, UuidSet set)
+        {
+            record(parameter, CheckCode.IS_IN_SET, set);
+        }
+    }
+
+    /**
+     * Records the failures of {@link DecimalParameter} instances.
+     */
+    private final class DecimalHandler<N> extends ConvertedHandler<N, Decimal> implements DecimalParameter.FailureHandler<N>
+    {
+
+        @Override public void isPositiveFailure(DecimalParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_POSITIVE);
+        }
+
+        @Override public void notPositiveFailure(DecimalParameter<N> parameter)
+        {
+            record(parameter, CheckCode.NOT_POSITIVE);
+        }
+
+        @Override public void isNegativeFailure(DecimalParameter<N> parameter)
+        {
+            record(parameter, CheckCode.IS_NEGATIVE);
+        }
+
+        @Override public void notNegativeFailure(DecimalParameter<N> parameter)
+        {
+            record(parameter, CheckCode.NOT_NEGATIVE);
+        }
+
+        @Override public void isBetweenFailure(DecimalParameter<N> parameter, Decimal lower, Decimal upper,
+                                               boolean inclusive)
+        {
+            record(parameter, CheckCode.IS_BETWEEN, lower, upper, inclusive);
+        }
+    }
+
+    /**
+     * Records the failures of {@link InetParameter} instances.
+     */
+    private final class InetHandler<N> extends ConvertedHandler<N, InetAddress> implements InetParameter.FailureHandler<N>
+    {
+
+        @Override public void isInRangesFailure(InetParameter<N> parameter, InetRanges ranges)
+        {
+            record(parameter, CheckCode.IS_IN_RANGES, ranges);
+        }
+
+        @Override public void notInRangesFailure(InetParameter<N> parameter, InetRanges ranges)
+        {
+            record(parameter, CheckCode.NOT_IN_RANGES, ranges);
+        }
+    }
+
+    private static long zigzag(long value)
+    {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static int putVarLong(byte[] bytes, int position, long value)
+    {
+        while ((value & ~0x7FL) != 0) {
+            bytes[position++] = (byte) (value & 0x7F | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+
+        return position;
+    }
+}
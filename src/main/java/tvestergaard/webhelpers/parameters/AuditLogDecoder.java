@@ -0,0 +1,286 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Offline decoder turning the ring files written by {@link AuditLog} into text, one line per record, oldest first. The
+ * fields of a line are separated by tabs: the timestamp, the name of the {@link Parameter}, the name of the failed check,
+ * the arguments of the check separated by commas, and the hash code of the value. Arguments recorded as hash codes and
+ * the hash code of the value are written as {@code #} followed by eight hexadecimal digits.
+ * <pre>
+ * 2017-06-01T12:00:00.123Z	username	notLongerThan	32	#5e7a91c3
+ * </pre>
+ * Run as {@code java tvestergaard.webhelpers.parameters.AuditLogDecoder <ring file>}.
+ */
+public final class AuditLogDecoder
+{
+
+    /**
+     * The smallest possible length of a record.
+     */
+    private static final int MIN_RECORD_LENGTH = 14;
+
+    private AuditLogDecoder()
+    {
+
+    }
+
+    /**
+     * Decodes the ring file provided as the only argument, writing the records to the standard output.
+     *
+     * @param arguments The arguments of the decoder, the path of the ring file.
+     *
+     * @throws IOException When the ring file cannot be read.
+     */
+    public static void main(String[] arguments) throws IOException
+    {
+        if (arguments.length != 1) {
+            System.err.println("Usage: AuditLogDecoder <ring file>");
+            System.exit(2);
+        }
+
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        decode(Paths.get(arguments[0]), out);
+        out.flush();
+    }
+
+    /**
+     * Decodes the provided ring file, appending the records to the provided {@code out}, oldest first.
+     *
+     * @param file The ring file to decode.
+     * @param out  The {@code Appendable} to which the lines are appended.
+     *
+     * @throws IOException When the ring file cannot be read, or is not a ring file.
+     */
+    public static void decode(Path file, Appendable out) throws IOException
+    {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < AuditLog.HEADER_SIZE || buffer.getInt(0) != AuditLog.MAGIC)
+            throw new IOException("The file " + file + " is not an audit log.");
+        if (buffer.getInt(4) != AuditLog.VERSION)
+            throw new IOException("The audit log " + file + " has the unsupported version " + buffer.getInt(4) + '.');
+
+        Map<Integer, String> names     = new HashMap<>();
+        Path                 namesFile = AuditLog.namesFile(file);
+        if (Files.exists(namesFile)) {
+            try (BufferedReader reader = Files.newBufferedReader(namesFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    int tab = line.indexOf('\t');
+                    if (tab > 0)
+                        names.put(Integer.parseInt(line.substring(0, tab)), unescape(line.substring(tab + 1)));
+                }
+            }
+        }
+
+        for (Record record : read(buffer)) {
+            CheckCode checkCode = CheckCode.ofCode(record.checkCode);
+            out.append(Instant.ofEpochMilli(record.timestamp).toString()).append('\t');
+            out.append(names.getOrDefault(record.name, "#" + record.name)).append('\t');
+            out.append(checkCode == null ? "#" + record.checkCode : checkCode.getCheckName()).append('\t');
+            for (int x = 0; x < record.arguments.length; x++) {
+                if (x > 0)
+                    out.append(',');
+                switch (record.tags[x]) {
+                    case AuditLog.INTEGER:
+                        out.append(Long.toString(record.arguments[x]));
+                        break;
+                    case AuditLog.DOUBLE:
+                        out.append(Double.toString(Double.longBitsToDouble(record.arguments[x])));
+                        break;
+                    default:
+                        out.append(hash((int) record.arguments[x]));
+                }
+            }
+            out.append('\t').append(hash(record.valueHash)).append('\n');
+        }
+    }
+
+    /**
+     * Reads the records from the provided mapped ring file. The ring is scanned from its start, and every offset at
+     * which a well-formed record is found is taken as a record, so that the records are found even where a newer record
+     * overwrote the start of an older record. The records overwritten in part are then dropped by their positions, which
+     * must lie within one capacity of the end of the newest record.
+     *
+     * @param buffer The mapped ring file, including the header.
+     *
+     * @return The records in the ring, oldest first.
+     */
+    static List<Record> read(ByteBuffer buffer)
+    {
+        int          capacity = buffer.getInt(8);
+        List<Record> records  = new ArrayList<>();
+        long         end      = 0;
+        for (int offset = 0; offset + MIN_RECORD_LENGTH <= capacity; ) {
+            Record record = parse(buffer, capacity, offset);
+            if (record == null) {
+                offset++;
+                continue;
+            }
+
+            records.add(record);
+            end = Math.max(end, record.position + record.length);
+            offset += record.length;
+        }
+
+        long start = end - capacity;
+        records.removeIf(record -> record.position < start);
+        records.sort(Comparator.comparingLong(record -> record.position));
+
+        return records;
+    }
+
+    /**
+     * Parses the record at the provided offset of the ring.
+     *
+     * @return The record, {@code null} when there is no well-formed record at the provided offset.
+     */
+    private static Record parse(ByteBuffer buffer, int capacity, int offset)
+    {
+        int base = AuditLog.HEADER_SIZE + offset;
+        if (buffer.get(base) != AuditLog.RECORD_MARK)
+            return null;
+
+        int length = buffer.get(base + 1) & 0xFF;
+        int lap    = buffer.getInt(base + 2);
+        if (length < MIN_RECORD_LENGTH || offset + length > capacity || lap < 0)
+            return null;
+
+        Reader reader = new Reader(buffer, base + 6, base + length - 4);
+        Record record = new Record();
+        record.position = (long) lap * capacity + offset;
+        record.length = length;
+        record.timestamp = reader.varLong();
+        record.name = (int) reader.varLong();
+        record.checkCode = (int) reader.varLong();
+
+        long count = reader.varLong();
+        if (count < 0 || count > AuditLog.MAX_ARGUMENTS)
+            return null;
+        record.tags = new int[(int) count];
+        record.arguments = new long[(int) count];
+        for (int x = 0; x < count; x++) {
+            record.tags[x] = reader.next();
+            long argument = reader.varLong();
+            record.arguments[x] = record.tags[x] == AuditLog.DOUBLE ? argument : argument >>> 1 ^ -(argument & 1);
+            if (record.tags[x] < AuditLog.INTEGER || record.tags[x] > AuditLog.HASH)
+                return null;
+        }
+
+        if (reader.failed || reader.position != reader.end)
+            return null;
+        record.valueHash = buffer.getInt(base + length - 4);
+
+        return record;
+    }
+
+    private static String hash(int hash)
+    {
+        return String.format("#%08x", hash);
+    }
+
+    /**
+     * Escapes the backslashes, tabs and line breaks in the provided name, so that it fits on a line of the names file.
+     */
+    static String escape(String name)
+    {
+        return name.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverses {@link AuditLogDecoder#escape(String)}.
+     */
+    static String unescape(String name)
+    {
+        StringBuilder builder = new StringBuilder(name.length());
+        for (int x = 0; x < name.length(); x++) {
+            char c = name.charAt(x);
+            if (c != '\\' || x + 1 == name.length()) {
+                builder.append(c);
+                continue;
+            }
+
+            char escaped = name.charAt(++x);
+            builder.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Record read from a ring file.
+     */
+    static final class Record
+    {
+        long   position;
+        int    length;
+        long   timestamp;
+        int    name;
+        int    checkCode;
+        int[]  tags;
+        long[] arguments;
+        int    valueHash;
+    }
+
+    /**
+     * Reads the var-int encoded fields of a record, without reading past the end of the record.
+     */
+    private static final class Reader
+    {
+        private final ByteBuffer buffer;
+        private final int        end;
+        private       int        position;
+        private       boolean    failed;
+
+        Reader(ByteBuffer buffer, int position, int end)
+        {
+            this.buffer = buffer;
+            this.position = position;
+            this.end = end;
+        }
+
+        int next()
+        {
+            if (position >= end) {
+                failed = true;
+                return 0;
+            }
+
+            return buffer.get(position++) & 0xFF;
+        }
+
+        long varLong()
+        {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = next();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0)
+                    return result;
+            }
+
+            failed = true;
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link ConvertedParameter} implementation using {@link Boolean} values. The texts {@code true}, {@code on},
+ * {@code yes} and {@code 1} convert to {@code true}, and the texts {@code false}, {@code off}, {@code no} and
+ * {@code 0} convert to {@code false}, ignoring case. Other texts are reported through the {@code isWellFormed} check.
+ *
+ * @param <N> The type of the name of the {@link BooleanParameter}.
+ */
+public class BooleanParameter<N> extends ConvertedParameter<N, Boolean>
+{
+
+    /**
+     * The table mapping the accepted texts to their values.
+     */
+    private static final ConstantTable<Boolean> values = createValues();
+
+    /**
+     * The failure handlers registered with the {@link BooleanParameter}.
+     */
+    private final Iterable<? extends FailureHandler<N>> failureHandlers;
+
+    /**
+     * Creates a new {@link BooleanParameter} by converting the provided {@code text}.
+     *
+     * @param name       The name of the {@link BooleanParameter}.
+     * @param text       The text to convert into the value of the {@link BooleanParameter}.
+     * @param onFailures The failure handlers to register with the {@link BooleanParameter}.
+     */
+    public BooleanParameter(N name, String text, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, convert(text), text, onFailures);
+
+        this.failureHandlers = onFailures;
+    }
+
+    /**
+     * Converts the provided {@code text} into a {@code Boolean}.
+     *
+     * @param text The text to convert.
+     *
+     * @return The converted value, {@code null} when the {@code text} is {@code null} or cannot be converted.
+     */
+    public static Boolean convert(String text)
+    {
+        return values.get(text);
+    }
+
+    /**
+     * Functional interface for {@code isTrue} check failures.
+     *
+     * @param <N> The type of the name of the {@link BooleanParameter} on which the {@code isTrue} check failed.
+     *
+     * @see BooleanParameter#isTrue()
+     * @see BooleanParameter#isTrue(IsTrueFailureCallback)
+     * @see BooleanParameter#isTrue(Iterable)
+     */
+    @FunctionalInterface public interface IsTrueFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsTrueFailureCallback} that the {@code isTrue} check failed.
+         *
+         * @param parameter The {@link BooleanParameter} on which the {@code isTrue} check failed.
+         *
+         * @see BooleanParameter#isTrue()
+         * @see BooleanParameter#isTrue(IsTrueFailureCallback)
+         * @see BooleanParameter#isTrue(Iterable)
+         */
+        void isTrueFailure(BooleanParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value of the {@link BooleanParameter} is {@code true}.
+     *
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link BooleanParameter} is {@code null}.
+     */
+    public boolean isTrue(Iterable<? extends IsTrueFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = value;
+        if (!result) {
+            incrementFailureCount();
+            for (IsTrueFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isTrueFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link BooleanParameter} is {@code true}.
+     *
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link BooleanParameter} is {@code null}.
+     */
+    public boolean isTrue(IsTrueFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = value;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isTrueFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link BooleanParameter} is {@code true}.
+     * Notifies the failure handlers provided to the {@link BooleanParameter} in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link BooleanParameter} is {@code null}.
+     */
+    public boolean isTrue() throws NullParameterValueException
+    {
+        return isTrue(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isFalse} check failures.
+     *
+     * @param <N> The type of the name of the {@link BooleanParameter} on which the {@code isFalse} check failed.
+     *
+     * @see BooleanParameter#isFalse()
+     * @see BooleanParameter#isFalse(IsFalseFailureCallback)
+     * @see BooleanParameter#isFalse(Iterable)
+     */
+    @FunctionalInterface public interface IsFalseFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsFalseFailureCallback} that the {@code isFalse} check failed.
+         *
+         * @param parameter The {@link BooleanParameter} on which the {@code isFalse} check failed.
+         *
+         * @see BooleanParameter#isFalse()
+         * @see BooleanParameter#isFalse(IsFalseFailureCallback)
+         * @see BooleanParameter#isFalse(Iterable)
+         */
+        void isFalseFailure(BooleanParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value of the {@link BooleanParameter} is {@code false}.
+     *
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link BooleanParameter} is {@code null}.
+     */
+    public boolean isFalse(Iterable<? extends IsFalseFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = !value;
+        if (!result) {
+            incrementFailureCount();
+            for (IsFalseFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isFalseFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link BooleanParameter} is {@code false}.
+     *
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link BooleanParameter} is {@code null}.
+     */
+    public boolean isFalse(IsFalseFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = !value;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isFalseFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link BooleanParameter} is {@code false}.
+     * Notifies the failure handlers provided to the {@link BooleanParameter} in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link BooleanParameter} is {@code null}.
+     */
+    public boolean isFalse() throws NullParameterValueException
+    {
+        return isFalse(failureHandlers);
+    }
+
+    private static ConstantTable<Boolean> createValues()
+    {
+        Map<String, Boolean> values = new HashMap<>();
+        values.put("true", true);
+        values.put("on", true);
+        values.put("yes", true);
+        values.put("1", true);
+        values.put("false", false);
+        values.put("off", false);
+        values.put("no", false);
+        values.put("0", false);
+
+        return ConstantTable.of(values, true);
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link BooleanParameter}.
+     *
+     * @param <N> The type of the name of the {@link BooleanParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N> extends ConvertedParameter.FailureHandler<N, Boolean>,
+                                               IsTrueFailureCallback<N>,
+                                               IsFalseFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsTrueFailureCallback} that the {@code isTrue} check failed.
+         *
+         * @param parameter The {@link BooleanParameter} on which the {@code isTrue} check failed.
+         *
+         * @see BooleanParameter#isTrue()
+         * @see BooleanParameter#isTrue(IsTrueFailureCallback)
+         * @see BooleanParameter#isTrue(Iterable)
+         */
+        @Override default void isTrueFailure(BooleanParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link IsFalseFailureCallback} that the {@code isFalse} check failed.
+         *
+         * @param parameter The {@link BooleanParameter} on which the {@code isFalse} check failed.
+         *
+         * @see BooleanParameter#isFalse()
+         * @see BooleanParameter#isFalse(IsFalseFailureCallback)
+         * @see BooleanParameter#isFalse(Iterable)
+         */
+        @Override default void isFalseFailure(BooleanParameter<N> parameter)
+        {
+
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of characters, checked against the values of {@link TextParameter} instances without using regular
+ * expressions. The ASCII members are kept in a 128-bit bitmap, split into two {@code long} values, and the members
+ * outside ASCII are kept as a sorted table of non-overlapping ranges of the Basic Multilingual Plane.
+ * <p>
+ * The members are matched against the UTF-16 units of a text, so supplementary characters are only members when both
+ * their surrogates are.
+ */
+public final class CharClass
+{
+
+    /**
+     * The ASCII letters and digits, {@code [A-Za-z0-9]}.
+     */
+    public static final CharClass ALPHANUMERIC = of("A-Za-z0-9");
+
+    /**
+     * The ASCII digits, {@code [0-9]}.
+     */
+    public static final CharClass DIGITS = of("0-9");
+
+    /**
+     * The printable ASCII characters, from the space {@code ' '} through the tilde {@code '~'}.
+     */
+    public static final CharClass ASCII_PRINTABLE = of(" -~");
+
+    /**
+     * The members among the characters {@code 0} through {@code 63}.
+     */
+    private final long low;
+
+    /**
+     * The members among the characters {@code 64} through {@code 127}.
+     */
+    private final long high;
+
+    /**
+     * The members outside ASCII, as sorted pairs of inclusive range bounds.
+     */
+    private final char[] ranges;
+
+    private CharClass(long low, long high, char[] ranges)
+    {
+        this.low = low;
+        this.high = high;
+        this.ranges = ranges;
+    }
+
+    /**
+     * Creates a new {@link CharClass} from a specification in the syntax of the contents of a bracket expression in a
+     * regular expression. The specification {@code "A-Za-z0-9_-"} creates the {@link CharClass} of the ASCII letters
+     * and digits, the underscore and the hyphen. A hyphen is a member when it is the first or the last character of
+     * the specification. No escapes or negations are supported.
+     *
+     * @param specification The characters and ranges of characters of the new {@link CharClass}.
+     *
+     * @return The new {@link CharClass}.
+     * @throws IllegalArgumentException When a range has a lower bound greater than its upper bound.
+     */
+    public static CharClass of(String specification) throws IllegalArgumentException
+    {
+        long   low    = 0;
+        long   high   = 0;
+        char[] ranges = new char[0];
+        int    length = specification.length();
+        for (int x = 0; x < length; x++) {
+            char from = specification.charAt(x);
+            char to   = from;
+            if (x + 2 < length && specification.charAt(x + 1) == '-') {
+                to = specification.charAt(x + 2);
+                x += 2;
+            }
+            if (from > to)
+                throw new IllegalArgumentException("The range " + from + '-' + to + " is out of order.");
+
+            for (char c = from; c <= to && c < 0x80; c++) {
+                if (c < 64)
+                    low |= 1L << c;
+                else
+                    high |= 1L << c - 64;
+            }
+            if (to >= 0x80)
+                ranges = add(ranges, (char) Math.max(from, 0x80), to);
+        }
+
+        return new CharClass(low, high, ranges);
+    }
+
+    /**
+     * Creates a new {@link CharClass} containing the members of this {@link CharClass} and the members of the provided
+     * {@link CharClass}.
+     *
+     * @param other The {@link CharClass} whose members to add.
+     *
+     * @return The new {@link CharClass}.
+     */
+    public CharClass or(CharClass other)
+    {
+        char[] ranges = this.ranges;
+        for (int x = 0; x < other.ranges.length; x += 2)
+            ranges = add(ranges, other.ranges[x], other.ranges[x + 1]);
+
+        return new CharClass(low | other.low, high | other.high, ranges);
+    }
+
+    /**
+     * Checks whether the provided character is a member of the {@link CharClass}.
+     *
+     * @param c The character to check.
+     *
+     * @return {@code true} if the character is a member of the {@link CharClass}.
+     */
+    public boolean contains(char c)
+    {
+        if (c < 64)
+            return (low & 1L << c) != 0;
+        if (c < 0x80)
+            return (high & 1L << c - 64) != 0;
+
+        return inRanges(c);
+    }
+
+    /**
+     * Returns the index of the first character of the provided {@code text} that is not a member of the
+     * {@link CharClass}. The loop stays on the bitmaps while the characters are ASCII, and only consults the table of
+     * ranges for the characters outside ASCII.
+     *
+     * @param text The text to check.
+     *
+     * @return The index of the first character that is not a member, {@code -1} when all the characters are members.
+     */
+    public int indexOfNonMember(CharSequence text)
+    {
+        long low    = this.low;
+        long high   = this.high;
+        int  length = text.length();
+        for (int x = 0; x < length; x++) {
+            char c = text.charAt(x);
+            if (c < 64) {
+                if ((low & 1L << c) == 0)
+                    return x;
+            } else if (c < 0x80) {
+                if ((high & 1L << c - 64) == 0)
+                    return x;
+            } else if (!inRanges(c))
+                return x;
+        }
+
+        return -1;
+    }
+
+    private boolean inRanges(char c)
+    {
+        int lower = 0;
+        int upper = ranges.length / 2 - 1;
+        while (lower <= upper) {
+            int middle = (lower + upper) >>> 1;
+            if (c < ranges[middle * 2])
+                upper = middle - 1;
+            else if (c > ranges[middle * 2 + 1])
+                lower = middle + 1;
+            else
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds the provided range to the provided sorted table of ranges, merging overlapping and adjacent ranges.
+     *
+     * @return The new table of ranges.
+     */
+    private static char[] add(char[] ranges, char from, char to)
+    {
+        char[] result = new char[ranges.length + 2];
+        int    length = 0;
+        int    x      = 0;
+        while (x < ranges.length && ranges[x + 1] + 1 < from) {
+            result[length++] = ranges[x++];
+            result[length++] = ranges[x++];
+        }
+        while (x < ranges.length && ranges[x] <= to + 1) {
+            from = (char) Math.min(from, ranges[x++]);
+            to = (char) Math.max(to, ranges[x++]);
+        }
+        result[length++] = from;
+        result[length++] = to;
+        while (x < ranges.length)
+            result[length++] = ranges[x++];
+
+        return Arrays.copyOf(result, length);
+    }
+}
@@ -0,0 +1,407 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * Bounded, thread safe cache of the results of pure checks, shared across requests. The results are keyed by the
+ * identity of the check, like a {@code Pattern} or a {@link PureCheck}, and the checked value. Checks are compared by
+ * identity, not equality, so checks must be created once and reused for every request: a {@code Pattern} compiled or a
+ * capturing lambda created per request never hits the cache, and its results only evict the useful ones.
+ * <p>
+ * The cache is bounded by weight, where the weight of a result is the approximate number of bytes it retains. When the
+ * cache is full, a result is only admitted when its value has been checked more often than the value of the result it
+ * would evict, as estimated by a count-min sketch of the recently checked values, which is halved periodically so that
+ * old popularity fades. The result to evict is the least frequently checked, preferring the heaviest, of a small random
+ * sample of the cached results. This way, values that are checked once, like most referrers and search terms, do not
+ * displace the values that repeat.
+ * <p>
+ * Cache hits only read from a {@code ConcurrentHashMap} and update the sketch. The counters of the sketch are updated
+ * using compare-and-set, so concurrent updates are never lost, and the periodic halving is performed by a single thread.
+ * Admission and eviction happen on cache misses, after the check itself was performed, and are serialized.
+ */
+public final class CheckCache
+{
+
+    /**
+     * The number of cached results sampled when choosing the result to evict.
+     */
+    private static final int SAMPLE_SIZE = 8;
+
+    /**
+     * The weight of a cached result, not counting the characters of its value.
+     */
+    private static final int ENTRY_WEIGHT = 64;
+
+    /**
+     * The maximum weight of the cached results.
+     */
+    private final long maxWeight;
+
+    /**
+     * The cached results.
+     */
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The estimated frequencies of the recently checked values.
+     */
+    private final FrequencySketch sketch;
+
+    /**
+     * The cached results, in no particular order, from which the results to evict are sampled. Guarded by this object.
+     */
+    private Entry[] table = new Entry[16];
+
+    /**
+     * The number of cached results in {@link CheckCache#table}. Guarded by this object.
+     */
+    private int size;
+
+    /**
+     * The total weight of the cached results. Guarded by this object.
+     */
+    private long weight;
+
+    private final LongAdder hits       = new LongAdder();
+    private final LongAdder misses     = new LongAdder();
+    private final LongAdder evictions  = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * Creates a new {@link CheckCache}.
+     *
+     * @param maxWeight The maximum weight of the cached results, roughly the number of bytes they may retain.
+     *
+     * @throws IllegalArgumentException When the {@code maxWeight} is not positive.
+     */
+    public CheckCache(long maxWeight) throws IllegalArgumentException
+    {
+        if (maxWeight <= 0)
+            throw new IllegalArgumentException("The maximum weight must be positive.");
+
+        this.maxWeight = maxWeight;
+        this.sketch = new FrequencySketch((int) Math.min(maxWeight / ENTRY_WEIGHT, 1 << 20));
+    }
+
+    /**
+     * Returns the result of the provided {@code check} on the provided {@code value}, performing the check when the
+     * result is not cached.
+     *
+     * @param check     The check to perform, whose identity is part of the key of the result.
+     * @param value     The value to check.
+     * @param predicate The predicate performing the {@code check} on the {@code value}.
+     * @param <C>       The type of the check.
+     *
+     * @return The result of the check.
+     */
+    public <C> boolean test(C check, String value, BiPredicate<? super C, ? super String> predicate)
+    {
+        Key key = new Key(check, value);
+        sketch.increment(key.hash);
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            hits.increment();
+            return entry.result;
+        }
+
+        misses.increment();
+        boolean result = predicate.test(check, value);
+        admit(key, result);
+
+        return result;
+    }
+
+    /**
+     * Returns the number of checks whose results were found in the cache.
+     *
+     * @return The number of checks whose results were found in the cache.
+     */
+    public long getHitCount()
+    {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of checks whose results were not found in the cache, and had to be performed.
+     *
+     * @return The number of checks whose results were not found in the cache.
+     */
+    public long getMissCount()
+    {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of checks whose results were found in the cache.
+     *
+     * @return The ratio of checks whose results were found in the cache, {@code 0} when no checks were performed.
+     */
+    public double getHitRate()
+    {
+        long hits  = this.hits.sum();
+        long total = hits + misses.sum();
+
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the number of results evicted to make room for more frequently checked values.
+     *
+     * @return The number of results evicted.
+     */
+    public long getEvictionCount()
+    {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the number of results that were not admitted, because their values were checked less frequently than the
+     * values of the cached results.
+     *
+     * @return The number of results that were not admitted.
+     */
+    public long getRejectionCount()
+    {
+        return rejections.sum();
+    }
+
+    /**
+     * Returns the number of cached results.
+     *
+     * @return The number of cached results.
+     */
+    public int size()
+    {
+        return entries.size();
+    }
+
+    /**
+     * Returns the total weight of the cached results.
+     *
+     * @return The total weight of the cached results.
+     */
+    public synchronized long getWeight()
+    {
+        return weight;
+    }
+
+    /**
+     * Caches the provided {@code result} when there is room for it, or when its value is checked more frequently than
+     * the values of the results it would evict.
+     */
+    private synchronized void admit(Key key, boolean result)
+    {
+        if (entries.containsKey(key))
+            return;
+
+        long entryWeight = ENTRY_WEIGHT + 2L * key.value.length();
+        int  frequency   = sketch.frequency(key.hash);
+        if (entryWeight > maxWeight) {
+            rejections.increment();
+            return;
+        }
+
+        while (weight + entryWeight > maxWeight) {
+            Entry victim = sample();
+            if (sketch.frequency(victim.key.hash) >= frequency) {
+                rejections.increment();
+                return;
+            }
+
+            remove(victim);
+            evictions.increment();
+        }
+
+        if (size == table.length)
+            table = Arrays.copyOf(table, size * 2);
+
+        Entry entry = new Entry(key, result, entryWeight, size);
+        table[size++] = entry;
+        weight += entryWeight;
+        entries.put(key, entry);
+    }
+
+    /**
+     * Returns the least frequently checked, and of those the heaviest, of a random sample of the cached results.
+     */
+    private Entry sample()
+    {
+        ThreadLocalRandom random    = ThreadLocalRandom.current();
+        Entry             victim    = null;
+        int               frequency = Integer.MAX_VALUE;
+        for (int x = 0; x < SAMPLE_SIZE; x++) {
+            Entry candidate          = table[random.nextInt(size)];
+            int   candidateFrequency = sketch.frequency(candidate.key.hash);
+            if (candidateFrequency < frequency || candidateFrequency == frequency && candidate.weight > victim.weight) {
+                victim = candidate;
+                frequency = candidateFrequency;
+            }
+        }
+
+        return victim;
+    }
+
+    private void remove(Entry entry)
+    {
+        entries.remove(entry.key);
+        weight -= entry.weight;
+
+        Entry last = table[--size];
+        table[entry.slot] = last;
+        last.slot = entry.slot;
+        table[size] = null;
+    }
+
+    /**
+     * The key of a cached result, consisting of the identity of the check and the checked value.
+     */
+    private static final class Key
+    {
+
+        private final Object check;
+        private final String value;
+        private final int    hash;
+
+        Key(Object check, String value)
+        {
+            this.check = check;
+            this.value = value;
+            this.hash = System.identityHashCode(check) * 31 + value.hashCode();
+        }
+
+        @Override public boolean equals(Object other)
+        {
+            if (!(other instanceof Key))
+                return false;
+
+            Key key = (Key) other;
+            return check == key.check && value.equals(key.value);
+        }
+
+        @Override public int hashCode()
+        {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached result.
+     */
+    private static final class Entry
+    {
+
+        private final Key     key;
+        private final boolean result;
+        private final long    weight;
+
+        /**
+         * The index of the {@link Entry} in {@link CheckCache#table}.
+         */
+        private int slot;
+
+        Entry(Key key, boolean result, long weight, int slot)
+        {
+            this.key = key;
+            this.result = result;
+            this.weight = weight;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * Count-min sketch of four rows of 4-bit counters, packed sixteen to a {@code long}. Each row has eight counters per
+     * expected entry, to keep collisions rare, and the counters are halved once the number of increments reaches ten
+     * times the number of expected entries. The counters are updated using compare-and-set, and the halving is
+     * performed by the thread whose increment reaches the threshold, so the sketch is thread safe.
+     */
+    static final class FrequencySketch
+    {
+
+        private static final int[] SEEDS = {0x97CB3127, 0xB492B66F, 0x9AE16A3B, 0x2F9A5B35};
+
+        private final AtomicLongArray counters;
+        private final int             width;
+        private final int             mask;
+        private final int             resetAt;
+        private final AtomicInteger   increments = new AtomicInteger();
+
+        FrequencySketch(int expectedEntries)
+        {
+            int entries = Integer.highestOneBit(Math.max(expectedEntries, 64) - 1) << 1;
+            int width   = entries * 8;
+
+            this.counters = new AtomicLongArray(width / 4);
+            this.width = width;
+            this.mask = width - 1;
+            this.resetAt = entries * 10;
+        }
+
+        void increment(int hash)
+        {
+            boolean added = false;
+            for (int row = 0; row < 4; row++)
+                added |= incrementCounter(index(hash, row));
+
+            if (added && increments.incrementAndGet() == resetAt)
+                reset();
+        }
+
+        /**
+         * Increments the counter at the provided {@code index}, unless the counter is saturated.
+         *
+         * @return {@code true} when the counter was incremented.
+         */
+        private boolean incrementCounter(int index)
+        {
+            int slot  = index >>> 4;
+            int shift = (index & 15) << 2;
+            while (true) {
+                long counter = counters.get(slot);
+                if ((counter >>> shift & 15) == 15)
+                    return false;
+                if (counters.compareAndSet(slot, counter, counter + (1L << shift)))
+                    return true;
+            }
+        }
+
+        int frequency(int hash)
+        {
+            int frequency = 15;
+            for (int row = 0; row < 4; row++) {
+                int index = index(hash, row);
+                frequency = Math.min(frequency, (int) (counters.get(index >>> 4) >>> ((index & 15) << 2) & 15));
+            }
+
+            return frequency;
+        }
+
+        /**
+         * Returns the index of the counter of the provided {@code hash} in the provided {@code row}.
+         */
+        private int index(int hash, int row)
+        {
+            int h = hash * SEEDS[row];
+            h ^= h >>> 16;
+
+            return row * width + (h & mask);
+        }
+
+        /**
+         * Halves the counters. Only called by the thread whose increment reached the threshold, which cannot be reached
+         * again before the increments are lowered at the end of the halving.
+         */
+        private void reset()
+        {
+            for (int x = 0; x < counters.length(); x++)
+                counters.updateAndGet(x, counter -> counter >>> 1 & 0x7777777777777777L);
+            increments.addAndGet(-(resetAt - resetAt / 2));
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Stable numeric codes of the checks performed by the {@link Parameter} implementations, used to identify failed checks
+ * in compact encodings such as the records of an {@link AuditLog}. The code of a check never changes, so new checks are
+ * given new codes, and the codes of removed checks are never reused.
+ */
+public enum CheckCode
+{
+
+    IS_PRESENT(1, "isPresent"),
+    NOT_PRESENT(2, "notPresent"),
+    IS_EQUAL(3, "isEqual"),
+    NOT_EQUAL(4, "notEqual"),
+    IS_IN(5, "isIn"),
+    NOT_IN(6, "notIn"),
+    IS_WELL_FORMED(7, "isWellFormed"),
+    IS_GREATER_THAN(8, "isGreaterThan"),
+    NOT_GREATER_THAN(9, "notGreaterThan"),
+    IS_LESS_THAN(10, "isLessThan"),
+    NOT_LESS_THAN(11, "notLessThan"),
+    IS_BETWEEN(12, "isBetween"),
+    NOT_BETWEEN(13, "notBetween"),
+    IS_POSITIVE(14, "isPositive"),
+    NOT_POSITIVE(15, "notPositive"),
+    IS_NEGATIVE(16, "isNegative"),
+    NOT_NEGATIVE(17, "notNegative"),
+    IS_EMPTY(18, "isEmpty"),
+    NOT_EMPTY(19, "notEmpty"),
+    IS_LENGTH(20, "isLength"),
+    NOT_LENGTH(21, "notLength"),
+    IS_SHORTER_THAN(22, "isShorterThan"),
+    NOT_SHORTER_THAN(23, "notShorterThan"),
+    IS_LONGER_THAN(24, "isLongerThan"),
+    NOT_LONGER_THAN(25, "notLongerThan"),
+    IS_MATCH(26, "isMatch"),
+    NOT_MATCH(27, "notMatch"),
+    IS_CONTAINED(28, "isContained"),
+    NOT_CONTAINED(29, "notContained"),
+    IS_EMAIL(30, "isEmail"),
+    IS_URL(31, "isUrl"),
+    IS_HOSTNAME(32, "isHostname"),
+    IS_INET_ADDRESS(33, "isInetAddress"),
+    IS_TRUE(34, "isTrue"),
+    IS_FALSE(35, "isFalse"),
+    IS_BEFORE(36, "isBefore"),
+    IS_AFTER(37, "isAfter"),
+    IS_WITHIN(38, "isWithin"),
+    IS_VERSION(39, "isVersion"),
+    IS_VARIANT(40, "isVariant"),
+    IS_IN_SET(41, "isInSet"),
+    IS_IN_RANGES(42, "isInRanges"),
+    NOT_IN_RANGES(43, "notInRanges"),
+    CHECK_ASYNC(44, "checkAsync"),
+    IS_ALPHANUMERIC(45, "isAlphanumeric"),
+    IS_DIGITS(46, "isDigits"),
+    IS_ASCII_PRINTABLE(47, "isAsciiPrintable"),
+    IS_IN_CHARSET(48, "isInCharset"),
+    IS_VALID(49, "isValid");
+
+    /**
+     * The {@link CheckCode}s indexed by their codes.
+     */
+    private static final CheckCode[] byCode;
+
+    /**
+     * The {@link CheckCode}s keyed by the names of their checks.
+     */
+    private static final Map<String, CheckCode> byName = new HashMap<>();
+
+    static {
+        int max = 0;
+        for (CheckCode checkCode : values())
+            max = Math.max(max, checkCode.code);
+
+        byCode = new CheckCode[max + 1];
+        for (CheckCode checkCode : values()) {
+            byCode[checkCode.code] = checkCode;
+            byName.put(checkCode.checkName, checkCode);
+        }
+    }
+
+    /**
+     * The numeric code of the check.
+     */
+    private final int code;
+
+    /**
+     * The name of the check method, like {@code isLength}.
+     */
+    private final String checkName;
+
+    CheckCode(int code, String checkName)
+    {
+        this.code = code;
+        this.checkName = checkName;
+    }
+
+    /**
+     * Returns the numeric code of the check.
+     *
+     * @return The numeric code of the check.
+     */
+    public int getCode()
+    {
+        return this.code;
+    }
+
+    /**
+     * Returns the name of the check method, like {@code isLength}.
+     *
+     * @return The name of the check method.
+     */
+    public String getCheckName()
+    {
+        return this.checkName;
+    }
+
+    /**
+     * Returns the {@link CheckCode} with the provided numeric code.
+     *
+     * @param code The numeric code of the {@link CheckCode} to return.
+     *
+     * @return The {@link CheckCode} with the provided numeric code, {@code null} when no such {@link CheckCode} exists.
+     */
+    public static CheckCode ofCode(int code)
+    {
+        return code >= 0 && code < byCode.length ? byCode[code] : null;
+    }
+
+    /**
+     * Returns the {@link CheckCode} of the check with the provided name.
+     *
+     * @param checkName The name of the check method, like {@code isLength}.
+     *
+     * @return The {@link CheckCode} of the check, {@code null} when no such check exists.
+     */
+    public static CheckCode ofCheck(String checkName)
+    {
+        return byName.get(checkName);
+    }
+
+    /**
+     * Returns the {@link CheckCode} of the check notifying the failure callback method with the provided name, like
+     * {@code isLengthFailure}.
+     *
+     * @param methodName The name of the failure callback method.
+     *
+     * @return The {@link CheckCode} of the check, {@code null} when no such check exists.
+     */
+    public static CheckCode ofFailureMethod(String methodName)
+    {
+        return methodName.endsWith("Failure") ? byName.get(methodName.substring(0, methodName.length() - 7)) : null;
+    }
+}
@@ -1,7 +1,5 @@
 package tvestergaard.webhelpers.parameters;
 
-import java.util.Arrays;
-
 /**
  * An implementation of the {@link Parameter} interface for use on {@code Comparable} value types.
  *
@@ -87,7 +85,13 @@ public abstract class ComparableParameter<N, V extends Comparable<V>> extends Ge
      */
     public boolean isGreaterThan(V lower, IsGreaterThanFailureCallback<N, V> failureCallback)
     {
-        return isGreaterThan(lower, Arrays.asList(failureCallback));
+        boolean result = value.compareTo(lower) > 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isGreaterThanFailure(this, lower);
+        }
+
+        return result;
     }
 
     /**
@@ -162,7 +166,13 @@ public abstract class ComparableParameter<N, V extends Comparable<V>> extends Ge
      */
     public boolean notGreaterThan(V upper, NotGreaterThanFailureCallback<N, V> failureCallback)
     {
-        return notGreaterThan(upper, Arrays.asList(failureCallback));
+        boolean result = value.compareTo(upper) <= 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.notGreaterThanFailure(this, upper);
+        }
+
+        return result;
     }
 
     /**
@@ -237,7 +247,13 @@ public abstract class ComparableParameter<N, V extends Comparable<V>> extends Ge
      */
     public boolean isLessThan(V upper, IsLessThanFailureCallback<N, V> failureCallback)
     {
-        return isLessThan(upper, Arrays.asList(failureCallback));
+        boolean result = value.compareTo(upper) < 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isLessThanFailure(this, upper);
+        }
+
+        return result;
     }
 
     /**
@@ -312,7 +328,13 @@ public abstract class ComparableParameter<N, V extends Comparable<V>> extends Ge
      */
     public boolean notLessThan(V lower, NotLessThanFailureCallback<N, V> failureCallback)
     {
-        return notLessThan(lower, Arrays.asList(failureCallback));
+        boolean result = value.compareTo(lower) >= 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.notLessThanFailure(this, lower);
+        }
+
+        return result;
     }
 
     /**
@@ -420,7 +442,19 @@ public abstract class ComparableParameter<N, V extends Comparable<V>> extends Ge
      */
     public boolean isBetween(V lower, V upper, boolean inclusive, IsBetweenFailureCallback<N, V> failureCallback)
     {
-        return isBetween(lower, upper, inclusive, Arrays.asList(failureCallback));
+        boolean result;
+
+        if (inclusive)
+            result = value.compareTo(lower) >= 0 && value.compareTo(upper) <= 0;
+        else
+            result = value.compareTo(lower) > 0 && value.compareTo(upper) < 0;
+
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isBetweenFailure(this, lower, upper, inclusive);
+        }
+
+        return result;
     }
 
     /**
@@ -462,7 +496,7 @@ public abstract class ComparableParameter<N, V extends Comparable<V>> extends Ge
      */
     public boolean isBetween(V lower, V upper, IsBetweenFailureCallback<N, V> failureCallback)
     {
-        return isBetween(lower, upper, true, Arrays.asList(failureCallback));
+        return isBetween(lower, upper, true, failureCallback);
     }
 
     /**
@@ -603,7 +637,19 @@ public abstract class ComparableParameter<N, V extends Comparable<V>> extends Ge
      */
     public boolean notBetween(V lower, V upper, boolean inclusive, NotBetweenFailureCallback<N, V> failureCallback)
     {
-        return notBetween(lower, upper, inclusive, Arrays.asList(failureCallback));
+        boolean result;
+
+        if (inclusive)
+            result = value.compareTo(lower) <= 0 || value.compareTo(upper) >= 0;
+        else
+            result = value.compareTo(lower) < 0 || value.compareTo(upper) > 0;
+
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.notBetweenFailure(this, lower, upper, inclusive);
+        }
+
+        return result;
     }
 
     /**
@@ -645,7 +691,7 @@ public abstract class ComparableParameter<N, V extends Comparable<V>> extends Ge
      */
     public boolean notBetween(V lower, V upper, NotBetweenFailureCallback<N, V> failureCallback)
     {
-        return notBetween(lower, upper, Arrays.asList(failureCallback));
+        return notBetween(lower, upper, true, failureCallback);
     }
 
     /**
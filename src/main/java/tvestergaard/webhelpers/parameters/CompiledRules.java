@@ -0,0 +1,49 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.lang.invoke.MethodHandle;
+import java.util.function.Supplier;
+
+/**
+ * {@link Validator} invoking the {@code (Parameters)boolean} check compiled by the {@link RuleLoader} from a set of
+ * rules.
+ * <p>
+ * The class is a template: the {@link RuleLoader} defines a new copy of the class for every set of rules, each in its
+ * own {@code ClassLoader}, which provides the compiled check when the copy is initialized. Holding the check in a
+ * {@code static final} field allows the JIT to treat the check as a constant, inlining the {@code MethodHandle} tree
+ * into the caller like hand-written checks, which it does not do for checks held in instance fields. The class must
+ * therefore only use public types, as the copies live in their own runtime package.
+ *
+ * @see RuleLoader#load(java.io.Reader)
+ */
+final class CompiledRules implements Validator<Parameters<String>>
+{
+
+    /**
+     * The compiled {@code (Parameters)boolean} check, {@code null} in the template itself.
+     */
+    private static final MethodHandle handle = handle();
+
+    @Override public boolean validate(Parameters<String> subject)
+    {
+        try {
+            return (boolean) handle.invokeExact(subject);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException(t);
+        }
+    }
+
+    /**
+     * Returns the compiled check provided by the {@code ClassLoader} defining this copy of the class.
+     *
+     * @return The compiled check, {@code null} when the class was not defined by the {@link RuleLoader}.
+     */
+    @SuppressWarnings("unchecked")
+    private static MethodHandle handle()
+    {
+        ClassLoader loader = CompiledRules.class.getClassLoader();
+
+        return loader instanceof Supplier ? ((Supplier<MethodHandle>) loader).get() : null;
+    }
+}
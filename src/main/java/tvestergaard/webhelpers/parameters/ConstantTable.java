@@ -0,0 +1,291 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable mapping from text to constants, using a minimal perfect hash. Lookups hash the text twice and compare it to
+ * a single candidate key, so they take constant time in the number of constants and allocate nothing.
+ * <p>
+ * The hash is built using the hash and displace method: the keys are distributed into buckets using a first hash, and
+ * for each bucket, largest first, a displacement is searched for such that a second hash seeded with the displacement
+ * places every key of the bucket in a free slot. There are exactly as many slots as keys.
+ * <p>
+ * Instances of {@link ConstantTable} are thread safe, and are meant to be built once and shared.
+ *
+ * @param <T> The type of the constants in the {@link ConstantTable}.
+ */
+public final class ConstantTable<T>
+{
+
+    /**
+     * The case sensitive tables mapping the names of the constants of enum classes to the constants.
+     */
+    private static final ClassValue<ConstantTable<?>> enumTables = new ClassValue<ConstantTable<?>>()
+    {
+        @Override protected ConstantTable<?> computeValue(Class<?> type)
+        {
+            return build(type, false, new LinkedHashMap<>());
+        }
+    };
+
+    /**
+     * The maximum number of displacements tried for a single bucket.
+     */
+    private static final int MAX_DISPLACEMENT = 1 << 20;
+
+    /**
+     * Whether or not the keys are compared ignoring case.
+     */
+    private final boolean ignoreCase;
+
+    /**
+     * The displacements of the buckets.
+     */
+    private final int[] displacements;
+
+    /**
+     * The keys, indexed by their slot.
+     */
+    private final String[] keys;
+
+    /**
+     * The constants, indexed by the slot of their key.
+     */
+    private final Object[] constants;
+
+    private ConstantTable(boolean ignoreCase, int[] displacements, String[] keys, Object[] constants)
+    {
+        this.ignoreCase = ignoreCase;
+        this.displacements = displacements;
+        this.keys = keys;
+        this.constants = constants;
+    }
+
+    /**
+     * Returns the case sensitive {@link ConstantTable} mapping the names of the constants of the provided enum class to
+     * the constants. The table is built once per enum class.
+     *
+     * @param type The enum class.
+     * @param <E>  The type of the enum class.
+     *
+     * @return The {@link ConstantTable} mapping the names of the constants of the enum class to the constants.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> ConstantTable<E> of(Class<E> type)
+    {
+        return (ConstantTable<E>) enumTables.get(type);
+    }
+
+    /**
+     * Builds a {@link ConstantTable} mapping the names of the constants of the provided enum class, as well as the
+     * provided {@code aliases}, to the constants.
+     *
+     * @param type       The enum class.
+     * @param ignoreCase Whether or not the keys should be compared ignoring case.
+     * @param aliases    The additional keys mapping to the constants.
+     * @param <E>        The type of the enum class.
+     *
+     * @return The new {@link ConstantTable}.
+     * @throws IllegalArgumentException When two keys are equal.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> ConstantTable<E> of(Class<E> type, boolean ignoreCase, Map<String, E> aliases)
+            throws IllegalArgumentException
+    {
+        return (ConstantTable<E>) build(type, ignoreCase, aliases);
+    }
+
+    /**
+     * Builds a {@link ConstantTable} mapping the keys in the provided map to their constants.
+     *
+     * @param constants  The keys and the constants they map to.
+     * @param ignoreCase Whether or not the keys should be compared ignoring case.
+     * @param <T>        The type of the constants.
+     *
+     * @return The new {@link ConstantTable}.
+     * @throws IllegalArgumentException When two keys are equal.
+     */
+    public static <T> ConstantTable<T> of(Map<String, ? extends T> constants, boolean ignoreCase)
+            throws IllegalArgumentException
+    {
+        List<String> keys   = new ArrayList<>(constants.keySet());
+        List<Object> values = new ArrayList<>(constants.values());
+        return build(keys, values, ignoreCase);
+    }
+
+    /**
+     * Returns the constant mapped to by the provided {@code text}.
+     *
+     * @param text The text to look up.
+     *
+     * @return The constant mapped to by the provided {@code text}, {@code null} when the text does not map to a
+     * constant.
+     */
+    @SuppressWarnings("unchecked")
+    public T get(CharSequence text)
+    {
+        if (text == null || keys.length == 0)
+            return null;
+
+        int    bucket = index(hash(text, 0, ignoreCase), displacements.length);
+        int    slot   = index(hash(text, displacements[bucket], ignoreCase), keys.length);
+        String key    = keys[slot];
+
+        return matches(key, text) ? (T) constants[slot] : null;
+    }
+
+    /**
+     * Returns the number of keys in the {@link ConstantTable}.
+     *
+     * @return The number of keys in the {@link ConstantTable}.
+     */
+    public int size()
+    {
+        return keys.length;
+    }
+
+    private boolean matches(String key, CharSequence text)
+    {
+        int length = key.length();
+        if (length != text.length())
+            return false;
+
+        for (int x = 0; x < length; x++) {
+            char a = key.charAt(x);
+            char b = text.charAt(x);
+            if (a != b && (!ignoreCase || fold(a) != fold(b)))
+                return false;
+        }
+
+        return true;
+    }
+
+    private static ConstantTable<?> build(Class<?> type, boolean ignoreCase, Map<String, ?> aliases)
+    {
+        List<String> keys   = new ArrayList<>();
+        List<Object> values = new ArrayList<>();
+        for (Object constant : type.getEnumConstants()) {
+            keys.add(((Enum<?>) constant).name());
+            values.add(constant);
+        }
+
+        for (Map.Entry<String, ?> alias : aliases.entrySet()) {
+            keys.add(alias.getKey());
+            values.add(alias.getValue());
+        }
+
+        return build(keys, values, ignoreCase);
+    }
+
+    private static <T> ConstantTable<T> build(List<String> keys, List<Object> values, boolean ignoreCase)
+    {
+        int size = keys.size();
+
+        Set<String> distinct = new HashSet<>();
+        for (String key : keys) {
+            StringBuilder folded = new StringBuilder(key.length());
+            for (int x = 0; x < key.length(); x++)
+                folded.append(ignoreCase ? fold(key.charAt(x)) : key.charAt(x));
+            if (!distinct.add(folded.toString()))
+                throw new IllegalArgumentException("Duplicate key '" + key + "'.");
+        }
+
+        int                 bucketCount = Math.max(1, size / 2);
+        List<List<Integer>> buckets     = new ArrayList<>(bucketCount);
+        for (int x = 0; x < bucketCount; x++)
+            buckets.add(new ArrayList<>());
+        for (int x = 0; x < size; x++)
+            buckets.get(index(hash(keys.get(x), 0, ignoreCase), bucketCount)).add(x);
+
+        Integer[] order = new Integer[bucketCount];
+        for (int x = 0; x < bucketCount; x++)
+            order[x] = x;
+        Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        int[]     displacements = new int[bucketCount];
+        String[]  slotKeys      = new String[size];
+        Object[]  slotConstants = new Object[size];
+        boolean[] occupied      = new boolean[size];
+        int[]     slots         = new int[size];
+
+        for (int bucket : order) {
+            List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty())
+                continue;
+
+            int displacement = 1;
+            while (!place(members, keys, displacement, ignoreCase, occupied, slots)) {
+                if (++displacement == MAX_DISPLACEMENT)
+                    throw new IllegalArgumentException("Could not build a perfect hash for the provided keys.");
+            }
+
+            displacements[bucket] = displacement;
+            for (int x = 0; x < members.size(); x++) {
+                int member = members.get(x);
+                occupied[slots[x]] = true;
+                slotKeys[slots[x]] = keys.get(member);
+                slotConstants[slots[x]] = values.get(member);
+            }
+        }
+
+        return new ConstantTable<>(ignoreCase, displacements, slotKeys, slotConstants);
+    }
+
+    /**
+     * Computes the slots of the provided members using the provided displacement, storing them in {@code slots}.
+     *
+     * @return {@code true} when all the members were placed in distinct free slots.
+     */
+    private static boolean place(List<Integer> members, List<String> keys, int displacement, boolean ignoreCase,
+                                 boolean[] occupied, int[] slots)
+    {
+        for (int x = 0; x < members.size(); x++) {
+            int slot = index(hash(keys.get(members.get(x)), displacement, ignoreCase), occupied.length);
+            if (occupied[slot])
+                return false;
+            for (int y = 0; y < x; y++)
+                if (slots[y] == slot)
+                    return false;
+            slots[x] = slot;
+        }
+
+        return true;
+    }
+
+    private static int index(int hash, int length)
+    {
+        return (hash & 0x7FFFFFFF) % length;
+    }
+
+    private static int hash(CharSequence text, int seed, boolean ignoreCase)
+    {
+        int length = text.length();
+        int hash   = seed * 0x9E3779B9 ^ length;
+        for (int x = 0; x < length; x++) {
+            char c = text.charAt(x);
+            hash = (hash ^ (ignoreCase ? fold(c) : c)) * 0x01000193;
+        }
+
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash;
+    }
+
+    /**
+     * Folds the case of the provided character, so that characters equal ignoring case fold to the same character.
+     */
+    private static char fold(char c)
+    {
+        if (c < 128)
+            return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
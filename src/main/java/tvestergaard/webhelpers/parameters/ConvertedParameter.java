@@ -0,0 +1,165 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * An implementation of the {@link Parameter} interface for values converted from text. When the text cannot be
+ * converted, the value of the {@link ConvertedParameter} is {@code null} and the {@code isWellFormed} check fails,
+ * instead of an exception being thrown during the conversion.
+ *
+ * @param <N> The type of the name of the {@link ConvertedParameter}.
+ * @param <V> The type of the value in the {@link ConvertedParameter}.
+ */
+public abstract class ConvertedParameter<N, V> extends GenericParameter<N, V>
+{
+
+    /**
+     * The text from which the value of the {@link ConvertedParameter} was converted.
+     */
+    protected final String text;
+
+    /**
+     * The failure handlers registered with the {@link ConvertedParameter}.
+     */
+    private final Iterable<? extends FailureHandler<N, V>> failureHandlers;
+
+    /**
+     * Creates a new {@link ConvertedParameter}.
+     *
+     * @param name       The name of the {@link ConvertedParameter}.
+     * @param value      The value converted from the {@code text}, {@code null} when the {@code text} could not be
+     *                   converted.
+     * @param text       The text from which the value was converted.
+     * @param onFailures The failure handlers to register with the {@link ConvertedParameter}.
+     */
+    public ConvertedParameter(N name, V value, String text, Iterable<? extends FailureHandler<N, V>> onFailures)
+    {
+        super(name, value, onFailures);
+
+        this.text = text;
+        this.failureHandlers = onFailures;
+    }
+
+    /**
+     * Returns the text from which the value of the {@link ConvertedParameter} was converted.
+     *
+     * @return The text from which the value of the {@link ConvertedParameter} was converted, {@code null} when no text
+     * was provided.
+     */
+    public String getText()
+    {
+        return this.text;
+    }
+
+    /**
+     * Functional interface for {@code isWellFormed} check failures.
+     *
+     * @param <N> The type of the name of the {@link ConvertedParameter} on which the {@code isWellFormed} check failed.
+     * @param <V> The type of the value of the {@link ConvertedParameter} on which the {@code isWellFormed} check failed.
+     *
+     * @see ConvertedParameter#isWellFormed()
+     * @see ConvertedParameter#isWellFormed(IsWellFormedFailureCallback)
+     * @see ConvertedParameter#isWellFormed(Iterable)
+     */
+    @FunctionalInterface public interface IsWellFormedFailureCallback<N, V>
+    {
+
+        /**
+         * Notifies the {@link IsWellFormedFailureCallback} that the {@code isWellFormed} check failed.
+         *
+         * @param parameter The {@link ConvertedParameter} on which the {@code isWellFormed} check failed.
+         * @param text      The text that could not be converted.
+         *
+         * @see ConvertedParameter#isWellFormed()
+         * @see ConvertedParameter#isWellFormed(IsWellFormedFailureCallback)
+         * @see ConvertedParameter#isWellFormed(Iterable)
+         */
+        void isWellFormedFailure(ConvertedParameter<N, V> parameter, String text);
+    }
+
+    /**
+     * Checks that the text provided to the {@link ConvertedParameter} could be converted. The check passes when no text
+     * was provided.
+     *
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     */
+    public boolean isWellFormed(Iterable<? extends IsWellFormedFailureCallback<N, V>> failureCallbacks)
+    {
+        boolean result = text == null || hasValue();
+        if (!result) {
+            incrementFailureCount();
+            for (IsWellFormedFailureCallback<N, V> failureCallback : failureCallbacks)
+                failureCallback.isWellFormedFailure(this, text);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the text provided to the {@link ConvertedParameter} could be converted. The check passes when no text
+     * was provided.
+     *
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     */
+    public boolean isWellFormed(IsWellFormedFailureCallback<N, V> failureCallback)
+    {
+        boolean result = text == null || hasValue();
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isWellFormedFailure(this, text);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the text provided to the {@link ConvertedParameter} could be converted. The check passes when no text
+     * was provided. Notifies the failure handlers provided to the {@link ConvertedParameter} in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     */
+    public boolean isWellFormed()
+    {
+        return isWellFormed(failureHandlers);
+    }
+
+    /**
+     * Checks that the value in the {@link ConvertedParameter} is not {@code null}.
+     *
+     * @throws NullParameterValueException When the value in the {@link ConvertedParameter} is {@code null}.
+     */
+    protected void nullCheck() throws NullParameterValueException
+    {
+        if (!hasValue())
+            throw new NullParameterValueException();
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link ConvertedParameter}.
+     *
+     * @param <N> The type of the name of the {@link ConvertedParameter} handled by the {@link FailureHandler}.
+     * @param <V> The type of the value of the {@link ConvertedParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N, V> extends GenericParameter.FailureHandler<N, V>,
+                                                  IsWellFormedFailureCallback<N, V>
+    {
+
+        /**
+         * Notifies the {@link IsWellFormedFailureCallback} that the {@code isWellFormed} check failed.
+         *
+         * @param parameter The {@link ConvertedParameter} on which the {@code isWellFormed} check failed.
+         * @param text      The text that could not be converted.
+         *
+         * @see ConvertedParameter#isWellFormed()
+         * @see ConvertedParameter#isWellFormed(IsWellFormedFailureCallback)
+         * @see ConvertedParameter#isWellFormed(Iterable)
+         */
+        @Override default void isWellFormedFailure(ConvertedParameter<N, V> parameter, String text)
+        {
+
+        }
+    }
+}
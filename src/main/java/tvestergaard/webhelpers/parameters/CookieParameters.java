@@ -0,0 +1,48 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link Parameters} implementation allowing for validation of the cookies of instances of {@link HttpServletRequest}.
+ * The cookies are indexed by name in a single pass when the {@link CookieParameters} is created, so lookups do not scan
+ * the cookies of the request. Cookie names are case-sensitive, and when a cookie is provided multiple times, the first
+ * value is used.
+ */
+public class CookieParameters extends AbstractStringParameters
+{
+
+    /**
+     * The values of the cookies, keyed by name.
+     */
+    private final Map<String, String> cookies;
+
+    /**
+     * Creates a new {@link CookieParameters}, indexing the cookies of the provided {@code request}.
+     *
+     * @param request The {@code HttpServletRequest} to validate the cookies of.
+     */
+    public CookieParameters(HttpServletRequest request)
+    {
+        Cookie[] cookies = request.getCookies();
+        this.cookies = new HashMap<>(cookies == null ? 0 : cookies.length * 2);
+
+        if (cookies != null)
+            for (Cookie cookie : cookies)
+                this.cookies.putIfAbsent(cookie.getName(), cookie.getValue());
+    }
+
+    /**
+     * Returns the value of the cookie with the provided {@code name}.
+     *
+     * @param name The name of the cookie to return the value of.
+     *
+     * @return The value of the cookie with the provided {@code name}, {@code null} when no such cookie exists.
+     */
+    @Override protected String lookup(String name)
+    {
+        return cookies.get(name);
+    }
+}
@@ -0,0 +1,483 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.BiFunction;
+
+/**
+ * Declares constraints spanning multiple fields, like {@code end > start}, {@code if type = card then cardNumber is
+ * required} or {@code the sum of the shares is 100}, and compiles them into a {@link Validator} of {@link Parameters}.
+ * <p>
+ * Every field is declared once, together with the method converting it, and optionally the checks performed on the
+ * field by itself. Every constraint declares the fields it reads, and optionally the constraints that must pass before
+ * it is evaluated.
+ * <pre>
+ * Validator&lt;Parameters&lt;String&gt;&gt; validator = new CrossFieldConstraints&lt;String&gt;()
+ *         .field("start", Parameters::getInt, start -&gt; start.isPresent())
+ *         .field("end", Parameters::getInt, end -&gt; end.isPresent())
+ *         .constraint("endAfterStart", Arrays.asList("start", "end"),
+ *                     fields -&gt; fields.&lt;IntParameter&lt;String&gt;&gt;get("end").isGreaterThan(fields.getValue("start")))
+ *         .compile();
+ * </pre>
+ * The constraints are compiled into a dependency graph, and sorted topologically once. When validating, every field is
+ * converted exactly once, and the resulting {@link Parameter} is shared by all the constraints reading the field. The
+ * constraints are then evaluated in topological order, constraints without dependencies between them in the order they
+ * were declared. A constraint reading a field that failed its checks or could not be converted, or requiring a
+ * constraint that did not pass, is skipped, so constraints never have to guard against invalid inputs.
+ * <p>
+ * Constraints report their failures by performing checks on the parameters they read, notifying the failure handlers
+ * of the {@link Parameters}, or by returning {@code false}, notifying the failure handlers added using
+ * {@link CrossFieldConstraints#addFailureHandler(FailureHandler)}. Instances of {@link CrossFieldConstraints} are not
+ * thread safe, while the compiled {@link Validator}s are.
+ *
+ * @param <N> The type of the names of the fields.
+ */
+public class CrossFieldConstraints<N>
+{
+
+    /**
+     * The declared fields, by their name.
+     */
+    private final Map<N, Field<N, ?>> fields = new LinkedHashMap<>();
+
+    /**
+     * The declared constraints, by their name.
+     */
+    private final Map<String, Constraint<N>> constraints = new LinkedHashMap<>();
+
+    /**
+     * The handlers notified when a constraint fails, or when a field cannot be converted.
+     */
+    private final List<FailureHandler<N>> failureHandlers = new ArrayList<>();
+
+    /**
+     * Declares a field without checks of its own.
+     *
+     * @param name      The name of the field.
+     * @param converter The method converting the field, like {@code Parameters::getInt}.
+     * @param <P>       The type of the {@link Parameter} the field is converted to.
+     *
+     * @return this
+     * @throws IllegalArgumentException When a field with the provided {@code name} was already declared.
+     */
+    public <P extends Parameter<N, ?>> CrossFieldConstraints<N> field(N name,
+                                                                      BiFunction<? super Parameters<N>, ? super N, ? extends P> converter)
+            throws IllegalArgumentException
+    {
+        return field(name, converter, null);
+    }
+
+    /**
+     * Declares a field. The field fails when the provided {@code checks} return {@code false}, or leave failures on
+     * the {@link Parameter}.
+     *
+     * @param name      The name of the field.
+     * @param converter The method converting the field, like {@code Parameters::getInt}.
+     * @param checks    The checks performed on the field by itself.
+     * @param <P>       The type of the {@link Parameter} the field is converted to.
+     *
+     * @return this
+     * @throws IllegalArgumentException When a field with the provided {@code name} was already declared.
+     */
+    public <P extends Parameter<N, ?>> CrossFieldConstraints<N> field(N name,
+                                                                      BiFunction<? super Parameters<N>, ? super N, ? extends P> converter,
+                                                                      Validator<? super P> checks)
+            throws IllegalArgumentException
+    {
+        if (fields.containsKey(name))
+            throw new IllegalArgumentException("The field " + name + " was already declared.");
+
+        fields.put(name, new Field<>(name, converter, checks));
+
+        return this;
+    }
+
+    /**
+     * Declares a constraint reading the provided {@code fields}.
+     *
+     * @param name      The name of the constraint.
+     * @param fields    The names of the fields read by the constraint.
+     * @param validator The validator evaluating the constraint, returning {@code false} when the constraint fails.
+     *
+     * @return this
+     * @throws IllegalArgumentException When a constraint with the provided {@code name} was already declared.
+     */
+    public CrossFieldConstraints<N> constraint(String name, List<? extends N> fields, Validator<? super Fields<N>> validator)
+            throws IllegalArgumentException
+    {
+        return constraint(name, fields, Collections.emptyList(), validator);
+    }
+
+    /**
+     * Declares a constraint reading the provided {@code fields}, evaluated only when the provided {@code requires}
+     * constraints passed.
+     *
+     * @param name      The name of the constraint.
+     * @param fields    The names of the fields read by the constraint.
+     * @param requires  The names of the constraints that must pass before the constraint is evaluated.
+     * @param validator The validator evaluating the constraint, returning {@code false} when the constraint fails.
+     *
+     * @return this
+     * @throws IllegalArgumentException When a constraint with the provided {@code name} was already declared.
+     */
+    public CrossFieldConstraints<N> constraint(String name,
+                                               List<? extends N> fields,
+                                               List<String> requires,
+                                               Validator<? super Fields<N>> validator) throws IllegalArgumentException
+    {
+        if (constraints.containsKey(name))
+            throw new IllegalArgumentException("The constraint " + name + " was already declared.");
+
+        constraints.put(name, new Constraint<>(name, new ArrayList<>(fields), new ArrayList<>(requires), validator));
+
+        return this;
+    }
+
+    /**
+     * Adds a new {@link FailureHandler} to the {@link Validator}s compiled after this call.
+     *
+     * @param failureHandler The {@link FailureHandler} to add.
+     */
+    public void addFailureHandler(FailureHandler<N> failureHandler)
+    {
+        failureHandlers.add(failureHandler);
+    }
+
+    /**
+     * Compiles the declared fields and constraints into a {@link Validator} of {@link Parameters}. The
+     * {@link Validator} returns {@code true} when all the fields and constraints passed.
+     *
+     * @return The compiled {@link Validator}.
+     * @throws IllegalArgumentException When a constraint reads a field that was not declared, requires a constraint
+     *                                  that was not declared, or when the constraints require each other in a cycle.
+     */
+    public Validator<Parameters<N>> compile() throws IllegalArgumentException
+    {
+        List<Field<N, ?>> compiledFields = new ArrayList<>(fields.values());
+        Map<N, Integer>   fieldIndices   = new HashMap<>();
+        for (int x = 0; x < compiledFields.size(); x++)
+            fieldIndices.put(compiledFields.get(x).name, x);
+
+        List<Constraint<N>>  declared          = new ArrayList<>(constraints.values());
+        Map<String, Integer> constraintIndices = new HashMap<>();
+        for (int x = 0; x < declared.size(); x++)
+            constraintIndices.put(declared.get(x).name, x);
+
+        int[]               inDegree   = new int[declared.size()];
+        List<List<Integer>> dependents = new ArrayList<>();
+        for (int x = 0; x < declared.size(); x++)
+            dependents.add(new ArrayList<>());
+
+        for (int x = 0; x < declared.size(); x++) {
+            Constraint<N> constraint = declared.get(x);
+            constraint.inputs = new int[constraint.fields.size()];
+            for (int y = 0; y < constraint.fields.size(); y++) {
+                Integer field = fieldIndices.get(constraint.fields.get(y));
+                if (field == null)
+                    throw new IllegalArgumentException("The constraint " + constraint.name + " reads the undeclared field " +
+                                                       constraint.fields.get(y) + '.');
+                constraint.inputs[y] = field;
+            }
+
+            constraint.required = new int[constraint.requires.size()];
+            for (int y = 0; y < constraint.requires.size(); y++) {
+                Integer required = constraintIndices.get(constraint.requires.get(y));
+                if (required == null)
+                    throw new IllegalArgumentException("The constraint " + constraint.name + " requires the undeclared constraint " +
+                                                       constraint.requires.get(y) + '.');
+                constraint.required[y] = required;
+                dependents.get(required).add(x);
+                inDegree[x]++;
+            }
+        }
+
+        PriorityQueue<Integer> ready = new PriorityQueue<>();
+        for (int x = 0; x < declared.size(); x++)
+            if (inDegree[x] == 0)
+                ready.add(x);
+
+        int[] order  = new int[declared.size()];
+        int   sorted = 0;
+        while (!ready.isEmpty()) {
+            int next = ready.poll();
+            order[sorted++] = next;
+            for (int dependent : dependents.get(next))
+                if (--inDegree[dependent] == 0)
+                    ready.add(dependent);
+        }
+
+        if (sorted < declared.size()) {
+            List<String> cycle = new ArrayList<>();
+            for (int x = 0; x < declared.size(); x++)
+                if (inDegree[x] > 0)
+                    cycle.add(declared.get(x).name);
+            throw new IllegalArgumentException("The constraints " + cycle + " require each other in a cycle.");
+        }
+
+        return new CompiledConstraints<>(compiledFields, fieldIndices, declared, order, new ArrayList<>(failureHandlers));
+    }
+
+    /**
+     * Handles the failures of the fields and constraints of a {@link CrossFieldConstraints}.
+     *
+     * @param <N> The type of the names of the fields.
+     */
+    public interface FailureHandler<N>
+    {
+
+        /**
+         * Called when a declared field cannot be converted. The constraints reading the field are skipped.
+         *
+         * @param name      The name of the field that could not be converted.
+         * @param exception The exception thrown when converting the field.
+         */
+        default void conversionFailure(N name, ParameterConversionException exception)
+        {
+
+        }
+
+        /**
+         * Called when a constraint returns {@code false}.
+         *
+         * @param name   The name of the constraint that failed.
+         * @param fields The parameters read by the constraint.
+         */
+        default void constraintFailure(String name, Fields<N> fields)
+        {
+
+        }
+    }
+
+    /**
+     * The converted fields provided to a constraint. The view only provides the fields declared by the constraint, and
+     * must not be retained after the constraint returns.
+     *
+     * @param <N> The type of the names of the fields.
+     */
+    public static final class Fields<N>
+    {
+
+        private final Map<N, Integer>       indices;
+        private final List<Parameter<N, ?>> parameters;
+
+        /**
+         * The indices of the fields read by the constraint currently provided the view.
+         */
+        private int[] inputs;
+
+        private Fields(Map<N, Integer> indices, List<Parameter<N, ?>> parameters)
+        {
+            this.indices = indices;
+            this.parameters = parameters;
+        }
+
+        /**
+         * Returns the {@link Parameter} the field with the provided {@code name} was converted to.
+         *
+         * @param name The name of the field.
+         * @param <P>  The type of the {@link Parameter} the field was converted to.
+         *
+         * @return The {@link Parameter} the field with the provided {@code name} was converted to.
+         * @throws IllegalArgumentException When the constraint did not declare that it reads the field.
+         */
+        @SuppressWarnings("unchecked")
+        public <P extends Parameter<N, ?>> P get(N name) throws IllegalArgumentException
+        {
+            Integer index = indices.get(name);
+            if (index != null)
+                for (int input : inputs)
+                    if (input == index)
+                        return (P) parameters.get(index);
+
+            throw new IllegalArgumentException("The constraint does not read the field " + name + '.');
+        }
+
+        /**
+         * Returns the converted value of the field with the provided {@code name}.
+         *
+         * @param name The name of the field.
+         * @param <V>  The type of the converted value.
+         *
+         * @return The converted value of the field with the provided {@code name}.
+         * @throws IllegalArgumentException When the constraint did not declare that it reads the field.
+         */
+        @SuppressWarnings("unchecked")
+        public <V> V getValue(N name) throws IllegalArgumentException
+        {
+            return (V) get(name).getValue();
+        }
+    }
+
+    /**
+     * A declared field.
+     *
+     * @param <N> The type of the name of the field.
+     * @param <P> The type of the {@link Parameter} the field is converted to.
+     */
+    private static final class Field<N, P extends Parameter<N, ?>>
+    {
+
+        private final N                                                         name;
+        private final BiFunction<? super Parameters<N>, ? super N, ? extends P> converter;
+        private final Validator<? super P>                                      checks;
+
+        Field(N name, BiFunction<? super Parameters<N>, ? super N, ? extends P> converter, Validator<? super P> checks)
+        {
+            this.name = name;
+            this.converter = converter;
+            this.checks = checks;
+        }
+
+        /**
+         * Converts the field and performs its checks.
+         *
+         * @param parameters The parameters to convert the field from.
+         * @param converted  The list in which to store the converted {@link Parameter}.
+         * @param index      The index of the field in the {@code converted} list.
+         *
+         * @return {@code true} when the checks performed on the field passed.
+         * @throws ParameterConversionException When the field cannot be converted.
+         */
+        boolean convert(Parameters<N> parameters, List<Parameter<N, ?>> converted, int index) throws ParameterConversionException
+        {
+            P parameter = converter.apply(parameters, name);
+            converted.set(index, parameter);
+
+            boolean passed = checks == null || checks.validate(parameter);
+
+            return passed && !parameter.hasFailures();
+        }
+    }
+
+    /**
+     * A declared constraint.
+     *
+     * @param <N> The type of the names of the fields read by the constraint.
+     */
+    private static final class Constraint<N>
+    {
+
+        private final String                       name;
+        private final List<N>                      fields;
+        private final List<String>                 requires;
+        private final Validator<? super Fields<N>> validator;
+
+        /**
+         * The indices of the fields read by the constraint, resolved when compiling.
+         */
+        private int[] inputs;
+
+        /**
+         * The indices of the constraints required by the constraint, resolved when compiling.
+         */
+        private int[] required;
+
+        Constraint(String name, List<N> fields, List<String> requires, Validator<? super Fields<N>> validator)
+        {
+            this.name = name;
+            this.fields = fields;
+            this.requires = requires;
+            this.validator = validator;
+        }
+    }
+
+    /**
+     * The {@link Validator} compiled from a {@link CrossFieldConstraints}.
+     *
+     * @param <N> The type of the names of the fields.
+     */
+    private static final class CompiledConstraints<N> implements Validator<Parameters<N>>
+    {
+
+        private final List<Field<N, ?>>                  fields;
+        private final Map<N, Integer>                    fieldIndices;
+        private final String[]                           names;
+        private final int[][]                            inputs;
+        private final int[][]                            required;
+        private final List<Validator<? super Fields<N>>> validators;
+        private final int[]                              order;
+        private final List<FailureHandler<N>>            failureHandlers;
+
+        CompiledConstraints(List<Field<N, ?>> fields,
+                            Map<N, Integer> fieldIndices,
+                            List<Constraint<N>> constraints,
+                            int[] order,
+                            List<FailureHandler<N>> failureHandlers)
+        {
+            this.fields = new ArrayList<>(fields);
+            this.fieldIndices = fieldIndices;
+            this.names = new String[constraints.size()];
+            this.inputs = new int[constraints.size()][];
+            this.required = new int[constraints.size()][];
+            this.validators = new ArrayList<>(constraints.size());
+            for (int x = 0; x < constraints.size(); x++) {
+                Constraint<N> constraint = constraints.get(x);
+                names[x] = constraint.name;
+                inputs[x] = constraint.inputs;
+                required[x] = constraint.required;
+                validators.add(constraint.validator);
+            }
+            this.order = order;
+            this.failureHandlers = failureHandlers;
+        }
+
+        @Override public boolean validate(Parameters<N> parameters)
+        {
+            List<Parameter<N, ?>> converted        = new ArrayList<>(Collections.nCopies(fields.size(), null));
+            boolean[]             fieldPassed      = new boolean[fields.size()];
+            boolean[]             constraintPassed = new boolean[names.length];
+            boolean               passed           = true;
+
+            for (int x = 0; x < fields.size(); x++) {
+                Field<N, ?> field = fields.get(x);
+                try {
+                    fieldPassed[x] = field.convert(parameters, converted, x);
+                } catch (ParameterConversionException e) {
+                    for (FailureHandler<N> failureHandler : failureHandlers)
+                        failureHandler.conversionFailure(field.name, e);
+                }
+                passed &= fieldPassed[x];
+            }
+
+            Fields<N> view = new Fields<>(fieldIndices, converted);
+            for (int constraint : order) {
+                if (!isReady(constraint, fieldPassed, constraintPassed)) {
+                    passed = false;
+                    continue;
+                }
+
+                view.inputs = inputs[constraint];
+                constraintPassed[constraint] = validators.get(constraint).validate(view);
+                if (!constraintPassed[constraint]) {
+                    passed = false;
+                    for (FailureHandler<N> failureHandler : failureHandlers)
+                        failureHandler.constraintFailure(names[constraint], view);
+                }
+            }
+
+            return passed;
+        }
+
+        /**
+         * Returns whether or not the fields read by the provided {@code constraint}, and the constraints it requires,
+         * all passed.
+         */
+        private boolean isReady(int constraint, boolean[] fieldPassed, boolean[] constraintPassed)
+        {
+            for (int input : inputs[constraint])
+                if (!fieldPassed[input])
+                    return false;
+
+            for (int requirement : required[constraint])
+                if (!constraintPassed[requirement])
+                    return false;
+
+            return true;
+        }
+    }
+}
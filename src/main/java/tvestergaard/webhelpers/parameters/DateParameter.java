@@ -0,0 +1,74 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.time.LocalDate;
+
+/**
+ * {@link TemporalParameter} implementation for dates in the {@code yyyy-MM-dd} format. The text is parsed in a single pass into
+ * the number of days since the epoch, which the checks compare as a primitive. The {@code LocalDate} is only created
+ * when it is retrieved.
+ *
+ * @param <N> The type of the name of the {@link DateParameter}.
+ */
+public class DateParameter<N> extends TemporalParameter<N, LocalDate>
+{
+
+    /**
+     * Creates a new {@link DateParameter} by parsing the provided {@code text}.
+     *
+     * @param name       The name of the {@link DateParameter}.
+     * @param text       The text to parse into the value of the {@link DateParameter}.
+     * @param onFailures The failure handlers to register with the {@link DateParameter}.
+     */
+    public DateParameter(N name, String text, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, Iso8601.parseDate(text), text, onFailures);
+    }
+
+    /**
+     * Returns the number of days since the epoch represented by the {@link DateParameter}.
+     *
+     * @return The number of days since the epoch represented by the {@link DateParameter}.
+     * @throws NullParameterValueException When the value in the {@link DateParameter} is {@code null}.
+     */
+    public long getEpochDay() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return primitive;
+    }
+
+    /**
+     * Converts the provided value into the number of days since the epoch.
+     *
+     * @param value The value to convert.
+     *
+     * @return The number of days since the epoch represented by the provided value.
+     */
+    @Override protected long toPrimitive(LocalDate value)
+    {
+        return value.toEpochDay();
+    }
+
+    /**
+     * Converts the provided number of days since the epoch into a {@code LocalDate}.
+     *
+     * @param primitive The number of days since the epoch to convert.
+     *
+     * @return The {@code LocalDate} represented by the provided number of days since the epoch.
+     */
+    @Override protected LocalDate toValue(long primitive)
+    {
+        return LocalDate.ofEpochDay(primitive);
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link DateParameter}.
+     *
+     * @param <N> The type of the name of the {@link DateParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N> extends TemporalParameter.FailureHandler<N, LocalDate>
+    {
+
+    }
+}
@@ -0,0 +1,258 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable fixed-scale decimal number, represented by a {@code long} unscaled value and a scale, such that the number
+ * is {@code unscaled / 10^scale}. Comparisons use {@code long} arithmetic, and a {@code BigDecimal} is only created when
+ * requested using {@link Decimal#toBigDecimal()}.
+ */
+public final class Decimal implements Comparable<Decimal>
+{
+
+    /**
+     * The value returned by {@link Decimal#parse(CharSequence, int)} when the text cannot be parsed.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * The maximum supported scale.
+     */
+    public static final int MAX_SCALE = 18;
+
+    /**
+     * The powers of ten that fit in a {@code long}.
+     */
+    private static final long[] powers = createPowers();
+
+    /**
+     * The unscaled value of the {@link Decimal}.
+     */
+    private final long unscaled;
+
+    /**
+     * The scale of the {@link Decimal}.
+     */
+    private final int scale;
+
+    private Decimal(long unscaled, int scale)
+    {
+        this.unscaled = unscaled;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates a new {@link Decimal} with the value {@code unscaled / 10^scale}.
+     *
+     * @param unscaled The unscaled value of the {@link Decimal}.
+     * @param scale    The scale of the {@link Decimal}.
+     *
+     * @return The new {@link Decimal}.
+     * @throws IllegalArgumentException When the scale is negative or greater than {@link Decimal#MAX_SCALE}, or the
+     *                                  unscaled value is {@code Long.MIN_VALUE}.
+     */
+    public static Decimal of(long unscaled, int scale) throws IllegalArgumentException
+    {
+        checkScale(scale);
+        if (unscaled == INVALID)
+            throw new IllegalArgumentException("The unscaled value must be greater than Long.MIN_VALUE.");
+
+        return new Decimal(unscaled, scale);
+    }
+
+    /**
+     * Parses the provided {@code text} into a {@link Decimal} with the provided {@code scale}.
+     *
+     * @param text  The text to parse.
+     * @param scale The scale of the new {@link Decimal}.
+     *
+     * @return The new {@link Decimal}.
+     * @throws NumberFormatException    When the text cannot be represented at the provided scale.
+     * @throws IllegalArgumentException When the scale is negative or greater than {@link Decimal#MAX_SCALE}.
+     */
+    public static Decimal of(String text, int scale) throws NumberFormatException, IllegalArgumentException
+    {
+        long unscaled = parse(text, scale);
+        if (unscaled == INVALID)
+            throw new NumberFormatException("Cannot represent '" + text + "' with scale " + scale + ".");
+
+        return new Decimal(unscaled, scale);
+    }
+
+    /**
+     * Parses the provided {@code text} into an unscaled value at the provided {@code scale}. The text consists of an
+     * optional sign, and digits with an optional decimal point. Digits after the decimal point beyond the scale must be
+     * zeros.
+     *
+     * @param text  The text to parse.
+     * @param scale The scale of the unscaled value, between {@code 0} and {@link Decimal#MAX_SCALE}.
+     *
+     * @return The unscaled value, {@link Decimal#INVALID} when the text is malformed, has more precision than the scale
+     * allows, or overflows a {@code long}.
+     * @throws IllegalArgumentException When the scale is negative or greater than {@link Decimal#MAX_SCALE}.
+     */
+    static long parse(CharSequence text, int scale) throws IllegalArgumentException
+    {
+        checkScale(scale);
+        if (text == null)
+            return INVALID;
+
+        int     length   = text.length();
+        int     position = 0;
+        boolean negative = false;
+        if (position < length && (text.charAt(position) == '-' || text.charAt(position) == '+'))
+            negative = text.charAt(position++) == '-';
+
+        long    result         = 0;
+        int     digits         = 0;
+        int     fractionDigits = 0;
+        boolean fraction       = false;
+        for (; position < length; position++) {
+            char c = text.charAt(position);
+            if (c == '.' && !fraction) {
+                fraction = true;
+                continue;
+            }
+
+            int digit = c - '0';
+            if (digit < 0 || digit > 9)
+                return INVALID;
+            digits++;
+
+            if (fraction && ++fractionDigits > scale) {
+                if (digit != 0)
+                    return INVALID;
+                continue;
+            }
+
+            if (result > (Long.MAX_VALUE - digit) / 10)
+                return INVALID;
+            result = result * 10 + digit;
+        }
+
+        if (digits == 0)
+            return INVALID;
+
+        for (int x = Math.min(fractionDigits, scale); x < scale; x++) {
+            if (result > Long.MAX_VALUE / 10)
+                return INVALID;
+            result *= 10;
+        }
+
+        return negative ? -result : result;
+    }
+
+    /**
+     * Returns the unscaled value of the {@link Decimal}.
+     *
+     * @return The unscaled value of the {@link Decimal}.
+     */
+    public long getUnscaledValue()
+    {
+        return this.unscaled;
+    }
+
+    /**
+     * Returns the scale of the {@link Decimal}.
+     *
+     * @return The scale of the {@link Decimal}.
+     */
+    public int getScale()
+    {
+        return this.scale;
+    }
+
+    /**
+     * Returns the signum of the {@link Decimal}.
+     *
+     * @return {@code -1}, {@code 0} or {@code 1} when the {@link Decimal} is negative, zero or positive.
+     */
+    public int signum()
+    {
+        return Long.signum(unscaled);
+    }
+
+    /**
+     * Creates a {@code BigDecimal} with the value of the {@link Decimal}.
+     *
+     * @return The new {@code BigDecimal}.
+     */
+    public BigDecimal toBigDecimal()
+    {
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * Compares the {@link Decimal} to the provided {@link Decimal} numerically, regardless of their scales.
+     *
+     * @param other The {@link Decimal} to compare to.
+     *
+     * @return A negative number, zero or a positive number when this {@link Decimal} is less than, equal to or greater
+     * than the provided {@link Decimal}.
+     */
+    @Override public int compareTo(Decimal other)
+    {
+        return compare(unscaled, scale, other.unscaled, other.scale);
+    }
+
+    /**
+     * Compares the numbers {@code a / 10^aScale} and {@code b / 10^bScale} using {@code long} arithmetic.
+     *
+     * @return A negative number, zero or a positive number when {@code a} is less than, equal to or greater than
+     * {@code b}.
+     */
+    static int compare(long a, int aScale, long b, int bScale)
+    {
+        if (aScale == bScale)
+            return Long.compare(a, b);
+
+        if (aScale < bScale) {
+            long factor = powers[bScale - aScale];
+            if (Math.abs(a) > Long.MAX_VALUE / factor)
+                return Long.signum(a);
+            return Long.compare(a * factor, b);
+        }
+
+        long factor = powers[aScale - bScale];
+        if (Math.abs(b) > Long.MAX_VALUE / factor)
+            return -Long.signum(b);
+        return Long.compare(a, b * factor);
+    }
+
+    @Override public boolean equals(Object o)
+    {
+        if (this == o)
+            return true;
+        if (!(o instanceof Decimal))
+            return false;
+
+        Decimal other = (Decimal) o;
+        return unscaled == other.unscaled && scale == other.scale;
+    }
+
+    @Override public int hashCode()
+    {
+        return 31 * Long.hashCode(unscaled) + scale;
+    }
+
+    @Override public String toString()
+    {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static void checkScale(int scale) throws IllegalArgumentException
+    {
+        if (scale < 0 || scale > MAX_SCALE)
+            throw new IllegalArgumentException("The scale must be between 0 and " + MAX_SCALE + ".");
+    }
+
+    private static long[] createPowers()
+    {
+        long[] powers = new long[MAX_SCALE + 1];
+        powers[0] = 1;
+        for (int x = 1; x < powers.length; x++)
+            powers[x] = powers[x - 1] * 10;
+
+        return powers;
+    }
+}
@@ -0,0 +1,607 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link ConvertedParameter} implementation for fixed-scale decimal numbers, such as prices and amounts. The text is
+ * parsed directly into a {@code long} unscaled value at the scale declared when the {@link DecimalParameter} is created, and
+ * the checks use {@code long} arithmetic. Text with more precision than the scale allows, or which overflows a
+ * {@code long}, is reported through the {@code isWellFormed} check.
+ *
+ * @param <N> The type of the name of the {@link DecimalParameter}.
+ */
+public class DecimalParameter<N> extends ConvertedParameter<N, Decimal>
+{
+
+    /**
+     * The unscaled value of the {@link DecimalParameter}.
+     */
+    private final long unscaled;
+
+    /**
+     * The declared scale of the {@link DecimalParameter}.
+     */
+    private final int scale;
+
+    /**
+     * The failure handlers registered with the {@link DecimalParameter}.
+     */
+    private final Iterable<? extends FailureHandler<N>> failureHandlers;
+
+    /**
+     * Creates a new {@link DecimalParameter} by parsing the provided {@code text} at the provided {@code scale}.
+     *
+     * @param name       The name of the {@link DecimalParameter}.
+     * @param text       The text to parse into the value of the {@link DecimalParameter}.
+     * @param scale      The number of digits after the decimal point, between {@code 0} and
+     *                   {@link Decimal#MAX_SCALE}.
+     * @param onFailures The failure handlers to register with the {@link DecimalParameter}.
+     * @throws IllegalArgumentException When the scale is negative or greater than {@link Decimal#MAX_SCALE}.
+     */
+    public DecimalParameter(N name, String text, int scale, Iterable<? extends FailureHandler<N>> onFailures)
+            throws IllegalArgumentException
+    {
+        this(name, text, Decimal.parse(text, scale), scale, onFailures);
+    }
+
+    private DecimalParameter(N name, String text, long unscaled, int scale, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, unscaled == Decimal.INVALID ? null : Decimal.of(unscaled, scale), text, onFailures);
+
+        this.unscaled = unscaled;
+        this.scale = scale;
+        this.failureHandlers = onFailures;
+    }
+
+    /**
+     * Returns the unscaled value of the {@link DecimalParameter}, such that the value is {@code unscaled / 10^scale}.
+     *
+     * @return The unscaled value of the {@link DecimalParameter}.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public long getUnscaledValue() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return unscaled;
+    }
+
+    /**
+     * Returns the declared scale of the {@link DecimalParameter}.
+     *
+     * @return The declared scale of the {@link DecimalParameter}.
+     */
+    public int getScale()
+    {
+        return scale;
+    }
+
+    /**
+     * Creates a {@code BigDecimal} with the value of the {@link DecimalParameter}.
+     *
+     * @return The new {@code BigDecimal}.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public BigDecimal toBigDecimal() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    /**
+     * Functional interface for {@code isPositive} check failures.
+     *
+     * @param <N> The type of the name of the {@link DecimalParameter} on which the {@code isPositive} check failed.
+     *
+     * @see DecimalParameter#isPositive()
+     * @see DecimalParameter#isPositive(IsPositiveFailureCallback)
+     * @see DecimalParameter#isPositive(Iterable)
+     */
+    @FunctionalInterface public interface IsPositiveFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsPositiveFailureCallback} that the {@code isPositive} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code isPositive} check failed.
+         *
+         * @see DecimalParameter#isPositive()
+         * @see DecimalParameter#isPositive(IsPositiveFailureCallback)
+         * @see DecimalParameter#isPositive(Iterable)
+         */
+        void isPositiveFailure(DecimalParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is positive.
+     *
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isPositive(Iterable<? extends IsPositiveFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = unscaled > 0;
+        if (!result) {
+            incrementFailureCount();
+            for (IsPositiveFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isPositiveFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is positive.
+     *
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isPositive(IsPositiveFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = unscaled > 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isPositiveFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is positive.
+     * Notifies the failure handlers provided to the {@link DecimalParameter} in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isPositive() throws NullParameterValueException
+    {
+        return isPositive(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code notPositive} check failures.
+     *
+     * @param <N> The type of the name of the {@link DecimalParameter} on which the {@code notPositive} check failed.
+     *
+     * @see DecimalParameter#notPositive()
+     * @see DecimalParameter#notPositive(NotPositiveFailureCallback)
+     * @see DecimalParameter#notPositive(Iterable)
+     */
+    @FunctionalInterface public interface NotPositiveFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link NotPositiveFailureCallback} that the {@code notPositive} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code notPositive} check failed.
+         *
+         * @see DecimalParameter#notPositive()
+         * @see DecimalParameter#notPositive(NotPositiveFailureCallback)
+         * @see DecimalParameter#notPositive(Iterable)
+         */
+        void notPositiveFailure(DecimalParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is not positive.
+     *
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean notPositive(Iterable<? extends NotPositiveFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = unscaled <= 0;
+        if (!result) {
+            incrementFailureCount();
+            for (NotPositiveFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.notPositiveFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is not positive.
+     *
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean notPositive(NotPositiveFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = unscaled <= 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.notPositiveFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is not positive.
+     * Notifies the failure handlers provided to the {@link DecimalParameter} in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean notPositive() throws NullParameterValueException
+    {
+        return notPositive(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isNegative} check failures.
+     *
+     * @param <N> The type of the name of the {@link DecimalParameter} on which the {@code isNegative} check failed.
+     *
+     * @see DecimalParameter#isNegative()
+     * @see DecimalParameter#isNegative(IsNegativeFailureCallback)
+     * @see DecimalParameter#isNegative(Iterable)
+     */
+    @FunctionalInterface public interface IsNegativeFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsNegativeFailureCallback} that the {@code isNegative} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code isNegative} check failed.
+         *
+         * @see DecimalParameter#isNegative()
+         * @see DecimalParameter#isNegative(IsNegativeFailureCallback)
+         * @see DecimalParameter#isNegative(Iterable)
+         */
+        void isNegativeFailure(DecimalParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is negative.
+     *
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isNegative(Iterable<? extends IsNegativeFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = unscaled < 0;
+        if (!result) {
+            incrementFailureCount();
+            for (IsNegativeFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isNegativeFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is negative.
+     *
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isNegative(IsNegativeFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = unscaled < 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isNegativeFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is negative.
+     * Notifies the failure handlers provided to the {@link DecimalParameter} in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isNegative() throws NullParameterValueException
+    {
+        return isNegative(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code notNegative} check failures.
+     *
+     * @param <N> The type of the name of the {@link DecimalParameter} on which the {@code notNegative} check failed.
+     *
+     * @see DecimalParameter#notNegative()
+     * @see DecimalParameter#notNegative(NotNegativeFailureCallback)
+     * @see DecimalParameter#notNegative(Iterable)
+     */
+    @FunctionalInterface public interface NotNegativeFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link NotNegativeFailureCallback} that the {@code notNegative} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code notNegative} check failed.
+         *
+         * @see DecimalParameter#notNegative()
+         * @see DecimalParameter#notNegative(NotNegativeFailureCallback)
+         * @see DecimalParameter#notNegative(Iterable)
+         */
+        void notNegativeFailure(DecimalParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is not negative.
+     *
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean notNegative(Iterable<? extends NotNegativeFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = unscaled >= 0;
+        if (!result) {
+            incrementFailureCount();
+            for (NotNegativeFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.notNegativeFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is not negative.
+     *
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean notNegative(NotNegativeFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = unscaled >= 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.notNegativeFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is not negative.
+     * Notifies the failure handlers provided to the {@link DecimalParameter} in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean notNegative() throws NullParameterValueException
+    {
+        return notNegative(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isBetween} check failures.
+     *
+     * @param <N> The type of the name of the {@link DecimalParameter} on which the {@code isBetween} check failed.
+     *
+     * @see DecimalParameter#isBetween(Decimal, Decimal)
+     * @see DecimalParameter#isBetween(Decimal, Decimal, boolean)
+     * @see DecimalParameter#isBetween(Decimal, Decimal, boolean, IsBetweenFailureCallback)
+     * @see DecimalParameter#isBetween(Decimal, Decimal, boolean, Iterable)
+     */
+    @FunctionalInterface public interface IsBetweenFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsBetweenFailureCallback} that the {@code isBetween} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code isBetween} check failed.
+         * @param lower     The lower bound provided to the {@code isBetween} check that failed.
+         * @param upper     The upper bound provided to the {@code isBetween} check that failed.
+         * @param inclusive The inclusive setting provided to the {@code isBetween} check that failed.
+         *
+         * @see DecimalParameter#isBetween(Decimal, Decimal)
+         * @see DecimalParameter#isBetween(Decimal, Decimal, boolean)
+         * @see DecimalParameter#isBetween(Decimal, Decimal, boolean, IsBetweenFailureCallback)
+         * @see DecimalParameter#isBetween(Decimal, Decimal, boolean, Iterable)
+         */
+        void isBetweenFailure(DecimalParameter<N> parameter, Decimal lower, Decimal upper, boolean inclusive);
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is between the provided lower and upper bound. When {@code inclusive}
+     * is {@code true} the value must conform to {@code value >= lower && value <= upper} for the check to pass. When
+     * {@code inclusive} is {@code false} the value must conform to {@code value > lower && value < upper} for the check
+     * to pass. The bounds may have any scale.
+     *
+     * @param lower            The lower bound of the value of the {@link DecimalParameter}.
+     * @param upper            The upper bound of the value of the {@link DecimalParameter}.
+     * @param inclusive        Whether or not the provided bounds should be included or excluded by the check.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isBetween(Decimal lower, Decimal upper, boolean inclusive,
+                             Iterable<? extends IsBetweenFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = between(lower, upper, inclusive);
+        if (!result) {
+            incrementFailureCount();
+            for (IsBetweenFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isBetweenFailure(this, lower, upper, inclusive);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is between the provided lower and upper bound. When {@code inclusive}
+     * is {@code true} the value must conform to {@code value >= lower && value <= upper} for the check to pass. When
+     * {@code inclusive} is {@code false} the value must conform to {@code value > lower && value < upper} for the check
+     * to pass. The bounds may have any scale.
+     *
+     * @param lower           The lower bound of the value of the {@link DecimalParameter}.
+     * @param upper           The upper bound of the value of the {@link DecimalParameter}.
+     * @param inclusive       Whether or not the provided bounds should be included or excluded by the check.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isBetween(Decimal lower, Decimal upper, boolean inclusive,
+                             IsBetweenFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = between(lower, upper, inclusive);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isBetweenFailure(this, lower, upper, inclusive);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is between the provided lower and upper bound. When {@code inclusive}
+     * is {@code true} the value must conform to {@code value >= lower && value <= upper} for the check to pass. When
+     * {@code inclusive} is {@code false} the value must conform to {@code value > lower && value < upper} for the check
+     * to pass. Notifies the failure handlers provided to the {@link DecimalParameter} in case the check fails.
+     *
+     * @param lower     The lower bound of the value of the {@link DecimalParameter}.
+     * @param upper     The upper bound of the value of the {@link DecimalParameter}.
+     * @param inclusive Whether or not the provided bounds should be included or excluded by the check.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isBetween(Decimal lower, Decimal upper, boolean inclusive) throws NullParameterValueException
+    {
+        return isBetween(lower, upper, inclusive, failureHandlers);
+    }
+
+    /**
+     * Checks that the value of the {@link DecimalParameter} is between the provided lower and upper bound, including the bounds.
+     * Notifies the failure handlers provided to the {@link DecimalParameter} in case the check fails.
+     *
+     * @param lower The lower bound of the value of the {@link DecimalParameter}.
+     * @param upper The upper bound of the value of the {@link DecimalParameter}.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link DecimalParameter} is {@code null}.
+     */
+    public boolean isBetween(Decimal lower, Decimal upper) throws NullParameterValueException
+    {
+        return isBetween(lower, upper, true);
+    }
+
+    private boolean between(Decimal lower, Decimal upper, boolean inclusive)
+    {
+        int lowerComparison = Decimal.compare(unscaled, scale, lower.getUnscaledValue(), lower.getScale());
+        int upperComparison = Decimal.compare(unscaled, scale, upper.getUnscaledValue(), upper.getScale());
+
+        return inclusive ? lowerComparison >= 0 && upperComparison <= 0 : lowerComparison > 0 && upperComparison < 0;
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link DecimalParameter}.
+     *
+     * @param <N> The type of the name of the {@link DecimalParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N> extends ConvertedParameter.FailureHandler<N, Decimal>,
+                                               IsPositiveFailureCallback<N>,
+                                               NotPositiveFailureCallback<N>,
+                                               IsNegativeFailureCallback<N>,
+                                               NotNegativeFailureCallback<N>,
+                                               IsBetweenFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsPositiveFailureCallback} that the {@code isPositive} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code isPositive} check failed.
+         */
+        @Override default void isPositiveFailure(DecimalParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link NotPositiveFailureCallback} that the {@code notPositive} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code notPositive} check failed.
+         */
+        @Override default void notPositiveFailure(DecimalParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link IsNegativeFailureCallback} that the {@code isNegative} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code isNegative} check failed.
+         */
+        @Override default void isNegativeFailure(DecimalParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link NotNegativeFailureCallback} that the {@code notNegative} check failed.
+         *
+         * @param parameter The {@link DecimalParameter} on which the {@code notNegative} check failed.
+         */
+        @Override default void notNegativeFailure(DecimalParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link IsBetweenFailureCallback} that the {@code isBetween} check failed.
+         *
+         * @param parameter     The {@link DecimalParameter} on which the {@code isBetween} check failed.
+         * @param lower     The lower bound provided to the {@code isBetween} check that failed.
+         * @param upper     The upper bound provided to the {@code isBetween} check that failed.
+         * @param inclusive The inclusive setting provided to the {@code isBetween} check that failed.
+         */
+        @Override default void isBetweenFailure(DecimalParameter<N> parameter, Decimal lower, Decimal upper, boolean inclusive)
+        {
+
+        }
+    }
+}
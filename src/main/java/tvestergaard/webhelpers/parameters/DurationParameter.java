@@ -0,0 +1,74 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.time.Duration;
+
+/**
+ * {@link TemporalParameter} implementation for durations in the {@code [-]P[nD][T[nH][nM][n[.fffffffff]S]]} format. The text is parsed in a single pass into
+ * the number of milliseconds, which the checks compare as a primitive. The {@code Duration} is only created
+ * when it is retrieved.
+ *
+ * @param <N> The type of the name of the {@link DurationParameter}.
+ */
+public class DurationParameter<N> extends TemporalParameter<N, Duration>
+{
+
+    /**
+     * Creates a new {@link DurationParameter} by parsing the provided {@code text}.
+     *
+     * @param name       The name of the {@link DurationParameter}.
+     * @param text       The text to parse into the value of the {@link DurationParameter}.
+     * @param onFailures The failure handlers to register with the {@link DurationParameter}.
+     */
+    public DurationParameter(N name, String text, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, Iso8601.parseDuration(text), text, onFailures);
+    }
+
+    /**
+     * Returns the number of milliseconds represented by the {@link DurationParameter}.
+     *
+     * @return The number of milliseconds represented by the {@link DurationParameter}.
+     * @throws NullParameterValueException When the value in the {@link DurationParameter} is {@code null}.
+     */
+    public long getMillis() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return primitive;
+    }
+
+    /**
+     * Converts the provided value into the number of milliseconds.
+     *
+     * @param value The value to convert.
+     *
+     * @return The number of milliseconds represented by the provided value.
+     */
+    @Override protected long toPrimitive(Duration value)
+    {
+        return value.toMillis();
+    }
+
+    /**
+     * Converts the provided number of milliseconds into a {@code Duration}.
+     *
+     * @param primitive The number of milliseconds to convert.
+     *
+     * @return The {@code Duration} represented by the provided number of milliseconds.
+     */
+    @Override protected Duration toValue(long primitive)
+    {
+        return Duration.ofMillis(primitive);
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link DurationParameter}.
+     *
+     * @param <N> The type of the name of the {@link DurationParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N> extends TemporalParameter.FailureHandler<N, Duration>
+    {
+
+    }
+}
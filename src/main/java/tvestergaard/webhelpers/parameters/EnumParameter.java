@@ -0,0 +1,202 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ConvertedParameter} implementation using the constants of an enum class as values. The text is converted using
+ * a {@link ConstantTable}, so texts that do not map to a constant are reported through the {@code isWellFormed} check.
+ *
+ * @param <N> The type of the name of the {@link EnumParameter}.
+ * @param <E> The type of the enum class.
+ */
+public class EnumParameter<N, E extends Enum<E>> extends ConvertedParameter<N, E>
+{
+
+    /**
+     * Creates a new {@link EnumParameter} by converting the provided {@code text} using the provided {@code constants}.
+     *
+     * @param name       The name of the {@link EnumParameter}.
+     * @param text       The text to convert into the value of the {@link EnumParameter}.
+     * @param constants  The table mapping texts to the constants of the enum class.
+     * @param onFailures The failure handlers to register with the {@link EnumParameter}.
+     */
+    public EnumParameter(N name, String text, ConstantTable<E> constants,
+                         Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, constants.get(text), text, Collections.singletonList(new Handlers<>(onFailures)));
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link EnumParameter}, regardless of their enum class. The {@link EnumParameter} is provided with a wildcard enum
+     * class, as the same {@link FailureHandler} is registered with the instances of every enum class.
+     *
+     * @param <N> The type of the name of the {@link EnumParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N>
+    {
+
+        /**
+         * Notifies the {@link FailureHandler} that an {@code isPresent} check failed.
+         *
+         * @param parameter The {@link EnumParameter} on which the {@code isPresent} check failed.
+         */
+        default void isPresentFailure(EnumParameter<N, ?> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link FailureHandler} that a {@code notPresent} check failed.
+         *
+         * @param parameter The {@link EnumParameter} on which the {@code notPresent} check failed.
+         */
+        default void notPresentFailure(EnumParameter<N, ?> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link FailureHandler} that an {@code isEqual} check failed.
+         *
+         * @param parameter The {@link EnumParameter} on which the {@code isEqual} check failed.
+         * @param other     The value provided to the {@code isEqual} check.
+         */
+        default void isEqualFailure(EnumParameter<N, ?> parameter, Enum<?> other)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link FailureHandler} that a {@code notEqual} check failed.
+         *
+         * @param parameter The {@link EnumParameter} on which the {@code notEqual} check failed.
+         * @param other     The value provided to the {@code notEqual} check.
+         */
+        default void notEqualFailure(EnumParameter<N, ?> parameter, Enum<?> other)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link FailureHandler} that an {@code isIn} check failed.
+         *
+         * @param parameter The {@link EnumParameter} on which the {@code isIn} check failed.
+         * @param others    The values provided to the {@code isIn} check.
+         */
+        default void isInFailure(EnumParameter<N, ?> parameter, Iterable<? extends Enum<?>> others)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link FailureHandler} that a {@code notIn} check failed.
+         *
+         * @param parameter The {@link EnumParameter} on which the {@code notIn} check failed.
+         * @param others    The values provided to the {@code notIn} check.
+         * @param collision The index of the value equal to the value of the {@link EnumParameter}.
+         */
+        default void notInFailure(EnumParameter<N, ?> parameter, List<? extends Enum<?>> others, int collision)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link FailureHandler} that a {@code checkAsync} check failed.
+         *
+         * @param parameter The {@link EnumParameter} on which the {@code checkAsync} check failed.
+         * @param check     The {@link AsyncCheck} provided to the {@code checkAsync} check.
+         */
+        default void checkAsyncFailure(EnumParameter<N, ?> parameter, AsyncCheck<?> check)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link FailureHandler} that an {@code isWellFormed} check failed.
+         *
+         * @param parameter The {@link EnumParameter} on which the {@code isWellFormed} check failed.
+         * @param text      The text that could not be converted.
+         */
+        default void isWellFormedFailure(EnumParameter<N, ?> parameter, String text)
+        {
+
+        }
+    }
+
+    /**
+     * Adapts the {@link FailureHandler} instances registered for every enum class to the failure handler type of an
+     * {@link EnumParameter} of a single enum class. The parameters provided to the callbacks are always the
+     * {@link EnumParameter} the {@link Handlers} were created by.
+     *
+     * @param <N> The type of the name of the {@link EnumParameter}.
+     * @param <E> The type of the enum class.
+     */
+    private static final class Handlers<N, E extends Enum<E>> implements ConvertedParameter.FailureHandler<N, E>
+    {
+
+        /**
+         * The adapted failure handlers.
+         */
+        private final Iterable<? extends FailureHandler<N>> handlers;
+
+        /**
+         * Creates a new {@link Handlers} adapting the provided {@code handlers}.
+         *
+         * @param handlers The failure handlers to adapt.
+         */
+        private Handlers(Iterable<? extends FailureHandler<N>> handlers)
+        {
+            this.handlers = handlers;
+        }
+
+        @Override public void isPresentFailure(GenericParameter<N, E> parameter)
+        {
+            for (FailureHandler<N> handler : handlers)
+                handler.isPresentFailure((EnumParameter<N, E>) parameter);
+        }
+
+        @Override public void notPresentFailure(GenericParameter<N, E> parameter)
+        {
+            for (FailureHandler<N> handler : handlers)
+                handler.notPresentFailure((EnumParameter<N, E>) parameter);
+        }
+
+        @Override public void isEqualFailure(GenericParameter<N, E> parameter, E other)
+        {
+            for (FailureHandler<N> handler : handlers)
+                handler.isEqualFailure((EnumParameter<N, E>) parameter, other);
+        }
+
+        @Override public void notEqualFailure(GenericParameter<N, E> parameter, E other)
+        {
+            for (FailureHandler<N> handler : handlers)
+                handler.notEqualFailure((EnumParameter<N, E>) parameter, other);
+        }
+
+        @Override public void isInFailure(GenericParameter<N, E> parameter, Iterable<? extends E> others)
+        {
+            for (FailureHandler<N> handler : handlers)
+                handler.isInFailure((EnumParameter<N, E>) parameter, others);
+        }
+
+        @Override public void notInFailure(GenericParameter<N, E> parameter, List<? extends E> others, int collision)
+        {
+            for (FailureHandler<N> handler : handlers)
+                handler.notInFailure((EnumParameter<N, E>) parameter, others, collision);
+        }
+
+        @Override public void checkAsyncFailure(GenericParameter<N, E> parameter, AsyncCheck<? super E> check)
+        {
+            for (FailureHandler<N> handler : handlers)
+                handler.checkAsyncFailure((EnumParameter<N, E>) parameter, check);
+        }
+
+        @Override public void isWellFormedFailure(ConvertedParameter<N, E> parameter, String text)
+        {
+            for (FailureHandler<N> handler : handlers)
+                handler.isWellFormedFailure((EnumParameter<N, E>) parameter, text);
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Failure handler buffering the failures of the checks performed on a chunk of fields validated in parallel, so that
+ * they can be replayed to the actual failure handlers on a single thread, in the order of the fields. The failures are
+ * recorded as calls to make on the actual failure handlers, along with the name and value of the field they occurred on.
+ * <p>
+ * Every chunk records into its own {@link FailureRecorder}, so instances are only used by one thread at a time.
+ *
+ * @param <N> The type of the names of the fields.
+ * @param <V> The type of the values of the fields.
+ * @param <P> The type of the {@link Parameter} the fields are validated using.
+ * @param <H> The type of the failure handlers of the {@link Parameter}.
+ *
+ * @see AbstractStringParameters#onTexts(List, java.util.function.Consumer)
+ * @see AbstractStringParameters#onInts(List, java.util.function.Consumer)
+ */
+abstract class FailureRecorder<N, V, P extends AbstractParameter<N, V>, H>
+{
+
+    /**
+     * The recorded failures, in the order they occurred.
+     */
+    private final List<Failure<N, V, P, H>> failures = new ArrayList<>();
+
+    /**
+     * The index of the field being validated.
+     */
+    private int field = -1;
+
+    /**
+     * The name of the field being validated.
+     */
+    private N name;
+
+    /**
+     * The value of the field being validated.
+     */
+    private V value;
+
+    /**
+     * Returns this {@link FailureRecorder} as a failure handler of the {@link Parameter} the fields are validated using.
+     *
+     * @return This {@link FailureRecorder}.
+     */
+    abstract H handler();
+
+    /**
+     * Sets the field whose failures are recorded from then on.
+     *
+     * @param name  The name of the field.
+     * @param value The value of the field.
+     */
+    void bind(N name, V value)
+    {
+        this.field++;
+        this.name = name;
+        this.value = value;
+    }
+
+    /**
+     * Returns whether or not any failures were recorded.
+     *
+     * @return {@code true} when failures were recorded.
+     */
+    boolean isEmpty()
+    {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Records a failure on the field being validated.
+     *
+     * @param call The call to make on the actual failure handlers.
+     */
+    void record(BiConsumer<H, P> call)
+    {
+        failures.add(new Failure<>(field, name, value, call));
+    }
+
+    /**
+     * Replays the recorded failures to the provided failure {@code handlers}, in the order they occurred. The provided
+     * {@code parameter} is bound to the field of each failure, and its failure count is incremented before the
+     * failure handlers are notified, just like when the checks fail on a single thread.
+     *
+     * @param handlers  The failure handlers to notify.
+     * @param parameter The {@link Parameter} provided to the failure handlers.
+     */
+    void replay(Iterable<? extends H> handlers, P parameter)
+    {
+        int field = -1;
+        for (Failure<N, V, P, H> failure : failures) {
+            if (failure.field != field) {
+                parameter.rebind(failure.name, failure.value);
+                field = failure.field;
+            }
+
+            parameter.incrementFailureCount();
+            for (H handler : handlers)
+                failure.call.accept(handler, parameter);
+        }
+
+        parameter.rebind(null, null);
+    }
+
+    /**
+     * A recorded failure.
+     */
+    private static final class Failure<N, V, P, H>
+    {
+
+        private final int              field;
+        private final N                name;
+        private final V                value;
+        private final BiConsumer<H, P> call;
+
+        Failure(int field, N name, V value, BiConsumer<H, P> call)
+        {
+            this.field = field;
+            this.name = name;
+            this.value = value;
+            this.call = call;
+        }
+    }
+
+    /**
+     * {@link FailureRecorder} of the failures of {@link TextParameter} checks.
+     *
+     * @param <N> The type of the names of the fields.
+     */
+    static final class TextRecorder<N> extends FailureRecorder<N, String, TextParameter<N>, TextParameter.FailureHandler<N>>
+            implements TextParameter.FailureHandler<N>
+    {
+
+        @Override TextParameter.FailureHandler<N> handler()
+        {
+            return this;
+        }
+
+
+        @Override public void isPresentFailure(GenericParameter<N, String> parameter)
+        {
+            record((handler, bound) -> handler.isPresentFailure(bound));
+        }
+
+        @Override public void notPresentFailure(GenericParameter<N, String> parameter)
+        {
+            record((handler, bound) -> handler.notPresentFailure(bound));
+        }
+
+        @Override public void isEqualFailure(GenericParameter<N, String> parameter, String other)
+        {
+            record((handler, bound) -> handler.isEqualFailure(bound, other));
+        }
+
+        @Override public void notEqualFailure(GenericParameter<N, String> parameter, String other)
+        {
+            record((handler, bound) -> handler.notEqualFailure(bound, other));
+        }
+
+        @Override public void isInFailure(GenericParameter<N, String> parameter, Iterable<? extends String> others)
+        {
+            record((handler, bound) -> handler.isInFailure(bound, others));
+        }
+
+        @Override public void notInFailure(GenericParameter<N, String> parameter, List<? extends String> others,
+                                           int collision)
+        {
+            record((handler, bound) -> handler.notInFailure(bound, others, collision));
+        }
+
+        @Override public void checkAsyncFailure(GenericParameter<N, String> parameter, AsyncCheck<? super String> check)
+        {
+            record((handler, bound) -> handler.checkAsyncFailure(bound, check));
+        }
+
+        @Override public void isGreaterThanFailure(ComparableParameter<N, String> parameter, String lower)
+        {
+            record((handler, bound) -> handler.isGreaterThanFailure(bound, lower));
+        }
+
+        @Override public void notGreaterThanFailure(ComparableParameter<N, String> parameter, String upper)
+        {
+            record((handler, bound) -> handler.notGreaterThanFailure(bound, upper));
+        }
+
+        @Override public void isLessThanFailure(ComparableParameter<N, String> parameter, String upper)
+        {
+            record((handler, bound) -> handler.isLessThanFailure(bound, upper));
+        }
+
+        @Override public void notLessThanFailure(ComparableParameter<N, String> parameter, String lower)
+        {
+            record((handler, bound) -> handler.notLessThanFailure(bound, lower));
+        }
+
+        @Override public void isBetweenFailure(ComparableParameter<N, String> parameter, String lower, String upper,
+                                               boolean inclusive)
+        {
+            record((handler, bound) -> handler.isBetweenFailure(bound, lower, upper, inclusive));
+        }
+
+        @Override public void notBetweenFailure(ComparableParameter<N, String> parameter, String lower, String upper,
+                                                boolean inclusive)
+        {
+            record((handler, bound) -> handler.notBetweenFailure(bound, lower, upper, inclusive));
+        }
+
+        @Override public void isEmptyFailure(TextParameter<N> parameter)
+        {
+            record((handler, bound) -> handler.isEmptyFailure(bound));
+        }
+
+        @Override public void notEmptyFailure(TextParameter<N> parameter)
+        {
+            record((handler, bound) -> handler.notEmptyFailure(bound));
+        }
+
+        @Override public void isLengthFailure(TextParameter<N> parameter, int check)
+        {
+            record((handler, bound) -> handler.isLengthFailure(bound, check));
+        }
+
+        @Override public void notLengthFailure(TextParameter<N> parameter, int check)
+        {
+            record((handler, bound) -> handler.notLengthFailure(bound, check));
+        }
+
+        @Override public void isShorterThanFailure(TextParameter<N> parameter, int check)
+        {
+            record((handler, bound) -> handler.isShorterThanFailure(bound, check));
+        }
+
+        @Override public void notShorterThanFailure(TextParameter<N> parameter, int lower)
+        {
+            record((handler, bound) -> handler.notShorterThanFailure(bound, lower));
+        }
+
+        @Override public void isLongerThanFailure(TextParameter<N> parameter, int lower)
+        {
+            record((handler, bound) -> handler.isLongerThanFailure(bound, lower));
+        }
+
+        @Override public void notLongerThanFailure(TextParameter<N> parameter, int lower)
+        {
+            record((handler, bound) -> handler.notLongerThanFailure(bound, lower));
+        }
+
+        @Override public void isMatchFailure(TextParameter<N> parameter, Pattern pattern)
+        {
+            record((handler, bound) -> handler.isMatchFailure(bound, pattern));
+        }
+
+        @Override public void notMatchFailure(TextParameter<N> parameter, Pattern pattern)
+        {
+            record((handler, bound) -> handler.notMatchFailure(bound, pattern));
+        }
+
+        @Override public void isContainedFailure(TextParameter<N> parameter, CharSequence other)
+        {
+            record((handler, bound) -> handler.isContainedFailure(bound, other));
+        }
+
+        @Override public void notContainedFailure(TextParameter<N> parameter, CharSequence other)
+        {
+            record((handler, bound) -> handler.notContainedFailure(bound, other));
+        }
+
+        @Override public void isEmailFailure(TextParameter<N> parameter)
+        {
+            record((handler, bound) -> handler.isEmailFailure(bound));
+        }
+
+        @Override public void isUrlFailure(TextParameter<N> parameter)
+        {
+            record((handler, bound) -> handler.isUrlFailure(bound));
+        }
+
+        @Override public void isHostnameFailure(TextParameter<N> parameter)
+        {
+            record((handler, bound) -> handler.isHostnameFailure(bound));
+        }
+
+        @Override public void isInetAddressFailure(TextParameter<N> parameter)
+        {
+            record((handler, bound) -> handler.isInetAddressFailure(bound));
+        }
+
+        @Override public void isAlphanumericFailure(TextParameter<N> parameter, int index)
+        {
+            record((handler, bound) -> handler.isAlphanumericFailure(bound, index));
+        }
+
+        @Override public void isDigitsFailure(TextParameter<N> parameter, int index)
+        {
+            record((handler, bound) -> handler.isDigitsFailure(bound, index));
+        }
+
+        @Override public void isAsciiPrintableFailure(TextParameter<N> parameter, int index)
+        {
+            record((handler, bound) -> handler.isAsciiPrintableFailure(bound, index));
+        }
+
+        @Override public void isInCharsetFailure(TextParameter<N> parameter, CharClass charClass, int index)
+        {
+            record((handler, bound) -> handler.isInCharsetFailure(bound, charClass, index));
+        }
+
+        @Override public void isValidFailure(TextParameter<N> parameter, PureCheck<String> check)
+        {
+            record((handler, bound) -> handler.isValidFailure(bound, check));
+        }
+    }
+
+    /**
+     * {@link FailureRecorder} of the failures of {@link NumberParameter} checks.
+     *
+     * @param <N> The type of the names of the fields.
+     * @param <V> The type of the values of the fields.
+     * @param <P> The type of the {@link NumberParameter} the fields are validated using.
+     */
+    static final class NumberRecorder<N, V extends Number & Comparable<V>, P extends NumberParameter<N, V>>
+            extends FailureRecorder<N, V, P, NumberParameter.FailureHandler<N, V>> implements NumberParameter.FailureHandler<N, V>
+    {
+
+        @Override NumberParameter.FailureHandler<N, V> handler()
+        {
+            return this;
+        }
+
+
+        @Override public void isPresentFailure(GenericParameter<N, V> parameter)
+        {
+            record((handler, bound) -> handler.isPresentFailure(bound));
+        }
+
+        @Override public void notPresentFailure(GenericParameter<N, V> parameter)
+        {
+            record((handler, bound) -> handler.notPresentFailure(bound));
+        }
+
+        @Override public void isEqualFailure(GenericParameter<N, V> parameter, V other)
+        {
+            record((handler, bound) -> handler.isEqualFailure(bound, other));
+        }
+
+        @Override public void notEqualFailure(GenericParameter<N, V> parameter, V other)
+        {
+            record((handler, bound) -> handler.notEqualFailure(bound, other));
+        }
+
+        @Override public void isInFailure(GenericParameter<N, V> parameter, Iterable<? extends V> others)
+        {
+            record((handler, bound) -> handler.isInFailure(bound, others));
+        }
+
+        @Override public void notInFailure(GenericParameter<N, V> parameter, List<? extends V> others, int collision)
+        {
+            record((handler, bound) -> handler.notInFailure(bound, others, collision));
+        }
+
+        @Override public void checkAsyncFailure(GenericParameter<N, V> parameter, AsyncCheck<? super V> check)
+        {
+            record((handler, bound) -> handler.checkAsyncFailure(bound, check));
+        }
+
+        @Override public void isGreaterThanFailure(ComparableParameter<N, V> parameter, V lower)
+        {
+            record((handler, bound) -> handler.isGreaterThanFailure(bound, lower));
+        }
+
+        @Override public void notGreaterThanFailure(ComparableParameter<N, V> parameter, V upper)
+        {
+            record((handler, bound) -> handler.notGreaterThanFailure(bound, upper));
+        }
+
+        @Override public void isLessThanFailure(ComparableParameter<N, V> parameter, V upper)
+        {
+            record((handler, bound) -> handler.isLessThanFailure(bound, upper));
+        }
+
+        @Override public void notLessThanFailure(ComparableParameter<N, V> parameter, V lower)
+        {
+            record((handler, bound) -> handler.notLessThanFailure(bound, lower));
+        }
+
+        @Override public void isBetweenFailure(ComparableParameter<N, V> parameter, V lower, V upper, boolean inclusive)
+        {
+            record((handler, bound) -> handler.isBetweenFailure(bound, lower, upper, inclusive));
+        }
+
+        @Override public void notBetweenFailure(ComparableParameter<N, V> parameter, V lower, V upper,
+                                                boolean inclusive)
+        {
+            record((handler, bound) -> handler.notBetweenFailure(bound, lower, upper, inclusive));
+        }
+
+        @Override public void isPositiveFailure(NumberParameter<N, V> parameter)
+        {
+            record((handler, bound) -> handler.isPositiveFailure(bound));
+        }
+
+        @Override public void notPositiveFailure(NumberParameter<N, V> parameter)
+        {
+            record((handler, bound) -> handler.notPositiveFailure(bound));
+        }
+
+        @Override public void isNegativeFailure(NumberParameter<N, V> parameter)
+        {
+            record((handler, bound) -> handler.isNegativeFailure(bound));
+        }
+
+        @Override public void notNegativeFailure(NumberParameter<N, V> parameter)
+        {
+            record((handler, bound) -> handler.notNegativeFailure(bound));
+        }
+    }
+}
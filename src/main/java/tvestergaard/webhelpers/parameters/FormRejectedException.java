@@ -0,0 +1,39 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * Thrown when a form body is rejected before it has been read completely, because it violates a guardrail or because
+ * a check performed on one of its fields failed.
+ */
+public class FormRejectedException extends RuntimeException
+{
+
+    /**
+     * The name of the field that caused the rejection, {@code null} when the rejection was not caused by a single field.
+     */
+    private final String name;
+
+    /**
+     * Creates a new {@link FormRejectedException}.
+     *
+     * @param name    The name of the field that caused the rejection, {@code null} when the rejection was not caused by
+     *                a single field.
+     * @param message The message describing why the form was rejected.
+     */
+    public FormRejectedException(String name, String message)
+    {
+        super(message);
+
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the field that caused the rejection.
+     *
+     * @return The name of the field that caused the rejection, {@code null} when the rejection was not caused by a
+     * single field.
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+}
@@ -1,8 +1,11 @@
 package tvestergaard.webhelpers.parameters;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletionStage;
 
 /**
  * An implementation of the {@link Parameter} interface for use on generic values.
@@ -89,7 +92,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
      */
     public boolean isPresent(Iterable<? extends IsPresentFailureCallback<N, V>> failureCallbacks)
     {
-        boolean check = value != null;
+        boolean check = hasValue();
         if (!check) {
             incrementFailureCount();
             for (IsPresentFailureCallback<N, V> failureCallback : failureCallbacks)
@@ -108,7 +111,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
      */
     public boolean isPresent(IsPresentFailureCallback<N, V> failureCallback)
     {
-        boolean check = value != null;
+        boolean check = hasValue();
         if (!check) {
             incrementFailureCount();
             failureCallback.isPresentFailure(this);
@@ -162,7 +165,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
      */
     public boolean notPresent(Iterable<? extends NotPresentFailureCallback<N, V>> failureCallbacks)
     {
-        boolean check = value == null;
+        boolean check = !hasValue();
         if (!check) {
             incrementFailureCount();
             for (NotPresentFailureCallback<N, V> failureCallback : failureCallbacks)
@@ -181,7 +184,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
      */
     public boolean notPresent(NotPresentFailureCallback<N, V> failureCallback)
     {
-        boolean check = value == null;
+        boolean check = !hasValue();
         if (!check) {
             incrementFailureCount();
             failureCallback.notPresentFailure(this);
@@ -239,7 +242,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
     {
         nullCheck();
 
-        boolean check = value.equals(other);
+        boolean check = getValue().equals(other);
         if (!check) {
             incrementFailureCount();
             for (IsEqualFailureCallback<N, V> failureCallback : failureCallbacks)
@@ -261,7 +264,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
     {
         nullCheck();
 
-        boolean check = value.equals(other);
+        boolean check = getValue().equals(other);
         if (!check) {
             incrementFailureCount();
             failureCallback.isEqualFailure(this, other);
@@ -321,7 +324,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
     {
         nullCheck();
 
-        boolean check = !value.equals(other);
+        boolean check = !getValue().equals(other);
         if (!check) {
             incrementFailureCount();
             for (NotEqualFailureCallback<N, V> failureCallback : failureCallbacks)
@@ -343,7 +346,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
     {
         nullCheck();
 
-        boolean check = !value.equals(other);
+        boolean check = !getValue().equals(other);
         if (!check) {
             incrementFailureCount();
             failureCallback.notEqualFailure(this, other);
@@ -405,11 +408,8 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
     {
         nullCheck();
 
-        for (V other : others) {
-            if (value.equals(other)) {
-                return true;
-            }
-        }
+        if (indexIn(others) >= 0)
+            return true;
 
         incrementFailureCount();
         for (IsInFailureCallback<N, V> failureCallback : failureCallbacks)
@@ -429,11 +429,8 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
     {
         nullCheck();
 
-        for (V other : others) {
-            if (value.equals(other)) {
-                return true;
-            }
-        }
+        if (indexIn(others) >= 0)
+            return true;
 
         incrementFailureCount();
         failureCallback.isInFailure(this, others);
@@ -506,17 +503,14 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
     {
         nullCheck();
 
-        int size = others.size();
-        for (int x = 0; x < size; x++) {
-            if (value.equals(others.get(x))) {
-                incrementFailureCount();
-                for (NotInFailureCallback failureCallback : failureCallbacks)
-                    failureCallback.notInFailure(this, others, x);
-                return false;
-            }
-        }
+        int collision = indexIn(others);
+        if (collision < 0)
+            return true;
 
-        return true;
+        incrementFailureCount();
+        for (NotInFailureCallback failureCallback : failureCallbacks)
+            failureCallback.notInFailure(this, others, collision);
+        return false;
     }
 
     /**
@@ -531,16 +525,13 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
     {
         nullCheck();
 
-        int size = others.size();
-        for (int x = 0; x < size; x++) {
-            if (value.equals(others.get(x))) {
-                incrementFailureCount();
-                failureCallback.notInFailure(this, others, x);
-                return false;
-            }
-        }
+        int collision = indexIn(others);
+        if (collision < 0)
+            return true;
 
-        return true;
+        incrementFailureCount();
+        failureCallback.notInFailure(this, others, collision);
+        return false;
     }
 
     /**
@@ -569,6 +560,132 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
         return notIn(Arrays.asList(others), failureHandlers);
     }
 
+    /**
+     * Returns the index of the first of the provided {@code others} equal to the value of the {@link GenericParameter}.
+     * Lists supporting random access are walked by index, so that no {@code Iterator} is allocated, other lists are
+     * walked using their {@code Iterator}, so that lists like {@code LinkedList} are walked in linear time.
+     *
+     * @param others The values to compare the value of the {@link GenericParameter} to.
+     *
+     * @return The index of the first equal value, {@code -1} when none of the values are equal.
+     */
+    private int indexIn(List<? extends V> others)
+    {
+        V value = getValue();
+        if (others instanceof RandomAccess) {
+            int size = others.size();
+            for (int x = 0; x < size; x++)
+                if (value.equals(others.get(x)))
+                    return x;
+
+            return -1;
+        }
+
+        int x = 0;
+        for (V other : others) {
+            if (value.equals(other))
+                return x;
+            x++;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Functional interface for {@code checkAsync} check failures.
+     *
+     * @param <N> The type of the name of the {@link GenericParameter} on which the {@code checkAsync} check failed.
+     * @param <V> The type of the value of the {@link GenericParameter} on which the {@code checkAsync} check failed.
+     *
+     * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck)
+     * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck, CheckAsyncFailureCallback)
+     * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck, Iterable)
+     */
+    @FunctionalInterface public interface CheckAsyncFailureCallback<N, V>
+    {
+
+        /**
+         * Notifies the {@link CheckAsyncFailureCallback} that a {@code checkAsync} check failed.
+         *
+         * @param parameter The {@link GenericParameter} on which the {@code checkAsync} check failed.
+         * @param check     The {@link AsyncCheck} provided to the {@code checkAsync} check that failed.
+         *
+         * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck)
+         * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck, CheckAsyncFailureCallback)
+         * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck, Iterable)
+         */
+        void checkAsyncFailure(GenericParameter<N, V> parameter, AsyncCheck<? super V> check);
+    }
+
+    /**
+     * Starts the provided asynchronous {@code check} on the value of the {@link GenericParameter}. The check runs
+     * concurrently with the other checks started using the provided {@code checks}. The result is merged into the
+     * failure count of the {@link GenericParameter}, and the {@code failureCallbacks} are notified, when the
+     * {@code CompletionStage} returned from {@link AsyncChecks#all()} completes.
+     * <p>
+     * Parameters provided to the consumers of the {@code on*} methods of {@link Parameters} may be checked
+     * asynchronously: the {@link GenericParameter} is retained by the check, so it keeps its name and value after the
+     * consumer returns, instead of being reused for the next mapping. Checks must not be started from the consumers of
+     * {@link Parameters#onTexts(List, java.util.function.Consumer)} and
+     * {@link Parameters#onInts(List, java.util.function.Consumer)}, as those may be called from multiple
+     * threads.
+     *
+     * @param checks           The {@link AsyncChecks} running the check.
+     * @param check            The check to perform on the value in the {@link GenericParameter}.
+     * @param failureCallbacks The callbacks notified in case the check fails.
+     *
+     * @return The {@code CompletionStage} completed with {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link GenericParameter} is {@code null}.
+     */
+    public CompletionStage<Boolean> checkAsync(AsyncChecks checks,
+                                               AsyncCheck<? super V> check,
+                                               Iterable<? extends CheckAsyncFailureCallback<N, V>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        return checks.start(this, check, failureCallbacks);
+    }
+
+    /**
+     * Starts the provided asynchronous {@code check} on the value of the {@link GenericParameter}. The check runs
+     * concurrently with the other checks started using the provided {@code checks}. The result is merged into the
+     * failure count of the {@link GenericParameter}, and the {@code failureCallback} is notified, when the
+     * {@code CompletionStage} returned from {@link AsyncChecks#all()} completes.
+     *
+     * @param checks          The {@link AsyncChecks} running the check.
+     * @param check           The check to perform on the value in the {@link GenericParameter}.
+     * @param failureCallback The callback notified in case the check fails.
+     *
+     * @return The {@code CompletionStage} completed with {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link GenericParameter} is {@code null}.
+     */
+    public CompletionStage<Boolean> checkAsync(AsyncChecks checks,
+                                               AsyncCheck<? super V> check,
+                                               CheckAsyncFailureCallback<N, V> failureCallback)
+            throws NullParameterValueException
+    {
+        return checkAsync(checks, check, Collections.singletonList(failureCallback));
+    }
+
+    /**
+     * Starts the provided asynchronous {@code check} on the value of the {@link GenericParameter}. The check runs
+     * concurrently with the other checks started using the provided {@code checks}. The result is merged into the
+     * failure count of the {@link GenericParameter}, and the failure handlers provided to the {@link GenericParameter}
+     * are notified, when the {@code CompletionStage} returned from {@link AsyncChecks#all()} completes.
+     *
+     * @param checks The {@link AsyncChecks} running the check.
+     * @param check  The check to perform on the value in the {@link GenericParameter}.
+     *
+     * @return The {@code CompletionStage} completed with {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link GenericParameter} is {@code null}.
+     */
+    public CompletionStage<Boolean> checkAsync(AsyncChecks checks, AsyncCheck<? super V> check)
+            throws NullParameterValueException
+    {
+        return checkAsync(checks, check, failureHandlers);
+    }
+
     /**
      * Checks that the value in the {@link GenericParameter} is not {@code null}.
      *
@@ -576,7 +693,7 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
      */
     private void nullCheck() throws NullParameterValueException
     {
-        if (value == null)
+        if (!hasValue())
             throw new NullParameterValueException();
     }
 
@@ -591,7 +708,8 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
                                            IsEqualFailureCallback<N, V>,
                                            NotEqualFailureCallback<N, V>,
                                            IsInFailureCallback<N, V>,
-                                           NotInFailureCallback<N, V>
+                                           NotInFailureCallback<N, V>,
+                                           CheckAsyncFailureCallback<N, V>
     {
 
         /**
@@ -682,5 +800,20 @@ public class GenericParameter<N, V> extends AbstractParameter<N, V>
         {
 
         }
+
+        /**
+         * Notifies the {@link CheckAsyncFailureCallback} that a {@code checkAsync} check failed.
+         *
+         * @param parameter The {@link GenericParameter} on which the {@code checkAsync} check failed.
+         * @param check     The {@link AsyncCheck} provided to the {@code checkAsync} check that failed.
+         *
+         * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck)
+         * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck, CheckAsyncFailureCallback)
+         * @see GenericParameter#checkAsync(AsyncChecks, AsyncCheck, Iterable)
+         */
+        @Override default void checkAsyncFailure(GenericParameter<N, V> parameter, AsyncCheck<? super V> check)
+        {
+
+        }
     }
 }
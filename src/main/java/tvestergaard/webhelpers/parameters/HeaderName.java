@@ -0,0 +1,132 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * Name of an HTTP header, with its case-insensitive hash computed once. Header names are compared ignoring the case of
+ * ASCII letters, as required by RFC 7230. Instances of {@link HeaderName} are meant to be kept in constants, so that
+ * looking up a header in {@link HttpHeaderParameters} needs no hashing of the name.
+ */
+public final class HeaderName
+{
+
+    public static final HeaderName ACCEPT          = of("Accept");
+    public static final HeaderName ACCEPT_LANGUAGE = of("Accept-Language");
+    public static final HeaderName AUTHORIZATION   = of("Authorization");
+    public static final HeaderName CONTENT_LENGTH  = of("Content-Length");
+    public static final HeaderName CONTENT_TYPE    = of("Content-Type");
+    public static final HeaderName HOST            = of("Host");
+    public static final HeaderName IF_NONE_MATCH   = of("If-None-Match");
+    public static final HeaderName ORIGIN          = of("Origin");
+    public static final HeaderName REFERER         = of("Referer");
+    public static final HeaderName USER_AGENT      = of("User-Agent");
+    public static final HeaderName X_FORWARDED_FOR = of("X-Forwarded-For");
+    public static final HeaderName X_REQUEST_ID    = of("X-Request-Id");
+
+    /**
+     * The name of the header.
+     */
+    private final String name;
+
+    /**
+     * The case-insensitive hash of the name of the header.
+     */
+    private final int hash;
+
+    private HeaderName(String name)
+    {
+        this.name = name;
+        this.hash = hash(name);
+    }
+
+    /**
+     * Creates a new {@link HeaderName}.
+     *
+     * @param name The name of the header.
+     *
+     * @return The new {@link HeaderName}.
+     */
+    public static HeaderName of(String name)
+    {
+        return new HeaderName(name);
+    }
+
+    /**
+     * Returns the name of the header.
+     *
+     * @return The name of the header.
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Returns the case-insensitive hash of the name of the header.
+     *
+     * @return The case-insensitive hash of the name of the header.
+     */
+    int getHash()
+    {
+        return this.hash;
+    }
+
+    /**
+     * Computes the hash of the provided header name, ignoring the case of ASCII letters.
+     *
+     * @param name The header name to hash.
+     *
+     * @return The hash of the provided header name.
+     */
+    static int hash(CharSequence name)
+    {
+        int hash   = 0x811C9DC5;
+        int length = name.length();
+        for (int x = 0; x < length; x++)
+            hash = (hash ^ fold(name.charAt(x))) * 0x01000193;
+
+        return hash ^ hash >>> 16;
+    }
+
+    /**
+     * Checks that the provided header names are equal, ignoring the case of ASCII letters.
+     *
+     * @return {@code true} if the provided header names are equal ignoring case.
+     */
+    static boolean matches(CharSequence a, CharSequence b)
+    {
+        int length = a.length();
+        if (length != b.length())
+            return false;
+
+        for (int x = 0; x < length; x++)
+            if (fold(a.charAt(x)) != fold(b.charAt(x)))
+                return false;
+
+        return true;
+    }
+
+    private static char fold(char c)
+    {
+        return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+    }
+
+    @Override public boolean equals(Object o)
+    {
+        if (this == o)
+            return true;
+        if (!(o instanceof HeaderName))
+            return false;
+
+        HeaderName other = (HeaderName) o;
+        return hash == other.hash && matches(name, other.name);
+    }
+
+    @Override public int hashCode()
+    {
+        return hash;
+    }
+
+    @Override public String toString()
+    {
+        return name;
+    }
+}
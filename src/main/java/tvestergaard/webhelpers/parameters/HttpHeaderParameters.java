@@ -0,0 +1,134 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link Parameters} implementation allowing for validation of the headers of instances of {@link HttpServletRequest}.
+ * The headers are indexed once, when the {@link HttpHeaderParameters} is created, into an open-addressed table keyed by
+ * the case-insensitive hash of their names. Names are matched ignoring case, and when a header is provided multiple
+ * times, the first value is used, like {@code HttpServletRequest#getHeader}.
+ * <p>
+ * Lookups using a {@link HeaderName} use the hash computed by the {@link HeaderName}, while lookups using a
+ * {@code String} name hash the name on each call.
+ */
+public class HttpHeaderParameters extends AbstractStringParameters
+{
+
+    /**
+     * The names of the headers, indexed by slot.
+     */
+    private final String[] names;
+
+    /**
+     * The values of the headers, indexed by slot.
+     */
+    private final String[] values;
+
+    /**
+     * The case-insensitive hashes of the names of the headers, indexed by slot.
+     */
+    private final int[] hashes;
+
+    /**
+     * Creates a new {@link HttpHeaderParameters}, indexing the headers of the provided {@code request}.
+     *
+     * @param request The {@code HttpServletRequest} to validate the headers of.
+     */
+    public HttpHeaderParameters(HttpServletRequest request)
+    {
+        List<String> headers = request.getHeaderNames() == null ?
+                               Collections.emptyList() : Collections.list(request.getHeaderNames());
+        int capacity = Integer.highestOneBit(Math.max(2, headers.size() * 2 - 1)) << 1;
+
+        this.names = new String[capacity];
+        this.values = new String[capacity];
+        this.hashes = new int[capacity];
+
+        for (String name : headers) {
+            int hash = HeaderName.hash(name);
+            int slot = slot(name, hash);
+            if (names[slot] == null) {
+                names[slot] = name;
+                values[slot] = request.getHeader(name);
+                hashes[slot] = hash;
+            }
+        }
+    }
+
+    /**
+     * Returns the value of the header with the provided {@code name}.
+     *
+     * @param name The name of the header to return the value of.
+     *
+     * @return The value of the header with the provided {@code name}, {@code null} when no such header exists.
+     */
+    public String get(HeaderName name)
+    {
+        return values[slot(name.getName(), name.getHash())];
+    }
+
+    /**
+     * Returns an instance of {@link TextParameter} from the header with the provided {@code name}. When no header with
+     * the provided {@code name} exists, the method returns a new instance of {@link TextParameter} with the name of the
+     * header and {@code value = null}.
+     *
+     * @param name The name of the header from which to create the new {@link TextParameter}.
+     *
+     * @return The newly created {@link TextParameter}.
+     */
+    public TextParameter<String> getText(HeaderName name)
+    {
+        return createText(name.getName(), get(name));
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link TextParameter} from the header with the
+     * provided {@code name}.
+     *
+     * @param name     The name of the header from which to create an instance of {@link TextParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link TextParameter}.
+     *
+     * @return {@code true} when the checks performed on the instance of {@link TextParameter} during the execution of
+     * the provided {@code Consumer} passed.
+     */
+    public boolean onText(HeaderName name, Consumer<TextParameter<String>> consumer)
+    {
+        TextParameter<String> parameter = getText(name);
+        consumer.accept(parameter);
+
+        return !parameter.hasFailures();
+    }
+
+    /**
+     * Returns the value of the header with the provided {@code name}, matching the name ignoring case.
+     *
+     * @param name The name of the header to return the value of.
+     *
+     * @return The value of the header with the provided {@code name}, {@code null} when no such header exists.
+     */
+    @Override protected String lookup(String name)
+    {
+        return values[slot(name, HeaderName.hash(name))];
+    }
+
+    /**
+     * Finds the slot of the header with the provided name.
+     *
+     * @return The slot of the header, or the empty slot where the header would be stored.
+     */
+    private int slot(String name, int hash)
+    {
+        int mask = names.length - 1;
+        int slot = hash & mask;
+        while (names[slot] != null) {
+            if (hashes[slot] == hash && HeaderName.matches(names[slot], name))
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+}
@@ -0,0 +1,356 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * {@link ConvertedParameter} implementation for IPv4 addresses in dotted quad notation and IPv6 addresses in the
+ * notation of RFC 4291. The text is parsed into two {@code long}s without name resolution, and the checks operate on
+ * the two {@code long}s. IPv4 addresses are represented as IPv4-mapped IPv6 addresses, matching the representation
+ * used by {@link InetRanges}.
+ *
+ * @param <N> The type of the name of the {@link InetParameter}.
+ */
+public class InetParameter<N> extends ConvertedParameter<N, InetAddress>
+{
+
+    /**
+     * The high 64 bits of the value of the {@link InetParameter}.
+     */
+    private final long high;
+
+    /**
+     * The low 64 bits of the value of the {@link InetParameter}.
+     */
+    private final long low;
+
+    /**
+     * The IP version of the value of the {@link InetParameter}, {@code 0} when the text is malformed.
+     */
+    private final int version;
+
+    /**
+     * The failure handlers registered with the {@link InetParameter}.
+     */
+    private final Iterable<? extends FailureHandler<N>> failureHandlers;
+
+    /**
+     * Creates a new {@link InetParameter} by parsing the provided {@code text}.
+     *
+     * @param name       The name of the {@link InetParameter}.
+     * @param text       The text to parse into the value of the {@link InetParameter}.
+     * @param onFailures The failure handlers to register with the {@link InetParameter}.
+     */
+    public InetParameter(N name, String text, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        this(name, text, new long[2], onFailures);
+    }
+
+    private InetParameter(N name, String text, long[] bits, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        this(name, text, bits, text == null ? 0 : parse(text, 0, text.length(), bits), onFailures);
+    }
+
+    private InetParameter(N name, String text, long[] bits, int version, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, version == 0 ? null : toInetAddress(bits, version), text, onFailures);
+
+        this.high = bits[0];
+        this.low = bits[1];
+        this.version = version;
+        this.failureHandlers = onFailures;
+    }
+
+    /**
+     * Parses the IPv4 or IPv6 address between {@code from} and {@code to}. IPv4 addresses are stored as IPv4-mapped
+     * IPv6 addresses.
+     *
+     * @param text The text to parse.
+     * @param from The index of the first character of the address.
+     * @param to   The index following the last character of the address.
+     * @param bits The array in which the high and low 64 bits of the address are stored.
+     *
+     * @return {@code 4} or {@code 6} when the text is an IPv4 or IPv6 address, {@code 0} when the text is malformed.
+     */
+    static int parse(CharSequence text, int from, int to, long[] bits)
+    {
+        long ipv4 = TextScanners.ipv4(text, from, to);
+        if (ipv4 >= 0) {
+            bits[0] = 0;
+            bits[1] = 0xFFFF00000000L | ipv4;
+            return 4;
+        }
+
+        return TextScanners.ipv6(text, from, to, bits) ? 6 : 0;
+    }
+
+    /**
+     * Checks that the provided {@code text} is an IPv4 or IPv6 address.
+     *
+     * @param text The text to check.
+     *
+     * @return {@code true} if the provided {@code text} is an IPv4 or IPv6 address.
+     */
+    static boolean isAddress(CharSequence text)
+    {
+        return text != null && TextScanners.isInetAddress(text);
+    }
+
+    private static InetAddress toInetAddress(long[] bits, int version)
+    {
+        byte[] bytes = new byte[version == 4 ? 4 : 16];
+        for (int x = bytes.length - 1, shift = 0; x >= 0; x--, shift += 8)
+            bytes[x] = (byte) (shift < 64 ? bits[1] >>> shift : bits[0] >>> (shift - 64));
+
+        try {
+            return InetAddress.getByAddress(bytes);
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns the IP version of the value of the {@link InetParameter}.
+     *
+     * @return {@code 4} or {@code 6}.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public int getVersion() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return version;
+    }
+
+    /**
+     * Returns the high 64 bits of the value of the {@link InetParameter}, as an IPv6 address.
+     *
+     * @return The high 64 bits of the value of the {@link InetParameter}.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public long getHighBits() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return high;
+    }
+
+    /**
+     * Returns the low 64 bits of the value of the {@link InetParameter}, as an IPv6 address.
+     *
+     * @return The low 64 bits of the value of the {@link InetParameter}.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public long getLowBits() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return low;
+    }
+
+    /**
+     * Functional interface for {@code isInRanges} check failures.
+     *
+     * @param <N> The type of the name of the {@link InetParameter} on which the {@code isInRanges} check failed.
+     *
+     * @see InetParameter#isInRanges(InetRanges)
+     * @see InetParameter#isInRanges(InetRanges, IsInRangesFailureCallback)
+     * @see InetParameter#isInRanges(InetRanges, Iterable)
+     */
+    @FunctionalInterface public interface IsInRangesFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsInRangesFailureCallback} that the {@code isInRanges} check failed.
+         *
+         * @param parameter The {@link InetParameter} on which the {@code isInRanges} check failed.
+         * @param ranges    The ranges provided to the {@code isInRanges} check that failed.
+         *
+         * @see InetParameter#isInRanges(InetRanges)
+         * @see InetParameter#isInRanges(InetRanges, IsInRangesFailureCallback)
+         * @see InetParameter#isInRanges(InetRanges, Iterable)
+         */
+        void isInRangesFailure(InetParameter<N> parameter, InetRanges ranges);
+    }
+
+    /**
+     * Checks that the value of the {@link InetParameter} is in one of the provided {@link InetRanges}.
+     *
+     * @param ranges           The ranges that must contain the value of the {@link InetParameter}.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public boolean isInRanges(InetRanges ranges, Iterable<? extends IsInRangesFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = ranges.contains(high, low);
+        if (!result) {
+            incrementFailureCount();
+            for (IsInRangesFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isInRangesFailure(this, ranges);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link InetParameter} is in one of the provided {@link InetRanges}.
+     *
+     * @param ranges          The ranges that must contain the value of the {@link InetParameter}.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public boolean isInRanges(InetRanges ranges, IsInRangesFailureCallback<N> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = ranges.contains(high, low);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isInRangesFailure(this, ranges);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link InetParameter} is in one of the provided {@link InetRanges}.
+     * Notifies the failure handlers provided to the {@link InetParameter} in case the check fails.
+     *
+     * @param ranges The ranges that must contain the value of the {@link InetParameter}.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public boolean isInRanges(InetRanges ranges) throws NullParameterValueException
+    {
+        return isInRanges(ranges, failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code notInRanges} check failures.
+     *
+     * @param <N> The type of the name of the {@link InetParameter} on which the {@code notInRanges} check failed.
+     *
+     * @see InetParameter#notInRanges(InetRanges)
+     * @see InetParameter#notInRanges(InetRanges, NotInRangesFailureCallback)
+     * @see InetParameter#notInRanges(InetRanges, Iterable)
+     */
+    @FunctionalInterface public interface NotInRangesFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link NotInRangesFailureCallback} that the {@code notInRanges} check failed.
+         *
+         * @param parameter The {@link InetParameter} on which the {@code notInRanges} check failed.
+         * @param ranges    The ranges provided to the {@code notInRanges} check that failed.
+         *
+         * @see InetParameter#notInRanges(InetRanges)
+         * @see InetParameter#notInRanges(InetRanges, NotInRangesFailureCallback)
+         * @see InetParameter#notInRanges(InetRanges, Iterable)
+         */
+        void notInRangesFailure(InetParameter<N> parameter, InetRanges ranges);
+    }
+
+    /**
+     * Checks that the value of the {@link InetParameter} is in none of the provided {@link InetRanges}.
+     *
+     * @param ranges           The ranges that must not contain the value of the {@link InetParameter}.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public boolean notInRanges(InetRanges ranges, Iterable<? extends NotInRangesFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = !ranges.contains(high, low);
+        if (!result) {
+            incrementFailureCount();
+            for (NotInRangesFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.notInRangesFailure(this, ranges);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link InetParameter} is in none of the provided {@link InetRanges}.
+     *
+     * @param ranges          The ranges that must not contain the value of the {@link InetParameter}.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public boolean notInRanges(InetRanges ranges, NotInRangesFailureCallback<N> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = !ranges.contains(high, low);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.notInRangesFailure(this, ranges);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link InetParameter} is in none of the provided {@link InetRanges}.
+     * Notifies the failure handlers provided to the {@link InetParameter} in case the check fails.
+     *
+     * @param ranges The ranges that must not contain the value of the {@link InetParameter}.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link InetParameter} is {@code null}.
+     */
+    public boolean notInRanges(InetRanges ranges) throws NullParameterValueException
+    {
+        return notInRanges(ranges, failureHandlers);
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link InetParameter}.
+     *
+     * @param <N> The type of the name of the {@link InetParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N> extends ConvertedParameter.FailureHandler<N, InetAddress>,
+                                               IsInRangesFailureCallback<N>,
+                                               NotInRangesFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsInRangesFailureCallback} that the {@code isInRanges} check failed.
+         *
+         * @param parameter The {@link InetParameter} on which the {@code isInRanges} check failed.
+         * @param ranges    The ranges provided to the {@code isInRanges} check that failed.
+         */
+        @Override default void isInRangesFailure(InetParameter<N> parameter, InetRanges ranges)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link NotInRangesFailureCallback} that the {@code notInRanges} check failed.
+         *
+         * @param parameter The {@link InetParameter} on which the {@code notInRanges} check failed.
+         * @param ranges    The ranges provided to the {@code notInRanges} check that failed.
+         */
+        @Override default void notInRangesFailure(InetParameter<N> parameter, InetRanges ranges)
+        {
+
+        }
+    }
+}
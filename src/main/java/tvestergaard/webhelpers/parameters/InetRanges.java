@@ -0,0 +1,288 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable set of IPv4 and IPv6 address ranges in CIDR notation, stored in a compressed binary radix trie. IPv4
+ * addresses and ranges are stored as IPv4-mapped IPv6 addresses, so a single trie holds both address families.
+ * <p>
+ * The trie is flattened into parallel arrays when the {@link InetRanges} is built, and a lookup visits at most one
+ * node per bit of the address, regardless of the number of ranges in the set. Instances of {@link InetRanges} are
+ * thread safe, and are meant to be built once and shared.
+ */
+public final class InetRanges
+{
+
+    /**
+     * The high 64 bits of the prefixes of the nodes.
+     */
+    private final long[] high;
+
+    /**
+     * The low 64 bits of the prefixes of the nodes.
+     */
+    private final long[] low;
+
+    /**
+     * The lengths of the prefixes of the nodes, in bits.
+     */
+    private final int[] lengths;
+
+    /**
+     * The indices of the children of the nodes, two per node, where {@code -1} marks a missing child.
+     */
+    private final int[] children;
+
+    /**
+     * Whether or not the prefixes of the nodes are ranges in the set.
+     */
+    private final boolean[] terminal;
+
+    /**
+     * The number of ranges in the set.
+     */
+    private final int size;
+
+    private InetRanges(Node root, int nodes, int size)
+    {
+        this.high = new long[nodes];
+        this.low = new long[nodes];
+        this.lengths = new int[nodes];
+        this.children = new int[nodes * 2];
+        this.terminal = new boolean[nodes];
+        this.size = size;
+
+        if (root != null)
+            flatten(root, 0);
+    }
+
+    /**
+     * Creates a new {@link InetRanges} containing the provided ranges. Each range is an IPv4 or IPv6 address, optionally
+     * followed by a slash and the length of the prefix in bits. Addresses without a prefix length are single address
+     * ranges.
+     *
+     * @param ranges The ranges in the new {@link InetRanges}.
+     *
+     * @return The new {@link InetRanges}.
+     * @throws IllegalArgumentException When one of the provided ranges is malformed.
+     */
+    public static InetRanges of(String... ranges) throws IllegalArgumentException
+    {
+        return of(Arrays.asList(ranges));
+    }
+
+    /**
+     * Creates a new {@link InetRanges} containing the provided ranges. Each range is an IPv4 or IPv6 address, optionally
+     * followed by a slash and the length of the prefix in bits. Addresses without a prefix length are single address
+     * ranges.
+     *
+     * @param ranges The ranges in the new {@link InetRanges}.
+     *
+     * @return The new {@link InetRanges}.
+     * @throws IllegalArgumentException When one of the provided ranges is malformed.
+     */
+    public static InetRanges of(Collection<String> ranges) throws IllegalArgumentException
+    {
+        Builder builder = new Builder();
+        long[]  bits    = new long[2];
+        for (String range : ranges) {
+            int slash   = range.indexOf('/');
+            int end     = slash < 0 ? range.length() : slash;
+            int version = InetParameter.parse(range, 0, end, bits);
+            if (version == 0)
+                throw new IllegalArgumentException("Malformed address in range '" + range + "'.");
+
+            int offset = version == 4 ? 96 : 0;
+            int length = 128;
+            if (slash >= 0) {
+                length = prefixLength(range, slash + 1, 128 - offset);
+                if (length < 0)
+                    throw new IllegalArgumentException("Malformed prefix length in range '" + range + "'.");
+                length += offset;
+            }
+
+            builder.add(bits[0], bits[1], length);
+        }
+
+        return new InetRanges(builder.root, builder.nodes, builder.size);
+    }
+
+    /**
+     * Checks whether the provided address is contained in one of the ranges in the {@link InetRanges}. IPv4 addresses
+     * must be provided as IPv4-mapped IPv6 addresses.
+     *
+     * @param high The high 64 bits of the address.
+     * @param low  The low 64 bits of the address.
+     *
+     * @return {@code true} if the address is in one of the ranges.
+     */
+    public boolean contains(long high, long low)
+    {
+        if (size == 0)
+            return false;
+
+        int node = 0;
+        while (node >= 0) {
+            int length = lengths[node];
+            if (commonPrefix(high, low, this.high[node], this.low[node]) < length)
+                return false;
+            if (terminal[node])
+                return true;
+            if (length == 128)
+                return false;
+
+            node = children[node * 2 + bit(high, low, length)];
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the number of distinct ranges in the {@link InetRanges}.
+     *
+     * @return The number of distinct ranges in the {@link InetRanges}.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Copies the provided subtree into the arrays, in preorder.
+     *
+     * @return The index following the last node in the subtree.
+     */
+    private int flatten(Node node, int index)
+    {
+        high[index] = node.high;
+        low[index] = node.low;
+        lengths[index] = node.length;
+        terminal[index] = node.terminal;
+
+        int next = index + 1;
+        for (int x = 0; x < 2; x++) {
+            if (node.children[x] == null) {
+                children[index * 2 + x] = -1;
+            } else {
+                children[index * 2 + x] = next;
+                next = flatten(node.children[x], next);
+            }
+        }
+
+        return next;
+    }
+
+    /**
+     * Parses the decimal prefix length starting at {@code from}.
+     *
+     * @return The prefix length, {@code -1} when the prefix length is malformed or greater than {@code max}.
+     */
+    private static int prefixLength(String text, int from, int max)
+    {
+        int length = text.length();
+        if (from == length || length - from > 3)
+            return -1;
+
+        int result = 0;
+        for (int x = from; x < length; x++) {
+            int digit = text.charAt(x) - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            result = result * 10 + digit;
+        }
+
+        return result <= max ? result : -1;
+    }
+
+    /**
+     * Returns the number of leading bits the two addresses have in common.
+     */
+    static int commonPrefix(long aHigh, long aLow, long bHigh, long bLow)
+    {
+        long difference = aHigh ^ bHigh;
+        if (difference != 0)
+            return Long.numberOfLeadingZeros(difference);
+
+        return 64 + Long.numberOfLeadingZeros(aLow ^ bLow);
+    }
+
+    /**
+     * Returns the bit at the provided index of the address, counting from the most significant bit.
+     */
+    private static int bit(long high, long low, int index)
+    {
+        return index < 64 ? (int) (high >>> (63 - index)) & 1 : (int) (low >>> (127 - index)) & 1;
+    }
+
+    /**
+     * Node in the mutable trie used while building an {@link InetRanges}.
+     */
+    private static final class Node
+    {
+
+        private final long    high;
+        private final long    low;
+        private final int     length;
+        private final Node[]  children = new Node[2];
+        private       boolean terminal;
+
+        private Node(long high, long low, int length, boolean terminal)
+        {
+            this.high = length == 0 ? 0 : length < 64 ? high & -1L << (64 - length) : high;
+            this.low = length <= 64 ? 0 : length < 128 ? low & -1L << (128 - length) : low;
+            this.length = length;
+            this.terminal = terminal;
+        }
+    }
+
+    /**
+     * Builds the mutable trie, splitting the prefixes of existing nodes when a range diverges from them.
+     */
+    private static final class Builder
+    {
+
+        private Node root;
+        private int  nodes;
+        private int  size;
+
+        private void add(long high, long low, int length)
+        {
+            root = add(root, high, low, length);
+        }
+
+        private Node add(Node node, long high, long low, int length)
+        {
+            if (node == null) {
+                nodes++;
+                size++;
+                return new Node(high, low, length, true);
+            }
+
+            int common = Math.min(commonPrefix(high, low, node.high, node.low), Math.min(length, node.length));
+            if (common < node.length) {
+                nodes++;
+                Node parent = new Node(high, low, common, common == length);
+                parent.children[bit(node.high, node.low, common)] = node;
+                if (common == length)
+                    size++;
+                else
+                    parent.children[bit(high, low, common)] = add(null, high, low, length);
+                return parent;
+            }
+
+            if (length == node.length) {
+                if (!node.terminal)
+                    size++;
+                node.terminal = true;
+                return node;
+            }
+
+            int bit = bit(high, low, node.length);
+            node.children[bit] = add(node.children[bit], high, low, length);
+            return node;
+        }
+    }
+}
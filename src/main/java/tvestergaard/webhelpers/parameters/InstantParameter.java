@@ -0,0 +1,74 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.time.Instant;
+
+/**
+ * {@link TemporalParameter} implementation for instants in the {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]} format followed by {@code Z} or an offset. The text is parsed in a single pass into
+ * the number of milliseconds since the epoch, which the checks compare as a primitive. The {@code Instant} is only created
+ * when it is retrieved.
+ *
+ * @param <N> The type of the name of the {@link InstantParameter}.
+ */
+public class InstantParameter<N> extends TemporalParameter<N, Instant>
+{
+
+    /**
+     * Creates a new {@link InstantParameter} by parsing the provided {@code text}.
+     *
+     * @param name       The name of the {@link InstantParameter}.
+     * @param text       The text to parse into the value of the {@link InstantParameter}.
+     * @param onFailures The failure handlers to register with the {@link InstantParameter}.
+     */
+    public InstantParameter(N name, String text, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, Iso8601.parseInstant(text), text, onFailures);
+    }
+
+    /**
+     * Returns the number of milliseconds since the epoch represented by the {@link InstantParameter}.
+     *
+     * @return The number of milliseconds since the epoch represented by the {@link InstantParameter}.
+     * @throws NullParameterValueException When the value in the {@link InstantParameter} is {@code null}.
+     */
+    public long getEpochMilli() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return primitive;
+    }
+
+    /**
+     * Converts the provided value into the number of milliseconds since the epoch.
+     *
+     * @param value The value to convert.
+     *
+     * @return The number of milliseconds since the epoch represented by the provided value.
+     */
+    @Override protected long toPrimitive(Instant value)
+    {
+        return value.toEpochMilli();
+    }
+
+    /**
+     * Converts the provided number of milliseconds since the epoch into a {@code Instant}.
+     *
+     * @param primitive The number of milliseconds since the epoch to convert.
+     *
+     * @return The {@code Instant} represented by the provided number of milliseconds since the epoch.
+     */
+    @Override protected Instant toValue(long primitive)
+    {
+        return Instant.ofEpochMilli(primitive);
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link InstantParameter}.
+     *
+     * @param <N> The type of the name of the {@link InstantParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N> extends TemporalParameter.FailureHandler<N, Instant>
+    {
+
+    }
+}
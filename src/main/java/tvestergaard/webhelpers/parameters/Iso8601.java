@@ -0,0 +1,307 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * Single-pass parsers for the ISO-8601 profiles accepted by {@link DateParameter}, {@link InstantParameter} and
+ * {@link DurationParameter}. The parsers produce primitives and never throw, returning {@link Iso8601#INVALID} when the
+ * text does not conform to the profile.
+ * <p>
+ * The accepted profiles are:
+ * <ul>
+ * <li>Dates: {@code yyyy-MM-dd}, parsed into days since the epoch.</li>
+ * <li>Instants: {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]} followed by {@code Z} or an offset {@code +HH:mm} or
+ * {@code -HH:mm}, parsed into milliseconds since the epoch. Fractions below milliseconds are truncated.</li>
+ * <li>Durations: {@code [-]P[nD][T[nH][nM][n[.fffffffff]S]]}, parsed into milliseconds.</li>
+ * </ul>
+ */
+final class Iso8601
+{
+
+    /**
+     * The value returned when the text does not conform to the profile.
+     */
+    static final long INVALID = Long.MIN_VALUE;
+
+    private static final long MILLIS_PER_SECOND = 1000;
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final long MILLIS_PER_HOUR   = 60 * MILLIS_PER_MINUTE;
+    private static final long MILLIS_PER_DAY    = 24 * MILLIS_PER_HOUR;
+
+    private Iso8601()
+    {
+
+    }
+
+    /**
+     * Parses the provided {@code yyyy-MM-dd} date into the number of days since the epoch.
+     *
+     * @param text The text to parse.
+     *
+     * @return The number of days since the epoch, {@link Iso8601#INVALID} when the text is not a valid date.
+     */
+    static long parseDate(CharSequence text)
+    {
+        if (text == null || text.length() != 10)
+            return INVALID;
+
+        return date(text);
+    }
+
+    /**
+     * Parses the provided instant into the number of milliseconds since the epoch.
+     *
+     * @param text The text to parse.
+     *
+     * @return The number of milliseconds since the epoch, {@link Iso8601#INVALID} when the text is not a valid instant.
+     */
+    static long parseInstant(CharSequence text)
+    {
+        if (text == null || text.length() < 17)
+            return INVALID;
+
+        int length = text.length();
+
+        long epochDay = date(text);
+        if (epochDay == INVALID || (text.charAt(10) != 'T' && text.charAt(10) != 't'))
+            return INVALID;
+
+        int hour   = digits(text, 11, 2);
+        int minute = digits(text, 14, 2);
+        if (hour < 0 || hour > 23 || text.charAt(13) != ':' || minute < 0 || minute > 59)
+            return INVALID;
+
+        int position = 16;
+        int second   = 0;
+        int millis   = 0;
+        if (position < length && text.charAt(position) == ':') {
+            second = digits(text, position + 1, 2);
+            if (second < 0 || second > 59)
+                return INVALID;
+            position += 3;
+
+            if (position < length && text.charAt(position) == '.') {
+                int start = ++position;
+                while (position < length && digit(text.charAt(position)) >= 0) {
+                    if (position - start < 3)
+                        millis = millis * 10 + digit(text.charAt(position));
+                    position++;
+                }
+
+                int count = position - start;
+                if (count == 0 || count > 9)
+                    return INVALID;
+                for (int x = count; x < 3; x++)
+                    millis *= 10;
+            }
+        }
+
+        if (position >= length)
+            return INVALID;
+
+        long offset;
+        char zone = text.charAt(position);
+        if (zone == 'Z' || zone == 'z') {
+            offset = 0;
+            position++;
+        } else if (zone == '+' || zone == '-') {
+            int offsetHour   = digits(text, position + 1, 2);
+            int offsetMinute = digits(text, position + 4, 2);
+            if (position + 6 > length || offsetHour < 0 || offsetHour > 18 || text.charAt(position + 3) != ':'
+                    || offsetMinute < 0 || offsetMinute > 59)
+                return INVALID;
+            offset = offsetHour * MILLIS_PER_HOUR + offsetMinute * MILLIS_PER_MINUTE;
+            if (zone == '-')
+                offset = -offset;
+            position += 6;
+        } else {
+            return INVALID;
+        }
+
+        if (position != length)
+            return INVALID;
+
+        return epochDay * MILLIS_PER_DAY
+                + hour * MILLIS_PER_HOUR
+                + minute * MILLIS_PER_MINUTE
+                + second * MILLIS_PER_SECOND
+                + millis
+                - offset;
+    }
+
+    /**
+     * Parses the provided duration into a number of milliseconds.
+     *
+     * @param text The text to parse.
+     *
+     * @return The number of milliseconds, {@link Iso8601#INVALID} when the text is not a valid duration, or the
+     * duration cannot be represented as a {@code long} number of milliseconds.
+     */
+    static long parseDuration(CharSequence text)
+    {
+        if (text == null)
+            return INVALID;
+
+        int     length   = text.length();
+        int     position = 0;
+        boolean negative = false;
+        if (position < length && text.charAt(position) == '-') {
+            negative = true;
+            position++;
+        }
+
+        if (position >= length || (text.charAt(position) != 'P' && text.charAt(position) != 'p'))
+            return INVALID;
+        position++;
+
+        long    total      = 0;
+        int     components = 0;
+        boolean time       = false;
+        int     lastUnit   = 0;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c == 'T' || c == 't') {
+                if (time || position + 1 == length)
+                    return INVALID;
+                time = true;
+                position++;
+                continue;
+            }
+
+            long number = 0;
+            int  start  = position;
+            while (position < length && digit(text.charAt(position)) >= 0) {
+                if (position - start == 18)
+                    return INVALID;
+                number = number * 10 + digit(text.charAt(position++));
+            }
+
+            if (position == start || position == length)
+                return INVALID;
+
+            long fraction = 0;
+            if (text.charAt(position) == '.' || text.charAt(position) == ',') {
+                int fractionStart = ++position;
+                while (position < length && digit(text.charAt(position)) >= 0) {
+                    if (position - fractionStart < 3)
+                        fraction = fraction * 10 + digit(text.charAt(position));
+                    position++;
+                }
+
+                int count = position - fractionStart;
+                if (count == 0 || count > 9 || position == length || upper(text.charAt(position)) != 'S')
+                    return INVALID;
+                for (int x = count; x < 3; x++)
+                    fraction *= 10;
+            }
+
+            long unit;
+            int  order;
+            switch (upper(text.charAt(position++))) {
+                case 'D':
+                    if (time)
+                        return INVALID;
+                    unit = MILLIS_PER_DAY;
+                    order = 1;
+                    break;
+                case 'H':
+                    unit = MILLIS_PER_HOUR;
+                    order = 2;
+                    break;
+                case 'M':
+                    unit = MILLIS_PER_MINUTE;
+                    order = 3;
+                    break;
+                case 'S':
+                    unit = MILLIS_PER_SECOND;
+                    order = 4;
+                    break;
+                default:
+                    return INVALID;
+            }
+
+            if (order <= lastUnit || (order > 1 && !time))
+                return INVALID;
+            lastUnit = order;
+
+            if (number > (Long.MAX_VALUE - fraction) / unit)
+                return INVALID;
+            long component = number * unit + fraction;
+            if (total > Long.MAX_VALUE - component)
+                return INVALID;
+            total += component;
+            components++;
+        }
+
+        if (components == 0)
+            return INVALID;
+
+        return negative ? -total : total;
+    }
+
+    /**
+     * Parses the {@code yyyy-MM-dd} date at the start of the provided text into the number of days since the epoch.
+     */
+    private static long date(CharSequence text)
+    {
+        int year  = digits(text, 0, 4);
+        int month = digits(text, 5, 2);
+        int day   = digits(text, 8, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || text.charAt(4) != '-' || text.charAt(7) != '-')
+            return INVALID;
+
+        if (day > lengthOfMonth(year, month))
+            return INVALID;
+
+        long y         = month <= 2 ? year - 1 : year;
+        long era       = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra  = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int lengthOfMonth(int year, int month)
+    {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * Parses the {@code count} decimal digits starting at {@code from}.
+     *
+     * @return The parsed number, {@code -1} when the characters are not all digits.
+     */
+    private static int digits(CharSequence text, int from, int count)
+    {
+        if (from + count > text.length())
+            return -1;
+
+        int result = 0;
+        for (int x = from; x < from + count; x++) {
+            int digit = digit(text.charAt(x));
+            if (digit < 0)
+                return -1;
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    private static int digit(char c)
+    {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
+    private static char upper(char c)
+    {
+        return c >= 'a' && c <= 'z' ? (char) (c - 32) : c;
+    }
+}
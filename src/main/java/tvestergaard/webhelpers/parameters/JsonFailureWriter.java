@@ -0,0 +1,730 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Failure sink encoding the failed checks of {@link Parameters} straight into a JSON document, for use as the body of
+ * a {@code 400 Bad Request} response. The failures are encoded as UTF-8 into a single growable byte array when the
+ * checks fail, and the document is written to the output stream with a single write.
+ * <pre>
+ * {"failures":[{"name":"username","check":"notLongerThan","code":24,"arguments":[32]}]}
+ * </pre>
+ * The bytes introducing each check are computed once for every {@link CheckCode}, and the names of the fields known up
+ * front can be declared using {@link JsonFailureWriter#declare(Object)}, so that their bytes are encoded and escaped
+ * once and then cached. Other names, like those chosen by the client, are encoded on every failure and never cached, so
+ * a reused {@link JsonFailureWriter} does not grow with the names it has seen. A failure is thereby recorded by copying
+ * and encoding bytes and formatting its arguments, and integral arguments are formatted without allocating. The values
+ * of the parameters are not included in the document.
+ * <p>
+ * {@link JsonFailureWriter#attach(Parameters)} registers handlers for the {@link TextParameter}, {@link IntParameter},
+ * {@link LongParameter}, {@link FloatParameter} and {@link DoubleParameter} instances. Failures of other types of
+ * {@link Parameter} can be recorded using {@link JsonFailureWriter#write(Object, CheckCode, Object...)}.
+ * <p>
+ * Instances of {@link JsonFailureWriter} are not thread safe. They can be reused across requests by calling
+ * {@link JsonFailureWriter#reset()}, which keeps the buffer and the declared names.
+ *
+ * @param <N> The type of the names of the {@link Parameters} whose failures are written.
+ */
+public final class JsonFailureWriter<N>
+{
+
+    /**
+     * The start of the document.
+     */
+    private static final byte[] PREFIX = ascii("{\"failures\":[");
+
+    /**
+     * The end of the document.
+     */
+    private static final byte[] SUFFIX = ascii("]}");
+
+    /**
+     * The start of a failure, introducing its name.
+     */
+    private static final byte[] NAME = ascii("{\"name\":");
+
+    /**
+     * The bytes introducing a failure of each check, indexed by the ordinal of the {@link CheckCode}.
+     */
+    private static final byte[][] CHECKS = new byte[CheckCode.values().length][];
+
+    static {
+        for (CheckCode checkCode : CheckCode.values())
+            CHECKS[checkCode.ordinal()] = ascii("\"check\":\"" + checkCode.getCheckName() + "\",\"code\":" +
+                                                checkCode.getCode() + ",\"arguments\":[");
+    }
+
+    private static final byte[] NULL  = ascii("null");
+    private static final byte[] TRUE  = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] HEX   = ascii("0123456789abcdef");
+
+    /**
+     * The bytes introducing the failures of each declared name.
+     */
+    private final Map<N, byte[]> names = new HashMap<>();
+
+    /**
+     * The document being written.
+     */
+    private byte[] buffer = new byte[1024];
+
+    /**
+     * The number of bytes of the document written to the {@link JsonFailureWriter#buffer}.
+     */
+    private int length;
+
+    /**
+     * The number of failures written.
+     */
+    private int failureCount;
+
+    /**
+     * The number of arguments written for the failure being written.
+     */
+    private int argumentCount;
+
+    /**
+     * The failure handler registered for {@link TextParameter} instances.
+     */
+    private final TextHandler textHandler = new TextHandler();
+
+    /**
+     * The failure handler registered for {@link IntParameter} instances.
+     */
+    private final NumberHandler<Integer> intHandler = new NumberHandler<>();
+
+    /**
+     * The failure handler registered for {@link LongParameter} instances.
+     */
+    private final NumberHandler<Long> longHandler = new NumberHandler<>();
+
+    /**
+     * The failure handler registered for {@link FloatParameter} instances.
+     */
+    private final NumberHandler<Float> floatHandler = new NumberHandler<>();
+
+    /**
+     * The failure handler registered for {@link DoubleParameter} instances.
+     */
+    private final NumberHandler<Double> doubleHandler = new NumberHandler<>();
+
+    /**
+     * Creates a new {@link JsonFailureWriter}.
+     */
+    public JsonFailureWriter()
+    {
+        reset();
+    }
+
+    /**
+     * Registers the failure handlers of this {@link JsonFailureWriter} with the provided {@link Parameters}.
+     *
+     * @param parameters The {@link Parameters} whose failures to write.
+     */
+    public void attach(Parameters<N> parameters)
+    {
+        parameters.addTextFailureHandler(textHandler);
+        parameters.addIntFailureHandler(intHandler);
+        parameters.addLongFailureHandler(longHandler);
+        parameters.addFloatFailureHandler(floatHandler);
+        parameters.addDoubleFailureHandler(doubleHandler);
+    }
+
+    /**
+     * Declares the name of a field known up front, so that its bytes are encoded once and then cached for the lifetime
+     * of this {@link JsonFailureWriter}. Names must only be declared by the application, never taken from the request.
+     *
+     * @param name The name to declare.
+     */
+    public void declare(N name)
+    {
+        if (names.containsKey(name))
+            return;
+
+        int start = length;
+        name(name);
+        names.put(name, Arrays.copyOfRange(buffer, start, length));
+        length = start;
+    }
+
+    /**
+     * Writes the failure of a check.
+     *
+     * @param name      The name of the {@link Parameter} on which the check failed.
+     * @param checkCode The {@link CheckCode} of the failed check.
+     * @param arguments The arguments provided to the failed check.
+     */
+    public void write(N name, CheckCode checkCode, Object... arguments)
+    {
+        begin(name, checkCode);
+        for (Object argument : arguments)
+            argument(argument);
+        end();
+    }
+
+    /**
+     * Returns the number of failures written.
+     *
+     * @return The number of failures written.
+     */
+    public int getFailureCount()
+    {
+        return this.failureCount;
+    }
+
+    /**
+     * Returns the number of bytes in the document.
+     *
+     * @return The number of bytes in the document.
+     */
+    public int getContentLength()
+    {
+        return length + SUFFIX.length;
+    }
+
+    /**
+     * Writes the document to the provided {@code out}, using a single write.
+     *
+     * @param out The stream to write the document to.
+     *
+     * @throws IOException When the document cannot be written.
+     */
+    public void writeTo(OutputStream out) throws IOException
+    {
+        put(SUFFIX);
+        try {
+            out.write(buffer, 0, length);
+        } finally {
+            length -= SUFFIX.length;
+        }
+    }
+
+    /**
+     * Writes the document as the body of the provided {@code response}, with the status {@code 400 Bad Request}.
+     *
+     * @param response The response to write the document to.
+     *
+     * @throws IOException When the document cannot be written.
+     */
+    public void writeTo(HttpServletResponse response) throws IOException
+    {
+        response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+        response.setContentType("application/json;charset=UTF-8");
+        response.setContentLength(getContentLength());
+
+        ServletOutputStream out = response.getOutputStream();
+        writeTo(out);
+        out.flush();
+    }
+
+    /**
+     * Discards the failures written, so that the {@link JsonFailureWriter} can be reused. The buffer and the declared
+     * names are kept.
+     */
+    public void reset()
+    {
+        length = 0;
+        failureCount = 0;
+        put(PREFIX);
+    }
+
+    private void begin(N name, CheckCode checkCode)
+    {
+        if (failureCount++ > 0)
+            put((byte) ',');
+
+        byte[] nameBytes = names.get(name);
+        if (nameBytes == null)
+            name(name);
+        else
+            put(nameBytes);
+
+        put(CHECKS[checkCode.ordinal()]);
+        argumentCount = 0;
+    }
+
+    private void name(N name)
+    {
+        put(NAME);
+        string(String.valueOf(name));
+        put((byte) ',');
+    }
+
+    private void end()
+    {
+        put((byte) ']');
+        put((byte) '}');
+    }
+
+    private void separate()
+    {
+        if (argumentCount++ > 0)
+            put((byte) ',');
+    }
+
+    private void argument(long value)
+    {
+        separate();
+        number(value);
+    }
+
+    private void argument(boolean value)
+    {
+        separate();
+        put(value ? TRUE : FALSE);
+    }
+
+    private void argument(Object value)
+    {
+        separate();
+        value(value);
+    }
+
+    private void value(Object value)
+    {
+        if (value == null)
+            put(NULL);
+        else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte)
+            number(((Number) value).longValue());
+        else if (value instanceof Double || value instanceof Float) {
+            double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number))
+                put(NULL);
+            else
+                put(ascii(Double.toString(number)));
+        } else if (value instanceof Number)
+            put(ascii(value.toString()));
+        else if (value instanceof Boolean)
+            put((Boolean) value ? TRUE : FALSE);
+        else if (value instanceof CharSequence)
+            string((CharSequence) value);
+        else if (value instanceof Pattern)
+            string(((Pattern) value).pattern());
+        else if (value instanceof Iterable) {
+            put((byte) '[');
+            boolean first = true;
+            for (Object element : (Iterable<?>) value) {
+                if (!first)
+                    put((byte) ',');
+                value(element);
+                first = false;
+            }
+            put((byte) ']');
+        } else
+            string(value.toString());
+    }
+
+    /**
+     * Writes the provided integer, without allocating.
+     */
+    private void number(long value)
+    {
+        if (value == Long.MIN_VALUE) {
+            put(ascii(Long.toString(value)));
+            return;
+        }
+
+        ensure(20);
+        if (value < 0) {
+            buffer[length++] = '-';
+            value = -value;
+        }
+
+        int digits = 1;
+        for (long x = value; x >= 10; x /= 10)
+            digits++;
+        for (int x = length + digits - 1; x >= length; x--) {
+            buffer[x] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        length += digits;
+    }
+
+    /**
+     * Writes the provided text as a JSON string, encoded as UTF-8.
+     */
+    private void string(CharSequence text)
+    {
+        int textLength = text.length();
+        ensure(textLength * 6 + 2);
+        buffer[length++] = '"';
+        for (int x = 0; x < textLength; x++) {
+            char c = text.charAt(x);
+            if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\')
+                buffer[length++] = (byte) c;
+            else if (c == '"' || c == '\\') {
+                buffer[length++] = '\\';
+                buffer[length++] = (byte) c;
+            } else if (c < 0x20) {
+                buffer[length++] = '\\';
+                buffer[length++] = 'u';
+                buffer[length++] = '0';
+                buffer[length++] = '0';
+                buffer[length++] = HEX[c >> 4];
+                buffer[length++] = HEX[c & 15];
+            } else if (c < 0x800) {
+                buffer[length++] = (byte) (0xC0 | c >> 6);
+                buffer[length++] = (byte) (0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && x + 1 < textLength &&
+                       Character.isLowSurrogate(text.charAt(x + 1))) {
+                int codePoint = Character.toCodePoint(c, text.charAt(++x));
+                buffer[length++] = (byte) (0xF0 | codePoint >> 18);
+                buffer[length++] = (byte) (0x80 | codePoint >> 12 & 0x3F);
+                buffer[length++] = (byte) (0x80 | codePoint >> 6 & 0x3F);
+                buffer[length++] = (byte) (0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c))
+                buffer[length++] = '?';
+            else {
+                buffer[length++] = (byte) (0xE0 | c >> 12);
+                buffer[length++] = (byte) (0x80 | c >> 6 & 0x3F);
+                buffer[length++] = (byte) (0x80 | c & 0x3F);
+            }
+        }
+        buffer[length++] = '"';
+    }
+
+    private void put(byte b)
+    {
+        ensure(1);
+        buffer[length++] = b;
+    }
+
+    private void put(byte[] bytes)
+    {
+        ensure(bytes.length);
+        System.arraycopy(bytes, 0, buffer, length, bytes.length);
+        length += bytes.length;
+    }
+
+    private void ensure(int additional)
+    {
+        if (length + additional > buffer.length)
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + additional));
+    }
+
+    private static byte[] ascii(String text)
+    {
+        return text.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Writes the failures of the checks common to all {@link Parameter} types.
+     */
+    private abstract class GenericHandler<V>
+    {
+
+        void present(GenericParameter<N, V> parameter, CheckCode checkCode)
+        {
+            begin(parameter.getName(), checkCode);
+            end();
+        }
+
+        void compared(GenericParameter<N, V> parameter, CheckCode checkCode, Object other)
+        {
+            begin(parameter.getName(), checkCode);
+            argument(other);
+            end();
+        }
+    }
+
+    /**
+     * Failure handler writing the failures of {@link TextParameter} instances.
+     */
+    private final class TextHandler extends GenericHandler<String> implements TextParameter.FailureHandler<N>
+    {
+
+        @Override public void isPresentFailure(GenericParameter<N, String> parameter)
+        {
+            present(parameter, CheckCode.IS_PRESENT);
+        }
+
+        @Override public void notPresentFailure(GenericParameter<N, String> parameter)
+        {
+            present(parameter, CheckCode.NOT_PRESENT);
+        }
+
+        @Override public void isEqualFailure(GenericParameter<N, String> parameter, String other)
+        {
+            compared(parameter, CheckCode.IS_EQUAL, other);
+        }
+
+        @Override public void notEqualFailure(GenericParameter<N, String> parameter, String other)
+        {
+            compared(parameter, CheckCode.NOT_EQUAL, other);
+        }
+
+        @Override public void isInFailure(GenericParameter<N, String> parameter, Iterable<? extends String> others)
+        {
+            compared(parameter, CheckCode.IS_IN, others);
+        }
+
+        @Override public void notInFailure(GenericParameter<N, String> parameter, List<? extends String> others,
+                                           int collision)
+        {
+            compared(parameter, CheckCode.NOT_IN, others.get(collision));
+        }
+
+        @Override public void checkAsyncFailure(GenericParameter<N, String> parameter, AsyncCheck<? super String> check)
+        {
+            present(parameter, CheckCode.CHECK_ASYNC);
+        }
+
+        @Override public void isGreaterThanFailure(ComparableParameter<N, String> parameter, String lower)
+        {
+            compared(parameter, CheckCode.IS_GREATER_THAN, lower);
+        }
+
+        @Override public void notGreaterThanFailure(ComparableParameter<N, String> parameter, String upper)
+        {
+            compared(parameter, CheckCode.NOT_GREATER_THAN, upper);
+        }
+
+        @Override public void isLessThanFailure(ComparableParameter<N, String> parameter, String upper)
+        {
+            compared(parameter, CheckCode.IS_LESS_THAN, upper);
+        }
+
+        @Override public void notLessThanFailure(ComparableParameter<N, String> parameter, String lower)
+        {
+            compared(parameter, CheckCode.NOT_LESS_THAN, lower);
+        }
+
+        @Override public void isBetweenFailure(ComparableParameter<N, String> parameter, String lower, String upper,
+                                               boolean inclusive)
+        {
+            between(parameter.getName(), CheckCode.IS_BETWEEN, lower, upper, inclusive);
+        }
+
+        @Override public void notBetweenFailure(ComparableParameter<N, String> parameter, String lower, String upper,
+                                                boolean inclusive)
+        {
+            between(parameter.getName(), CheckCode.NOT_BETWEEN, lower, upper, inclusive);
+        }
+
+        @Override public void isEmptyFailure(TextParameter<N> parameter)
+        {
+            present(parameter, CheckCode.IS_EMPTY);
+        }
+
+        @Override public void notEmptyFailure(TextParameter<N> parameter)
+        {
+            present(parameter, CheckCode.NOT_EMPTY);
+        }
+
+        @Override public void isLengthFailure(TextParameter<N> parameter, int check)
+        {
+            length(parameter, CheckCode.IS_LENGTH, check);
+        }
+
+        @Override public void notLengthFailure(TextParameter<N> parameter, int check)
+        {
+            length(parameter, CheckCode.NOT_LENGTH, check);
+        }
+
+        @Override public void isShorterThanFailure(TextParameter<N> parameter, int check)
+        {
+            length(parameter, CheckCode.IS_SHORTER_THAN, check);
+        }
+
+        @Override public void notShorterThanFailure(TextParameter<N> parameter, int lower)
+        {
+            length(parameter, CheckCode.NOT_SHORTER_THAN, lower);
+        }
+
+        @Override public void isLongerThanFailure(TextParameter<N> parameter, int lower)
+        {
+            length(parameter, CheckCode.IS_LONGER_THAN, lower);
+        }
+
+        @Override public void notLongerThanFailure(TextParameter<N> parameter, int lower)
+        {
+            length(parameter, CheckCode.NOT_LONGER_THAN, lower);
+        }
+
+        @Override public void isMatchFailure(TextParameter<N> parameter, Pattern pattern)
+        {
+            compared(parameter, CheckCode.IS_MATCH, pattern);
+        }
+
+        @Override public void notMatchFailure(TextParameter<N> parameter, Pattern pattern)
+        {
+            compared(parameter, CheckCode.NOT_MATCH, pattern);
+        }
+
+        @Override public void isContainedFailure(TextParameter<N> parameter, CharSequence other)
+        {
+            compared(parameter, CheckCode.IS_CONTAINED, other);
+        }
+
+        @Override public void notContainedFailure(TextParameter<N> parameter, CharSequence other)
+        {
+            compared(parameter, CheckCode.NOT_CONTAINED, other);
+        }
+
+        @Override public void isEmailFailure(TextParameter<N> parameter)
+        {
+            present(parameter, CheckCode.IS_EMAIL);
+        }
+
+        @Override public void isUrlFailure(TextParameter<N> parameter)
+        {
+            present(parameter, CheckCode.IS_URL);
+        }
+
+        @Override public void isHostnameFailure(TextParameter<N> parameter)
+        {
+            present(parameter, CheckCode.IS_HOSTNAME);
+        }
+
+        @Override public void isInetAddressFailure(TextParameter<N> parameter)
+        {
+            present(parameter, CheckCode.IS_INET_ADDRESS);
+        }
+
+        @Override public void isAlphanumericFailure(TextParameter<N> parameter, int index)
+        {
+            length(parameter, CheckCode.IS_ALPHANUMERIC, index);
+        }
+
+        @Override public void isDigitsFailure(TextParameter<N> parameter, int index)
+        {
+            length(parameter, CheckCode.IS_DIGITS, index);
+        }
+
+        @Override public void isAsciiPrintableFailure(TextParameter<N> parameter, int index)
+        {
+            length(parameter, CheckCode.IS_ASCII_PRINTABLE, index);
+        }
+
+        @Override public void isInCharsetFailure(TextParameter<N> parameter, CharClass charClass, int index)
+        {
+            length(parameter, CheckCode.IS_IN_CHARSET, index);
+        }
+
+        @Override public void isValidFailure(TextParameter<N> parameter, PureCheck<String> check)
+        {
+            present(parameter, CheckCode.IS_VALID);
+        }
+
+        private void length(TextParameter<N> parameter, CheckCode checkCode, int argument)
+        {
+            begin(parameter.getName(), checkCode);
+            argument(argument);
+            end();
+        }
+    }
+
+    /**
+     * Failure handler writing the failures of {@link NumberParameter} instances of a single numeric type.
+     *
+     * @param <V> The numeric type of the {@link NumberParameter} instances.
+     */
+    private final class NumberHandler<V extends Number & Comparable<V>> extends GenericHandler<V>
+            implements NumberParameter.FailureHandler<N, V>
+    {
+
+        @Override public void isPresentFailure(GenericParameter<N, V> parameter)
+        {
+            present(parameter, CheckCode.IS_PRESENT);
+        }
+
+        @Override public void notPresentFailure(GenericParameter<N, V> parameter)
+        {
+            present(parameter, CheckCode.NOT_PRESENT);
+        }
+
+        @Override public void isEqualFailure(GenericParameter<N, V> parameter, V other)
+        {
+            compared(parameter, CheckCode.IS_EQUAL, other);
+        }
+
+        @Override public void notEqualFailure(GenericParameter<N, V> parameter, V other)
+        {
+            compared(parameter, CheckCode.NOT_EQUAL, other);
+        }
+
+        @Override public void isInFailure(GenericParameter<N, V> parameter, Iterable<? extends V> others)
+        {
+            compared(parameter, CheckCode.IS_IN, others);
+        }
+
+        @Override public void notInFailure(GenericParameter<N, V> parameter, List<? extends V> others, int collision)
+        {
+            compared(parameter, CheckCode.NOT_IN, others.get(collision));
+        }
+
+        @Override public void checkAsyncFailure(GenericParameter<N, V> parameter, AsyncCheck<? super V> check)
+        {
+            present(parameter, CheckCode.CHECK_ASYNC);
+        }
+
+        @Override public void isGreaterThanFailure(ComparableParameter<N, V> parameter, V lower)
+        {
+            compared(parameter, CheckCode.IS_GREATER_THAN, lower);
+        }
+
+        @Override public void notGreaterThanFailure(ComparableParameter<N, V> parameter, V upper)
+        {
+            compared(parameter, CheckCode.NOT_GREATER_THAN, upper);
+        }
+
+        @Override public void isLessThanFailure(ComparableParameter<N, V> parameter, V upper)
+        {
+            compared(parameter, CheckCode.IS_LESS_THAN, upper);
+        }
+
+        @Override public void notLessThanFailure(ComparableParameter<N, V> parameter, V lower)
+        {
+            compared(parameter, CheckCode.NOT_LESS_THAN, lower);
+        }
+
+        @Override public void isBetweenFailure(ComparableParameter<N, V> parameter, V lower, V upper, boolean inclusive)
+        {
+            between(parameter.getName(), CheckCode.IS_BETWEEN, lower, upper, inclusive);
+        }
+
+        @Override public void notBetweenFailure(ComparableParameter<N, V> parameter, V lower, V upper, boolean inclusive)
+        {
+            between(parameter.getName(), CheckCode.NOT_BETWEEN, lower, upper, inclusive);
+        }
+
+        @Override public void isPositiveFailure(NumberParameter<N, V> parameter)
+        {
+            present(parameter, CheckCode.IS_POSITIVE);
+        }
+
+        @Override public void notPositiveFailure(NumberParameter<N, V> parameter)
+        {
+            present(parameter, CheckCode.NOT_POSITIVE);
+        }
+
+        @Override public void isNegativeFailure(NumberParameter<N, V> parameter)
+        {
+            present(parameter, CheckCode.IS_NEGATIVE);
+        }
+
+        @Override public void notNegativeFailure(NumberParameter<N, V> parameter)
+        {
+            present(parameter, CheckCode.NOT_NEGATIVE);
+        }
+    }
+
+    private void between(N name, CheckCode checkCode, Object lower, Object upper, boolean inclusive)
+    {
+        begin(name, checkCode);
+        argument(lower);
+        argument(upper);
+        argument(inclusive);
+        end();
+    }
+}
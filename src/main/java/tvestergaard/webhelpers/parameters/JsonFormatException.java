@@ -0,0 +1,36 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * Thrown when a JSON document read by {@link JsonParameters} is malformed.
+ */
+public class JsonFormatException extends RuntimeException
+{
+
+    /**
+     * The offset of the character at which the malformation was detected.
+     */
+    private final long offset;
+
+    /**
+     * Creates a new {@link JsonFormatException}.
+     *
+     * @param offset  The offset of the character at which the malformation was detected.
+     * @param message The message describing the malformation.
+     */
+    public JsonFormatException(long offset, String message)
+    {
+        super("Offset " + offset + ": " + message);
+
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the offset of the character at which the malformation was detected.
+     *
+     * @return The offset of the character at which the malformation was detected.
+     */
+    public long getOffset()
+    {
+        return this.offset;
+    }
+}
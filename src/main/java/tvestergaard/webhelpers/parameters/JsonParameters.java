@@ -0,0 +1,352 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link Parameters} implementation reading JSON request bodies. The fields are addressed by paths, which must be
+ * declared when the {@link JsonParameters} is created. A path is either dotted, like {@code address.lines.0}, or a JSON
+ * pointer as defined by RFC 6901, like {@code /address/lines/0}. Numeric segments below {@code 10000} address array
+ * elements as well as object members.
+ * <p>
+ * The document is read using a streaming pull parser, and no tree of the document is built. Objects and arrays
+ * containing no declared path are skipped without decoding their contents, so the memory used is proportional to the
+ * declared fields rather than to the document. The scalars at the declared paths are kept as text, and converted into
+ * the requested type of {@link Parameter} when they are retrieved. JSON {@code null}, objects and arrays at declared
+ * paths read as missing values.
+ * <p>
+ * When a member is provided multiple times in the same object, the first value is used.
+ */
+public class JsonParameters extends AbstractStringParameters
+{
+
+    /**
+     * The default maximum nesting depth of objects and arrays.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 256;
+
+    /**
+     * The root of the trie of declared paths.
+     */
+    private final PathNode root = new PathNode();
+
+    /**
+     * The maximum nesting depth of objects and arrays.
+     */
+    private final int maxDepth;
+
+    /**
+     * The values read at the declared paths, keyed by the path as it was declared.
+     */
+    private final Map<String, String> values = new HashMap<>();
+
+    /**
+     * Creates a new {@link JsonParameters}.
+     *
+     * @param paths The paths of the fields to read.
+     *
+     * @throws IllegalArgumentException When one of the paths is malformed.
+     */
+    public JsonParameters(String... paths) throws IllegalArgumentException
+    {
+        this(Arrays.asList(paths), DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a new {@link JsonParameters}.
+     *
+     * @param paths    The paths of the fields to read.
+     * @param maxDepth The maximum nesting depth of objects and arrays in the documents read.
+     *
+     * @throws IllegalArgumentException When one of the paths is malformed.
+     */
+    public JsonParameters(Collection<String> paths, int maxDepth) throws IllegalArgumentException
+    {
+        this.maxDepth = maxDepth;
+
+        for (String path : paths)
+            declare(path);
+    }
+
+    /**
+     * Reads the body of the provided {@code request}, replacing the values read previously.
+     *
+     * @param request The request to read the body of.
+     *
+     * @return This object, for chaining.
+     * @throws IOException         When the body cannot be read.
+     * @throws JsonFormatException When the body is malformed.
+     */
+    public JsonParameters read(HttpServletRequest request) throws IOException, JsonFormatException
+    {
+        return read(request.getReader());
+    }
+
+    /**
+     * Reads the document from the provided {@code reader}, replacing the values read previously.
+     *
+     * @param reader The reader to read the document from.
+     *
+     * @return This object, for chaining.
+     * @throws IOException         When the document cannot be read.
+     * @throws JsonFormatException When the document is malformed.
+     */
+    public JsonParameters read(Reader reader) throws IOException, JsonFormatException
+    {
+        values.clear();
+
+        JsonReader json = new JsonReader(reader, maxDepth);
+        value(json, json.next(), root);
+        if (json.next() != JsonReader.END_DOCUMENT)
+            throw new JsonFormatException(json.offset(), "Unexpected content after the document.");
+
+        return this;
+    }
+
+    /**
+     * Returns the value read at the provided declared path.
+     *
+     * @param name The path, as it was declared.
+     *
+     * @return The value read at the provided declared path, {@code null} when the path was not declared, or the value
+     * was missing, {@code null} or not a scalar.
+     */
+    @Override protected String lookup(String name)
+    {
+        return values.get(name);
+    }
+
+    /**
+     * Reads the value starting with the provided {@code token}, storing the scalars at the declared paths.
+     *
+     * @param json  The reader from which the value is read.
+     * @param token The first token of the value.
+     * @param node  The node of the path to the value, {@code null} when no declared path leads through the value.
+     */
+    private void value(JsonReader json, int token, PathNode node) throws IOException, JsonFormatException
+    {
+        switch (token) {
+            case JsonReader.BEGIN_OBJECT:
+                if (node == null || node.memberCount == 0) {
+                    json.skipContainer();
+                    return;
+                }
+                while ((token = json.next()) != JsonReader.END_OBJECT) {
+                    PathNode member = node.member(json.text());
+                    value(json, json.next(), member);
+                }
+                return;
+            case JsonReader.BEGIN_ARRAY:
+                if (node == null || node.elements.length == 0) {
+                    json.skipContainer();
+                    return;
+                }
+                for (int index = 0; (token = json.next()) != JsonReader.END_ARRAY; index++)
+                    value(json, token, index < node.elements.length ? node.elements[index] : null);
+                return;
+            case JsonReader.STRING:
+            case JsonReader.NUMBER:
+            case JsonReader.TRUE:
+            case JsonReader.FALSE:
+                if (node != null && !node.names.isEmpty()) {
+                    String text = json.text().toString();
+                    for (String name : node.names)
+                        values.putIfAbsent(name, text);
+                }
+                return;
+            case JsonReader.NULL:
+                return;
+            default:
+                throw new JsonFormatException(json.offset(), "Expected a value.");
+        }
+    }
+
+    /**
+     * Adds the provided path to the trie of declared paths.
+     *
+     * @param path The path to add.
+     *
+     * @throws IllegalArgumentException When the path is malformed.
+     */
+    private void declare(String path) throws IllegalArgumentException
+    {
+        PathNode node = root;
+        for (String segment : segments(path)) {
+            PathNode child = node.member(segment);
+            if (child == null)
+                child = node.addMember(segment);
+
+            int index = index(segment);
+            if (index >= 0) {
+                if (index >= node.elements.length)
+                    node.elements = Arrays.copyOf(node.elements, index + 1);
+                node.elements[index] = child;
+            }
+
+            node = child;
+        }
+
+        node.names.add(path);
+    }
+
+    /**
+     * Splits the provided dotted path or JSON pointer into its segments.
+     *
+     * @param path The path to split.
+     *
+     * @return The segments of the path.
+     * @throws IllegalArgumentException When the path is malformed.
+     */
+    static List<String> segments(String path) throws IllegalArgumentException
+    {
+        List<String> segments = new ArrayList<>();
+        if (path.isEmpty())
+            return segments;
+
+        if (path.charAt(0) != '/') {
+            for (String segment : path.split("\\.", -1)) {
+                if (segment.isEmpty())
+                    throw new IllegalArgumentException("The path '" + path + "' contains an empty segment.");
+                segments.add(segment);
+            }
+
+            return segments;
+        }
+
+        for (String segment : path.substring(1).split("/", -1)) {
+            for (int x = segment.indexOf('~'); x >= 0; x = segment.indexOf('~', x + 1)) {
+                if (x + 1 == segment.length() || segment.charAt(x + 1) != '0' && segment.charAt(x + 1) != '1')
+                    throw new IllegalArgumentException("The path '" + path + "' contains a malformed escape.");
+            }
+            segments.add(segment.replace("~1", "/").replace("~0", "~"));
+        }
+
+        return segments;
+    }
+
+    /**
+     * Returns the array index represented by the provided segment.
+     *
+     * @return The array index, {@code -1} when the segment is not an array index.
+     */
+    private static int index(String segment)
+    {
+        int length = segment.length();
+        if (length == 0 || length > 4 || length > 1 && segment.charAt(0) == '0')
+            return -1;
+
+        int result = 0;
+        for (int x = 0; x < length; x++) {
+            int digit = segment.charAt(x) - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    /**
+     * Node in the trie of declared paths.
+     */
+    private static final class PathNode
+    {
+
+        /**
+         * The number of children of the node keyed by object member name.
+         */
+        private int memberCount = 0;
+
+        /**
+         * The object member names of the children, the first {@link PathNode#memberCount} entries are used.
+         */
+        private String[] memberNames = new String[0];
+
+        /**
+         * The hash codes of the object member names of the children, as computed by {@link String#hashCode()}.
+         */
+        private int[] memberHashes = new int[0];
+
+        /**
+         * The children of the node keyed by object member name, in the order of {@link PathNode#memberNames}.
+         */
+        private PathNode[] members = new PathNode[0];
+
+        /**
+         * The children of the node, indexed by array index.
+         */
+        private PathNode[] elements = new PathNode[0];
+
+        /**
+         * The declared paths ending at the node.
+         */
+        private final List<String> names = new ArrayList<>(1);
+
+        /**
+         * Returns the child of the node with the provided object member name. The name is compared character by
+         * character, so the buffered name of the member being read is never copied into a {@code String}.
+         *
+         * @param name The object member name.
+         *
+         * @return The child with the provided object member name, {@code null} when no such child exists.
+         */
+        private PathNode member(CharSequence name)
+        {
+            int length = name.length();
+            int hash   = 0;
+            for (int x = 0; x < length; x++)
+                hash = 31 * hash + name.charAt(x);
+
+            for (int x = 0; x < memberCount; x++)
+                if (memberHashes[x] == hash && equals(memberNames[x], name))
+                    return members[x];
+
+            return null;
+        }
+
+        /**
+         * Adds a new child to the node with the provided object member name.
+         *
+         * @param name The object member name.
+         *
+         * @return The new child.
+         */
+        private PathNode addMember(String name)
+        {
+            if (memberCount == members.length) {
+                int capacity = Math.max(4, memberCount * 2);
+                memberNames = Arrays.copyOf(memberNames, capacity);
+                memberHashes = Arrays.copyOf(memberHashes, capacity);
+                members = Arrays.copyOf(members, capacity);
+            }
+
+            PathNode child = new PathNode();
+            memberNames[memberCount] = name;
+            memberHashes[memberCount] = name.hashCode();
+            members[memberCount] = child;
+            memberCount++;
+
+            return child;
+        }
+
+        private static boolean equals(String a, CharSequence b)
+        {
+            int length = a.length();
+            if (length != b.length())
+                return false;
+
+            for (int x = 0; x < length; x++)
+                if (a.charAt(x) != b.charAt(x))
+                    return false;
+
+            return true;
+        }
+    }
+}
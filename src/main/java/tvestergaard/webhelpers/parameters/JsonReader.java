@@ -0,0 +1,434 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Streaming pull parser for JSON documents as defined by RFC 8259. The document is read through a fixed size buffer,
+ * and {@link JsonReader#next()} returns one token at a time.
+ * <p>
+ * Strings and member names are decoded lazily: their contents are only decoded into the reused text buffer when
+ * {@link JsonReader#text()} is called, and are otherwise skipped. Together with {@link JsonReader#skipContainer()},
+ * this allows callers to pass over the parts of a document they are not interested in without allocating.
+ */
+final class JsonReader
+{
+
+    static final int BEGIN_OBJECT = 1;
+    static final int END_OBJECT   = 2;
+    static final int BEGIN_ARRAY  = 3;
+    static final int END_ARRAY    = 4;
+    static final int NAME         = 5;
+    static final int STRING       = 6;
+    static final int NUMBER       = 7;
+    static final int TRUE         = 8;
+    static final int FALSE        = 9;
+    static final int NULL         = 10;
+    static final int END_DOCUMENT = 11;
+
+    /**
+     * The contexts on the stack of the {@link JsonReader}.
+     */
+    private static final byte EMPTY_DOCUMENT    = 0;
+    private static final byte NONEMPTY_DOCUMENT = 1;
+    private static final byte EMPTY_OBJECT      = 2;
+    private static final byte DANGLING_NAME     = 3;
+    private static final byte NONEMPTY_OBJECT   = 4;
+    private static final byte EMPTY_ARRAY       = 5;
+    private static final byte NONEMPTY_ARRAY    = 6;
+
+    /**
+     * The source of the document.
+     */
+    private final Reader reader;
+
+    /**
+     * The maximum nesting depth of objects and arrays.
+     */
+    private final int maxDepth;
+
+    /**
+     * The buffer through which the document is read.
+     */
+    private final char[] buffer = new char[4096];
+
+    /**
+     * The position of the next character in {@link JsonReader#buffer}.
+     */
+    private int position = 0;
+
+    /**
+     * The number of characters in {@link JsonReader#buffer}.
+     */
+    private int limit = 0;
+
+    /**
+     * The offset in the document of the first character in {@link JsonReader#buffer}.
+     */
+    private long bufferOffset = 0;
+
+    /**
+     * The contexts of the containers currently being read.
+     */
+    private byte[] stack = new byte[16];
+
+    /**
+     * The number of contexts on {@link JsonReader#stack}.
+     */
+    private int depth = 1;
+
+    /**
+     * The decoded text of the current token.
+     */
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Whether or not the contents of the current string or name token have not yet been read.
+     */
+    private boolean pending = false;
+
+    /**
+     * Creates a new {@link JsonReader}.
+     *
+     * @param reader   The source of the document.
+     * @param maxDepth The maximum nesting depth of objects and arrays.
+     */
+    JsonReader(Reader reader, int maxDepth)
+    {
+        this.reader = reader;
+        this.maxDepth = maxDepth;
+        this.stack[0] = EMPTY_DOCUMENT;
+    }
+
+    /**
+     * Reads the next token of the document.
+     *
+     * @return The type of the next token.
+     * @throws IOException         When the document cannot be read.
+     * @throws JsonFormatException When the document is malformed.
+     */
+    int next() throws IOException, JsonFormatException
+    {
+        if (pending)
+            readString(false);
+
+        int c;
+        switch (stack[depth - 1]) {
+            case EMPTY_DOCUMENT:
+                stack[depth - 1] = NONEMPTY_DOCUMENT;
+                return value(nonWhitespace());
+            case NONEMPTY_DOCUMENT:
+                c = skipWhitespace();
+                if (c != -1)
+                    throw error("Unexpected content after the document.");
+                return END_DOCUMENT;
+            case EMPTY_ARRAY:
+                c = nonWhitespace();
+                if (c == ']')
+                    return pop(END_ARRAY);
+                stack[depth - 1] = NONEMPTY_ARRAY;
+                return value(c);
+            case NONEMPTY_ARRAY:
+                c = nonWhitespace();
+                if (c == ']')
+                    return pop(END_ARRAY);
+                if (c != ',')
+                    throw error("Expected ',' or ']'.");
+                return value(nonWhitespace());
+            case EMPTY_OBJECT:
+                c = nonWhitespace();
+                if (c == '}')
+                    return pop(END_OBJECT);
+                return name(c);
+            case NONEMPTY_OBJECT:
+                c = nonWhitespace();
+                if (c == '}')
+                    return pop(END_OBJECT);
+                if (c != ',')
+                    throw error("Expected ',' or '}'.");
+                return name(nonWhitespace());
+            default:
+                if (nonWhitespace() != ':')
+                    throw error("Expected ':'.");
+                stack[depth - 1] = NONEMPTY_OBJECT;
+                return value(nonWhitespace());
+        }
+    }
+
+    /**
+     * Returns the decoded text of the current name, string, number or literal token. The returned {@code CharSequence}
+     * is reused, and is only valid until the next call to {@link JsonReader#next()}.
+     *
+     * @return The decoded text of the current token.
+     * @throws IOException         When the document cannot be read.
+     * @throws JsonFormatException When the document is malformed.
+     */
+    CharSequence text() throws IOException, JsonFormatException
+    {
+        if (pending)
+            readString(true);
+
+        return text;
+    }
+
+    /**
+     * Skips the rest of the object or array that was started by the last token returned from
+     * {@link JsonReader#next()}, without decoding its contents.
+     *
+     * @throws IOException         When the document cannot be read.
+     * @throws JsonFormatException When the document is malformed.
+     */
+    void skipContainer() throws IOException, JsonFormatException
+    {
+        int target = depth - 1;
+        while (depth > target) {
+            int token = next();
+            if (token == END_DOCUMENT)
+                throw error("Unexpected end of the document.");
+        }
+    }
+
+    /**
+     * Returns the offset in the document of the next character.
+     *
+     * @return The offset in the document of the next character.
+     */
+    long offset()
+    {
+        return bufferOffset + position;
+    }
+
+    private int value(int c) throws IOException, JsonFormatException
+    {
+        switch (c) {
+            case '{':
+                return push(EMPTY_OBJECT, BEGIN_OBJECT);
+            case '[':
+                return push(EMPTY_ARRAY, BEGIN_ARRAY);
+            case '"':
+                pending = true;
+                return STRING;
+            case 't':
+                return literal("true", TRUE);
+            case 'f':
+                return literal("false", FALSE);
+            case 'n':
+                return literal("null", NULL);
+            default:
+                if (c == '-' || c >= '0' && c <= '9')
+                    return number(c);
+                throw error(c == -1 ? "Unexpected end of the document." : "Expected a value.");
+        }
+    }
+
+    private int name(int c) throws JsonFormatException
+    {
+        if (c != '"')
+            throw error("Expected a member name.");
+
+        stack[depth - 1] = DANGLING_NAME;
+        pending = true;
+        return NAME;
+    }
+
+    private int push(byte context, int token) throws JsonFormatException
+    {
+        if (depth > maxDepth)
+            throw error("The document exceeds the maximum depth of " + maxDepth + ".");
+
+        if (depth == stack.length)
+            stack = Arrays.copyOf(stack, stack.length * 2);
+
+        stack[depth++] = context;
+        return token;
+    }
+
+    private int pop(int token)
+    {
+        depth--;
+        return token;
+    }
+
+    private int literal(String literal, int token) throws IOException, JsonFormatException
+    {
+        text.setLength(0);
+        text.append(literal.charAt(0));
+        for (int x = 1; x < literal.length(); x++) {
+            if (read() != literal.charAt(x))
+                throw error("Expected '" + literal + "'.");
+            text.append(literal.charAt(x));
+        }
+
+        return token;
+    }
+
+    /**
+     * Reads a number, validating it against the grammar {@code -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?}.
+     */
+    private int number(int c) throws IOException, JsonFormatException
+    {
+        text.setLength(0);
+        text.append((char) c);
+        if (c == '-') {
+            c = read();
+            if (c < '0' || c > '9')
+                throw error("Expected a digit.");
+            text.append((char) c);
+        }
+
+        if (c != '0')
+            digits(false);
+        else if (peek() >= '0' && peek() <= '9')
+            throw error("Leading zeros are not allowed.");
+
+        if (peek() == '.') {
+            text.append((char) read());
+            digits(true);
+        }
+
+        if (peek() == 'e' || peek() == 'E') {
+            text.append((char) read());
+            if (peek() == '+' || peek() == '-')
+                text.append((char) read());
+            digits(true);
+        }
+
+        return NUMBER;
+    }
+
+    private void digits(boolean required) throws IOException, JsonFormatException
+    {
+        int count = 0;
+        for (int c = peek(); c >= '0' && c <= '9'; c = peek(), count++)
+            text.append((char) read());
+
+        if (required && count == 0)
+            throw error("Expected a digit.");
+    }
+
+    /**
+     * Reads the rest of the current string or name, decoding it into {@link JsonReader#text} when requested.
+     */
+    private void readString(boolean decode) throws IOException, JsonFormatException
+    {
+        pending = false;
+        text.setLength(0);
+
+        while (true) {
+            if (position == limit && !fill())
+                throw error("Unterminated string.");
+
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == '"' || c == '\\' || c < 0x20)
+                    break;
+                position++;
+            }
+
+            if (decode)
+                text.append(buffer, start, position - start);
+            if (position == limit)
+                continue;
+
+            char c = buffer[position++];
+            if (c == '"')
+                return;
+            if (c < 0x20)
+                throw error("Unescaped control character in string.");
+
+            char escaped = escape();
+            if (decode)
+                text.append(escaped);
+        }
+    }
+
+    private char escape() throws IOException, JsonFormatException
+    {
+        int c = read();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                int result = 0;
+                for (int x = 0; x < 4; x++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0)
+                        throw error("Malformed unicode escape.");
+                    result = result << 4 | digit;
+                }
+                return (char) result;
+            default:
+                throw error("Malformed escape sequence.");
+        }
+    }
+
+    private int nonWhitespace() throws IOException, JsonFormatException
+    {
+        int c = skipWhitespace();
+        if (c == -1)
+            throw error("Unexpected end of the document.");
+
+        return c;
+    }
+
+    private int skipWhitespace() throws IOException
+    {
+        while (true) {
+            int c = read();
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t')
+                return c;
+        }
+    }
+
+    private int read() throws IOException
+    {
+        if (position == limit && !fill())
+            return -1;
+
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException
+    {
+        if (position == limit && !fill())
+            return -1;
+
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException
+    {
+        bufferOffset += limit;
+        position = 0;
+        limit = 0;
+
+        int read;
+        while ((read = reader.read(buffer)) == 0)
+            ;
+
+        if (read < 0)
+            return false;
+
+        limit = read;
+        return true;
+    }
+
+    private JsonFormatException error(String message)
+    {
+        return new JsonFormatException(offset(), message);
+    }
+}
@@ -0,0 +1,201 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * The units in which the length of a text is measured by the length checks of {@link TextParameter}.
+ * <p>
+ * The lengths are measured up to a limit. Once the length of the text is known to exceed the limit, the measuring
+ * stops, so that long texts checked against short limits are not scanned in full. Each mode first detects the texts
+ * for which it can tell the length from the number of UTF-16 units, and only inspects the characters of the remaining
+ * texts.
+ */
+public enum LengthMode
+{
+
+    /**
+     * Measures the length in UTF-16 units, like {@code String#length()}.
+     */
+    UTF16,
+
+    /**
+     * Measures the length in Unicode code points. Unpaired surrogates count as one code point each.
+     */
+    CODE_POINTS,
+
+    /**
+     * Measures the length in bytes of the UTF-8 encoding of the text. Unpaired surrogates count as one byte each, as
+     * they are replaced by {@code '?'} when encoded by {@code StandardCharsets#UTF_8}.
+     */
+    UTF8_BYTES,
+
+    /**
+     * Measures the length in extended grapheme clusters, the characters perceived by users. The clusters are segmented
+     * by a subset of the rules of Unicode Standard Annex #29: {@code CR LF} is kept together, marks, variation
+     * selectors, emoji modifiers, tags and joiners extend the preceding cluster, a code point following a zero width
+     * joiner continues the cluster, and regional indicators pair up into flags. Conjoining Hangul jamo and prepended
+     * characters are counted as clusters of their own.
+     */
+    GRAPHEMES;
+
+    /**
+     * Measures the length of the provided {@code text}.
+     *
+     * @param text The text to measure.
+     *
+     * @return The length of the text.
+     */
+    public long length(CharSequence text)
+    {
+        return length(text, Long.MAX_VALUE - 4);
+    }
+
+    /**
+     * Measures the length of the provided {@code text}, stopping once the length is known to exceed the provided
+     * {@code limit}.
+     *
+     * @param text  The text to measure.
+     * @param limit The length beyond which the measuring stops.
+     *
+     * @return The length of the text when it does not exceed the {@code limit}, otherwise some value greater than the
+     * {@code limit}.
+     */
+    public long length(CharSequence text, long limit)
+    {
+        int length = text.length();
+        switch (this) {
+            case UTF16:
+                return length;
+            case CODE_POINTS:
+                return length / 2 > limit ? length : codePoints(text, length);
+            case UTF8_BYTES:
+                return length > limit ? length : utf8Bytes(text, length, limit);
+            default:
+                return graphemes(text, length, limit);
+        }
+    }
+
+    /**
+     * Counts the code points in the provided {@code text}, which is the number of UTF-16 units less the number of
+     * surrogate pairs.
+     */
+    private static long codePoints(CharSequence text, int length)
+    {
+        int pairs = 0;
+        for (int x = 0; x < length - 1; x++) {
+            if (Character.isHighSurrogate(text.charAt(x)) && Character.isLowSurrogate(text.charAt(x + 1))) {
+                pairs++;
+                x++;
+            }
+        }
+
+        return length - pairs;
+    }
+
+    /**
+     * Counts the bytes in the UTF-8 encoding of the provided {@code text}, stopping once the {@code limit} is exceeded.
+     */
+    private static long utf8Bytes(CharSequence text, int length, long limit)
+    {
+        int position = 0;
+        while (position < length && text.charAt(position) < 0x80)
+            position++;
+        if (position == length)
+            return length;
+
+        long bytes = position;
+        for (; position < length && bytes <= limit; position++) {
+            char c = text.charAt(position);
+            if (c < 0x80)
+                bytes += 1;
+            else if (c < 0x800)
+                bytes += 2;
+            else if (!Character.isSurrogate(c))
+                bytes += 3;
+            else if (Character.isHighSurrogate(c) && position + 1 < length &&
+                     Character.isLowSurrogate(text.charAt(position + 1))) {
+                bytes += 4;
+                position++;
+            } else
+                bytes += 1;
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Counts the grapheme clusters in the provided {@code text}, stopping once the {@code limit} is exceeded.
+     */
+    private static long graphemes(CharSequence text, int length, long limit)
+    {
+        int position = 0;
+        while (position < length && isSimple(text.charAt(position)))
+            position++;
+        if (position == length)
+            return length;
+
+        long    clusters   = position;
+        int     previous   = position > 0 ? text.charAt(position - 1) : -1;
+        boolean joined     = false;
+        int     indicators = 0;
+        while (position < length && clusters <= limit) {
+            int codePoint = Character.codePointAt(text, position);
+            position += Character.charCount(codePoint);
+
+            boolean regional = codePoint >= 0x1F1E6 && codePoint <= 0x1F1FF;
+            boolean extend   = isExtend(codePoint);
+            boolean breaks;
+            if (previous < 0)
+                breaks = true;
+            else if (previous == '\r')
+                breaks = codePoint != '\n';
+            else if (codePoint == '\r' || codePoint == '\n' || isControl(previous) || isControl(codePoint))
+                breaks = true;
+            else if (extend)
+                breaks = false;
+            else if (joined)
+                breaks = false;
+            else
+                breaks = !(regional && indicators % 2 == 1);
+
+            if (breaks)
+                clusters++;
+            indicators = regional ? indicators + 1 : extend ? indicators : 0;
+            joined = codePoint == 0x200D;
+            previous = codePoint;
+        }
+
+        return clusters;
+    }
+
+    /**
+     * Checks whether the provided character always forms a grapheme cluster of its own, when followed by another
+     * such character.
+     */
+    private static boolean isSimple(char c)
+    {
+        return c < 0x300 && c != '\r';
+    }
+
+    private static boolean isControl(int codePoint)
+    {
+        return codePoint < 0x20 || codePoint >= 0x7F && codePoint < 0xA0 || codePoint == 0x2028 || codePoint == 0x2029;
+    }
+
+    /**
+     * Checks whether the provided code point extends the preceding grapheme cluster.
+     */
+    private static boolean isExtend(int codePoint)
+    {
+        if (codePoint < 0x300)
+            return false;
+        if (codePoint == 0x200C || codePoint == 0x200D)
+            return true;
+        if (codePoint >= 0xFE00 && codePoint <= 0xFE0F || codePoint >= 0x1F3FB && codePoint <= 0x1F3FF)
+            return true;
+        if (codePoint >= 0xE0020 && codePoint <= 0xE007F || codePoint >= 0xE0100 && codePoint <= 0xE01EF)
+            return true;
+
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK ||
+               type == Character.COMBINING_SPACING_MARK;
+    }
+}
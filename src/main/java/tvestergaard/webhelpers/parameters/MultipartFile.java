@@ -0,0 +1,100 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.nio.ByteBuffer;
+
+/**
+ * File part read from a {@code multipart/form-data} body by {@link MultipartParameters}. The content of small files is
+ * kept on the heap, while the content of files exceeding the spill threshold of the {@link MultipartParameters} is kept
+ * in a memory-mapped temporary file.
+ */
+public final class MultipartFile
+{
+
+    /**
+     * The name of the field of the file.
+     */
+    private final String name;
+
+    /**
+     * The file name provided by the client, which may be empty.
+     */
+    private final String filename;
+
+    /**
+     * The content type provided by the client, {@code null} when no content type was provided.
+     */
+    private final String contentType;
+
+    /**
+     * The content of the file.
+     */
+    private final ByteBuffer content;
+
+    MultipartFile(String name, String filename, String contentType, ByteBuffer content)
+    {
+        this.name = name;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.content = content;
+    }
+
+    /**
+     * Returns the name of the field of the file.
+     *
+     * @return The name of the field of the file.
+     */
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Returns the file name provided by the client. The file name is not sanitized, and must not be used as a path.
+     *
+     * @return The file name provided by the client, which may be empty.
+     */
+    public String getFilename()
+    {
+        return this.filename;
+    }
+
+    /**
+     * Returns the content type provided by the client.
+     *
+     * @return The content type provided by the client, {@code null} when no content type was provided.
+     */
+    public String getContentType()
+    {
+        return this.contentType;
+    }
+
+    /**
+     * Returns the size of the file in bytes.
+     *
+     * @return The size of the file in bytes.
+     */
+    public int getSize()
+    {
+        return content.remaining();
+    }
+
+    /**
+     * Returns a read-only view of the content of the file, positioned at the first byte.
+     *
+     * @return A read-only view of the content of the file.
+     */
+    public ByteBuffer getContent()
+    {
+        return content.duplicate();
+    }
+
+    /**
+     * Returns whether or not the content of the file is kept in a memory-mapped temporary file.
+     *
+     * @return {@code true} if the content of the file is kept in a memory-mapped temporary file.
+     */
+    public boolean isSpilled()
+    {
+        return content.isDirect();
+    }
+}
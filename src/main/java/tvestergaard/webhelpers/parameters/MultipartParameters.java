@@ -0,0 +1,588 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * {@link Parameters} implementation reading {@code multipart/form-data} request bodies using non-blocking IO. The body
+ * is scanned for part boundaries as the bytes arrive, and the container never buffers the parts.
+ * <p>
+ * Parts without a file name are text fields, which are available through the methods of {@link Parameters}. Checks
+ * added using {@link MultipartParameters#addFieldCheck(String, Consumer)} are performed as soon as their field has been
+ * read, and the body is rejected as soon as such a check fails. Parts with a file name are available through
+ * {@link MultipartParameters#getFile(String)}. Files larger than the spill threshold are written to a memory-mapped
+ * temporary file instead of the heap. The temporary file is deleted right away, and its space is released when the
+ * {@link MultipartFile} is garbage collected.
+ * <p>
+ * When the body violates one of the guardrails provided to the constructor, or a field check fails, the
+ * {@code CompletionStage} returned from {@link MultipartParameters#read(HttpServletRequest)} completes exceptionally
+ * with a {@link FormRejectedException}, and the rest of the body is not read. When a field is provided multiple times,
+ * the first value is used.
+ */
+public class MultipartParameters extends AbstractStringParameters
+{
+
+    /**
+     * The maximum number of bytes in the header block of a single part, including the line breaks and the empty line
+     * ending the block.
+     */
+    private static final int MAX_HEADER_BYTES = 8192;
+
+    /**
+     * The text fields read from the body.
+     */
+    private final Map<String, String> fields = new HashMap<>();
+
+    /**
+     * The files read from the body.
+     */
+    private final Map<String, MultipartFile> files = new HashMap<>();
+
+    /**
+     * The checks performed on the text fields as they are read.
+     */
+    private final Map<String, Consumer<TextParameter<String>>> fieldChecks = new HashMap<>();
+
+    /**
+     * The maximum number of bytes in the body.
+     */
+    private final long maxBodyBytes;
+
+    /**
+     * The maximum number of parts in the body.
+     */
+    private final int maxParts;
+
+    /**
+     * The maximum number of bytes in a single text field.
+     */
+    private final int maxFieldBytes;
+
+    /**
+     * The maximum number of bytes in a single file.
+     */
+    private final int maxFileBytes;
+
+    /**
+     * The number of bytes above which the content of a file is moved from the heap to a memory-mapped temporary file.
+     */
+    private final int spillThreshold;
+
+    /**
+     * Creates a new {@link MultipartParameters}.
+     *
+     * @param maxBodyBytes   The maximum number of bytes in the body.
+     * @param maxParts       The maximum number of parts in the body.
+     * @param maxFieldBytes  The maximum number of bytes in a single text field.
+     * @param maxFileBytes   The maximum number of bytes in a single file.
+     * @param spillThreshold The number of bytes above which the content of a file is moved from the heap to a
+     *                       memory-mapped temporary file.
+     */
+    public MultipartParameters(long maxBodyBytes, int maxParts, int maxFieldBytes, int maxFileBytes, int spillThreshold)
+    {
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxParts = maxParts;
+        this.maxFieldBytes = maxFieldBytes;
+        this.maxFileBytes = maxFileBytes;
+        this.spillThreshold = spillThreshold;
+    }
+
+    /**
+     * Adds a check to perform on the text field with the provided {@code name} as soon as it has been read. The body is
+     * rejected when the checks performed by the {@code check} fail.
+     *
+     * @param name  The name of the text field to check.
+     * @param check The consumer performing the checks on the text field.
+     */
+    public void addFieldCheck(String name, Consumer<TextParameter<String>> check)
+    {
+        fieldChecks.put(name, check);
+    }
+
+    /**
+     * Starts reading the body of the provided {@code request}, putting the request into asynchronous mode when needed.
+     *
+     * @param request The request to read the body of.
+     *
+     * @return The {@code CompletionStage} completed with this object once the body has been read, or completed
+     * exceptionally with a {@link FormRejectedException} when the body is rejected.
+     * @throws IOException When the body of the request cannot be read.
+     */
+    public CompletionStage<Parameters<String>> read(HttpServletRequest request) throws IOException
+    {
+        String boundary = request.getContentType() == null ? null : parameter(request.getContentType(), "boundary");
+        if (boundary == null || boundary.isEmpty() || boundary.length() > 70) {
+            CompletableFuture<Parameters<String>> result = new CompletableFuture<>();
+            result.completeExceptionally(new FormRejectedException(null, "The body has no valid multipart boundary."));
+            return result;
+        }
+
+        if (!request.isAsyncStarted())
+            request.startAsync();
+
+        String       encoding = request.getCharacterEncoding();
+        Charset      charset  = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        BodyListener listener = new BodyListener(request.getInputStream(), boundary, charset);
+        listener.input.setReadListener(listener);
+
+        return listener.result;
+    }
+
+    /**
+     * Returns the file with the provided {@code name}.
+     *
+     * @param name The name of the field of the file.
+     *
+     * @return The file with the provided {@code name}, {@code null} when no such file was read.
+     */
+    public MultipartFile getFile(String name)
+    {
+        return files.get(name);
+    }
+
+    /**
+     * Returns the value of the text field with the provided {@code name}.
+     *
+     * @param name The name of the text field to return the value of.
+     *
+     * @return The value of the text field with the provided {@code name}, {@code null} when no such field was read.
+     */
+    @Override protected String lookup(String name)
+    {
+        return fields.get(name);
+    }
+
+    /**
+     * Returns the value of the parameter with the provided {@code key} from a header value like
+     * {@code form-data; name="field"; filename="a.txt"}. Parameter values may be quoted.
+     *
+     * @param header The header value to read the parameter from.
+     * @param key    The key of the parameter, matched ignoring case.
+     *
+     * @return The value of the parameter, {@code null} when the header has no such parameter.
+     */
+    static String parameter(String header, String key)
+    {
+        int length   = header.length();
+        int position = header.indexOf(';');
+        while (position >= 0) {
+            int equals = header.indexOf('=', position);
+            int next   = header.indexOf(';', position + 1);
+            if (equals < 0 || next >= 0 && next < equals) {
+                position = next;
+                continue;
+            }
+
+            String name  = header.substring(position + 1, equals).trim();
+            String value;
+            int    start = equals + 1;
+            while (start < length && header.charAt(start) == ' ')
+                start++;
+
+            if (start < length && header.charAt(start) == '"') {
+                StringBuilder quoted = new StringBuilder();
+                for (position = start + 1; position < length && header.charAt(position) != '"'; position++) {
+                    if (header.charAt(position) == '\\' && position + 1 < length)
+                        position++;
+                    quoted.append(header.charAt(position));
+                }
+                value = quoted.toString();
+                next = header.indexOf(';', position);
+            } else {
+                value = header.substring(start, next < 0 ? length : next).trim();
+            }
+
+            if (name.equalsIgnoreCase(key))
+                return value;
+            position = next;
+        }
+
+        return null;
+    }
+
+    /**
+     * The {@code ReadListener} scanning the body for boundaries as the bytes arrive.
+     */
+    private final class BodyListener implements ReadListener
+    {
+
+        private static final int PREAMBLE        = 0;
+        private static final int AFTER_DELIMITER = 1;
+        private static final int HEADERS         = 2;
+        private static final int CONTENT         = 3;
+        private static final int EPILOGUE        = 4;
+
+        /**
+         * The stream from which the body is read.
+         */
+        private final ServletInputStream input;
+
+        /**
+         * The delimiter separating the parts, {@code CRLF--boundary}.
+         */
+        private final byte[] delimiter;
+
+        /**
+         * The character set used to decode the headers and text fields.
+         */
+        private final Charset charset;
+
+        /**
+         * The {@code CompletionStage} completed when the body has been read or rejected.
+         */
+        private final CompletableFuture<Parameters<String>> result = new CompletableFuture<>();
+
+        /**
+         * The buffer into which the body is read.
+         */
+        private final byte[] buffer = new byte[8192];
+
+        /**
+         * The state of the scanner.
+         */
+        private int state = PREAMBLE;
+
+        /**
+         * The number of bytes of the delimiter matched so far. The body is treated as if it started with a line break,
+         * so the first delimiter may start at the first byte.
+         */
+        private int matched = 2;
+
+        /**
+         * The bytes of the header line or the part currently being read.
+         */
+        private byte[] token = new byte[256];
+
+        /**
+         * The number of bytes in {@link BodyListener#token}.
+         */
+        private int tokenLength = 0;
+
+        /**
+         * The number of bytes read from the header block of the part currently being read.
+         */
+        private int headerBytes = 0;
+
+        /**
+         * The memory-mapped content of the file currently being read, when it has been spilled.
+         */
+        private MappedByteBuffer spill;
+
+        /**
+         * The name of the part currently being read.
+         */
+        private String name;
+
+        /**
+         * The file name of the part currently being read, {@code null} when the part is a text field.
+         */
+        private String filename;
+
+        /**
+         * The content type of the part currently being read.
+         */
+        private String contentType;
+
+        /**
+         * The number of bytes read from the body.
+         */
+        private long bodyBytes = 0;
+
+        /**
+         * The number of parts read from the body.
+         */
+        private int partCount = 0;
+
+        /**
+         * Whether or not the body has been read or rejected.
+         */
+        private boolean done = false;
+
+        BodyListener(ServletInputStream input, String boundary, Charset charset)
+        {
+            this.input = input;
+            this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+            this.charset = charset;
+        }
+
+        @Override public void onDataAvailable() throws IOException
+        {
+            int read;
+            while (!done && input.isReady() && (read = input.read(buffer)) != -1) {
+                bodyBytes += read;
+                if (bodyBytes > maxBodyBytes) {
+                    reject(null, "The body exceeds " + maxBodyBytes + " bytes.");
+                    return;
+                }
+
+                for (int x = 0; x < read && !done; x++)
+                    accept(buffer[x]);
+            }
+        }
+
+        @Override public void onAllDataRead() throws IOException
+        {
+            if (done)
+                return;
+
+            if (state != EPILOGUE) {
+                reject(name, "The body ends before the closing boundary.");
+                return;
+            }
+
+            done = true;
+            result.complete(MultipartParameters.this);
+        }
+
+        @Override public void onError(Throwable t)
+        {
+            if (!done) {
+                done = true;
+                result.completeExceptionally(t);
+            }
+        }
+
+        /**
+         * Scans the provided byte of the body.
+         *
+         * @param b The byte to scan.
+         */
+        private void accept(byte b) throws IOException
+        {
+            switch (state) {
+                case PREAMBLE:
+                case CONTENT:
+                    scan(b);
+                    break;
+                case AFTER_DELIMITER:
+                    afterDelimiter(b);
+                    break;
+                case HEADERS:
+                    header(b);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        /**
+         * Matches the provided byte against the delimiter, passing bytes that turn out not to be part of a delimiter
+         * to the part currently being read.
+         */
+        private void scan(byte b) throws IOException
+        {
+            if (b == delimiter[matched]) {
+                if (++matched == delimiter.length) {
+                    matched = 0;
+                    if (state == CONTENT)
+                        endPart();
+                    if (!done)
+                        state = AFTER_DELIMITER;
+                }
+                return;
+            }
+
+            // The delimiter contains no CR after its first byte, so a partial match can only restart at this byte.
+            if (matched > 0) {
+                for (int x = 0; x < matched && !done; x++)
+                    content(delimiter[x]);
+                matched = 0;
+            }
+
+            if (b == delimiter[0])
+                matched = 1;
+            else
+                content(b);
+        }
+
+        /**
+         * Reads the two bytes following a delimiter, which are either {@code CRLF} starting a part or {@code --}
+         * closing the body.
+         */
+        private void afterDelimiter(byte b)
+        {
+            if (tokenLength == 0) {
+                if (b != '\r' && b != '-') {
+                    reject(null, "Malformed multipart boundary.");
+                    return;
+                }
+                token[tokenLength++] = b;
+                return;
+            }
+
+            byte first = token[0];
+            tokenLength = 0;
+            if (first == '-' && b == '-') {
+                state = EPILOGUE;
+            } else if (first == '\r' && b == '\n') {
+                if (++partCount > maxParts) {
+                    reject(null, "The body exceeds " + maxParts + " parts.");
+                    return;
+                }
+                name = null;
+                filename = null;
+                contentType = null;
+                state = HEADERS;
+            } else {
+                reject(null, "Malformed multipart boundary.");
+            }
+        }
+
+        /**
+         * Reads the provided byte of the headers of the current part.
+         */
+        private void header(byte b)
+        {
+            if (++headerBytes > MAX_HEADER_BYTES) {
+                reject(name, "The headers of a part exceed " + MAX_HEADER_BYTES + " bytes.");
+                return;
+            }
+
+            if (tokenLength == token.length)
+                token = Arrays.copyOf(token, Math.min(token.length * 2, MAX_HEADER_BYTES));
+            token[tokenLength++] = b;
+
+            if (b != '\n' || tokenLength < 2 || token[tokenLength - 2] != '\r')
+                return;
+
+            String line = new String(token, 0, tokenLength - 2, charset);
+            tokenLength = 0;
+            if (!line.isEmpty()) {
+                int colon = line.indexOf(':');
+                if (colon < 0) {
+                    reject(name, "Malformed part header.");
+                    return;
+                }
+
+                String header = line.substring(0, colon).trim();
+                String value  = line.substring(colon + 1).trim();
+                if (header.equalsIgnoreCase("Content-Disposition")) {
+                    name = parameter(value, "name");
+                    filename = parameter(value, "filename");
+                } else if (header.equalsIgnoreCase("Content-Type")) {
+                    contentType = value;
+                }
+
+                return;
+            }
+
+            if (name == null) {
+                reject(null, "A part has no name.");
+                return;
+            }
+
+            spill = null;
+            headerBytes = 0;
+            state = CONTENT;
+        }
+
+        /**
+         * Appends the provided byte to the content of the current part, enforcing the size limits of the part and
+         * spilling files exceeding the spill threshold.
+         */
+        private void content(byte b) throws IOException
+        {
+            if (state != CONTENT)
+                return;
+
+            if (spill != null) {
+                if (!spill.hasRemaining()) {
+                    reject(name, "The file '" + name + "' exceeds " + maxFileBytes + " bytes.");
+                    return;
+                }
+                spill.put(b);
+                return;
+            }
+
+            int limit = filename == null ? maxFieldBytes : maxFileBytes;
+            if (tokenLength == limit) {
+                reject(name, (filename == null ? "The field '" : "The file '") + name + "' exceeds " + limit + " bytes.");
+                return;
+            }
+
+            if (filename != null && tokenLength == spillThreshold) {
+                spill();
+                spill.put(b);
+                return;
+            }
+
+            if (tokenLength == token.length)
+                token = Arrays.copyOf(token, Math.min(token.length * 2, limit));
+            token[tokenLength++] = b;
+        }
+
+        /**
+         * Moves the content of the current file into a memory-mapped temporary file sized for the largest file. The
+         * file is deleted when its channel is closed, which leaves the mapping valid.
+         */
+        private void spill() throws IOException
+        {
+            try (FileChannel channel = FileChannel.open(Files.createTempFile("multipart", ".part"),
+                                                        StandardOpenOption.READ, StandardOpenOption.WRITE,
+                                                        StandardOpenOption.DELETE_ON_CLOSE)) {
+                spill = channel.map(FileChannel.MapMode.READ_WRITE, 0, maxFileBytes);
+            }
+
+            spill.put(token, 0, tokenLength);
+            tokenLength = 0;
+        }
+
+        /**
+         * Completes the part currently being read, performing the checks added for text fields.
+         */
+        private void endPart()
+        {
+            if (filename != null) {
+                ByteBuffer content;
+                if (spill != null) {
+                    spill.flip();
+                    content = spill.asReadOnlyBuffer();
+                    spill = null;
+                } else {
+                    content = ByteBuffer.wrap(Arrays.copyOf(token, tokenLength)).asReadOnlyBuffer();
+                }
+                tokenLength = 0;
+                files.putIfAbsent(name, new MultipartFile(name, filename, contentType, content));
+                return;
+            }
+
+            String value = new String(token, 0, tokenLength, charset);
+            tokenLength = 0;
+            if (fields.putIfAbsent(name, value) != null)
+                return;
+
+            Consumer<TextParameter<String>> check = fieldChecks.get(name);
+            if (check != null && !onText(name, check))
+                reject(name, "The field '" + name + "' failed its checks.");
+        }
+
+        /**
+         * Rejects the body, completing {@link BodyListener#result} exceptionally.
+         *
+         * @param name    The name of the part that caused the rejection, {@code null} when the rejection was not caused
+         *                by a single part.
+         * @param message The message describing why the body was rejected.
+         */
+        private void reject(String name, String message)
+        {
+            done = true;
+            spill = null;
+            result.completeExceptionally(new FormRejectedException(name, message));
+        }
+    }
+}
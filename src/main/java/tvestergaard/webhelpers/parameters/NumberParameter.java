@@ -1,7 +1,5 @@
 package tvestergaard.webhelpers.parameters;
 
-import java.util.Arrays;
-
 /**
  * {@link Parameter} implementation for values of type {@code Number}.
  *
@@ -164,7 +162,13 @@ public abstract class NumberParameter<N, V extends Number & Comparable<V>> exten
      */
     public boolean notPositive(NotPositiveFailureCallback<N, V> failureCallback)
     {
-        return notPositive(Arrays.asList(failureCallback));
+        boolean result = value.compareTo(zero) <= 0;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.notPositiveFailure(this);
+        }
+
+        return result;
     }
 
     /**
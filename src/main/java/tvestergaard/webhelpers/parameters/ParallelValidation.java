@@ -0,0 +1,153 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Validates large numbers of fields in parallel. The fields are split into chunks, which are validated as tasks on a
+ * {@code ForkJoinPool}. Each chunk validates its fields using its own instance of {@link Parameter}, rebound to each of
+ * its fields, whose only failure handler is a {@link FailureRecorder}. Once a chunk completes, the failures it recorded
+ * are replayed to the actual failure handlers on the calling thread, so the failure handlers are notified in the order
+ * of the fields, from a single thread, just like when the fields are validated one by one.
+ */
+final class ParallelValidation
+{
+
+    /**
+     * The smallest number of fields validated by a single task.
+     */
+    static final int MIN_CHUNK_SIZE = 256;
+
+    /**
+     * The number of tasks created per thread of the {@code ForkJoinPool}, so that the threads finishing early can take
+     * over the remaining tasks.
+     */
+    private static final int TASKS_PER_THREAD = 4;
+
+    private ParallelValidation()
+    {
+
+    }
+
+    /**
+     * Validates the provided fields in parallel.
+     *
+     * @param pool      The {@code ForkJoinPool} to validate the fields on.
+     * @param names     The names of the fields.
+     * @param values    The values of the fields, as looked up on the calling thread.
+     * @param converter The function converting the values of the fields, throwing a
+     *                  {@link ParameterConversionException} when a value cannot be converted.
+     * @param factory   The factory creating an unbound {@link Parameter} with the provided failure handlers.
+     * @param recorders The factory creating the {@link FailureRecorder} of each chunk.
+     * @param handlers  The actual failure handlers.
+     * @param consumer  The consumer performing the checks on the fields.
+     * @param <N>       The type of the names of the fields.
+     * @param <V>       The type of the converted values of the fields.
+     * @param <P>       The type of the {@link Parameter} the fields are validated using.
+     * @param <H>       The type of the failure handlers of the {@link Parameter}.
+     *
+     * @return {@code true} when the checks performed on all the fields passed.
+     * @throws RuntimeException The first exception thrown while converting or checking a field, after the failures of
+     *                          the preceding fields were replayed.
+     */
+    static <N, V, P extends AbstractParameter<N, V>, H> boolean validate(ForkJoinPool pool,
+                                                                         List<? extends N> names,
+                                                                         String[] values,
+                                                                         Function<String, ? extends V> converter,
+                                                                         Function<Iterable<? extends H>, ? extends P> factory,
+                                                                         Supplier<? extends FailureRecorder<N, V, P, H>> recorders,
+                                                                         Iterable<? extends H> handlers,
+                                                                         Consumer<? super P> consumer)
+    {
+        int size      = names.size();
+        int tasks     = pool.getParallelism() * TASKS_PER_THREAD;
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (size + tasks - 1) / tasks);
+
+        List<ForkJoinTask<Chunk<N, V, P, H>>> submitted = new ArrayList<>();
+        for (int start = 0; start < size; start += chunkSize)
+            submitted.add(pool.submit(new Chunk<>(names, values, start, Math.min(size, start + chunkSize), converter,
+                                                  factory, recorders.get(), consumer)));
+
+        P       parameter = factory.apply(handlers);
+        boolean passed    = true;
+        for (int x = 0; x < submitted.size(); x++) {
+            Chunk<N, V, P, H> chunk = submitted.get(x).join();
+            chunk.recorder.replay(handlers, parameter);
+            passed &= chunk.passed;
+            if (chunk.exception != null) {
+                for (int y = x + 1; y < submitted.size(); y++)
+                    submitted.get(y).cancel(false);
+                throw chunk.exception;
+            }
+        }
+
+        return passed;
+    }
+
+    /**
+     * A chunk of the fields, validated as a single task.
+     */
+    private static final class Chunk<N, V, P extends AbstractParameter<N, V>, H> implements Callable<Chunk<N, V, P, H>>
+    {
+
+        private final List<? extends N>                            names;
+        private final String[]                                     values;
+        private final int                                          start;
+        private final int                                          end;
+        private final Function<String, ? extends V>                converter;
+        private final Function<Iterable<? extends H>, ? extends P> factory;
+        private final FailureRecorder<N, V, P, H>                  recorder;
+        private final Consumer<? super P>                          consumer;
+
+        /**
+         * Whether or not the checks performed on the fields of the chunk passed.
+         */
+        private boolean passed = true;
+
+        /**
+         * The exception thrown while converting or checking a field, {@code null} when no exception was thrown. The
+         * fields following the field that threw are not validated.
+         */
+        private RuntimeException exception;
+
+        Chunk(List<? extends N> names, String[] values, int start, int end, Function<String, ? extends V> converter,
+              Function<Iterable<? extends H>, ? extends P> factory, FailureRecorder<N, V, P, H> recorder,
+              Consumer<? super P> consumer)
+        {
+            this.names = names;
+            this.values = values;
+            this.start = start;
+            this.end = end;
+            this.converter = converter;
+            this.factory = factory;
+            this.recorder = recorder;
+            this.consumer = consumer;
+        }
+
+        @Override public Chunk<N, V, P, H> call()
+        {
+            P parameter = factory.apply(Collections.singletonList(recorder.handler()));
+            try {
+                for (int x = start; x < end; x++) {
+                    N name  = names.get(x);
+                    V value = converter.apply(values[x]);
+                    recorder.bind(name, value);
+                    parameter.rebind(name, value);
+                    consumer.accept(parameter);
+                    passed &= !parameter.hasFailures();
+                }
+            } catch (RuntimeException e) {
+                exception = e;
+            }
+
+            return this;
+        }
+    }
+}
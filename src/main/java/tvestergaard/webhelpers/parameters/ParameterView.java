@@ -0,0 +1,87 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.function.BiFunction;
+
+/**
+ * A reusable instance of {@link Parameter} owned by a {@link Parameters} implementation. The instance is rebound to
+ * each requested mapping, instead of a new instance of {@link Parameter} being created for every request.
+ * <p>
+ * A bound instance is valid from the call to {@link ParameterView#acquire(Object, Object)} until the call to
+ * {@link ParameterView#release(AbstractParameter)}. The owning {@link Parameters} makes these calls around the
+ * execution of the consumer provided to its {@code on*} methods. Should the same type of {@link Parameter} be requested
+ * again while the instance is bound, for example by nesting {@code on*} calls, a new instance is created instead. When
+ * the instance is retained by a check completing later, like those started by
+ * {@link GenericParameter#checkAsync(AsyncChecks, AsyncCheck)}, the instance is handed over on release, keeping its
+ * name and value, and a new instance is reused in its place.
+ * <p>
+ * Instances of {@link ParameterView} are not thread safe, just like the {@link Parameters} owning them.
+ *
+ * @param <N> The type of the name of the {@link Parameter}.
+ * @param <V> The type of the value in the {@link Parameter}.
+ * @param <P> The type of the {@link Parameter}.
+ */
+final class ParameterView<N, V, P extends AbstractParameter<N, V>>
+{
+
+    /**
+     * The factory creating new instances of {@link Parameter} from a name and a value.
+     */
+    private final BiFunction<N, V, P> factory;
+
+    /**
+     * The reused instance of {@link Parameter}.
+     */
+    private P parameter;
+
+    /**
+     * Whether or not the reused instance of {@link Parameter} is currently bound.
+     */
+    private boolean bound = false;
+
+    /**
+     * Creates a new {@link ParameterView}.
+     *
+     * @param factory The factory creating new instances of {@link Parameter} from a name and a value.
+     */
+    ParameterView(BiFunction<N, V, P> factory)
+    {
+        this.factory = factory;
+        this.parameter = factory.apply(null, null);
+    }
+
+    /**
+     * Returns the reused instance of {@link Parameter} bound to the provided {@code name} and {@code value}. When the
+     * reused instance is already bound, a new instance of {@link Parameter} is returned instead.
+     *
+     * @param name  The name of the {@link Parameter}.
+     * @param value The value of the {@link Parameter}.
+     *
+     * @return The {@link Parameter} with the provided {@code name} and {@code value}.
+     */
+    P acquire(N name, V value)
+    {
+        if (bound)
+            return factory.apply(name, value);
+
+        bound = true;
+        parameter.rebind(name, value);
+        return parameter;
+    }
+
+    /**
+     * Releases the provided {@link Parameter} returned from {@link ParameterView#acquire(Object, Object)}, allowing the
+     * reused instance to be bound again. A retained instance is not rebound, but replaced by a new instance.
+     *
+     * @param parameter The {@link Parameter} to release.
+     */
+    void release(P parameter)
+    {
+        if (parameter == this.parameter) {
+            if (parameter.isRetained())
+                this.parameter = factory.apply(null, null);
+            else
+                parameter.rebind(null, null);
+            bound = false;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package tvestergaard.webhelpers.parameters;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 public interface Parameters<N>
@@ -33,6 +34,9 @@ public interface Parameters<N>
      * Creates and provides to the {@code consumer} an instance of {@link TextParameter} from the mapping of the provided
      * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link TextParameter}
      * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * Implementations may reuse the provided instance in later calls, so it must not be retained after the
+     * {@code consumer} returns.
      *
      * @param name     The name of the mapping from which to create an instance of {@link TextParameter}.
      * @param consumer The consumer that is provided the newly created instance of {@link TextParameter}.
@@ -42,6 +46,29 @@ public interface Parameters<N>
      */
     boolean onText(N name, Consumer<TextParameter<N>> consumer) throws ParameterConversionException;
 
+    /**
+     * Provides the mapping of each of the provided {@code names} to the {@code consumer} as an instance of
+     * {@link TextParameter}, like {@link Parameters#onText(Object, Consumer)}. The failure handlers are notified in the order of
+     * the provided {@code names}. Implementations may validate large numbers of mappings in parallel, in which case the
+     * {@code consumer} is called from multiple threads, so it must not depend on the order of the calls, nor modify shared
+     * state.
+     *
+     * @param names    The names of the mappings from which to create instances of {@link TextParameter}.
+     * @param consumer The consumer that is provided the instances of {@link TextParameter}.
+     *
+     * @return {@code true} when the checks performed on all the instances of {@link TextParameter} passed.
+     * @throws ParameterConversionException When a mapping cannot be converted to an instance of {@link TextParameter}. The
+     *                                      failure handlers are notified of the failures of the preceding mappings.
+     */
+    default boolean onTexts(List<? extends N> names, Consumer<TextParameter<N>> consumer) throws ParameterConversionException
+    {
+        boolean passed = true;
+        for (N name : names)
+            passed &= onText(name, consumer);
+
+        return passed;
+    }
+
     /**
      * Checks that the mapping associated with the provided {@code name} can safely be converted to an instance of
      * {@link IntParameter} using the {@link Parameters#getInt(Object)} method. When this method returns {@code true},
@@ -70,6 +97,9 @@ public interface Parameters<N>
      * Creates and provides to the {@code consumer} an instance of {@link IntParameter} from the mapping of the provided
      * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link IntParameter}
      * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * Implementations may reuse the provided instance in later calls, so it must not be retained after the
+     * {@code consumer} returns.
      *
      * @param name     The name of the mapping from which to create an instance of {@link IntParameter}.
      * @param consumer The consumer that is provided the newly created instance of {@link IntParameter}.
@@ -79,6 +109,29 @@ public interface Parameters<N>
      */
     boolean onInt(N name, Consumer<IntParameter<N>> consumer) throws ParameterConversionException;
 
+    /**
+     * Provides the mapping of each of the provided {@code names} to the {@code consumer} as an instance of
+     * {@link IntParameter}, like {@link Parameters#onInt(Object, Consumer)}. The failure handlers are notified in the order of
+     * the provided {@code names}. Implementations may validate large numbers of mappings in parallel, in which case the
+     * {@code consumer} is called from multiple threads, so it must not depend on the order of the calls, nor modify shared
+     * state.
+     *
+     * @param names    The names of the mappings from which to create instances of {@link IntParameter}.
+     * @param consumer The consumer that is provided the instances of {@link IntParameter}.
+     *
+     * @return {@code true} when the checks performed on all the instances of {@link IntParameter} passed.
+     * @throws ParameterConversionException When a mapping cannot be converted to an instance of {@link IntParameter}. The
+     *                                      failure handlers are notified of the failures of the preceding mappings.
+     */
+    default boolean onInts(List<? extends N> names, Consumer<IntParameter<N>> consumer) throws ParameterConversionException
+    {
+        boolean passed = true;
+        for (N name : names)
+            passed &= onInt(name, consumer);
+
+        return passed;
+    }
+
     /**
      * Checks that the mapping associated with the provided {@code name} can safely be converted to an instance of
      * {@link LongParameter} using the {@link Parameters#getLong(Object)} method. When this method returns {@code true},
@@ -107,6 +160,9 @@ public interface Parameters<N>
      * Creates and provides to the {@code consumer} an instance of {@link LongParameter} from the mapping of the provided
      * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link LongParameter}
      * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * Implementations may reuse the provided instance in later calls, so it must not be retained after the
+     * {@code consumer} returns.
      *
      * @param name     The name of the mapping from which to create an instance of {@link LongParameter}.
      * @param consumer The consumer that is provided the newly created instance of {@link LongParameter}.
@@ -144,6 +200,9 @@ public interface Parameters<N>
      * Creates and provides to the {@code consumer} an instance of {@link FloatParameter} from the mapping of the provided
      * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link FloatParameter}
      * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * Implementations may reuse the provided instance in later calls, so it must not be retained after the
+     * {@code consumer} returns.
      *
      * @param name     The name of the mapping from which to create an instance of {@link FloatParameter}.
      * @param consumer The consumer that is provided the newly created instance of {@link FloatParameter}.
@@ -181,6 +240,9 @@ public interface Parameters<N>
      * Creates and provides to the {@code consumer} an instance of {@link DoubleParameter} from the mapping of the provided
      * {@code name}. When no mapping with the provided {@code name} exists, the new instance of {@link DoubleParameter}
      * with be created using the provided {@code name} and {@code value = null}.
+     * <p>
+     * Implementations may reuse the provided instance in later calls, so it must not be retained after the
+     * {@code consumer} returns.
      *
      * @param name     The name of the mapping from which to create an instance of {@link DoubleParameter}.
      * @param consumer The consumer that is provided the newly created instance of {@link DoubleParameter}.
@@ -190,6 +252,348 @@ public interface Parameters<N>
      */
     boolean onDouble(N name, Consumer<DoubleParameter<N>> consumer) throws ParameterConversionException;
 
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be converted to an instance of
+     * {@link BooleanParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and can be converted to a boolean.
+     */
+    boolean isBoolean(N name);
+
+    /**
+     * Returns an instance of {@link BooleanParameter} from the mapping of the provided {@code name}. When no mapping
+     * with the provided {@code name} exists, or the mapping cannot be converted, the method returns a new instance of
+     * {@link BooleanParameter} with the provided {@code name} and {@code value = null}. Mappings that cannot be converted
+     * are reported through the {@link ConvertedParameter#isWellFormed()} check, never through exceptions.
+     *
+     * @param name The name of the mapping from which to create the new {@link BooleanParameter}.
+     *
+     * @return The newly created {@link BooleanParameter}.
+     */
+    BooleanParameter<N> getBoolean(N name);
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link BooleanParameter} from the mapping of the
+     * provided {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is
+     * provided to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link BooleanParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link BooleanParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link BooleanParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    boolean onBoolean(N name, Consumer<BooleanParameter<N>> consumer);
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} is the name of a constant in the provided enum
+     * class.
+     *
+     * @param name The name of the mapping to check.
+     * @param type The enum class.
+     * @param <E>  The type of the enum class.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and names a constant of the enum class.
+     */
+    default <E extends Enum<E>> boolean isEnum(N name, Class<E> type)
+    {
+        return isEnum(name, ConstantTable.of(type));
+    }
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} maps to a constant in the provided
+     * {@link ConstantTable}.
+     *
+     * @param name      The name of the mapping to check.
+     * @param constants The table mapping texts to the constants of the enum class.
+     * @param <E>       The type of the enum class.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and maps to a constant.
+     */
+    <E extends Enum<E>> boolean isEnum(N name, ConstantTable<E> constants);
+
+    /**
+     * Returns an instance of {@link EnumParameter} from the mapping of the provided {@code name}, converted using the
+     * names of the constants of the provided enum class. When no mapping with the provided {@code name} exists, or the
+     * mapping does not name a constant, the method returns a new instance of {@link EnumParameter} with the provided
+     * {@code name} and {@code value = null}. Unknown names are reported through the
+     * {@link ConvertedParameter#isWellFormed()} check, never through exceptions.
+     *
+     * @param name The name of the mapping from which to create the new {@link EnumParameter}.
+     * @param type The enum class.
+     * @param <E>  The type of the enum class.
+     *
+     * @return The newly created {@link EnumParameter}.
+     */
+    default <E extends Enum<E>> EnumParameter<N, E> getEnum(N name, Class<E> type)
+    {
+        return getEnum(name, ConstantTable.of(type));
+    }
+
+    /**
+     * Returns an instance of {@link EnumParameter} from the mapping of the provided {@code name}, converted using the
+     * provided {@link ConstantTable}. When no mapping with the provided {@code name} exists, or the mapping does not map
+     * to a constant, the method returns a new instance of {@link EnumParameter} with the provided {@code name} and
+     * {@code value = null}.
+     *
+     * @param name      The name of the mapping from which to create the new {@link EnumParameter}.
+     * @param constants The table mapping texts to the constants of the enum class.
+     * @param <E>       The type of the enum class.
+     *
+     * @return The newly created {@link EnumParameter}.
+     */
+    <E extends Enum<E>> EnumParameter<N, E> getEnum(N name, ConstantTable<E> constants);
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link EnumParameter} from the mapping of the provided
+     * {@code name}, converted using the names of the constants of the provided enum class. The
+     * {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided to the
+     * {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link EnumParameter}.
+     * @param type     The enum class.
+     * @param consumer The consumer that is provided the newly created instance of {@link EnumParameter}.
+     * @param <E>      The type of the enum class.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link EnumParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    default <E extends Enum<E>> boolean onEnum(N name, Class<E> type, Consumer<EnumParameter<N, E>> consumer)
+    {
+        return onEnum(name, ConstantTable.of(type), consumer);
+    }
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link EnumParameter} from the mapping of the provided
+     * {@code name}, converted using the provided {@link ConstantTable}. The {@link ConvertedParameter#isWellFormed()}
+     * check is performed before the instance is provided to the {@code consumer}, and the {@code consumer} is not called
+     * when the check fails.
+     *
+     * @param name      The name of the mapping from which to create an instance of {@link EnumParameter}.
+     * @param constants The table mapping texts to the constants of the enum class.
+     * @param consumer  The consumer that is provided the newly created instance of {@link EnumParameter}.
+     * @param <E>       The type of the enum class.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link EnumParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    <E extends Enum<E>> boolean onEnum(N name, ConstantTable<E> constants, Consumer<EnumParameter<N, E>> consumer);
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be parsed into an instance of
+     * {@link DateParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and can be parsed.
+     */
+    boolean isDate(N name);
+
+    /**
+     * Returns an instance of {@link DateParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be parsed, the method returns a new instance of
+     * {@link DateParameter} with the provided {@code name} and {@code value = null}. Mappings that cannot be parsed are
+     * reported through the {@link ConvertedParameter#isWellFormed()} check, never through exceptions.
+     *
+     * @param name The name of the mapping from which to create the new {@link DateParameter}.
+     *
+     * @return The newly created {@link DateParameter}.
+     */
+    DateParameter<N> getDate(N name);
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link DateParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link DateParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link DateParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link DateParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    boolean onDate(N name, Consumer<DateParameter<N>> consumer);
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be parsed into an instance of
+     * {@link InstantParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and can be parsed.
+     */
+    boolean isInstant(N name);
+
+    /**
+     * Returns an instance of {@link InstantParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be parsed, the method returns a new instance of
+     * {@link InstantParameter} with the provided {@code name} and {@code value = null}. Mappings that cannot be parsed are
+     * reported through the {@link ConvertedParameter#isWellFormed()} check, never through exceptions.
+     *
+     * @param name The name of the mapping from which to create the new {@link InstantParameter}.
+     *
+     * @return The newly created {@link InstantParameter}.
+     */
+    InstantParameter<N> getInstant(N name);
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link InstantParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link InstantParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link InstantParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link InstantParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    boolean onInstant(N name, Consumer<InstantParameter<N>> consumer);
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be parsed into an instance of
+     * {@link DurationParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and can be parsed.
+     */
+    boolean isDuration(N name);
+
+    /**
+     * Returns an instance of {@link DurationParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be parsed, the method returns a new instance of
+     * {@link DurationParameter} with the provided {@code name} and {@code value = null}. Mappings that cannot be parsed are
+     * reported through the {@link ConvertedParameter#isWellFormed()} check, never through exceptions.
+     *
+     * @param name The name of the mapping from which to create the new {@link DurationParameter}.
+     *
+     * @return The newly created {@link DurationParameter}.
+     */
+    DurationParameter<N> getDuration(N name);
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link DurationParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link DurationParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link DurationParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link DurationParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    boolean onDuration(N name, Consumer<DurationParameter<N>> consumer);
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be converted to an instance of
+     * {@link UuidParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and is a {@code UUID} in the canonical layout.
+     */
+    boolean isUuid(N name);
+
+    /**
+     * Returns an instance of {@link UuidParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be converted, the method returns a new instance of
+     * {@link UuidParameter} with the provided {@code name} and {@code value = null}. Mappings that cannot be converted are
+     * reported through the {@link ConvertedParameter#isWellFormed()} check, never through exceptions.
+     *
+     * @param name The name of the mapping from which to create the new {@link UuidParameter}.
+     *
+     * @return The newly created {@link UuidParameter}.
+     */
+    UuidParameter<N> getUuid(N name);
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link UuidParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link UuidParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link UuidParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link UuidParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    boolean onUuid(N name, Consumer<UuidParameter<N>> consumer);
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be converted to an instance of
+     * {@link DecimalParameter} with a value other than {@code null}.
+     *
+     * @param name  The name of the mapping to check.
+     * @param scale The number of digits after the decimal point.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and is a decimal number representable at the provided {@code scale}.
+     */
+    boolean isDecimal(N name, int scale);
+
+    /**
+     * Returns an instance of {@link DecimalParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be converted, the method returns a new instance of
+     * {@link DecimalParameter} with the provided {@code name} and {@code value = null}. Mappings that cannot be converted are
+     * reported through the {@link ConvertedParameter#isWellFormed()} check, never through exceptions.
+     *
+     * @param name  The name of the mapping from which to create the new {@link DecimalParameter}.
+     * @param scale The number of digits after the decimal point.
+     *
+     * @return The newly created {@link DecimalParameter}.
+     */
+    DecimalParameter<N> getDecimal(N name, int scale);
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link DecimalParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link DecimalParameter}.
+     * @param scale    The number of digits after the decimal point.
+     * @param consumer The consumer that is provided the newly created instance of {@link DecimalParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link DecimalParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    boolean onDecimal(N name, int scale, Consumer<DecimalParameter<N>> consumer);
+
+    /**
+     * Checks that the mapping associated with the provided {@code name} can be converted to an instance of
+     * {@link InetParameter} with a value other than {@code null}.
+     *
+     * @param name The name of the mapping to check.
+     *
+     * @return {@code true} if the mapping with the provided {@code name} exists and is an IPv4 or IPv6 address.
+     */
+    boolean isInet(N name);
+
+    /**
+     * Returns an instance of {@link InetParameter} from the mapping of the provided {@code name}. When no mapping with
+     * the provided {@code name} exists, or the mapping cannot be converted, the method returns a new instance of
+     * {@link InetParameter} with the provided {@code name} and {@code value = null}. Mappings that cannot be converted are
+     * reported through the {@link ConvertedParameter#isWellFormed()} check, never through exceptions.
+     *
+     * @param name The name of the mapping from which to create the new {@link InetParameter}.
+     *
+     * @return The newly created {@link InetParameter}.
+     */
+    InetParameter<N> getInet(N name);
+
+    /**
+     * Creates and provides to the {@code consumer} an instance of {@link InetParameter} from the mapping of the provided
+     * {@code name}. The {@link ConvertedParameter#isWellFormed()} check is performed before the instance is provided
+     * to the {@code consumer}, and the {@code consumer} is not called when the check fails.
+     *
+     * @param name     The name of the mapping from which to create an instance of {@link InetParameter}.
+     * @param consumer The consumer that is provided the newly created instance of {@link InetParameter}.
+     *
+     * @return {@code true} when the mapping was well formed, and the checks performed on the instance of
+     * {@link InetParameter} during the execution of the provided {@code Consumer} passed.
+     */
+    boolean onInet(N name, Consumer<InetParameter<N>> consumer);
+
     /**
      * Adds an object to handle failure raised by checks performed on instances of {@link TextParameter} created by this
      * object.
@@ -229,4 +633,68 @@ public interface Parameters<N>
      * @param onFailure The failure handler to add.
      */
     void addDoubleFailureHandler(DoubleParameter.FailureHandler<N, Double> onFailure);
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link BooleanParameter} created by
+     * this object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    void addBooleanFailureHandler(BooleanParameter.FailureHandler<N> onFailure);
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link EnumParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    void addEnumFailureHandler(EnumParameter.FailureHandler<N> onFailure);
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link DateParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    void addDateFailureHandler(DateParameter.FailureHandler<N> onFailure);
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link InstantParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    void addInstantFailureHandler(InstantParameter.FailureHandler<N> onFailure);
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link DurationParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    void addDurationFailureHandler(DurationParameter.FailureHandler<N> onFailure);
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link UuidParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    void addUuidFailureHandler(UuidParameter.FailureHandler<N> onFailure);
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link DecimalParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    void addDecimalFailureHandler(DecimalParameter.FailureHandler<N> onFailure);
+
+    /**
+     * Adds an object to handle failure raised by checks performed on instances of {@link InetParameter} created by this
+     * object.
+     *
+     * @param onFailure The failure handler to add.
+     */
+    void addInetFailureHandler(InetParameter.FailureHandler<N> onFailure);
 }
@@ -0,0 +1,29 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * A check whose result depends on nothing but the checked value. Implementing {@link PureCheck} marks the check as safe
+ * to memoize, so that its results may be reused across requests by a {@link CheckCache}.
+ * <p>
+ * Implementations must not read mutable state, and must return the same result every time they are provided the same
+ * value. The identity of the {@link PureCheck} instance is part of the key under which its results are cached, and
+ * instances are compared by identity, not equality. The same instance must therefore be reused for every request,
+ * usually by storing it in a {@code static final} field: a capturing lambda created per request is a new instance every
+ * time, so its results are never found in the cache, and only evict the results of the checks that are reused.
+ *
+ * @param <V> The type of the value checked by the {@link PureCheck}.
+ *
+ * @see TextParameter#isValid(PureCheck)
+ * @see CheckCache
+ */
+@FunctionalInterface public interface PureCheck<V>
+{
+
+    /**
+     * Checks the provided {@code value}.
+     *
+     * @param value The value to check, never {@code null}.
+     *
+     * @return {@code true} when the check passes, {@code false} when the check fails.
+     */
+    boolean test(V value);
+}
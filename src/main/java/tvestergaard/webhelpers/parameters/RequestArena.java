@@ -0,0 +1,158 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.http.HttpServletRequest;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Opt-in, per-thread pool of the {@link HttpServletRequestParameters} used while validating a single request. An arena
+ * is opened when the request starts, and closed when the request completes. The pooled
+ * {@link HttpServletRequestParameters}, together with its reusable parameter views and failure handler lists, is reused
+ * by later requests on the same thread, instead of being created for every request.
+ * <pre>
+ * try (RequestArena arena = RequestArena.open()) {
+ *     Parameters&lt;String&gt; parameters = arena.parameters(request);
+ *     ...
+ * }
+ * </pre>
+ * Arenas nest: opening an arena while the arena of the current thread is open, like from a servlet called by a filter
+ * that opened an arena, returns a new arena that is not pooled, and leaves the open arena untouched.
+ * <p>
+ * The {@link HttpServletRequestParameters} drawn from an arena must not be retained after the arena is closed. Setting
+ * the {@code tvestergaard.webhelpers.arena.debug} system property, or calling
+ * {@link RequestArena#setLeakDetection(boolean)}, enables leak detection. With leak detection enabled, drawing from a
+ * closed arena throws an {@code IllegalStateException}.
+ * <p>
+ * The pooled arenas are referenced by the threads of the container only weakly, and are strongly held by this class.
+ * Calling {@link RequestArena#remove()} when the web application is stopped, from
+ * {@code ServletContextListener#contextDestroyed}, releases the pooled arenas, so that the threads of the container do
+ * not keep the {@code ClassLoader} of the web application from being collected.
+ */
+public final class RequestArena implements AutoCloseable
+{
+
+    /**
+     * The pooled arenas of the threads that opened an arena. The arenas are referenced weakly, so that the values held
+     * by the threads of the container do not reference the classes of the web application once the arenas are released.
+     */
+    private static final ThreadLocal<WeakReference<RequestArena>> arenas = new ThreadLocal<>();
+
+    /**
+     * The pooled arenas, keeping the arenas referenced weakly by {@link RequestArena#arenas} reachable until the thread
+     * ends or {@link RequestArena#remove()} is called.
+     */
+    private static final Map<Thread, RequestArena> pooled = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Whether or not leak detection is enabled.
+     */
+    private static volatile boolean leakDetection = Boolean.getBoolean("tvestergaard.webhelpers.arena.debug");
+
+    /**
+     * The {@link HttpServletRequestParameters} reused by the requests validated using this arena.
+     */
+    private final HttpServletRequestParameters parameters = new HttpServletRequestParameters(null);
+
+    /**
+     * Whether or not the arena is currently open.
+     */
+    private boolean open = false;
+
+    private RequestArena()
+    {
+
+    }
+
+    /**
+     * Opens the arena of the current thread. When the arena of the current thread is already open, a new arena that is
+     * not pooled is opened instead.
+     *
+     * @return The opened arena.
+     */
+    public static RequestArena open()
+    {
+        RequestArena arena = pooled();
+        if (arena.open)
+            arena = new RequestArena();
+
+        arena.open = true;
+
+        return arena;
+    }
+
+    /**
+     * Releases the pooled arenas of all the threads, to be called when the web application is stopped. Arenas opened
+     * afterwards are pooled again.
+     */
+    public static void remove()
+    {
+        pooled.clear();
+        arenas.remove();
+    }
+
+    /**
+     * Returns the pooled arena of the current thread, creating it when the thread has no pooled arena.
+     *
+     * @return The pooled arena of the current thread.
+     */
+    private static RequestArena pooled()
+    {
+        WeakReference<RequestArena> reference = arenas.get();
+        RequestArena                arena     = reference == null ? null : reference.get();
+        if (arena == null) {
+            arena = new RequestArena();
+            pooled.put(Thread.currentThread(), arena);
+            arenas.set(new WeakReference<>(arena));
+        }
+
+        return arena;
+    }
+
+    /**
+     * Enables or disables leak detection.
+     *
+     * @param enabled Whether or not leak detection should be enabled.
+     */
+    public static void setLeakDetection(boolean enabled)
+    {
+        leakDetection = enabled;
+    }
+
+    /**
+     * Returns the {@link HttpServletRequestParameters} of this arena, bound to the provided {@code request}.
+     *
+     * @param request The {@code HttpServletRequest} to validate the parameters of.
+     *
+     * @return The {@link HttpServletRequestParameters} of this arena.
+     * @throws IllegalStateException When leak detection is enabled and the arena is closed.
+     */
+    public HttpServletRequestParameters parameters(HttpServletRequest request) throws IllegalStateException
+    {
+        checkOpen();
+        parameters.reset(request);
+        return parameters;
+    }
+
+    /**
+     * Closes the arena, resetting the {@link HttpServletRequestParameters} drawn from it.
+     */
+    @Override public void close()
+    {
+        parameters.reset(null);
+
+        open = false;
+    }
+
+    /**
+     * Throws an {@code IllegalStateException} when leak detection is enabled and the arena is closed.
+     *
+     * @throws IllegalStateException When leak detection is enabled and the arena is closed.
+     */
+    private void checkOpen() throws IllegalStateException
+    {
+        if (leakDetection && !open)
+            throw new IllegalStateException("The RequestArena is used after being closed.");
+    }
+}
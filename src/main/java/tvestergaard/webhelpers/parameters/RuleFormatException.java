@@ -0,0 +1,36 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * Thrown when the {@link RuleLoader} encounters a rule it cannot compile.
+ */
+public class RuleFormatException extends RuntimeException
+{
+
+    /**
+     * The line number on which the malformed rule was found.
+     */
+    private final int line;
+
+    /**
+     * Creates a new {@link RuleFormatException}.
+     *
+     * @param line    The line number on which the malformed rule was found.
+     * @param message The message describing why the rule could not be compiled.
+     */
+    public RuleFormatException(int line, String message)
+    {
+        super("Line " + line + ": " + message);
+
+        this.line = line;
+    }
+
+    /**
+     * Returns the line number on which the malformed rule was found.
+     *
+     * @return The line number on which the malformed rule was found.
+     */
+    public int getLine()
+    {
+        return this.line;
+    }
+}
@@ -0,0 +1,546 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Compiles validation rules loaded at runtime into a {@link Validator} of {@link Parameters}.
+ * <p>
+ * Every line of a rule file that is neither blank nor starts with {@code #} declares a single check using the format
+ * {@code <name> <type> <check> [<argument>]}, where {@code type} is one of {@code text}, {@code int}, {@code long} or
+ * {@code float}, and {@code check} is the name of a check method on the matching {@link Parameter} type. The argument
+ * is the remainder of the line, so patterns provided to {@code isMatch} may contain whitespace. Bounds provided to
+ * {@code isBetween} and {@code notBetween} are separated by whitespace, and values provided to {@code isIn} and
+ * {@code notIn} are separated by commas.
+ * <pre>
+ * username text isPresent
+ * username text notLongerThan 32
+ * username text isMatch ^[a-z0-9_]+$
+ * role     text isIn admin,user,guest
+ * age      int  isBetween 18 130
+ * </pre>
+ * The checks are compiled into a tree of {@code MethodHandle}s once, with their arguments bound as constants: bounds
+ * are converted to the value type of the field, patterns are compiled and the values provided to {@code isIn} and
+ * {@code notIn} are stored in hash sets. The checks declared on the same field share a single conversion of the
+ * field. Text fields without a value only have their {@code isPresent} and {@code notPresent} checks performed, making
+ * text fields without an {@code isPresent} check optional. Numeric fields that are missing or cannot be converted fail
+ * the validation without performing any checks.
+ * <p>
+ * The compiled tree is held in a {@code static final} field of a copy of {@link CompiledRules} defined for the loaded
+ * rules, so that the JIT inlines the tree into the caller, with the bound arguments folded as constants. When the
+ * {@link CompiledRules} class cannot be copied, the tree is held in an instance field instead, performing the same
+ * checks without being inlined.
+ */
+public final class RuleLoader
+{
+
+    /**
+     * The lookup used to resolve the check methods.
+     */
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * The names of the checks that take no arguments.
+     */
+    private static final Set<String> NO_ARGUMENT_CHECKS = new HashSet<>(Arrays.asList(
+            "isEmpty", "notEmpty", "isPositive", "notPositive", "isNegative", "notNegative"));
+
+    /**
+     * The names of the checks that take a single length argument.
+     */
+    private static final Set<String> LENGTH_CHECKS = new HashSet<>(Arrays.asList(
+            "isLength", "notLength", "isShorterThan", "notShorterThan", "isLongerThan", "notLongerThan"));
+
+    /**
+     * The names of the checks that take a single {@code Pattern} argument.
+     */
+    private static final Set<String> PATTERN_CHECKS = new HashSet<>(Arrays.asList("isMatch", "notMatch"));
+
+    /**
+     * The names of the checks that take a single {@code Comparable} argument.
+     */
+    private static final Set<String> BOUND_CHECKS = new HashSet<>(Arrays.asList(
+            "isGreaterThan", "notGreaterThan", "isLessThan", "notLessThan"));
+
+    /**
+     * The names of the checks that take two {@code Comparable} arguments.
+     */
+    private static final Set<String> RANGE_CHECKS = new HashSet<>(Arrays.asList("isBetween", "notBetween"));
+
+    /**
+     * {@code (boolean, boolean)boolean} combining the results of two checks.
+     */
+    private static final MethodHandle AND;
+
+    /**
+     * {@code (Parameter)boolean} returning {@code true} when the value of the {@link Parameter} is {@code null}.
+     */
+    private static final MethodHandle IS_NULL;
+
+    /**
+     * {@code (Set, List, GenericParameter)boolean} performing the {@code isIn} check.
+     */
+    private static final MethodHandle IS_IN;
+
+    /**
+     * {@code (Set, List, GenericParameter)boolean} performing the {@code notIn} check.
+     */
+    private static final MethodHandle NOT_IN;
+
+    /**
+     * The bytes of the {@link CompiledRules} class, copied for every set of loaded rules, {@code null} when the bytes
+     * cannot be read.
+     */
+    private static final byte[] COMPILED_RULES = readCompiledRules();
+
+    static {
+        try {
+            AND = LOOKUP.findStatic(RuleLoader.class, "and", MethodType.methodType(boolean.class, boolean.class, boolean.class));
+            IS_NULL = LOOKUP.findStatic(RuleLoader.class, "isNull", MethodType.methodType(boolean.class, Parameter.class));
+            MethodType setCheck = MethodType.methodType(boolean.class, Set.class, List.class, GenericParameter.class);
+            IS_IN = LOOKUP.findStatic(RuleLoader.class, "isIn", setCheck);
+            NOT_IN = LOOKUP.findStatic(RuleLoader.class, "notIn", setCheck);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private RuleLoader()
+    {
+
+    }
+
+    /**
+     * Reads and compiles the rules from the provided {@code reader}.
+     *
+     * @param reader The reader from which to read the rules.
+     *
+     * @return The {@link Validator} performing the checks declared by the rules.
+     * @throws IOException         When the rules cannot be read from the provided {@code reader}.
+     * @throws RuleFormatException When a rule cannot be compiled.
+     */
+    public static Validator<Parameters<String>> load(Reader reader) throws IOException, RuleFormatException
+    {
+        Map<String, Field> fields = new LinkedHashMap<>();
+        BufferedReader     in     = new BufferedReader(reader);
+        String             line;
+        int                number = 0;
+
+        while ((line = in.readLine()) != null) {
+            number++;
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#')
+                continue;
+
+            String[] parts = line.split("\\s+", 4);
+            if (parts.length < 3)
+                throw new RuleFormatException(number, "Expected <name> <type> <check> [<argument>].");
+
+            Type  type  = Type.of(parts[1], number);
+            Field field = fields.computeIfAbsent(parts[0] + ' ' + type.name(), key -> new Field(parts[0], type));
+            field.add(number, parts[2], parts.length == 4 ? parts[3] : null);
+        }
+
+        MethodHandle validator = null;
+        for (Field field : fields.values())
+            validator = and(validator, field.compile());
+
+        if (validator == null)
+            validator = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, true), 0, Parameters.class);
+
+        return define(validator);
+    }
+
+    /**
+     * Creates the {@link Validator} invoking the provided compiled check, defining a new copy of {@link CompiledRules}
+     * holding the check as a constant.
+     *
+     * @param handle The compiled {@code (Parameters)boolean} check.
+     *
+     * @return The {@link Validator} invoking the provided compiled check.
+     */
+    @SuppressWarnings("unchecked")
+    private static Validator<Parameters<String>> define(MethodHandle handle)
+    {
+        if (COMPILED_RULES != null) {
+            try {
+                Class<?>       type        = new RulesClassLoader(handle).define(COMPILED_RULES);
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return (Validator<Parameters<String>>) constructor.newInstance();
+            } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+                // Copying is an optimization, fall back to holding the check in an instance field.
+            }
+        }
+
+        return new CompiledValidator(handle);
+    }
+
+    /**
+     * Reads the bytes of the {@link CompiledRules} class.
+     *
+     * @return The bytes of the {@link CompiledRules} class, {@code null} when the bytes cannot be read.
+     */
+    private static byte[] readCompiledRules()
+    {
+        try (InputStream in = CompiledRules.class.getResourceAsStream(CompiledRules.class.getSimpleName() + ".class")) {
+            if (in == null)
+                return null;
+
+            ByteArrayOutputStream out    = new ByteArrayOutputStream();
+            byte[]                buffer = new byte[4096];
+            int                   read;
+            while ((read = in.read(buffer)) != -1)
+                out.write(buffer, 0, read);
+
+            return out.toByteArray();
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Combines the provided checks into a single check performing both, returning {@code true} when both checks pass.
+     * The second check is performed even when the first check fails, so that all failure handlers are notified.
+     *
+     * @param first  The first check, or {@code null} when there is no first check.
+     * @param second The second check, having the same type as the {@code first} check.
+     *
+     * @return The combined check.
+     */
+    private static MethodHandle and(MethodHandle first, MethodHandle second)
+    {
+        if (first == null)
+            return second;
+
+        MethodHandle both = MethodHandles.filterArguments(AND, 0, first, second);
+        return MethodHandles.permuteArguments(both, first.type(), 0, 0);
+    }
+
+    private static boolean and(boolean first, boolean second)
+    {
+        return first & second;
+    }
+
+    private static boolean isNull(Parameter<?, ?> parameter)
+    {
+        return parameter.getValue() == null;
+    }
+
+    private static <V> boolean isIn(Set<?> set, List<? extends V> values, GenericParameter<?, V> parameter)
+    {
+        return set.contains(parameter.getValue()) || parameter.isIn(values);
+    }
+
+    private static <V> boolean notIn(Set<?> set, List<? extends V> values, GenericParameter<?, V> parameter)
+    {
+        return !set.contains(parameter.getValue()) || parameter.notIn(values);
+    }
+
+    /**
+     * The types of fields supported by the {@link RuleLoader}.
+     */
+    private enum Type
+    {
+        TEXT(TextParameter.class, "getText", null),
+        INT(IntParameter.class, "getInt", "isInt"),
+        LONG(LongParameter.class, "getLong", "isLong"),
+        FLOAT(FloatParameter.class, "getFloat", "isFloat");
+
+        /**
+         * The type of {@link Parameter} checked by rules of this type.
+         */
+        private final Class<?> parameterType;
+
+        /**
+         * The name of the {@link Parameters} method creating the {@link Parameter}.
+         */
+        private final String getter;
+
+        /**
+         * The name of the {@link Parameters} method checking that the field can be converted, or {@code null} when the
+         * field can always be converted.
+         */
+        private final String convertible;
+
+        Type(Class<?> parameterType, String getter, String convertible)
+        {
+            this.parameterType = parameterType;
+            this.getter = getter;
+            this.convertible = convertible;
+        }
+
+        /**
+         * Returns the {@link Type} with the provided name.
+         *
+         * @param name The name of the type as written in the rule file.
+         * @param line The line on which the type was found.
+         *
+         * @return The {@link Type} with the provided name.
+         * @throws RuleFormatException When no {@link Type} with the provided name exists.
+         */
+        static Type of(String name, int line) throws RuleFormatException
+        {
+            for (Type type : values())
+                if (type.name().equalsIgnoreCase(name))
+                    return type;
+
+            throw new RuleFormatException(line, "Unknown type '" + name + "'.");
+        }
+
+        /**
+         * Converts the provided argument to the value type of this {@link Type}.
+         *
+         * @param argument The argument to convert.
+         * @param line     The line on which the argument was found.
+         *
+         * @return The converted argument.
+         * @throws RuleFormatException When the argument cannot be converted.
+         */
+        Comparable<?> convert(String argument, int line) throws RuleFormatException
+        {
+            try {
+                switch (this) {
+                    case INT:
+                        return Integer.valueOf(argument);
+                    case LONG:
+                        return Long.valueOf(argument);
+                    case FLOAT:
+                        return Float.valueOf(argument);
+                    default:
+                        return argument;
+                }
+            } catch (NumberFormatException e) {
+                throw new RuleFormatException(line, "Cannot convert '" + argument + "' to " + name().toLowerCase() + '.');
+            }
+        }
+    }
+
+    /**
+     * The checks declared on a single field.
+     */
+    private static final class Field
+    {
+
+        /**
+         * The name of the field.
+         */
+        private final String name;
+
+        /**
+         * The type of the field.
+         */
+        private final Type type;
+
+        /**
+         * The {@code (P)boolean} checks performed on fields with a value.
+         */
+        private final List<MethodHandle> checks = new ArrayList<>();
+
+        /**
+         * The {@code (P)boolean} checks performed on fields without a value.
+         */
+        private final List<MethodHandle> presenceChecks = new ArrayList<>();
+
+        Field(String name, Type type)
+        {
+            this.name = name;
+            this.type = type;
+        }
+
+        /**
+         * Compiles and adds a check to the field.
+         *
+         * @param line     The line on which the check was declared.
+         * @param check    The name of the check.
+         * @param argument The argument provided to the check, or {@code null} when no argument was provided.
+         *
+         * @throws RuleFormatException When the check cannot be compiled.
+         */
+        void add(int line, String check, String argument) throws RuleFormatException
+        {
+            Class<?> parameterType = type.parameterType;
+
+            try {
+                MethodHandle handle;
+                if (check.equals("isPresent") || check.equals("notPresent")) {
+                    expectArgument(line, check, argument, false);
+                    handle = LOOKUP.findVirtual(parameterType, check, MethodType.methodType(boolean.class));
+                    presenceChecks.add(handle.asType(MethodType.methodType(boolean.class, parameterType)));
+                } else if (NO_ARGUMENT_CHECKS.contains(check)) {
+                    expectArgument(line, check, argument, false);
+                    handle = LOOKUP.findVirtual(parameterType, check, MethodType.methodType(boolean.class));
+                } else if (LENGTH_CHECKS.contains(check)) {
+                    expectArgument(line, check, argument, true);
+                    handle = LOOKUP.findVirtual(parameterType, check, MethodType.methodType(boolean.class, int.class));
+                    handle = MethodHandles.insertArguments(handle, 1, (Integer) Type.INT.convert(argument, line));
+                } else if (PATTERN_CHECKS.contains(check)) {
+                    expectArgument(line, check, argument, true);
+                    handle = LOOKUP.findVirtual(parameterType, check, MethodType.methodType(boolean.class, Pattern.class));
+                    handle = MethodHandles.insertArguments(handle, 1, Pattern.compile(argument));
+                } else if (check.equals("isEqual") || check.equals("notEqual")) {
+                    expectArgument(line, check, argument, true);
+                    handle = LOOKUP.findVirtual(parameterType, check, MethodType.methodType(boolean.class, Object.class));
+                    handle = MethodHandles.insertArguments(handle, 1, type.convert(argument, line));
+                } else if (BOUND_CHECKS.contains(check)) {
+                    expectArgument(line, check, argument, true);
+                    handle = LOOKUP.findVirtual(parameterType, check, MethodType.methodType(boolean.class, Comparable.class));
+                    handle = MethodHandles.insertArguments(handle, 1, type.convert(argument, line));
+                } else if (RANGE_CHECKS.contains(check)) {
+                    expectArgument(line, check, argument, true);
+                    String[] bounds = argument.split("\\s+");
+                    if (bounds.length != 2)
+                        throw new RuleFormatException(line, "Check '" + check + "' expects a lower and an upper bound.");
+                    MethodType methodType = MethodType.methodType(boolean.class, Comparable.class, Comparable.class);
+                    handle = LOOKUP.findVirtual(parameterType, check, methodType);
+                    handle = MethodHandles.insertArguments(handle, 1, type.convert(bounds[0], line), type.convert(bounds[1], line));
+                } else if (check.equals("isIn") || check.equals("notIn")) {
+                    expectArgument(line, check, argument, true);
+                    List<Object> values = new ArrayList<>();
+                    for (String value : argument.split(","))
+                        values.add(type.convert(value.trim(), line));
+                    values = Collections.unmodifiableList(values);
+                    handle = check.equals("isIn") ? IS_IN : NOT_IN;
+                    handle = MethodHandles.insertArguments(handle, 0, new HashSet<>(values), values);
+                } else {
+                    throw new RuleFormatException(line, "Unknown check '" + check + "'.");
+                }
+
+                checks.add(handle.asType(MethodType.methodType(boolean.class, parameterType)));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new RuleFormatException(line, "Check '" + check + "' is not supported on " + type.name().toLowerCase() + '.');
+            } catch (PatternSyntaxException e) {
+                throw new RuleFormatException(line, "Malformed pattern: " + e.getDescription() + '.');
+            }
+        }
+
+        /**
+         * Compiles the checks declared on the field into a single {@code (Parameters)boolean} check.
+         *
+         * @return The compiled check.
+         */
+        MethodHandle compile()
+        {
+            Class<?> parameterType = type.parameterType;
+
+            try {
+                MethodHandle getter = LOOKUP.findVirtual(Parameters.class, type.getter, MethodType.methodType(parameterType, Object.class));
+                getter = MethodHandles.insertArguments(getter, 1, name);
+
+                MethodHandle passes       = MethodHandles.constant(boolean.class, true);
+                MethodHandle alwaysPasses = MethodHandles.dropArguments(passes, 0, parameterType);
+                MethodHandle valueChecks  = alwaysPasses;
+                for (MethodHandle check : checks)
+                    valueChecks = valueChecks == alwaysPasses ? check : and(valueChecks, check);
+
+                if (type.convertible == null) {
+                    MethodHandle nullChecks = alwaysPasses;
+                    for (MethodHandle check : presenceChecks)
+                        nullChecks = nullChecks == alwaysPasses ? check : and(nullChecks, check);
+
+                    MethodHandle isNull = IS_NULL.asType(MethodType.methodType(boolean.class, parameterType));
+                    return MethodHandles.filterArguments(MethodHandles.guardWithTest(isNull, nullChecks, valueChecks), 0, getter);
+                }
+
+                MethodHandle convertible = LOOKUP.findVirtual(Parameters.class, type.convertible, MethodType.methodType(boolean.class, Object.class));
+                convertible = MethodHandles.insertArguments(convertible, 1, name);
+                MethodHandle fails = MethodHandles.dropArguments(MethodHandles.constant(boolean.class, false), 0, Parameters.class);
+                return MethodHandles.guardWithTest(convertible, MethodHandles.filterArguments(valueChecks, 0, getter), fails);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static void expectArgument(int line, String check, String argument, boolean expected) throws RuleFormatException
+        {
+            if (expected && argument == null)
+                throw new RuleFormatException(line, "Check '" + check + "' expects an argument.");
+            if (!expected && argument != null)
+                throw new RuleFormatException(line, "Check '" + check + "' does not expect an argument.");
+        }
+    }
+
+    /**
+     * {@link Validator} invoking the compiled {@code (Parameters)boolean} check held in an instance field, used when
+     * the {@link CompiledRules} class cannot be copied.
+     */
+    private static final class CompiledValidator implements Validator<Parameters<String>>
+    {
+
+        /**
+         * The compiled {@code (Parameters)boolean} check.
+         */
+        private final MethodHandle handle;
+
+        CompiledValidator(MethodHandle handle)
+        {
+            this.handle = handle;
+        }
+
+        @Override public boolean validate(Parameters<String> subject)
+        {
+            try {
+                return (boolean) handle.invokeExact(subject);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+    }
+
+    /**
+     * {@code ClassLoader} defining a single copy of the {@link CompiledRules} class, and providing the compiled check
+     * to the copy when it is initialized.
+     */
+    private static final class RulesClassLoader extends ClassLoader implements Supplier<MethodHandle>
+    {
+
+        /**
+         * The compiled {@code (Parameters)boolean} check.
+         */
+        private final MethodHandle handle;
+
+        RulesClassLoader(MethodHandle handle)
+        {
+            super(RuleLoader.class.getClassLoader());
+
+            this.handle = handle;
+        }
+
+        /**
+         * Defines the copy of the {@link CompiledRules} class from the provided {@code bytes}.
+         *
+         * @param bytes The bytes of the {@link CompiledRules} class.
+         *
+         * @return The defined copy of the {@link CompiledRules} class.
+         */
+        Class<?> define(byte[] bytes)
+        {
+            return defineClass(CompiledRules.class.getName(), bytes, 0, bytes.length);
+        }
+
+        @Override public MethodHandle get()
+        {
+            return handle;
+        }
+    }
+}
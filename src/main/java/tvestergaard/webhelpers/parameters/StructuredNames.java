@@ -0,0 +1,339 @@
+package tvestergaard.webhelpers.parameters;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Index of structured parameter names like {@code items[17].qty} or {@code order.lines[2][price]}. The names are parsed
+ * once into a trie of member and index segments, so the indices under a name, and the names below each index, are
+ * found by walking the segments of the name instead of scanning all the names.
+ * <p>
+ * Segments are separated by dots, or written in brackets. Bracketed segments consisting of digits, without leading
+ * zeros, are indices. Names that cannot be parsed, like names with unclosed brackets, and names with more than
+ * {@link StructuredNames#MAX_DEPTH} segments, are indexed as a single segment.
+ * <p>
+ * Instances of {@link StructuredNames} are immutable and thread safe.
+ */
+public final class StructuredNames
+{
+
+    /**
+     * The maximum number of segments of a name. The names of the parameters of a request are controlled by the client,
+     * so deeper names are indexed as a single segment rather than growing the trie without bound.
+     */
+    public static final int MAX_DEPTH = 256;
+
+    /**
+     * The root of the trie of names.
+     */
+    private final Node root;
+
+    private StructuredNames(Node root)
+    {
+        this.root = root;
+    }
+
+    /**
+     * Creates a new {@link StructuredNames} indexing the provided names.
+     *
+     * @param names The names to index.
+     *
+     * @return The new {@link StructuredNames}.
+     */
+    public static StructuredNames of(Iterable<String> names)
+    {
+        Node root = new Node();
+        for (String name : names) {
+            Node node = root;
+            for (Object segment : segments(name))
+                node = node.child(segment);
+            node.name = name;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            node.freeze();
+            for (Node element : node.elements)
+                pending.push(element);
+            for (Node member : node.members.values())
+                pending.push(member);
+        }
+
+        return new StructuredNames(root);
+    }
+
+    /**
+     * Creates a new {@link StructuredNames} indexing the names of the parameters of the provided {@code request}.
+     *
+     * @param request The request whose parameter names to index.
+     *
+     * @return The new {@link StructuredNames}.
+     */
+    public static StructuredNames of(HttpServletRequest request)
+    {
+        return of(Collections.list(request.getParameterNames()));
+    }
+
+    /**
+     * Checks whether the provided structured name, or a name below it, was indexed.
+     *
+     * @param path The structured name to check.
+     *
+     * @return {@code true} if the provided structured name, or a name below it, was indexed.
+     */
+    public boolean contains(String path)
+    {
+        return find(root, path) != null;
+    }
+
+    /**
+     * Returns the indices below the provided structured name in ascending order. The indices of {@code items} are
+     * {@code 0} and {@code 2} when the names {@code items[0].qty} and {@code items[2].qty} were indexed.
+     *
+     * @param path The structured name whose indices to return.
+     *
+     * @return The indices below the provided structured name, an empty array when there are none.
+     */
+    public int[] indices(String path)
+    {
+        Node node = find(root, path);
+
+        return node == null ? new int[0] : node.indices.clone();
+    }
+
+    /**
+     * Returns the indexed name of the provided {@code member} of the element with the provided {@code index} below the
+     * provided structured name. The indexed name of {@code ("items", 17, "qty")} can be {@code items[17].qty} or
+     * {@code items[17][qty]}, depending on which was indexed.
+     *
+     * @param path   The structured name of the elements.
+     * @param index  The index of the element.
+     * @param member The structured name of the member of the element.
+     *
+     * @return The indexed name, {@code null} when no such name was indexed.
+     */
+    public String name(String path, int index, String member)
+    {
+        Node node = find(root, path);
+        if (node != null)
+            node = node.element(index);
+        if (node != null)
+            node = find(node, member);
+
+        return node == null ? null : node.name;
+    }
+
+    /**
+     * Retrieves the provided {@code member} of each element below the provided structured name using the provided
+     * {@code getter}, and provides the resulting {@link Parameter} to the {@code consumer} along with its index. When
+     * the member is missing from an element, the {@code getter} is provided the name {@code path[index].member}, so
+     * that the consumer receives a {@link Parameter} with the value {@code null}.
+     * <p>
+     * Used like {@code names.forEach("items", "qty", parameters::getInt, (index, qty) -> qty.isGreaterThan(0))}.
+     *
+     * @param path     The structured name of the elements.
+     * @param member   The structured name of the member of the elements.
+     * @param getter   The function retrieving the {@link Parameter} with the provided name, usually a method of
+     *                 {@link Parameters}.
+     * @param consumer The consumer that is provided the {@link Parameter} instances.
+     * @param <P>      The type of {@link Parameter} provided to the {@code consumer}.
+     *
+     * @return {@code true} when the checks performed on the {@link Parameter} instances during the execution of the
+     * {@code consumer} passed.
+     */
+    public <P extends Parameter<String, ?>> boolean forEach(String path, String member, Function<String, P> getter,
+                                                           IndexedConsumer<P> consumer)
+    {
+        Node node = find(root, path);
+        if (node == null)
+            return true;
+
+        List<Object> segments = segments(member);
+        boolean      result   = true;
+        for (int x = 0; x < node.indices.length; x++) {
+            int    index     = node.indices[x];
+            Node   found     = find(node.elements[x], segments);
+            String name      = found == null || found.name == null ? path + '[' + index + "]." + member : found.name;
+            P      parameter = getter.apply(name);
+            consumer.accept(index, parameter);
+            result &= parameter.getFailureCount() == 0;
+        }
+
+        return result;
+    }
+
+    /**
+     * Consumer of the elements provided by {@link StructuredNames#forEach(String, String, Function, IndexedConsumer)}.
+     *
+     * @param <P> The type of {@link Parameter} provided to the {@link IndexedConsumer}.
+     */
+    @FunctionalInterface public interface IndexedConsumer<P>
+    {
+
+        /**
+         * Provides the {@link Parameter} of the element with the provided {@code index}.
+         *
+         * @param index     The index of the element.
+         * @param parameter The {@link Parameter} of the element.
+         */
+        void accept(int index, P parameter);
+    }
+
+    /**
+     * Walks the segments of the provided structured name from the provided node.
+     *
+     * @return The node of the structured name, {@code null} when no such node exists.
+     */
+    private static Node find(Node node, String path)
+    {
+        return find(node, segments(path));
+    }
+
+    /**
+     * Walks the provided segments from the provided node.
+     *
+     * @return The node of the segments, {@code null} when no such node exists.
+     */
+    private static Node find(Node node, List<Object> segments)
+    {
+        for (Object segment : segments) {
+            if (node == null)
+                return null;
+            node = segment instanceof Integer ? node.element((Integer) segment) : node.members.get(segment);
+        }
+
+        return node;
+    }
+
+    /**
+     * Parses the provided structured name into its segments, which are {@code String} members and {@code Integer}
+     * indices. Names with more than {@link StructuredNames#MAX_DEPTH} segments are parsed as a single segment.
+     *
+     * @param name The structured name to parse.
+     *
+     * @return The segments of the structured name.
+     */
+    static List<Object> segments(String name)
+    {
+        List<Object> segments = new ArrayList<>();
+        int          length   = name.length();
+        int          position = 0;
+        while (position < length) {
+            if (segments.size() == MAX_DEPTH)
+                return Collections.singletonList(name);
+            char c = name.charAt(position);
+            if (c == '[') {
+                int close = name.indexOf(']', position + 1);
+                if (close < 0)
+                    return Collections.singletonList(name);
+                segments.add(segment(name.substring(position + 1, close), true));
+                position = close + 1;
+            } else {
+                if (c == '.')
+                    position++;
+                int end = position;
+                while (end < length && name.charAt(end) != '.' && name.charAt(end) != '[')
+                    end++;
+                if (end == position)
+                    return Collections.singletonList(name);
+                segments.add(segment(name.substring(position, end), false));
+                position = end;
+            }
+        }
+
+        return segments;
+    }
+
+    private static Object segment(String segment, boolean bracketed)
+    {
+        int length = segment.length();
+        if (!bracketed || length == 0 || length > 9 || length > 1 && segment.charAt(0) == '0')
+            return segment;
+
+        int result = 0;
+        for (int x = 0; x < length; x++) {
+            int digit = segment.charAt(x) - '0';
+            if (digit < 0 || digit > 9)
+                return segment;
+            result = result * 10 + digit;
+        }
+
+        return result;
+    }
+
+    /**
+     * Node in the trie of names.
+     */
+    private static final class Node
+    {
+
+        /**
+         * The children of the node, keyed by member name.
+         */
+        private final Map<String, Node> members = new HashMap<>();
+
+        /**
+         * The children of the node keyed by index, while the trie is being built.
+         */
+        private TreeMap<Integer, Node> building = new TreeMap<>();
+
+        /**
+         * The indices of the children of the node, in ascending order.
+         */
+        private int[] indices;
+
+        /**
+         * The children of the node, in the order of {@link Node#indices}.
+         */
+        private Node[] elements;
+
+        /**
+         * The indexed name ending at the node, {@code null} when no indexed name ends at the node.
+         */
+        private String name;
+
+        private Node child(Object segment)
+        {
+            if (segment instanceof Integer)
+                return building.computeIfAbsent((Integer) segment, index -> new Node());
+
+            return members.computeIfAbsent((String) segment, member -> new Node());
+        }
+
+        private Node element(int index)
+        {
+            int position = Arrays.binarySearch(indices, index);
+
+            return position < 0 ? null : elements[position];
+        }
+
+        /**
+         * Converts the children keyed by index into sorted arrays. The children are frozen separately, by
+         * {@link StructuredNames#of(Iterable)}, so that deep tries do not exhaust the stack.
+         */
+        private void freeze()
+        {
+            indices = new int[building.size()];
+            elements = new Node[building.size()];
+
+            int x = 0;
+            for (Map.Entry<Integer, Node> entry : building.entrySet()) {
+                indices[x] = entry.getKey();
+                elements[x++] = entry.getValue();
+            }
+
+            building = null;
+        }
+    }
+}
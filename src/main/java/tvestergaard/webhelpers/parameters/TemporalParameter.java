@@ -0,0 +1,588 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * An implementation of the {@link Parameter} interface for dates, instants and durations. The value is parsed into a
+ * primitive, which the checks compare against the primitive form of their bounds, so no {@code Comparable} values are
+ * compared. The value itself is only created when it is retrieved using {@link TemporalParameter#getValue()}, and the
+ * checks taking primitive bounds allocate nothing unless they fail.
+ *
+ * @param <N> The type of the name of the {@link TemporalParameter}.
+ * @param <V> The type of the value in the {@link TemporalParameter}.
+ */
+public abstract class TemporalParameter<N, V> extends ConvertedParameter<N, V>
+{
+
+    /**
+     * The primitive form of the value of the {@link TemporalParameter}, in the unit of the implementation,
+     * {@link Iso8601#INVALID} when the {@link TemporalParameter} has no value.
+     */
+    protected final long primitive;
+
+    /**
+     * The failure handlers registered with the {@link TemporalParameter}.
+     */
+    private final Iterable<? extends FailureHandler<N, V>> failureHandlers;
+
+    /**
+     * Creates a new {@link TemporalParameter}.
+     *
+     * @param name       The name of the {@link TemporalParameter}.
+     * @param primitive  The primitive form of the value, {@link Iso8601#INVALID} when the {@code text} could not be
+     *                   parsed.
+     * @param text       The text from which the value was parsed.
+     * @param onFailures The failure handlers to register with the {@link TemporalParameter}.
+     */
+    public TemporalParameter(N name, long primitive, String text, Iterable<? extends FailureHandler<N, V>> onFailures)
+    {
+        super(name, null, text, onFailures);
+
+        this.primitive = primitive;
+        this.failureHandlers = onFailures;
+    }
+
+    /**
+     * Converts the provided value into the primitive form used by the {@link TemporalParameter}.
+     *
+     * @param value The value to convert.
+     *
+     * @return The primitive form of the provided value.
+     */
+    protected abstract long toPrimitive(V value);
+
+    /**
+     * Converts the provided primitive form into the value used by the {@link TemporalParameter}.
+     *
+     * @param primitive The primitive form to convert.
+     *
+     * @return The value represented by the provided primitive form.
+     */
+    protected abstract V toValue(long primitive);
+
+    @Override protected boolean hasValue()
+    {
+        return primitive != Iso8601.INVALID;
+    }
+
+    @Override protected V createValue()
+    {
+        return toValue(primitive);
+    }
+
+    /**
+     * Functional interface for {@code isBefore} check failures.
+     *
+     * @param <N> The type of the name of the {@link TemporalParameter} on which the {@code isBefore} check failed.
+     * @param <V> The type of the value of the {@link TemporalParameter} on which the {@code isBefore} check failed.
+     *
+     * @see TemporalParameter#isBefore(Object)
+     * @see TemporalParameter#isBefore(Object, IsBeforeFailureCallback)
+     * @see TemporalParameter#isBefore(Object, Iterable)
+     */
+    @FunctionalInterface public interface IsBeforeFailureCallback<N, V>
+    {
+
+        /**
+         * Notifies the {@link IsBeforeFailureCallback} that the {@code isBefore} check failed.
+         *
+         * @param parameter The {@link TemporalParameter} on which the {@code isBefore} check failed.
+         * @param upper     The upper bound provided to the {@code isBefore} check that failed.
+         *
+         * @see TemporalParameter#isBefore(Object)
+         * @see TemporalParameter#isBefore(Object, IsBeforeFailureCallback)
+         * @see TemporalParameter#isBefore(Object, Iterable)
+         */
+        void isBeforeFailure(TemporalParameter<N, V> parameter, V upper);
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly before the provided upper bound.
+     *
+     * @param upper            The upper bound that the value of the {@link TemporalParameter} must precede.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isBefore(V upper, Iterable<? extends IsBeforeFailureCallback<N, V>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive < toPrimitive(upper);
+        if (!result) {
+            incrementFailureCount();
+            for (IsBeforeFailureCallback<N, V> failureCallback : failureCallbacks)
+                failureCallback.isBeforeFailure(this, upper);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly before the provided upper bound.
+     *
+     * @param upper           The upper bound that the value of the {@link TemporalParameter} must precede.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isBefore(V upper, IsBeforeFailureCallback<N, V> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive < toPrimitive(upper);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isBeforeFailure(this, upper);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly before the provided upper bound.
+     * Notifies the failure handlers provided to the {@link TemporalParameter} in case the check fails.
+     *
+     * @param upper The upper bound that the value of the {@link TemporalParameter} must precede.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isBefore(V upper) throws NullParameterValueException
+    {
+        return isBefore(upper, failureHandlers);
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly before the provided upper bound, in the
+     * primitive form of the implementation.
+     *
+     * @param upper            The primitive form of the upper bound that the value of the {@link TemporalParameter}
+     *                         must precede.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isBefore(long upper, Iterable<? extends IsBeforeFailureCallback<N, V>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive < upper;
+        if (!result) {
+            incrementFailureCount();
+            V bound = toValue(upper);
+            for (IsBeforeFailureCallback<N, V> failureCallback : failureCallbacks)
+                failureCallback.isBeforeFailure(this, bound);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly before the provided upper bound, in the
+     * primitive form of the implementation.
+     *
+     * @param upper           The primitive form of the upper bound that the value of the {@link TemporalParameter}
+     *                        must precede.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isBefore(long upper, IsBeforeFailureCallback<N, V> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive < upper;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isBeforeFailure(this, toValue(upper));
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly before the provided upper bound, in the
+     * primitive form of the implementation. Notifies the failure handlers provided to the {@link TemporalParameter} in
+     * case the check fails.
+     *
+     * @param upper The primitive form of the upper bound that the value of the {@link TemporalParameter} must precede.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isBefore(long upper) throws NullParameterValueException
+    {
+        return isBefore(upper, failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isAfter} check failures.
+     *
+     * @param <N> The type of the name of the {@link TemporalParameter} on which the {@code isAfter} check failed.
+     * @param <V> The type of the value of the {@link TemporalParameter} on which the {@code isAfter} check failed.
+     *
+     * @see TemporalParameter#isAfter(Object)
+     * @see TemporalParameter#isAfter(Object, IsAfterFailureCallback)
+     * @see TemporalParameter#isAfter(Object, Iterable)
+     */
+    @FunctionalInterface public interface IsAfterFailureCallback<N, V>
+    {
+
+        /**
+         * Notifies the {@link IsAfterFailureCallback} that the {@code isAfter} check failed.
+         *
+         * @param parameter The {@link TemporalParameter} on which the {@code isAfter} check failed.
+         * @param lower     The lower bound provided to the {@code isAfter} check that failed.
+         *
+         * @see TemporalParameter#isAfter(Object)
+         * @see TemporalParameter#isAfter(Object, IsAfterFailureCallback)
+         * @see TemporalParameter#isAfter(Object, Iterable)
+         */
+        void isAfterFailure(TemporalParameter<N, V> parameter, V lower);
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly after the provided lower bound.
+     *
+     * @param lower            The lower bound that the value of the {@link TemporalParameter} must follow.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isAfter(V lower, Iterable<? extends IsAfterFailureCallback<N, V>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive > toPrimitive(lower);
+        if (!result) {
+            incrementFailureCount();
+            for (IsAfterFailureCallback<N, V> failureCallback : failureCallbacks)
+                failureCallback.isAfterFailure(this, lower);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly after the provided lower bound.
+     *
+     * @param lower           The lower bound that the value of the {@link TemporalParameter} must follow.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isAfter(V lower, IsAfterFailureCallback<N, V> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive > toPrimitive(lower);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isAfterFailure(this, lower);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly after the provided lower bound.
+     * Notifies the failure handlers provided to the {@link TemporalParameter} in case the check fails.
+     *
+     * @param lower The lower bound that the value of the {@link TemporalParameter} must follow.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isAfter(V lower) throws NullParameterValueException
+    {
+        return isAfter(lower, failureHandlers);
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly after the provided lower bound, in the
+     * primitive form of the implementation.
+     *
+     * @param lower            The primitive form of the lower bound that the value of the {@link TemporalParameter}
+     *                         must follow.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isAfter(long lower, Iterable<? extends IsAfterFailureCallback<N, V>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive > lower;
+        if (!result) {
+            incrementFailureCount();
+            V bound = toValue(lower);
+            for (IsAfterFailureCallback<N, V> failureCallback : failureCallbacks)
+                failureCallback.isAfterFailure(this, bound);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly after the provided lower bound, in the
+     * primitive form of the implementation.
+     *
+     * @param lower           The primitive form of the lower bound that the value of the {@link TemporalParameter}
+     *                        must follow.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isAfter(long lower, IsAfterFailureCallback<N, V> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive > lower;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isAfterFailure(this, toValue(lower));
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is strictly after the provided lower bound, in the
+     * primitive form of the implementation. Notifies the failure handlers provided to the {@link TemporalParameter} in
+     * case the check fails.
+     *
+     * @param lower The primitive form of the lower bound that the value of the {@link TemporalParameter} must follow.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isAfter(long lower) throws NullParameterValueException
+    {
+        return isAfter(lower, failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isWithin} check failures.
+     *
+     * @param <N> The type of the name of the {@link TemporalParameter} on which the {@code isWithin} check failed.
+     * @param <V> The type of the value of the {@link TemporalParameter} on which the {@code isWithin} check failed.
+     *
+     * @see TemporalParameter#isWithin(Object, Object)
+     * @see TemporalParameter#isWithin(Object, Object, IsWithinFailureCallback)
+     * @see TemporalParameter#isWithin(Object, Object, Iterable)
+     */
+    @FunctionalInterface public interface IsWithinFailureCallback<N, V>
+    {
+
+        /**
+         * Notifies the {@link IsWithinFailureCallback} that the {@code isWithin} check failed.
+         *
+         * @param parameter The {@link TemporalParameter} on which the {@code isWithin} check failed.
+         * @param lower     The lower bound provided to the {@code isWithin} check that failed.
+         * @param upper     The upper bound provided to the {@code isWithin} check that failed.
+         *
+         * @see TemporalParameter#isWithin(Object, Object)
+         * @see TemporalParameter#isWithin(Object, Object, IsWithinFailureCallback)
+         * @see TemporalParameter#isWithin(Object, Object, Iterable)
+         */
+        void isWithinFailure(TemporalParameter<N, V> parameter, V lower, V upper);
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is within the provided bounds. Both bounds are included,
+     * so the value must conform to {@code value >= lower && value <= upper} for the check to pass.
+     *
+     * @param lower            The lower bound of the value of the {@link TemporalParameter}.
+     * @param upper            The upper bound of the value of the {@link TemporalParameter}.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isWithin(V lower, V upper, Iterable<? extends IsWithinFailureCallback<N, V>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive >= toPrimitive(lower) && primitive <= toPrimitive(upper);
+        if (!result) {
+            incrementFailureCount();
+            for (IsWithinFailureCallback<N, V> failureCallback : failureCallbacks)
+                failureCallback.isWithinFailure(this, lower, upper);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is within the provided bounds. Both bounds are included,
+     * so the value must conform to {@code value >= lower && value <= upper} for the check to pass.
+     *
+     * @param lower           The lower bound of the value of the {@link TemporalParameter}.
+     * @param upper           The upper bound of the value of the {@link TemporalParameter}.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isWithin(V lower, V upper, IsWithinFailureCallback<N, V> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive >= toPrimitive(lower) && primitive <= toPrimitive(upper);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isWithinFailure(this, lower, upper);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is within the provided bounds. Both bounds are included,
+     * so the value must conform to {@code value >= lower && value <= upper} for the check to pass.
+     * Notifies the failure handlers provided to the {@link TemporalParameter} in case the check fails.
+     *
+     * @param lower The lower bound of the value of the {@link TemporalParameter}.
+     * @param upper The upper bound of the value of the {@link TemporalParameter}.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isWithin(V lower, V upper) throws NullParameterValueException
+    {
+        return isWithin(lower, upper, failureHandlers);
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is within the provided bounds, in the primitive form of the
+     * implementation. Both bounds are included, so the value must conform to {@code value >= lower && value <= upper}
+     * for the check to pass.
+     *
+     * @param lower            The primitive form of the lower bound of the value of the {@link TemporalParameter}.
+     * @param upper            The primitive form of the upper bound of the value of the {@link TemporalParameter}.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isWithin(long lower, long upper, Iterable<? extends IsWithinFailureCallback<N, V>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive >= lower && primitive <= upper;
+        if (!result) {
+            incrementFailureCount();
+            V lowerBound = toValue(lower);
+            V upperBound = toValue(upper);
+            for (IsWithinFailureCallback<N, V> failureCallback : failureCallbacks)
+                failureCallback.isWithinFailure(this, lowerBound, upperBound);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is within the provided bounds, in the primitive form of the
+     * implementation. Both bounds are included, so the value must conform to {@code value >= lower && value <= upper}
+     * for the check to pass.
+     *
+     * @param lower           The primitive form of the lower bound of the value of the {@link TemporalParameter}.
+     * @param upper           The primitive form of the upper bound of the value of the {@link TemporalParameter}.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isWithin(long lower, long upper, IsWithinFailureCallback<N, V> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = primitive >= lower && primitive <= upper;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isWithinFailure(this, toValue(lower), toValue(upper));
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link TemporalParameter} is within the provided bounds, in the primitive form of the
+     * implementation. Both bounds are included, so the value must conform to {@code value >= lower && value <= upper}
+     * for the check to pass. Notifies the failure handlers provided to the {@link TemporalParameter} in case the check
+     * fails.
+     *
+     * @param lower The primitive form of the lower bound of the value of the {@link TemporalParameter}.
+     * @param upper The primitive form of the upper bound of the value of the {@link TemporalParameter}.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TemporalParameter} is {@code null}.
+     */
+    public boolean isWithin(long lower, long upper) throws NullParameterValueException
+    {
+        return isWithin(lower, upper, failureHandlers);
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link TemporalParameter}.
+     *
+     * @param <N> The type of the name of the {@link TemporalParameter} handled by the {@link FailureHandler}.
+     * @param <V> The type of the value of the {@link TemporalParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N, V> extends ConvertedParameter.FailureHandler<N, V>,
+                                                  IsBeforeFailureCallback<N, V>,
+                                                  IsAfterFailureCallback<N, V>,
+                                                  IsWithinFailureCallback<N, V>
+    {
+
+        /**
+         * Notifies the {@link IsBeforeFailureCallback} that the {@code isBefore} check failed.
+         *
+         * @param parameter The {@link TemporalParameter} on which the {@code isBefore} check failed.
+         * @param upper     The upper bound provided to the {@code isBefore} check that failed.
+         */
+        @Override default void isBeforeFailure(TemporalParameter<N, V> parameter, V upper)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link IsAfterFailureCallback} that the {@code isAfter} check failed.
+         *
+         * @param parameter The {@link TemporalParameter} on which the {@code isAfter} check failed.
+         * @param lower     The lower bound provided to the {@code isAfter} check that failed.
+         */
+        @Override default void isAfterFailure(TemporalParameter<N, V> parameter, V lower)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link IsWithinFailureCallback} that the {@code isWithin} check failed.
+         *
+         * @param parameter The {@link TemporalParameter} on which the {@code isWithin} check failed.
+         * @param lower     The lower bound provided to the {@code isWithin} check that failed.
+         * @param upper     The upper bound provided to the {@code isWithin} check that failed.
+         */
+        @Override default void isWithinFailure(TemporalParameter<N, V> parameter, V lower, V upper)
+        {
+
+        }
+    }
+}
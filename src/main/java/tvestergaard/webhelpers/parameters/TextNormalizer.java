@@ -0,0 +1,198 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Immutable chain of normalization steps applied to the values of {@link TextParameter} instances before they are
+ * checked. The steps are applied in the order they were added.
+ * <p>
+ * Before applying the steps, the text is scanned four characters at a time, packed into a {@code long}, to find out
+ * whether it is ASCII and whether it contains upper case letters. ASCII text is already in every Unicode normalization
+ * form, so when the text is ASCII and needs no trimming or case folding, the text is returned as is, without allocating.
+ */
+public final class TextNormalizer
+{
+
+    /**
+     * The normalization steps available to a {@link TextNormalizer}.
+     */
+    public enum Step
+    {
+        /**
+         * Removes leading and trailing characters less than or equal to {@code ' '}, like {@code String#trim()}.
+         */
+        TRIM,
+
+        /**
+         * Converts the text to Unicode normalization form C.
+         */
+        NFC,
+
+        /**
+         * Converts the text to Unicode normalization form KC.
+         */
+        NFKC,
+
+        /**
+         * Folds the case of the text, so that texts equal ignoring case fold to the same text.
+         */
+        CASE_FOLD
+    }
+
+    /**
+     * The {@link TextNormalizer} that applies no steps.
+     */
+    public static final TextNormalizer NONE = new TextNormalizer(new Step[0]);
+
+    /**
+     * The bits marking characters outside ASCII, in four packed characters.
+     */
+    private static final long NON_ASCII = 0xFF80FF80FF80FF80L;
+
+    /**
+     * The bit 7 of each of four packed characters.
+     */
+    private static final long BIT_7 = 0x0080008000800080L;
+
+    /**
+     * Added to four packed ASCII characters, sets bit 7 of the characters greater than or equal to {@code 'A'}.
+     */
+    private static final long FROM_A = 0x003F003F003F003FL;
+
+    /**
+     * Added to four packed ASCII characters, sets bit 7 of the characters greater than {@code 'Z'}.
+     */
+    private static final long AFTER_Z = 0x0025002500250025L;
+
+    private static final int NOT_ASCII  = 1;
+    private static final int UPPER_CASE = 2;
+
+    /**
+     * The steps of the {@link TextNormalizer}, in the order they are applied.
+     */
+    private final Step[] steps;
+
+    /**
+     * Whether or not the {@link TextNormalizer} trims the text.
+     */
+    private final boolean trims;
+
+    /**
+     * Whether or not the {@link TextNormalizer} folds the case of the text.
+     */
+    private final boolean folds;
+
+    private TextNormalizer(Step[] steps)
+    {
+        this.steps = steps;
+        this.trims = Arrays.asList(steps).contains(Step.TRIM);
+        this.folds = Arrays.asList(steps).contains(Step.CASE_FOLD);
+    }
+
+    /**
+     * Creates a new {@link TextNormalizer} applying the provided steps in order.
+     *
+     * @param steps The steps of the new {@link TextNormalizer}.
+     *
+     * @return The new {@link TextNormalizer}.
+     */
+    public static TextNormalizer of(Step... steps)
+    {
+        return new TextNormalizer(steps.clone());
+    }
+
+    /**
+     * Creates a new {@link TextNormalizer} applying the steps of this {@link TextNormalizer}, followed by the provided
+     * step.
+     *
+     * @param step The step to apply after the steps of this {@link TextNormalizer}.
+     *
+     * @return The new {@link TextNormalizer}.
+     */
+    public TextNormalizer then(Step step)
+    {
+        Step[] steps = Arrays.copyOf(this.steps, this.steps.length + 1);
+        steps[this.steps.length] = step;
+
+        return new TextNormalizer(steps);
+    }
+
+    /**
+     * Applies the steps of the {@link TextNormalizer} to the provided {@code text}.
+     *
+     * @param text The text to normalize.
+     *
+     * @return The normalized text, which is the provided {@code text} instance when the text is already normalized
+     * ASCII, or {@code null} when the provided {@code text} is {@code null}.
+     */
+    public String normalize(String text)
+    {
+        if (text == null || steps.length == 0)
+            return text;
+
+        int properties = scan(text);
+        if ((properties & NOT_ASCII) == 0 && (!trims || !needsTrim(text)) && (!folds || (properties & UPPER_CASE) == 0))
+            return text;
+
+        for (Step step : steps)
+            text = apply(step, text, (properties & NOT_ASCII) == 0);
+
+        return text;
+    }
+
+    private static String apply(Step step, String text, boolean ascii)
+    {
+        switch (step) {
+            case TRIM:
+                return text.trim();
+            case NFC:
+                return ascii || Normalizer.isNormalized(text, Normalizer.Form.NFC) ?
+                       text : Normalizer.normalize(text, Normalizer.Form.NFC);
+            case NFKC:
+                return ascii || Normalizer.isNormalized(text, Normalizer.Form.NFKC) ?
+                       text : Normalizer.normalize(text, Normalizer.Form.NFKC);
+            default:
+                return ascii ? text.toLowerCase(Locale.ROOT) : text.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static boolean needsTrim(String text)
+    {
+        return !text.isEmpty() && (text.charAt(0) <= ' ' || text.charAt(text.length() - 1) <= ' ');
+    }
+
+    /**
+     * Scans the provided {@code text} four characters at a time.
+     *
+     * @return The properties of the text, a combination of {@link TextNormalizer#NOT_ASCII} and
+     * {@link TextNormalizer#UPPER_CASE}. Upper case is only detected in ASCII text.
+     */
+    static int scan(String text)
+    {
+        int  length   = text.length();
+        int  position = 0;
+        long nonAscii = 0;
+        long upper    = 0;
+        for (; position + 4 <= length; position += 4) {
+            long word = text.charAt(position) |
+                        (long) text.charAt(position + 1) << 16 |
+                        (long) text.charAt(position + 2) << 32 |
+                        (long) text.charAt(position + 3) << 48;
+            nonAscii |= word & NON_ASCII;
+            upper |= (word + FROM_A) & ~(word + AFTER_Z) & BIT_7;
+        }
+
+        long word = 0;
+        for (int shift = 0; position < length; position++, shift += 16)
+            word |= (long) text.charAt(position) << shift;
+        nonAscii |= word & NON_ASCII;
+        upper |= (word + FROM_A) & ~(word + AFTER_Z) & BIT_7;
+
+        if (nonAscii != 0)
+            return NOT_ASCII;
+
+        return upper != 0 ? UPPER_CASE : 0;
+    }
+}
@@ -1,5 +1,6 @@
 package tvestergaard.webhelpers.parameters;
 
+import java.util.function.BiPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -11,6 +12,32 @@ public class TextParameter<N> extends ComparableParameter<N, String>
      */
     private final Iterable<? extends FailureHandler<N>> failureHandlers;
 
+    /**
+     * The {@link TextNormalizer} applied to the values bound to the {@link TextParameter}.
+     */
+    private final TextNormalizer normalizer;
+
+    /**
+     * The value of the {@link TextParameter} before it was normalized.
+     */
+    private String rawValue;
+
+    /**
+     * The {@link CheckCache} memoizing the results of the pure checks performed on the {@link TextParameter},
+     * {@code null} when the results are not cached.
+     */
+    private final CheckCache checkCache;
+
+    /**
+     * Performs a {@code Pattern} check through the {@link CheckCache}.
+     */
+    private static final BiPredicate<Pattern, String> FIND = (pattern, value) -> pattern.matcher(value).find();
+
+    /**
+     * Performs a {@link PureCheck} through the {@link CheckCache}.
+     */
+    private static final BiPredicate<PureCheck<String>, String> PURE = PureCheck::test;
+
     /**
      * Creates a new {@link TextParameter}.
      *
@@ -20,9 +47,68 @@ public class TextParameter<N> extends ComparableParameter<N, String>
      */
     public TextParameter(N name, String value, Iterable<? extends FailureHandler<N>> onFailures)
     {
-        super(name, value, onFailures);
+        this(name, value, TextNormalizer.NONE, onFailures);
+    }
+
+    /**
+     * Creates a new {@link TextParameter}, whose value is the provided {@code value} normalized by the provided
+     * {@link TextNormalizer}. The value is normalized once, and the checks performed on the {@link TextParameter} all
+     * use the normalized value.
+     *
+     * @param name       The name of the {@link TextParameter}.
+     * @param value      The value of the {@link TextParameter} before normalization.
+     * @param normalizer The {@link TextNormalizer} to apply to the value.
+     * @param onFailures The failure handlers to register with the {@link TextParameter}.
+     */
+    public TextParameter(N name, String value, TextNormalizer normalizer, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        this(name, value, normalizer, null, onFailures);
+    }
+
+    /**
+     * Creates a new {@link TextParameter}, whose value is the provided {@code value} normalized by the provided
+     * {@link TextNormalizer}, and whose pure checks, {@code isMatch}, {@code notMatch} and {@code isValid}, are
+     * memoized by the provided {@link CheckCache}.
+     *
+     * @param name       The name of the {@link TextParameter}.
+     * @param value      The value of the {@link TextParameter} before normalization.
+     * @param normalizer The {@link TextNormalizer} to apply to the value.
+     * @param checkCache The {@link CheckCache} memoizing the results of the pure checks, {@code null} to perform the
+     *                   checks every time.
+     * @param onFailures The failure handlers to register with the {@link TextParameter}.
+     */
+    public TextParameter(N name, String value, TextNormalizer normalizer, CheckCache checkCache,
+                         Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, normalizer.normalize(value), onFailures);
 
         this.failureHandlers = onFailures;
+        this.normalizer = normalizer;
+        this.rawValue = value;
+        this.checkCache = checkCache;
+    }
+
+    /**
+     * Binds this instance of {@link TextParameter} to the provided {@code name} and the normalized {@code value}.
+     *
+     * @param name  The new name of the {@link TextParameter}.
+     * @param value The new value of the {@link TextParameter} before normalization.
+     */
+    @Override void rebind(N name, String value)
+    {
+        super.rebind(name, normalizer.normalize(value));
+
+        this.rawValue = value;
+    }
+
+    /**
+     * Returns the value of the {@link TextParameter} before it was normalized.
+     *
+     * @return The value of the {@link TextParameter} before it was normalized.
+     */
+    public String getRawValue()
+    {
+        return this.rawValue;
     }
 
     /**
@@ -274,6 +360,77 @@ public class TextParameter<N> extends ComparableParameter<N, String>
         return isLength(length, failureHandlers);
     }
 
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * equals the provided {@code length}. Measuring stops once the length is known to exceed the provided
+     * {@code length}.
+     *
+     * @param length           The length the value must have for the check to pass.
+     * @param mode             The units in which the length is measured.
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isLength(int length, LengthMode mode, Iterable<? extends IsLengthFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = mode.length(value, length) == length;
+        if (!result) {
+            incrementFailureCount();
+            for (IsLengthFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isLengthFailure(this, length);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * equals the provided {@code length}. Measuring stops once the length is known to exceed the provided
+     * {@code length}.
+     *
+     * @param length          The length the value must have for the check to pass.
+     * @param mode            The units in which the length is measured.
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isLength(int length, LengthMode mode, IsLengthFailureCallback<N> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = mode.length(value, length) == length;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isLengthFailure(this, length);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * equals the provided {@code length}. Measuring stops once the length is known to exceed the provided
+     * {@code length}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @param length The length the value must have for the check to pass.
+     * @param mode   The units in which the length is measured.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isLength(int length, LengthMode mode) throws NullParameterValueException
+    {
+        return isLength(length, mode, failureHandlers);
+    }
+
     /**
      * Functional interface for {@code notLength} check failure handler.
      *
@@ -448,6 +605,77 @@ public class TextParameter<N> extends ComparableParameter<N, String>
         return isShorterThan(length, failureHandlers);
     }
 
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * is less than the provided {@code length}. Measuring stops once the length is known to exceed the provided
+     * {@code length}.
+     *
+     * @param length           The length the value must be shorter than for the check to pass.
+     * @param mode             The units in which the length is measured.
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isShorterThan(int length, LengthMode mode, Iterable<? extends IsShorterThanFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = mode.length(value, length) < length;
+        if (!result) {
+            incrementFailureCount();
+            for (IsShorterThanFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isShorterThanFailure(this, length);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * is less than the provided {@code length}. Measuring stops once the length is known to exceed the provided
+     * {@code length}.
+     *
+     * @param length          The length the value must be shorter than for the check to pass.
+     * @param mode            The units in which the length is measured.
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isShorterThan(int length, LengthMode mode, IsShorterThanFailureCallback<N> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = mode.length(value, length) < length;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isShorterThanFailure(this, length);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * is less than the provided {@code length}. Measuring stops once the length is known to exceed the provided
+     * {@code length}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @param length The length the value must be shorter than for the check to pass.
+     * @param mode   The units in which the length is measured.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isShorterThan(int length, LengthMode mode) throws NullParameterValueException
+    {
+        return isShorterThan(length, mode, failureHandlers);
+    }
+
     /**
      * Functional interface for {@code notShorterThan} check failure handler.
      *
@@ -627,6 +855,77 @@ public class TextParameter<N> extends ComparableParameter<N, String>
         return isLongerThan(upper, failureHandlers);
     }
 
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * is greater than the provided {@code upper}. Measuring stops once the length is known to exceed the provided
+     * {@code upper}.
+     *
+     * @param upper            The length the value must exceed for the check to pass.
+     * @param mode             The units in which the length is measured.
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isLongerThan(int upper, LengthMode mode, Iterable<? extends IsLongerThanFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = mode.length(value, upper) > upper;
+        if (!result) {
+            incrementFailureCount();
+            for (IsLongerThanFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isLongerThanFailure(this, upper);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * is greater than the provided {@code upper}. Measuring stops once the length is known to exceed the provided
+     * {@code upper}.
+     *
+     * @param upper           The length the value must exceed for the check to pass.
+     * @param mode            The units in which the length is measured.
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isLongerThan(int upper, LengthMode mode, IsLongerThanFailureCallback<N> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = mode.length(value, upper) > upper;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isLongerThanFailure(this, upper);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the length of the value in the {@link TextParameter}, measured in the provided {@code mode},
+     * is greater than the provided {@code upper}. Measuring stops once the length is known to exceed the provided
+     * {@code upper}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @param upper  The length the value must exceed for the check to pass.
+     * @param mode   The units in which the length is measured.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isLongerThan(int upper, LengthMode mode) throws NullParameterValueException
+    {
+        return isLongerThan(upper, mode, failureHandlers);
+    }
+
     /**
      * Functional interface for {@code notLongerThan} check failure handler.
      *
@@ -756,7 +1055,7 @@ public class TextParameter<N> extends ComparableParameter<N, String>
     {
         nullCheck();
 
-        boolean result = pattern.matcher(value).find();
+        boolean result = find(pattern);
         if (!result) {
             incrementFailureCount();
             for (IsMatchFailureCallback<N> failureCallback : failureCallbacks)
@@ -780,7 +1079,7 @@ public class TextParameter<N> extends ComparableParameter<N, String>
     {
         nullCheck();
 
-        boolean result = pattern.matcher(value).find();
+        boolean result = find(pattern);
         if (!result) {
             incrementFailureCount();
             failureCallback.isMatchFailure(this, pattern);
@@ -845,7 +1144,7 @@ public class TextParameter<N> extends ComparableParameter<N, String>
     {
         nullCheck();
 
-        boolean result = !pattern.matcher(value).find();
+        boolean result = !find(pattern);
         if (!result) {
             incrementFailureCount();
             for (NotMatchFailureCallback<N> failureCallback : failureCallbacks)
@@ -869,7 +1168,7 @@ public class TextParameter<N> extends ComparableParameter<N, String>
     {
         nullCheck();
 
-        boolean result = !pattern.matcher(value).find();
+        boolean result = !find(pattern);
         if (!result) {
             incrementFailureCount();
             failureCallback.notMatchFailure(this, pattern);
@@ -1088,70 +1387,893 @@ public class TextParameter<N> extends ComparableParameter<N, String>
     }
 
     /**
-     * Throws a {@link NullParameterValueException} is the value in the {@link TextParameter} is {@code null}.
+     * Functional interface for {@code isEmail} check failure handler.
      *
-     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
-     */
-    private void nullCheck() throws NullParameterValueException
-    {
-        if (value == null)
-            throw new NullParameterValueException();
-    }
-
-    /**
-     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
-     * {@link TextParameter}.
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isEmail} check failed.
      *
-     * @param <N> The type of the name on the instance of {@link TextParameter} handled by the failure handler.
+     * @see TextParameter#isEmail()
+     * @see TextParameter#isEmail(IsEmailFailureCallback)
+     * @see TextParameter#isEmail(Iterable)
      */
-    interface FailureHandler<N> extends ComparableParameter.FailureHandler<N, String>,
-                                        IsEmptyFailureCallback<N>,
-                                        NotEmptyFailureCallback<N>,
-                                        IsLengthFailureCallback<N>,
-                                        NotLengthFailureCallback<N>,
-                                        IsLongerThanFailureCallback<N>,
-                                        NotLongerThanFailureCallback<N>,
-                                        IsShorterThanFailureCallback<N>,
-                                        NotShorterThanFailureCallback<N>,
-                                        IsMatchFailureCallback<N>,
-                                        NotMatchFailureCallback<N>,
-                                        IsContainedFailureCallback<N>,
-                                        NotContainedFailureCallback<N>
+    @FunctionalInterface public interface IsEmailFailureCallback<N>
     {
 
         /**
-         * Notifies the {@link IsEmptyFailureCallback} that an {@code isEmpty} check failed.
+         * Notifies this object that an {@code isEmail} check failed.
          *
-         * @param parameter The {@link TextParameter} instance on which the {@code isEmpty} check failed.
+         * @param parameter The {@link TextParameter} instance on which the {@code isEmail} check failed.
          *
-         * @see TextParameter#isEmpty()
-         * @see TextParameter#isEmpty(IsEmptyFailureCallback)
-         * @see TextParameter#isEmpty(Iterable)
+         * @see TextParameter#isEmail()
+         * @see TextParameter#isEmail(IsEmailFailureCallback)
+         * @see TextParameter#isEmail(Iterable)
          */
-        @Override default void isEmptyFailure(TextParameter<N> parameter)
-        {
-
-        }
+        void isEmailFailure(TextParameter<N> parameter);
+    }
 
-        /**
-         * Notifies this object that a {@code notEmpty} check failed.
-         *
-         * @param parameter The {@link TextParameter} instance on which the {@code notEmpty} check failed.
-         *
-         * @see TextParameter#notEmpty()
-         * @see TextParameter#notEmpty(NotEmptyFailureCallback)
-         * @see TextParameter#notEmpty(Iterable)
-         */
-        @Override default void notEmptyFailure(TextParameter<N> parameter)
-        {
+    /**
+     * Checks that the value in the {@link TextParameter} is an email address, consisting of a dot-atom local part and a domain that is a hostname or an IP address literal. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     *
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isEmail(CharSequence)
+     */
+    public boolean isEmail(Iterable<? extends IsEmailFailureCallback<N>> failureCallbacks) throws NullParameterValueException
+    {
+        nullCheck();
 
+        boolean result = TextScanners.isEmail(value);
+        if (!result) {
+            incrementFailureCount();
+            for (IsEmailFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isEmailFailure(this);
         }
 
-        /**
-         * Notifies this object that a {@code isLength} check failed.
-         *
-         * @param parameter The {@link TextParameter} instance on which the {@code isLength} check failed.
-         * @param check     The length provided to the {@code isLength} check that failed.
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is an email address, consisting of a dot-atom local part and a domain that is a hostname or an IP address literal. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     *
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isEmail(CharSequence)
+     */
+    public boolean isEmail(IsEmailFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = TextScanners.isEmail(value);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isEmailFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is an email address, consisting of a dot-atom local part and a domain that is a hostname or an IP address literal. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isEmail(CharSequence)
+     */
+    public boolean isEmail() throws NullParameterValueException
+    {
+        return isEmail(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isUrl} check failure handler.
+     *
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isUrl} check failed.
+     *
+     * @see TextParameter#isUrl()
+     * @see TextParameter#isUrl(IsUrlFailureCallback)
+     * @see TextParameter#isUrl(Iterable)
+     */
+    @FunctionalInterface public interface IsUrlFailureCallback<N>
+    {
+
+        /**
+         * Notifies this object that an {@code isUrl} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isUrl} check failed.
+         *
+         * @see TextParameter#isUrl()
+         * @see TextParameter#isUrl(IsUrlFailureCallback)
+         * @see TextParameter#isUrl(Iterable)
+         */
+        void isUrlFailure(TextParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is a URL with a scheme, an authority and an optional path, query and fragment. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     *
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isUrl(CharSequence)
+     */
+    public boolean isUrl(Iterable<? extends IsUrlFailureCallback<N>> failureCallbacks) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = TextScanners.isUrl(value);
+        if (!result) {
+            incrementFailureCount();
+            for (IsUrlFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isUrlFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is a URL with a scheme, an authority and an optional path, query and fragment. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     *
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isUrl(CharSequence)
+     */
+    public boolean isUrl(IsUrlFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = TextScanners.isUrl(value);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isUrlFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is a URL with a scheme, an authority and an optional path, query and fragment. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isUrl(CharSequence)
+     */
+    public boolean isUrl() throws NullParameterValueException
+    {
+        return isUrl(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isHostname} check failure handler.
+     *
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isHostname} check failed.
+     *
+     * @see TextParameter#isHostname()
+     * @see TextParameter#isHostname(IsHostnameFailureCallback)
+     * @see TextParameter#isHostname(Iterable)
+     */
+    @FunctionalInterface public interface IsHostnameFailureCallback<N>
+    {
+
+        /**
+         * Notifies this object that a {@code isHostname} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isHostname} check failed.
+         *
+         * @see TextParameter#isHostname()
+         * @see TextParameter#isHostname(IsHostnameFailureCallback)
+         * @see TextParameter#isHostname(Iterable)
+         */
+        void isHostnameFailure(TextParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is a hostname of dot separated labels. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     *
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isHostname(CharSequence)
+     */
+    public boolean isHostname(Iterable<? extends IsHostnameFailureCallback<N>> failureCallbacks) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = TextScanners.isHostname(value);
+        if (!result) {
+            incrementFailureCount();
+            for (IsHostnameFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isHostnameFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is a hostname of dot separated labels. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     *
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isHostname(CharSequence)
+     */
+    public boolean isHostname(IsHostnameFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = TextScanners.isHostname(value);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isHostnameFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is a hostname of dot separated labels. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isHostname(CharSequence)
+     */
+    public boolean isHostname() throws NullParameterValueException
+    {
+        return isHostname(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isInetAddress} check failure handler.
+     *
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isInetAddress} check failed.
+     *
+     * @see TextParameter#isInetAddress()
+     * @see TextParameter#isInetAddress(IsInetAddressFailureCallback)
+     * @see TextParameter#isInetAddress(Iterable)
+     */
+    @FunctionalInterface public interface IsInetAddressFailureCallback<N>
+    {
+
+        /**
+         * Notifies this object that an {@code isInetAddress} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isInetAddress} check failed.
+         *
+         * @see TextParameter#isInetAddress()
+         * @see TextParameter#isInetAddress(IsInetAddressFailureCallback)
+         * @see TextParameter#isInetAddress(Iterable)
+         */
+        void isInetAddressFailure(TextParameter<N> parameter);
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is an IPv4 or IPv6 address. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     *
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isInetAddress(CharSequence)
+     */
+    public boolean isInetAddress(Iterable<? extends IsInetAddressFailureCallback<N>> failureCallbacks) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = TextScanners.isInetAddress(value);
+        if (!result) {
+            incrementFailureCount();
+            for (IsInetAddressFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isInetAddressFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is an IPv4 or IPv6 address. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     *
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isInetAddress(CharSequence)
+     */
+    public boolean isInetAddress(IsInetAddressFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = TextScanners.isInetAddress(value);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isInetAddressFailure(this);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is an IPv4 or IPv6 address. The value in the {@link TextParameter} must not be
+     * {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see TextScanners#isInetAddress(CharSequence)
+     */
+    public boolean isInetAddress() throws NullParameterValueException
+    {
+        return isInetAddress(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isAlphanumeric} check failure handler.
+     *
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isAlphanumeric} check failed.
+     *
+     * @see TextParameter#isAlphanumeric()
+     * @see TextParameter#isAlphanumeric(IsAlphanumericFailureCallback)
+     * @see TextParameter#isAlphanumeric(Iterable)
+     */
+    @FunctionalInterface public interface IsAlphanumericFailureCallback<N>
+    {
+
+        /**
+         * Notifies this object that an {@code isAlphanumeric} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isAlphanumeric} check failed.
+         * @param index     The index of the first character of the value that is not ASCII letters or digits, or {@code 0}
+         *                  when the value is empty.
+         *
+         * @see TextParameter#isAlphanumeric()
+         * @see TextParameter#isAlphanumeric(IsAlphanumericFailureCallback)
+         * @see TextParameter#isAlphanumeric(Iterable)
+         */
+        void isAlphanumericFailure(TextParameter<N> parameter, int index);
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * ASCII letters or digits. The value in the {@link TextParameter} must not be {@code null}.
+     *
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isAlphanumeric(Iterable<? extends IsAlphanumericFailureCallback<N>> failureCallbacks) throws NullParameterValueException
+    {
+        nullCheck();
+
+        int index = indexOfNonMember(CharClass.ALPHANUMERIC);
+        if (index >= 0) {
+            incrementFailureCount();
+            for (IsAlphanumericFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isAlphanumericFailure(this, index);
+        }
+
+        return index < 0;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * ASCII letters or digits. The value in the {@link TextParameter} must not be {@code null}.
+     *
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isAlphanumeric(IsAlphanumericFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        int index = indexOfNonMember(CharClass.ALPHANUMERIC);
+        if (index >= 0) {
+            incrementFailureCount();
+            failureCallback.isAlphanumericFailure(this, index);
+        }
+
+        return index < 0;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * ASCII letters or digits. The value in the {@link TextParameter} must not be {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isAlphanumeric() throws NullParameterValueException
+    {
+        return isAlphanumeric(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isDigits} check failure handler.
+     *
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isDigits} check failed.
+     *
+     * @see TextParameter#isDigits()
+     * @see TextParameter#isDigits(IsDigitsFailureCallback)
+     * @see TextParameter#isDigits(Iterable)
+     */
+    @FunctionalInterface public interface IsDigitsFailureCallback<N>
+    {
+
+        /**
+         * Notifies this object that an {@code isDigits} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isDigits} check failed.
+         * @param index     The index of the first character of the value that is not ASCII digits, or {@code 0}
+         *                  when the value is empty.
+         *
+         * @see TextParameter#isDigits()
+         * @see TextParameter#isDigits(IsDigitsFailureCallback)
+         * @see TextParameter#isDigits(Iterable)
+         */
+        void isDigitsFailure(TextParameter<N> parameter, int index);
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * ASCII digits. The value in the {@link TextParameter} must not be {@code null}.
+     *
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isDigits(Iterable<? extends IsDigitsFailureCallback<N>> failureCallbacks) throws NullParameterValueException
+    {
+        nullCheck();
+
+        int index = indexOfNonMember(CharClass.DIGITS);
+        if (index >= 0) {
+            incrementFailureCount();
+            for (IsDigitsFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isDigitsFailure(this, index);
+        }
+
+        return index < 0;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * ASCII digits. The value in the {@link TextParameter} must not be {@code null}.
+     *
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isDigits(IsDigitsFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        int index = indexOfNonMember(CharClass.DIGITS);
+        if (index >= 0) {
+            incrementFailureCount();
+            failureCallback.isDigitsFailure(this, index);
+        }
+
+        return index < 0;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * ASCII digits. The value in the {@link TextParameter} must not be {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isDigits() throws NullParameterValueException
+    {
+        return isDigits(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isAsciiPrintable} check failure handler.
+     *
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isAsciiPrintable} check failed.
+     *
+     * @see TextParameter#isAsciiPrintable()
+     * @see TextParameter#isAsciiPrintable(IsAsciiPrintableFailureCallback)
+     * @see TextParameter#isAsciiPrintable(Iterable)
+     */
+    @FunctionalInterface public interface IsAsciiPrintableFailureCallback<N>
+    {
+
+        /**
+         * Notifies this object that an {@code isAsciiPrintable} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isAsciiPrintable} check failed.
+         * @param index     The index of the first character of the value that is not printable ASCII characters, or {@code 0}
+         *                  when the value is empty.
+         *
+         * @see TextParameter#isAsciiPrintable()
+         * @see TextParameter#isAsciiPrintable(IsAsciiPrintableFailureCallback)
+         * @see TextParameter#isAsciiPrintable(Iterable)
+         */
+        void isAsciiPrintableFailure(TextParameter<N> parameter, int index);
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * printable ASCII characters. The value in the {@link TextParameter} must not be {@code null}.
+     *
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isAsciiPrintable(Iterable<? extends IsAsciiPrintableFailureCallback<N>> failureCallbacks) throws NullParameterValueException
+    {
+        nullCheck();
+
+        int index = indexOfNonMember(CharClass.ASCII_PRINTABLE);
+        if (index >= 0) {
+            incrementFailureCount();
+            for (IsAsciiPrintableFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isAsciiPrintableFailure(this, index);
+        }
+
+        return index < 0;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * printable ASCII characters. The value in the {@link TextParameter} must not be {@code null}.
+     *
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isAsciiPrintable(IsAsciiPrintableFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        int index = indexOfNonMember(CharClass.ASCII_PRINTABLE);
+        if (index >= 0) {
+            incrementFailureCount();
+            failureCallback.isAsciiPrintableFailure(this, index);
+        }
+
+        return index < 0;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * printable ASCII characters. The value in the {@link TextParameter} must not be {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isAsciiPrintable() throws NullParameterValueException
+    {
+        return isAsciiPrintable(failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isInCharset} check failure handler.
+     *
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isInCharset} check failed.
+     *
+     * @see TextParameter#isInCharset(CharClass)
+     * @see TextParameter#isInCharset(CharClass, IsInCharsetFailureCallback)
+     * @see TextParameter#isInCharset(CharClass, Iterable)
+     */
+    @FunctionalInterface public interface IsInCharsetFailureCallback<N>
+    {
+
+        /**
+         * Notifies this object that an {@code isInCharset} check failed.
+         *
+         * @param parameter  The {@link TextParameter} instance on which the {@code isInCharset} check failed.
+         * @param charClass The {@link CharClass} provided to the {@code isInCharset} check that failed.
+         * @param index      The index of the first character of the value that is not members of the provided {@link CharClass}, or {@code 0}
+         *                   when the value is empty.
+         *
+         * @see TextParameter#isInCharset(CharClass)
+         * @see TextParameter#isInCharset(CharClass, IsInCharsetFailureCallback)
+         * @see TextParameter#isInCharset(CharClass, Iterable)
+         */
+        void isInCharsetFailure(TextParameter<N> parameter, CharClass charClass, int index);
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * members of the provided {@link CharClass}. The value in the {@link TextParameter} must not be {@code null}.
+     *
+     * @param charClass        The {@link CharClass} the characters of the value must be members of.
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isInCharset(CharClass charClass, Iterable<? extends IsInCharsetFailureCallback<N>> failureCallbacks) throws NullParameterValueException
+    {
+        nullCheck();
+
+        int index = indexOfNonMember(charClass);
+        if (index >= 0) {
+            incrementFailureCount();
+            for (IsInCharsetFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isInCharsetFailure(this, charClass, index);
+        }
+
+        return index < 0;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * members of the provided {@link CharClass}. The value in the {@link TextParameter} must not be {@code null}.
+     *
+     * @param charClass       The {@link CharClass} the characters of the value must be members of.
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isInCharset(CharClass charClass, IsInCharsetFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        int index = indexOfNonMember(charClass);
+        if (index >= 0) {
+            incrementFailureCount();
+            failureCallback.isInCharsetFailure(this, charClass, index);
+        }
+
+        return index < 0;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} is not empty, and consists only of characters that are
+     * members of the provided {@link CharClass}. The value in the {@link TextParameter} must not be {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @param charClass The {@link CharClass} the characters of the value must be members of.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     * @see CharClass#indexOfNonMember(CharSequence)
+     */
+    public boolean isInCharset(CharClass charClass) throws NullParameterValueException
+    {
+        return isInCharset(charClass, failureHandlers);
+    }
+
+    /**
+     * Returns the index of the first character of the value that is not a member of the provided {@link CharClass}.
+     *
+     * @return The index of the first character that is not a member, {@code 0} when the value is empty, and {@code -1}
+     * when all the characters are members.
+     */
+    private int indexOfNonMember(CharClass charClass)
+    {
+        return value.isEmpty() ? 0 : charClass.indexOfNonMember(value);
+    }
+
+    /**
+     * Functional interface for {@code isValid} check failure handler.
+     *
+     * @param <N> The type of the name of the {@link TextParameter} on which the {@code isValid} check failed.
+     *
+     * @see TextParameter#isValid(PureCheck)
+     * @see TextParameter#isValid(PureCheck, IsValidFailureCallback)
+     * @see TextParameter#isValid(PureCheck, Iterable)
+     */
+    @FunctionalInterface public interface IsValidFailureCallback<N>
+    {
+
+        /**
+         * Notifies this object that an {@code isValid} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isValid} check failed.
+         * @param check     The {@link PureCheck} provided to the {@code isValid} check that failed.
+         *
+         * @see TextParameter#isValid(PureCheck)
+         * @see TextParameter#isValid(PureCheck, IsValidFailureCallback)
+         * @see TextParameter#isValid(PureCheck, Iterable)
+         */
+        void isValidFailure(TextParameter<N> parameter, PureCheck<String> check);
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} passes the provided {@link PureCheck}. The result is taken from
+     * the {@link CheckCache} of the {@link TextParameter} when the value was checked before. The value in the
+     * {@link TextParameter} must not be {@code null}.
+     *
+     * @param check            The {@link PureCheck} the value must pass for the check to pass.
+     * @param failureCallbacks The failure callbacks to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isValid(PureCheck<String> check, Iterable<? extends IsValidFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = checkCache == null ? check.test(value) : checkCache.test(check, value, PURE);
+        if (!result) {
+            incrementFailureCount();
+            for (IsValidFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isValidFailure(this, check);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} passes the provided {@link PureCheck}. The result is taken from
+     * the {@link CheckCache} of the {@link TextParameter} when the value was checked before. The value in the
+     * {@link TextParameter} must not be {@code null}.
+     *
+     * @param check           The {@link PureCheck} the value must pass for the check to pass.
+     * @param failureCallback The failure callback to notify in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isValid(PureCheck<String> check, IsValidFailureCallback<N> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = checkCache == null ? check.test(value) : checkCache.test(check, value, PURE);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isValidFailure(this, check);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value in the {@link TextParameter} passes the provided {@link PureCheck}. The result is taken from
+     * the {@link CheckCache} of the {@link TextParameter} when the value was checked before by the same instance of
+     * {@link PureCheck}, compared by identity. The value in the {@link TextParameter} must not be {@code null}.
+     * <p>
+     * Notifies the {@link TextParameter.FailureHandler} instances provided to this object in case the check fails.
+     *
+     * @param check The {@link PureCheck} the value must pass for the check to pass.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    public boolean isValid(PureCheck<String> check) throws NullParameterValueException
+    {
+        return isValid(check, failureHandlers);
+    }
+
+    /**
+     * Returns whether or not the value of the {@link TextParameter} contains a match of the provided {@code pattern},
+     * using the {@link CheckCache} when one was provided.
+     */
+    private boolean find(Pattern pattern)
+    {
+        return checkCache == null ? pattern.matcher(value).find() : checkCache.test(pattern, value, FIND);
+    }
+
+    /**
+     * Throws a {@link NullParameterValueException} is the value in the {@link TextParameter} is {@code null}.
+     *
+     * @throws NullParameterValueException When the value in the {@link TextParameter} is {@code null}.
+     */
+    private void nullCheck() throws NullParameterValueException
+    {
+        if (value == null)
+            throw new NullParameterValueException();
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link TextParameter}.
+     *
+     * @param <N> The type of the name on the instance of {@link TextParameter} handled by the failure handler.
+     */
+    interface FailureHandler<N> extends ComparableParameter.FailureHandler<N, String>,
+                                        IsEmptyFailureCallback<N>,
+                                        NotEmptyFailureCallback<N>,
+                                        IsLengthFailureCallback<N>,
+                                        NotLengthFailureCallback<N>,
+                                        IsLongerThanFailureCallback<N>,
+                                        NotLongerThanFailureCallback<N>,
+                                        IsShorterThanFailureCallback<N>,
+                                        NotShorterThanFailureCallback<N>,
+                                        IsMatchFailureCallback<N>,
+                                        NotMatchFailureCallback<N>,
+                                        IsContainedFailureCallback<N>,
+                                        NotContainedFailureCallback<N>,
+                                        IsEmailFailureCallback<N>,
+                                        IsUrlFailureCallback<N>,
+                                        IsHostnameFailureCallback<N>,
+                                        IsInetAddressFailureCallback<N>,
+                                        IsAlphanumericFailureCallback<N>,
+                                        IsDigitsFailureCallback<N>,
+                                        IsAsciiPrintableFailureCallback<N>,
+                                        IsInCharsetFailureCallback<N>,
+                                        IsValidFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsEmptyFailureCallback} that an {@code isEmpty} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isEmpty} check failed.
+         *
+         * @see TextParameter#isEmpty()
+         * @see TextParameter#isEmpty(IsEmptyFailureCallback)
+         * @see TextParameter#isEmpty(Iterable)
+         */
+        @Override default void isEmptyFailure(TextParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies this object that a {@code notEmpty} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code notEmpty} check failed.
+         *
+         * @see TextParameter#notEmpty()
+         * @see TextParameter#notEmpty(NotEmptyFailureCallback)
+         * @see TextParameter#notEmpty(Iterable)
+         */
+        @Override default void notEmptyFailure(TextParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies this object that a {@code isLength} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isLength} check failed.
+         * @param check     The length provided to the {@code isLength} check that failed.
          *
          * @see TextParameter#isLength(int)
          * @see TextParameter#isLength(int, IsLengthFailureCallback)
@@ -1296,5 +2418,141 @@ public class TextParameter<N> extends ComparableParameter<N, String>
         {
 
         }
+
+        /**
+         * Notifies this object that an {@code isEmail} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isEmail} check failed.
+         *
+         * @see TextParameter#isEmail()
+         * @see TextParameter#isEmail(IsEmailFailureCallback)
+         * @see TextParameter#isEmail(Iterable)
+         */
+        @Override default void isEmailFailure(TextParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies this object that an {@code isUrl} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isUrl} check failed.
+         *
+         * @see TextParameter#isUrl()
+         * @see TextParameter#isUrl(IsUrlFailureCallback)
+         * @see TextParameter#isUrl(Iterable)
+         */
+        @Override default void isUrlFailure(TextParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies this object that a {@code isHostname} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isHostname} check failed.
+         *
+         * @see TextParameter#isHostname()
+         * @see TextParameter#isHostname(IsHostnameFailureCallback)
+         * @see TextParameter#isHostname(Iterable)
+         */
+        @Override default void isHostnameFailure(TextParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies this object that an {@code isInetAddress} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isInetAddress} check failed.
+         *
+         * @see TextParameter#isInetAddress()
+         * @see TextParameter#isInetAddress(IsInetAddressFailureCallback)
+         * @see TextParameter#isInetAddress(Iterable)
+         */
+        @Override default void isInetAddressFailure(TextParameter<N> parameter)
+        {
+
+        }
+
+        /**
+         * Notifies this object that an {@code isAlphanumeric} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isAlphanumeric} check failed.
+         * @param index     The index of the first character of the value that is not ASCII letters or digits, or {@code 0}
+         *                  when the value is empty.
+         *
+         * @see TextParameter#isAlphanumeric()
+         * @see TextParameter#isAlphanumeric(IsAlphanumericFailureCallback)
+         * @see TextParameter#isAlphanumeric(Iterable)
+         */
+        @Override default void isAlphanumericFailure(TextParameter<N> parameter, int index)
+        {
+
+        }
+
+        /**
+         * Notifies this object that an {@code isDigits} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isDigits} check failed.
+         * @param index     The index of the first character of the value that is not ASCII digits, or {@code 0}
+         *                  when the value is empty.
+         *
+         * @see TextParameter#isDigits()
+         * @see TextParameter#isDigits(IsDigitsFailureCallback)
+         * @see TextParameter#isDigits(Iterable)
+         */
+        @Override default void isDigitsFailure(TextParameter<N> parameter, int index)
+        {
+
+        }
+
+        /**
+         * Notifies this object that an {@code isAsciiPrintable} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isAsciiPrintable} check failed.
+         * @param index     The index of the first character of the value that is not printable ASCII characters, or {@code 0}
+         *                  when the value is empty.
+         *
+         * @see TextParameter#isAsciiPrintable()
+         * @see TextParameter#isAsciiPrintable(IsAsciiPrintableFailureCallback)
+         * @see TextParameter#isAsciiPrintable(Iterable)
+         */
+        @Override default void isAsciiPrintableFailure(TextParameter<N> parameter, int index)
+        {
+
+        }
+
+        /**
+         * Notifies this object that an {@code isInCharset} check failed.
+         *
+         * @param parameter  The {@link TextParameter} instance on which the {@code isInCharset} check failed.
+         * @param charClass The {@link CharClass} provided to the {@code isInCharset} check that failed.
+         * @param index      The index of the first character of the value that is not members of the provided {@link CharClass}, or {@code 0}
+         *                   when the value is empty.
+         *
+         * @see TextParameter#isInCharset(CharClass)
+         * @see TextParameter#isInCharset(CharClass, IsInCharsetFailureCallback)
+         * @see TextParameter#isInCharset(CharClass, Iterable)
+         */
+        @Override default void isInCharsetFailure(TextParameter<N> parameter, CharClass charClass, int index)
+        {
+
+        }
+
+        /**
+         * Notifies this object that an {@code isValid} check failed.
+         *
+         * @param parameter The {@link TextParameter} instance on which the {@code isValid} check failed.
+         * @param check     The {@link PureCheck} provided to the {@code isValid} check that failed.
+         *
+         * @see TextParameter#isValid(PureCheck)
+         * @see TextParameter#isValid(PureCheck, IsValidFailureCallback)
+         * @see TextParameter#isValid(PureCheck, Iterable)
+         */
+        @Override default void isValidFailure(TextParameter<N> parameter, PureCheck<String> check)
+        {
+
+        }
     }
 }
@@ -0,0 +1,464 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * Single-pass scanners validating email addresses, URLs, hostnames and IP addresses. The scanners classify characters
+ * using a lookup table, and work on offsets into the scanned text, so they allocate nothing.
+ * <p>
+ * The accepted syntax is a practical subset of the relevant RFCs:
+ * <ul>
+ * <li>Hostnames: dot separated labels of letters, digits and hyphens, not starting or ending with a hyphen. Labels are
+ * at most 63 characters, and the hostname is at most 253 characters.</li>
+ * <li>IP addresses: dotted quad IPv4 addresses without leading zeros, and IPv6 addresses with optional {@code ::}
+ * compression and an optional embedded IPv4 address.</li>
+ * <li>Email addresses: a dot-atom local part of at most 64 characters, and a domain that is either a hostname with at
+ * least two labels or an IP address literal in brackets. Quoted local parts are not accepted.</li>
+ * <li>URLs: a scheme followed by {@code ://}, an authority with optional user information and port, and an optional
+ * path, query and fragment, in which percent-encoded bytes must be well formed.</li>
+ * </ul>
+ */
+final class TextScanners
+{
+
+    /**
+     * The characters allowed in the local part of email addresses, besides dots.
+     */
+    private static final int ATEXT = 1;
+
+    /**
+     * The characters allowed in hostname labels.
+     */
+    private static final int LABEL = 1 << 1;
+
+    /**
+     * The characters allowed in URL schemes, after the first letter.
+     */
+    private static final int SCHEME = 1 << 2;
+
+    /**
+     * The characters allowed in the user information of URLs, besides percent-encoded bytes.
+     */
+    private static final int USERINFO = 1 << 3;
+
+    /**
+     * The characters allowed in URL paths, besides percent-encoded bytes.
+     */
+    private static final int PATH = 1 << 4;
+
+    /**
+     * The characters allowed in URL queries and fragments, besides percent-encoded bytes.
+     */
+    private static final int QUERY = 1 << 5;
+
+    /**
+     * The hex digits.
+     */
+    private static final int HEX = 1 << 6;
+
+    /**
+     * The letters.
+     */
+    private static final int ALPHA = 1 << 7;
+
+    /**
+     * The classes of the ASCII characters.
+     */
+    private static final int[] classes = createClasses();
+
+    private TextScanners()
+    {
+
+    }
+
+    /**
+     * Checks that the provided text is a hostname.
+     *
+     * @param text The text to check.
+     *
+     * @return {@code true} if the provided text is a hostname.
+     */
+    static boolean isHostname(CharSequence text)
+    {
+        return isHostname(text, 0, text.length(), 1);
+    }
+
+    /**
+     * Checks that the provided text is an IPv4 or IPv6 address.
+     *
+     * @param text The text to check.
+     *
+     * @return {@code true} if the provided text is an IPv4 or IPv6 address.
+     */
+    static boolean isInetAddress(CharSequence text)
+    {
+        return ipv4(text, 0, text.length()) >= 0 || ipv6(text, 0, text.length(), null);
+    }
+
+    /**
+     * Checks that the provided text is an email address.
+     *
+     * @param text The text to check.
+     *
+     * @return {@code true} if the provided text is an email address.
+     */
+    static boolean isEmail(CharSequence text)
+    {
+        int length = text.length();
+        if (length > 254)
+            return false;
+
+        int     position = 0;
+        boolean dot      = true;
+        for (; position < length; position++) {
+            char c = text.charAt(position);
+            if (c == '@')
+                break;
+            if (c == '.') {
+                if (dot)
+                    return false;
+                dot = true;
+            } else if (is(c, ATEXT)) {
+                dot = false;
+            } else {
+                return false;
+            }
+        }
+
+        if (position == 0 || position > 64 || position == length || dot)
+            return false;
+
+        int domain = position + 1;
+        if (domain < length && text.charAt(domain) == '[') {
+            if (text.charAt(length - 1) != ']')
+                return false;
+            if (ipv4(text, domain + 1, length - 1) >= 0)
+                return true;
+            return startsWith(text, domain + 1, "IPv6:") && ipv6(text, domain + 6, length - 1, null);
+        }
+
+        return isHostname(text, domain, length, 2);
+    }
+
+    /**
+     * Checks that the provided text is a URL.
+     *
+     * @param text The text to check.
+     *
+     * @return {@code true} if the provided text is a URL.
+     */
+    static boolean isUrl(CharSequence text)
+    {
+        int length = text.length();
+        if (length == 0 || !is(text.charAt(0), ALPHA))
+            return false;
+
+        int position = 1;
+        while (position < length && is(text.charAt(position), SCHEME))
+            position++;
+
+        if (!startsWith(text, position, "://"))
+            return false;
+        position += 3;
+
+        int authority = position;
+        while (position < length) {
+            char c = text.charAt(position);
+            if (c == '/' || c == '?' || c == '#')
+                break;
+            position++;
+        }
+
+        if (!isAuthority(text, authority, position))
+            return false;
+
+        int allowed = PATH;
+        for (; position < length; position++) {
+            char c = text.charAt(position);
+            if (c == '%') {
+                if (!isPercentEncoded(text, position, length))
+                    return false;
+                position += 2;
+            } else if (c == '?' && allowed == PATH) {
+                allowed = QUERY;
+            } else if (c == '#' && allowed != 0) {
+                allowed = 0;
+            } else if (!is(c, allowed == 0 ? QUERY : allowed)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Checks that the characters between {@code from} and {@code to} are the authority of a URL.
+     */
+    private static boolean isAuthority(CharSequence text, int from, int to)
+    {
+        int host = from;
+        for (int x = from; x < to; x++) {
+            if (text.charAt(x) == '@') {
+                for (int y = from; y < x; y++) {
+                    char c = text.charAt(y);
+                    if (c == '%') {
+                        if (!isPercentEncoded(text, y, x))
+                            return false;
+                        y += 2;
+                    } else if (!is(c, USERINFO)) {
+                        return false;
+                    }
+                }
+                host = x + 1;
+                break;
+            }
+        }
+
+        int end = to;
+        if (host < to && text.charAt(host) == '[') {
+            int close = host + 1;
+            while (close < to && text.charAt(close) != ']')
+                close++;
+            if (close == to || !ipv6(text, host + 1, close, null))
+                return false;
+            end = close + 1;
+        } else {
+            for (int x = to - 1; x >= host; x--) {
+                char c = text.charAt(x);
+                if (c == ':') {
+                    end = x;
+                    break;
+                }
+                if (c < '0' || c > '9')
+                    break;
+            }
+
+            if (ipv4(text, host, end) < 0 && !isHostname(text, host, end, 1))
+                return false;
+        }
+
+        if (end == to)
+            return true;
+        if (text.charAt(end) != ':' || end + 1 == to || to - end - 1 > 5)
+            return false;
+
+        int port = 0;
+        for (int x = end + 1; x < to; x++) {
+            int digit = text.charAt(x) - '0';
+            if (digit < 0 || digit > 9)
+                return false;
+            port = port * 10 + digit;
+        }
+
+        return port <= 65535;
+    }
+
+    /**
+     * Checks that the characters between {@code from} and {@code to} are a hostname with at least {@code minLabels}
+     * labels. The last label must not be all digits, so that malformed dotted quads like {@code 999.999.999.999} are
+     * not accepted as hostnames, and must instead pass as IPv4 addresses.
+     */
+    static boolean isHostname(CharSequence text, int from, int to, int minLabels)
+    {
+        if (to - from > 253 || to == from)
+            return false;
+
+        int     labels  = 0;
+        int     start   = from;
+        boolean numeric = true;
+        for (int x = from; x <= to; x++) {
+            char c = x == to ? '.' : text.charAt(x);
+            if (c == '.') {
+                int length = x - start;
+                if (length == 0 || length > 63 || text.charAt(start) == '-' || text.charAt(x - 1) == '-')
+                    return false;
+                if (x == to && numeric)
+                    return false;
+                labels++;
+                start = x + 1;
+                numeric = true;
+            } else if (!is(c, LABEL)) {
+                return false;
+            } else if (c < '0' || c > '9') {
+                numeric = false;
+            }
+        }
+
+        return labels >= minLabels;
+    }
+
+    /**
+     * Parses the dotted quad IPv4 address between {@code from} and {@code to}.
+     *
+     * @return The address as an unsigned 32 bit number, {@code -1} when the characters are not an IPv4 address.
+     */
+    static long ipv4(CharSequence text, int from, int to)
+    {
+        long result = 0;
+        int  octets = 0;
+        int  octet  = 0;
+        int  digits = 0;
+        for (int x = from; x <= to; x++) {
+            char c = x == to ? '.' : text.charAt(x);
+            if (c == '.') {
+                if (digits == 0 || octet > 255 || ++octets > 4)
+                    return -1;
+                result = result << 8 | octet;
+                octet = 0;
+                digits = 0;
+            } else if (c >= '0' && c <= '9') {
+                if (digits > 0 && octet == 0 || ++digits > 3)
+                    return -1;
+                octet = octet * 10 + (c - '0');
+            } else {
+                return -1;
+            }
+        }
+
+        return octets == 4 ? result : -1;
+    }
+
+    /**
+     * Parses the IPv6 address between {@code from} and {@code to}.
+     *
+     * @param bits The array in which the high and low 64 bits of the address are stored, or {@code null} when the
+     *             address should only be validated.
+     *
+     * @return {@code true} if the characters are an IPv6 address.
+     */
+    static boolean ipv6(CharSequence text, int from, int to, long[] bits)
+    {
+        if (to - from < 2)
+            return false;
+
+        // The groups before the :: are collected in head, the groups after it in tail.
+        long headHigh   = 0;
+        long headLow    = 0;
+        long tailHigh   = 0;
+        long tailLow    = 0;
+        int  groups     = 0;
+        int  compressed = -1;
+        int  position   = from;
+
+        if (text.charAt(position) == ':') {
+            if (text.charAt(position + 1) != ':')
+                return false;
+            compressed = 0;
+            position += 2;
+        }
+
+        while (position < to) {
+            int start = position;
+            int group = 0;
+            while (position < to && position - start < 5 && is(text.charAt(position), HEX)) {
+                group = group << 4 | Character.digit(text.charAt(position), 16);
+                position++;
+            }
+
+            int digits = position - start;
+            if (position < to && text.charAt(position) == '.') {
+                long ipv4 = ipv4(text, start, to);
+                if (ipv4 < 0 || groups > 6)
+                    return false;
+                groups += 2;
+                if (compressed < 0) {
+                    headHigh = headHigh << 32 | headLow >>> 32;
+                    headLow = headLow << 32 | ipv4;
+                } else {
+                    tailHigh = tailHigh << 32 | tailLow >>> 32;
+                    tailLow = tailLow << 32 | ipv4;
+                }
+                break;
+            }
+
+            if (digits == 0 || digits > 4 || ++groups > 8)
+                return false;
+
+            if (compressed < 0) {
+                headHigh = headHigh << 16 | headLow >>> 48;
+                headLow = headLow << 16 | group;
+            } else {
+                tailHigh = tailHigh << 16 | tailLow >>> 48;
+                tailLow = tailLow << 16 | group;
+            }
+
+            if (position == to)
+                break;
+            if (text.charAt(position) != ':' || position + 1 == to)
+                return false;
+            position++;
+
+            if (text.charAt(position) == ':') {
+                if (compressed >= 0)
+                    return false;
+                compressed = groups;
+                position++;
+            }
+        }
+
+        if (compressed < 0 ? groups != 8 : groups > 7)
+            return false;
+
+        if (bits != null) {
+            for (int x = compressed < 0 ? 8 : compressed; x < 8; x++) {
+                headHigh = headHigh << 16 | headLow >>> 48;
+                headLow <<= 16;
+            }
+            bits[0] = headHigh | tailHigh;
+            bits[1] = headLow | tailLow;
+        }
+
+        return true;
+    }
+
+    private static boolean isPercentEncoded(CharSequence text, int position, int to)
+    {
+        return position + 2 < to && is(text.charAt(position + 1), HEX) && is(text.charAt(position + 2), HEX);
+    }
+
+    private static boolean startsWith(CharSequence text, int position, String prefix)
+    {
+        if (position + prefix.length() > text.length())
+            return false;
+
+        for (int x = 0; x < prefix.length(); x++)
+            if (text.charAt(position + x) != prefix.charAt(x))
+                return false;
+
+        return true;
+    }
+
+    private static boolean is(char c, int characterClass)
+    {
+        return c < 128 && (classes[c] & characterClass) != 0;
+    }
+
+    private static int[] createClasses()
+    {
+        int[] classes = new int[128];
+        for (char c = 'a'; c <= 'z'; c++)
+            classes[c] |= ALPHA | ATEXT | LABEL | SCHEME | USERINFO | PATH | QUERY;
+        for (char c = 'A'; c <= 'Z'; c++)
+            classes[c] |= ALPHA | ATEXT | LABEL | SCHEME | USERINFO | PATH | QUERY;
+        for (char c = '0'; c <= '9'; c++)
+            classes[c] |= HEX | ATEXT | LABEL | SCHEME | USERINFO | PATH | QUERY;
+        for (char c = 'a'; c <= 'f'; c++)
+            classes[c] |= HEX;
+        for (char c = 'A'; c <= 'F'; c++)
+            classes[c] |= HEX;
+
+        for (char c : "!#$%&'*+/=?^_`{|}~-".toCharArray())
+            classes[c] |= ATEXT;
+
+        classes['-'] |= LABEL;
+        classes['+'] |= SCHEME;
+        classes['-'] |= SCHEME;
+        classes['.'] |= SCHEME;
+
+        for (char c : "-._~!$&'()*+,;=:".toCharArray())
+            classes[c] |= USERINFO | PATH | QUERY;
+        classes['@'] |= PATH | QUERY;
+        classes['/'] |= PATH | QUERY;
+        classes['?'] |= QUERY;
+
+        return classes;
+    }
+}
@@ -0,0 +1,466 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * {@link ConvertedParameter} implementation for {@code UUID}s in the canonical 36 character layout
+ * {@code xxxxxxxx-xxxx-xxxx-xxxx-xxxxxxxxxxxx}. The text is validated and parsed into the two {@code long}s of the
+ * {@code UUID} in a single pass using a hex lookup table, and the checks operate on the two {@code long}s. The
+ * {@code UUID} itself is only created when it is retrieved.
+ *
+ * @param <N> The type of the name of the {@link UuidParameter}.
+ */
+public class UuidParameter<N> extends ConvertedParameter<N, UUID>
+{
+
+    /**
+     * The values of the hex digits, indexed by character. Other characters map to {@code -1}.
+     */
+    private static final byte[] hex = createHex();
+
+    /**
+     * The most significant bits of the value of the {@link UuidParameter}.
+     */
+    private final long mostSignificantBits;
+
+    /**
+     * The least significant bits of the value of the {@link UuidParameter}.
+     */
+    private final long leastSignificantBits;
+
+    /**
+     * Whether or not the text of the {@link UuidParameter} is a {@code UUID} in the canonical layout.
+     */
+    private final boolean wellFormed;
+
+    /**
+     * The failure handlers registered with the {@link UuidParameter}.
+     */
+    private final Iterable<? extends FailureHandler<N>> failureHandlers;
+
+    /**
+     * Creates a new {@link UuidParameter} by parsing the provided {@code text}.
+     *
+     * @param name       The name of the {@link UuidParameter}.
+     * @param text       The text to parse into the value of the {@link UuidParameter}.
+     * @param onFailures The failure handlers to register with the {@link UuidParameter}.
+     */
+    public UuidParameter(N name, String text, Iterable<? extends FailureHandler<N>> onFailures)
+    {
+        super(name, null, text, onFailures);
+
+        long most    = 0;
+        long least   = 0;
+        int  invalid = text == null || text.length() != 36 ? -1 : 0;
+        for (int x = 0; invalid == 0 && x < 36; x++) {
+            char c = text.charAt(x);
+            if (x == 8 || x == 13 || x == 18 || x == 23) {
+                invalid |= c == '-' ? 0 : -1;
+                continue;
+            }
+
+            int digit = c < 128 ? hex[c] : -1;
+            invalid |= digit & ~0x0F;
+            if (x < 18)
+                most = most << 4 | digit & 0x0F;
+            else
+                least = least << 4 | digit & 0x0F;
+        }
+
+        this.wellFormed = invalid == 0;
+        this.mostSignificantBits = wellFormed ? most : 0;
+        this.leastSignificantBits = wellFormed ? least : 0;
+        this.failureHandlers = onFailures;
+    }
+
+    /**
+     * Checks that the provided {@code text} is a {@code UUID} in the canonical 36 character layout.
+     *
+     * @param text The text to check.
+     *
+     * @return {@code true} if the provided {@code text} is a {@code UUID} in the canonical layout.
+     */
+    static boolean isCanonical(CharSequence text)
+    {
+        if (text == null || text.length() != 36)
+            return false;
+
+        int invalid = 0;
+        for (int x = 0; x < 36; x++) {
+            char c = text.charAt(x);
+            if (x == 8 || x == 13 || x == 18 || x == 23)
+                invalid |= c == '-' ? 0 : -1;
+            else
+                invalid |= c < 128 ? hex[c] : -1;
+        }
+
+        return invalid >= 0;
+    }
+
+    @Override protected boolean hasValue()
+    {
+        return wellFormed;
+    }
+
+    @Override protected UUID createValue()
+    {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /**
+     * Returns the most significant bits of the value of the {@link UuidParameter}.
+     *
+     * @return The most significant bits of the value of the {@link UuidParameter}.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public long getMostSignificantBits() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return mostSignificantBits;
+    }
+
+    /**
+     * Returns the least significant bits of the value of the {@link UuidParameter}.
+     *
+     * @return The least significant bits of the value of the {@link UuidParameter}.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public long getLeastSignificantBits() throws NullParameterValueException
+    {
+        nullCheck();
+
+        return leastSignificantBits;
+    }
+
+    /**
+     * Functional interface for {@code isVersion} check failures.
+     *
+     * @param <N> The type of the name of the {@link UuidParameter} on which the {@code isVersion} check failed.
+     *
+     * @see UuidParameter#isVersion(int)
+     * @see UuidParameter#isVersion(int, IsVersionFailureCallback)
+     * @see UuidParameter#isVersion(int, Iterable)
+     */
+    @FunctionalInterface public interface IsVersionFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsVersionFailureCallback} that the {@code isVersion} check failed.
+         *
+         * @param parameter The {@link UuidParameter} on which the {@code isVersion} check failed.
+         * @param version   The version provided to the {@code isVersion} check that failed.
+         *
+         * @see UuidParameter#isVersion(int)
+         * @see UuidParameter#isVersion(int, IsVersionFailureCallback)
+         * @see UuidParameter#isVersion(int, Iterable)
+         */
+        void isVersionFailure(UuidParameter<N> parameter, int version);
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} has the provided version.
+     *
+     * @param version          The version the value of the {@link UuidParameter} must have.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isVersion(int version, Iterable<? extends IsVersionFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = version() == version;
+        if (!result) {
+            incrementFailureCount();
+            for (IsVersionFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isVersionFailure(this, version);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} has the provided version.
+     *
+     * @param version         The version the value of the {@link UuidParameter} must have.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isVersion(int version, IsVersionFailureCallback<N> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = version() == version;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isVersionFailure(this, version);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} has the provided version.
+     * Notifies the failure handlers provided to the {@link UuidParameter} in case the check fails.
+     *
+     * @param version The version the value of the {@link UuidParameter} must have.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isVersion(int version) throws NullParameterValueException
+    {
+        return isVersion(version, failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isVariant} check failures.
+     *
+     * @param <N> The type of the name of the {@link UuidParameter} on which the {@code isVariant} check failed.
+     *
+     * @see UuidParameter#isVariant(int)
+     * @see UuidParameter#isVariant(int, IsVariantFailureCallback)
+     * @see UuidParameter#isVariant(int, Iterable)
+     */
+    @FunctionalInterface public interface IsVariantFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsVariantFailureCallback} that the {@code isVariant} check failed.
+         *
+         * @param parameter The {@link UuidParameter} on which the {@code isVariant} check failed.
+         * @param variant   The variant provided to the {@code isVariant} check that failed.
+         *
+         * @see UuidParameter#isVariant(int)
+         * @see UuidParameter#isVariant(int, IsVariantFailureCallback)
+         * @see UuidParameter#isVariant(int, Iterable)
+         */
+        void isVariantFailure(UuidParameter<N> parameter, int variant);
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} has the provided variant, as defined by
+     * {@code UUID#variant()}.
+     *
+     * @param variant          The variant the value of the {@link UuidParameter} must have.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isVariant(int variant, Iterable<? extends IsVariantFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = variant() == variant;
+        if (!result) {
+            incrementFailureCount();
+            for (IsVariantFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isVariantFailure(this, variant);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} has the provided variant, as defined by
+     * {@code UUID#variant()}.
+     *
+     * @param variant         The variant the value of the {@link UuidParameter} must have.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isVariant(int variant, IsVariantFailureCallback<N> failureCallback)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = variant() == variant;
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isVariantFailure(this, variant);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} has the provided variant, as defined by
+     * {@code UUID#variant()}. Notifies the failure handlers provided to the {@link UuidParameter} in case the check
+     * fails.
+     *
+     * @param variant The variant the value of the {@link UuidParameter} must have.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isVariant(int variant) throws NullParameterValueException
+    {
+        return isVariant(variant, failureHandlers);
+    }
+
+    /**
+     * Functional interface for {@code isInSet} check failures.
+     *
+     * @param <N> The type of the name of the {@link UuidParameter} on which the {@code isInSet} check failed.
+     *
+     * @see UuidParameter#isInSet(UuidSet)
+     * @see UuidParameter#isInSet(UuidSet, IsInSetFailureCallback)
+     * @see UuidParameter#isInSet(UuidSet, Iterable)
+     */
+    @FunctionalInterface public interface IsInSetFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsInSetFailureCallback} that the {@code isInSet} check failed.
+         *
+         * @param parameter The {@link UuidParameter} on which the {@code isInSet} check failed.
+         * @param set       The set provided to the {@code isInSet} check that failed.
+         *
+         * @see UuidParameter#isInSet(UuidSet)
+         * @see UuidParameter#isInSet(UuidSet, IsInSetFailureCallback)
+         * @see UuidParameter#isInSet(UuidSet, Iterable)
+         */
+        void isInSetFailure(UuidParameter<N> parameter, UuidSet set);
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} is in the provided {@link UuidSet}.
+     *
+     * @param set              The set that must contain the value of the {@link UuidParameter}.
+     * @param failureCallbacks The callbacks to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isInSet(UuidSet set, Iterable<? extends IsInSetFailureCallback<N>> failureCallbacks)
+            throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = set.contains(mostSignificantBits, leastSignificantBits);
+        if (!result) {
+            incrementFailureCount();
+            for (IsInSetFailureCallback<N> failureCallback : failureCallbacks)
+                failureCallback.isInSetFailure(this, set);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} is in the provided {@link UuidSet}.
+     *
+     * @param set             The set that must contain the value of the {@link UuidParameter}.
+     * @param failureCallback The callback to call in case the check fails.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isInSet(UuidSet set, IsInSetFailureCallback<N> failureCallback) throws NullParameterValueException
+    {
+        nullCheck();
+
+        boolean result = set.contains(mostSignificantBits, leastSignificantBits);
+        if (!result) {
+            incrementFailureCount();
+            failureCallback.isInSetFailure(this, set);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the value of the {@link UuidParameter} is in the provided {@link UuidSet}.
+     * Notifies the failure handlers provided to the {@link UuidParameter} in case the check fails.
+     *
+     * @param set The set that must contain the value of the {@link UuidParameter}.
+     *
+     * @return {@code true} if the check passes, {@code false} if the check fails.
+     * @throws NullParameterValueException When the value in the {@link UuidParameter} is {@code null}.
+     */
+    public boolean isInSet(UuidSet set) throws NullParameterValueException
+    {
+        return isInSet(set, failureHandlers);
+    }
+
+    private int version()
+    {
+        return (int) (mostSignificantBits >>> 12) & 0x0F;
+    }
+
+    private int variant()
+    {
+        return (int) ((leastSignificantBits >>> (64 - (leastSignificantBits >>> 62))) & (leastSignificantBits >> 63));
+    }
+
+    private static byte[] createHex()
+    {
+        byte[] hex = new byte[128];
+        Arrays.fill(hex, (byte) -1);
+        for (int x = 0; x < 10; x++)
+            hex['0' + x] = (byte) x;
+        for (int x = 0; x < 6; x++) {
+            hex['a' + x] = (byte) (10 + x);
+            hex['A' + x] = (byte) (10 + x);
+        }
+
+        return hex;
+    }
+
+    /**
+     * The interface defining the public API of a failure handler that can handle failures of checks on instances of
+     * {@link UuidParameter}.
+     *
+     * @param <N> The type of the name of the {@link UuidParameter} handled by the {@link FailureHandler}.
+     */
+    public interface FailureHandler<N> extends ConvertedParameter.FailureHandler<N, UUID>,
+                                               IsVersionFailureCallback<N>,
+                                               IsVariantFailureCallback<N>,
+                                               IsInSetFailureCallback<N>
+    {
+
+        /**
+         * Notifies the {@link IsVersionFailureCallback} that the {@code isVersion} check failed.
+         *
+         * @param parameter The {@link UuidParameter} on which the {@code isVersion} check failed.
+         * @param version   The version provided to the {@code isVersion} check that failed.
+         */
+        @Override default void isVersionFailure(UuidParameter<N> parameter, int version)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link IsVariantFailureCallback} that the {@code isVariant} check failed.
+         *
+         * @param parameter The {@link UuidParameter} on which the {@code isVariant} check failed.
+         * @param variant   The variant provided to the {@code isVariant} check that failed.
+         */
+        @Override default void isVariantFailure(UuidParameter<N> parameter, int variant)
+        {
+
+        }
+
+        /**
+         * Notifies the {@link IsInSetFailureCallback} that the {@code isInSet} check failed.
+         *
+         * @param parameter The {@link UuidParameter} on which the {@code isInSet} check failed.
+         * @param set       The set provided to the {@code isInSet} check that failed.
+         */
+        @Override default void isInSetFailure(UuidParameter<N> parameter, UuidSet set)
+        {
+
+        }
+    }
+}
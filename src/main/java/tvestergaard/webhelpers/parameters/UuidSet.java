@@ -0,0 +1,140 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Immutable set of {@code UUID}s, stored as pairs of {@code long}s in an open-addressed table. Membership is tested
+ * using the two {@code long}s of a {@code UUID}, so a {@link UuidParameter} can be checked against the set without
+ * creating or comparing {@code UUID} instances.
+ * <p>
+ * Instances of {@link UuidSet} are thread safe, and are meant to be built once and shared.
+ */
+public final class UuidSet
+{
+
+    /**
+     * The most significant bits of the {@code UUID}s in the set, indexed by slot.
+     */
+    private final long[] high;
+
+    /**
+     * The least significant bits of the {@code UUID}s in the set, indexed by slot.
+     */
+    private final long[] low;
+
+    /**
+     * Whether or not the slots are occupied.
+     */
+    private final boolean[] occupied;
+
+    /**
+     * The number of {@code UUID}s in the set.
+     */
+    private final int size;
+
+    private UuidSet(Collection<UUID> uuids)
+    {
+        int capacity = Integer.highestOneBit(Math.max(2, uuids.size() * 2 - 1)) << 1;
+
+        this.high = new long[capacity];
+        this.low = new long[capacity];
+        this.occupied = new boolean[capacity];
+
+        int size = 0;
+        for (UUID uuid : uuids) {
+            long mostSignificantBits  = uuid.getMostSignificantBits();
+            long leastSignificantBits = uuid.getLeastSignificantBits();
+            int  slot                 = slot(mostSignificantBits, leastSignificantBits);
+            if (slot < 0) {
+                slot = -slot - 1;
+                high[slot] = mostSignificantBits;
+                low[slot] = leastSignificantBits;
+                occupied[slot] = true;
+                size++;
+            }
+        }
+
+        this.size = size;
+    }
+
+    /**
+     * Creates a new {@link UuidSet} containing the provided {@code UUID}s.
+     *
+     * @param uuids The {@code UUID}s in the new {@link UuidSet}.
+     *
+     * @return The new {@link UuidSet}.
+     */
+    public static UuidSet of(UUID... uuids)
+    {
+        return new UuidSet(Arrays.asList(uuids));
+    }
+
+    /**
+     * Creates a new {@link UuidSet} containing the provided {@code UUID}s.
+     *
+     * @param uuids The {@code UUID}s in the new {@link UuidSet}.
+     *
+     * @return The new {@link UuidSet}.
+     */
+    public static UuidSet of(Collection<UUID> uuids)
+    {
+        return new UuidSet(uuids);
+    }
+
+    /**
+     * Checks whether or not the {@code UUID} with the provided bits is in the set.
+     *
+     * @param mostSignificantBits  The most significant bits of the {@code UUID}.
+     * @param leastSignificantBits The least significant bits of the {@code UUID}.
+     *
+     * @return {@code true} if the {@code UUID} is in the set, {@code false} otherwise.
+     */
+    public boolean contains(long mostSignificantBits, long leastSignificantBits)
+    {
+        return slot(mostSignificantBits, leastSignificantBits) >= 0;
+    }
+
+    /**
+     * Checks whether or not the provided {@code UUID} is in the set.
+     *
+     * @param uuid The {@code UUID}.
+     *
+     * @return {@code true} if the {@code UUID} is in the set, {@code false} otherwise.
+     */
+    public boolean contains(UUID uuid)
+    {
+        return contains(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Returns the number of {@code UUID}s in the set.
+     *
+     * @return The number of {@code UUID}s in the set.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Finds the slot of the {@code UUID} with the provided bits.
+     *
+     * @return The slot of the {@code UUID}, or {@code -slot - 1} where {@code slot} is the free slot in which the
+     * {@code UUID} would be stored.
+     */
+    private int slot(long mostSignificantBits, long leastSignificantBits)
+    {
+        long hash = (mostSignificantBits ^ leastSignificantBits * 0x9E3779B97F4A7C15L) * 0xC2B2AE3D27D4EB4FL;
+        int  mask = occupied.length - 1;
+        int  slot = (int) (hash ^ hash >>> 32) & mask;
+        while (occupied[slot]) {
+            if (high[slot] == mostSignificantBits && low[slot] == leastSignificantBits)
+                return slot;
+            slot = (slot + 1) & mask;
+        }
+
+        return -slot - 1;
+    }
+}
@@ -0,0 +1,19 @@
+package tvestergaard.webhelpers.parameters;
+
+/**
+ * Validates some subject, notifying the failure handlers of the checks performed along the way.
+ *
+ * @param <T> The type of the subject validated by the {@link Validator}.
+ */
+@FunctionalInterface public interface Validator<T>
+{
+
+    /**
+     * Validates the provided {@code subject}.
+     *
+     * @param subject The subject to validate.
+     *
+     * @return {@code true} if all the checks performed on the {@code subject} passed, {@code false} in all other cases.
+     */
+    boolean validate(T subject);
+}
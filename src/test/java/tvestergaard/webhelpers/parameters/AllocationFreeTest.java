@@ -0,0 +1,166 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static tvestergaard.webhelpers.parameters.AllocationMeter.assertAllocationFree;
+
+public class AllocationFreeTest
+{
+
+    private static final Integer LOWER = 18;
+    private static final Integer UPPER = 130;
+
+    private static final List<String> OTHERS = Arrays.asList("first", "second", "abcDEF123");
+    private static final List<String> ABSENT = Arrays.asList("first", "second");
+
+    /**
+     * Keeps the results of the checks from being optimized away.
+     */
+    private static int sink;
+
+    private static void consume(boolean result)
+    {
+        if (result)
+            sink++;
+    }
+
+    private static TextParameter<String> text(String value)
+    {
+        return new TextParameter<>("name", value, Collections.emptyList());
+    }
+
+    private static IntParameter<String> number(Integer value)
+    {
+        return new IntParameter<>("number", value, Collections.emptyList());
+    }
+
+    @Test
+    public void textParameterChecks() throws Exception
+    {
+        TextParameter<String> text     = text("abcDEF123");
+        TextParameter<String> email    = text("someone@example.com");
+        TextParameter<String> url      = text("https://www.example.com/path/1?q=x");
+        TextParameter<String> hostname = text("www.example.com");
+
+        assertAllocationFree("notEmpty()", () -> consume(text.notEmpty()));
+        assertAllocationFree("isLength(int)", () -> consume(text.isLength(9)));
+        assertAllocationFree("notLongerThan(int)", () -> consume(text.notLongerThan(32)));
+        assertAllocationFree("isLength(int, CODE_POINTS)", () -> consume(text.isLength(9, LengthMode.CODE_POINTS)));
+        assertAllocationFree("isLength(int, UTF8_BYTES)", () -> consume(text.isLength(9, LengthMode.UTF8_BYTES)));
+        assertAllocationFree("isLength(int, GRAPHEMES)", () -> consume(text.isLength(9, LengthMode.GRAPHEMES)));
+        assertAllocationFree("isAlphanumeric()", () -> consume(text.isAlphanumeric()));
+        assertAllocationFree("isInCharset(CharClass)", () -> consume(text.isInCharset(CharClass.ASCII_PRINTABLE)));
+        assertAllocationFree("isEmail()", () -> consume(email.isEmail()));
+        assertAllocationFree("isUrl()", () -> consume(url.isUrl()));
+        assertAllocationFree("isHostname()", () -> consume(hostname.isHostname()));
+    }
+
+    @Test
+    public void textParameterFailuresWithCallback() throws Exception
+    {
+        TextParameter<String> text = text("abcDEF123");
+
+        assertAllocationFree("isEmpty(callback)", () -> consume(text.isEmpty(parameter -> sink++)));
+        assertAllocationFree("notLongerThan(int, callback)", () -> consume(text.notLongerThan(2, (parameter, upper) -> sink++)));
+        assertAllocationFree("isDigits(callback)", () -> consume(text.isDigits((parameter, index) -> sink++)));
+    }
+
+    @Test
+    public void numberParameterChecks() throws Exception
+    {
+        IntParameter<String> number = number(42);
+
+        assertAllocationFree("isBetween(V, V)", () -> consume(number.isBetween(LOWER, UPPER)));
+        assertAllocationFree("isGreaterThan(V)", () -> consume(number.isGreaterThan(LOWER)));
+        assertAllocationFree("notLessThan(V)", () -> consume(number.notLessThan(LOWER)));
+        assertAllocationFree("notNegative()", () -> consume(number.notNegative()));
+    }
+
+    @Test
+    public void numberParameterFailuresWithCallback() throws Exception
+    {
+        IntParameter<String> number = number(42);
+
+        assertAllocationFree("isLessThan(V, callback)", () -> consume(number.isLessThan(LOWER, (parameter, upper) -> sink++)));
+        assertAllocationFree("notGreaterThan(V, callback)", () -> consume(number.notGreaterThan(LOWER, (parameter, upper) -> sink++)));
+        assertAllocationFree("isBetween(V, V, callback)", () -> consume(number.isBetween(UPPER, UPPER, (parameter, lower, upper, inclusive) -> sink++)));
+        assertAllocationFree("notBetween(V, V, callback)", () -> consume(number.notBetween(LOWER, UPPER, (parameter, lower, upper, inclusive) -> sink++)));
+        assertAllocationFree("notPositive(callback)", () -> consume(number.notPositive(parameter -> sink++)));
+        assertAllocationFree("isNegative(callback)", () -> consume(number.isNegative(parameter -> sink++)));
+    }
+
+    @Test
+    public void genericParameterChecks() throws Exception
+    {
+        TextParameter<String> text   = text("abcDEF123");
+        TextParameter<String> absent = text(null);
+        String                equal  = new String("abcDEF123");
+
+        assertAllocationFree("isPresent()", () -> consume(text.isPresent()));
+        assertAllocationFree("isEqual(V)", () -> consume(text.isEqual(equal)));
+        assertAllocationFree("notEqual(V)", () -> consume(text.notEqual("other")));
+        assertAllocationFree("isIn(List)", () -> consume(text.isIn(OTHERS)));
+        assertAllocationFree("notIn(List)", () -> consume(text.notIn(ABSENT)));
+        assertAllocationFree("isPresent(callback)", () -> consume(absent.isPresent(parameter -> sink++)));
+    }
+
+    @Test
+    public void temporalParameterChecks() throws Exception
+    {
+        DateParameter<String>    date     = new DateParameter<>("date", "2017-06-15", Collections.emptyList());
+        InstantParameter<String> instant  = new InstantParameter<>("instant", "2017-06-15T10:00:00Z", Collections.emptyList());
+        long                     epochDay = date.getEpochDay();
+
+        assertAllocationFree("isWellFormed()", () -> consume(date.isWellFormed()));
+        assertAllocationFree("isPresent()", () -> consume(date.isPresent()));
+        assertAllocationFree("isBefore(long)", () -> consume(date.isBefore(epochDay + 1)));
+        assertAllocationFree("isAfter(long)", () -> consume(date.isAfter(epochDay - 1)));
+        assertAllocationFree("isWithin(long, long)", () -> consume(date.isWithin(epochDay, epochDay)));
+        assertAllocationFree("InstantParameter.isBefore(long)", () -> consume(instant.isBefore(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void uuidParameterChecks() throws Exception
+    {
+        UuidParameter<String> uuid = new UuidParameter<>("id", "123e4567-e89b-42d3-a456-426614174000", Collections.emptyList());
+        UuidSet               set  = UuidSet.of(Collections.singletonList(uuid.getValue()));
+
+        assertAllocationFree("isWellFormed()", () -> consume(uuid.isWellFormed()));
+        assertAllocationFree("isVersion(int)", () -> consume(uuid.isVersion(4)));
+        assertAllocationFree("isVariant(int)", () -> consume(uuid.isVariant(2)));
+        assertAllocationFree("isInSet(UuidSet)", () -> consume(uuid.isInSet(set)));
+    }
+
+    @Test
+    public void httpServletRequestParametersViews() throws Exception
+    {
+        Map<String, String> values = new HashMap<>();
+        values.put("name", "abcDEF123");
+        values.put("age", "42");
+
+        HttpServletRequestParameters parameters = new HttpServletRequestParameters(null)
+        {
+            @Override protected String lookup(String name)
+            {
+                return values.get(name);
+            }
+        };
+
+        Consumer<TextParameter<String>> nameChecks = parameter -> {
+            parameter.notEmpty();
+            parameter.notLongerThan(32);
+            parameter.isAlphanumeric();
+        };
+        Consumer<IntParameter<String>> ageChecks = parameter -> parameter.isBetween(LOWER, UPPER);
+
+        assertAllocationFree("onText(name, consumer)", () -> consume(parameters.onText("name", nameChecks)));
+        assertAllocationFree("onInt(name, consumer)", () -> consume(parameters.onInt("age", ageChecks)));
+    }
+}
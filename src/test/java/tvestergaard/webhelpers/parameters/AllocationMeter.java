@@ -0,0 +1,103 @@
+package tvestergaard.webhelpers.parameters;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Measures the number of bytes allocated by the current thread while calling an action, using the
+ * {@code com.sun.management.ThreadMXBean}. The action is called until it is compiled, so that allocations removed by
+ * escape analysis are not counted, and is then measured over a number of rounds, keeping the round allocating the least.
+ * Allocations made once, like those of the meter itself, are amortized over the calls of a round, so any allocation made
+ * on every call amounts to at least a byte per call.
+ */
+final class AllocationMeter
+{
+
+    /**
+     * The number of calls of each round.
+     */
+    private static final int CALLS = 10_000;
+
+    /**
+     * The number of rounds called before measuring.
+     */
+    private static final int WARMUP_ROUNDS = 20;
+
+    /**
+     * The number of rounds measured.
+     */
+    private static final int MEASURED_ROUNDS = 10;
+
+    private AllocationMeter()
+    {
+
+    }
+
+    /**
+     * Returns whether or not the JVM supports measuring the allocations of a thread.
+     *
+     * @return {@code true} when the JVM supports measuring the allocations of a thread.
+     */
+    static boolean isSupported()
+    {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+        return bean instanceof com.sun.management.ThreadMXBean &&
+               ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported() &&
+               ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread.
+     *
+     * @return The number of bytes allocated by the current thread.
+     */
+    static long allocatedBytes()
+    {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the number of bytes allocated per call of the provided {@code action}, after warmup.
+     *
+     * @param action The action to measure.
+     *
+     * @return The number of bytes allocated per call, of the round allocating the least.
+     */
+    static double measure(Runnable action)
+    {
+        for (int round = 0; round < WARMUP_ROUNDS; round++)
+            for (int x = 0; x < CALLS; x++)
+                action.run();
+
+        long least = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS && least > 0; round++) {
+            long before = allocatedBytes();
+            for (int x = 0; x < CALLS; x++)
+                action.run();
+            least = Math.min(least, allocatedBytes() - before);
+        }
+
+        return (double) least / CALLS;
+    }
+
+    /**
+     * Asserts that the provided {@code action} does not allocate once warmed up. The test is skipped when the JVM does
+     * not support measuring the allocations of a thread.
+     *
+     * @param description The description of the action, used in the failure message.
+     * @param action      The action that must not allocate.
+     */
+    static void assertAllocationFree(String description, Runnable action)
+    {
+        assumeTrue("Allocation measurement is not supported by the JVM.", isSupported());
+
+        double bytes = measure(action);
+        if (bytes >= 1)
+            fail(description + " allocated " + bytes + " bytes per call.");
+    }
+}
@@ -0,0 +1,168 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class AsyncChecksTest
+{
+
+    /**
+     * In-memory stand-in for the store of taken usernames.
+     */
+    private final Set<String> takenUsernames = new HashSet<>(Arrays.asList("thomas", "admin"));
+
+    private final AsyncCheck<String> isAvailable = AsyncCheck.blocking(username -> !takenUsernames.contains(username));
+
+    @Test
+    public void allMergesResults() throws Exception
+    {
+        AsyncChecks checks = new AsyncChecks(Runnable::run);
+        int[]       failures = new int[1];
+        TextParameter.FailureHandler<String> handler = new TextParameter.FailureHandler<String>()
+        {
+            @Override public void checkAsyncFailure(GenericParameter<String, String> parameter, AsyncCheck<? super String> check)
+            {
+                failures[0]++;
+            }
+        };
+
+        TextParameter<String> available = new TextParameter<>("username", "vestergaard", Arrays.asList(handler));
+        TextParameter<String> taken     = new TextParameter<>("username", "admin", Arrays.asList(handler));
+
+        available.checkAsync(checks, isAvailable);
+        taken.checkAsync(checks, isAvailable);
+        assertEquals(0, taken.getFailureCount());
+
+        assertFalse(checks.all().toCompletableFuture().get());
+        assertEquals(0, available.getFailureCount());
+        assertEquals(1, taken.getFailureCount());
+        assertEquals(1, failures[0]);
+    }
+
+    @Test
+    public void allPassesWithoutChecks() throws Exception
+    {
+        assertTrue(new AsyncChecks(Runnable::run).all().toCompletableFuture().get());
+    }
+
+    @Test
+    public void checksRunConcurrently() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AsyncChecks        checks  = new AsyncChecks(executor);
+            CountDownLatch     latch   = new CountDownLatch(2);
+            AsyncCheck<String> waiting = AsyncCheck.blocking(value -> {
+                latch.countDown();
+                try {
+                    return latch.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    return false;
+                }
+            });
+
+            new TextParameter<String>("a", "a", Arrays.asList()).checkAsync(checks, waiting);
+            new TextParameter<String>("b", "b", Arrays.asList()).checkAsync(checks, waiting);
+
+            assertTrue(checks.all().toCompletableFuture().get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void allCompletesExceptionally() throws Exception
+    {
+        AsyncChecks           checks    = new AsyncChecks(Runnable::run);
+        TextParameter<String> parameter = new TextParameter<>("username", "thomas", Arrays.asList());
+        parameter.checkAsync(checks, (value, executor) -> {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalStateException());
+            return result;
+        });
+
+        try {
+            checks.all().toCompletableFuture().get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(0, parameter.getFailureCount());
+        }
+    }
+
+    @Test
+    public void allMergesOtherResultsWhenCheckCompletesExceptionally() throws Exception
+    {
+        AsyncChecks           checks    = new AsyncChecks(Runnable::run);
+        TextParameter<String> throwing  = new TextParameter<>("username", "thomas", Arrays.asList());
+        TextParameter<String> taken     = new TextParameter<>("username", "admin", Arrays.asList());
+        throwing.checkAsync(checks, (value, executor) -> {
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            result.completeExceptionally(new IllegalStateException());
+            return result;
+        });
+        taken.checkAsync(checks, isAvailable);
+
+        try {
+            checks.all().toCompletableFuture().get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(0, throwing.getFailureCount());
+            assertEquals(1, taken.getFailureCount());
+        }
+    }
+
+    @Test
+    public void checkAsyncRetainsViewOfOnText() throws Exception
+    {
+        Map<String, String> values = new HashMap<>();
+        values.put("username", "admin");
+        values.put("email", "admin@example.com");
+        Parameters<String> parameters = new HttpServletRequestParameters(null)
+        {
+            @Override protected String lookup(String name)
+            {
+                return values.get(name);
+            }
+        };
+
+        List<String> failures = new ArrayList<>();
+        parameters.addTextFailureHandler(new TextParameter.FailureHandler<String>()
+        {
+            @Override public void checkAsyncFailure(GenericParameter<String, String> parameter, AsyncCheck<? super String> check)
+            {
+                failures.add(parameter.getName() + '=' + parameter.getValue() + ':' + parameter.getFailureCount());
+            }
+        });
+
+        AsyncChecks checks = new AsyncChecks(Runnable::run);
+        assertTrue(parameters.onText("username", parameter -> parameter.checkAsync(checks, isAvailable)));
+        assertTrue(parameters.onText("email", parameter -> parameter.notEmpty()));
+
+        assertFalse(checks.all().toCompletableFuture().get());
+        assertEquals(Collections.singletonList("username=admin:1"), failures);
+    }
+
+    @Test(expected = NullParameterValueException.class)
+    public void checkAsyncThrowsNullValueException() throws Exception
+    {
+        new TextParameter<String>("username", null, Arrays.asList()).checkAsync(new AsyncChecks(), isAvailable);
+    }
+}
@@ -0,0 +1,174 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class AsyncFormParametersTest
+{
+
+    private static CompletableFuture<Parameters<String>> read(AsyncFormParameters parameters, ChunkedInputStream input)
+            throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getInputStream()).thenReturn(input);
+
+        return parameters.read(request).toCompletableFuture();
+    }
+
+    @Test
+    public void read() throws Exception
+    {
+        AsyncFormParameters                   parameters = new AsyncFormParameters(1024, 10, 64);
+        ChunkedInputStream                    input      = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result     = read(parameters, input);
+
+        input.feed("name=Thomas+Vest");
+        input.feed("ergaard&age=2");
+        assertFalse(result.isDone());
+        input.feed("5&city=K%C3%B8benhavn&name=ignored&flag");
+        input.finish();
+
+        assertSame(parameters, result.get());
+        assertEquals("Thomas Vestergaard", parameters.getText("name").getValue());
+        assertEquals(Integer.valueOf(25), parameters.getInt("age").getValue());
+        assertEquals("K\u00f8benhavn", parameters.getText("city").getValue());
+        assertEquals("", parameters.getText("flag").getValue());
+        assertNull(parameters.getText("missing").getValue());
+    }
+
+    @Test
+    public void readRejectsFailedFieldCheck() throws Exception
+    {
+        AsyncFormParameters parameters = new AsyncFormParameters(1024, 10, 64);
+        parameters.addFieldCheck("name", parameter -> parameter.notLongerThan(4));
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(parameters, input);
+
+        input.feed("name=Thomas&");
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals("name", rejection(result).getName());
+        assertFalse(input.feed("age=25"));
+    }
+
+    @Test
+    public void readRejectsLargeBody() throws Exception
+    {
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(new AsyncFormParameters(8, 10, 64), input);
+
+        input.feed("name=Thomas");
+        assertTrue(result.isCompletedExceptionally());
+        assertNull(rejection(result).getName());
+    }
+
+    @Test
+    public void readRejectsLargeField() throws Exception
+    {
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(new AsyncFormParameters(1024, 10, 4), input);
+
+        input.feed("name=Thomas");
+        assertEquals("name", rejection(result).getName());
+    }
+
+    @Test
+    public void readRejectsTooManyFields() throws Exception
+    {
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(new AsyncFormParameters(1024, 2, 64), input);
+
+        input.feed("a=1&b=2&c=3");
+        input.finish();
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    public void readRejectsMalformedEscape() throws Exception
+    {
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(new AsyncFormParameters(1024, 10, 64), input);
+
+        input.feed("a=%G1");
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    private static FormRejectedException rejection(CompletableFuture<Parameters<String>> result) throws Exception
+    {
+        try {
+            result.get();
+            fail();
+            return null;
+        } catch (ExecutionException e) {
+            return (FormRejectedException) e.getCause();
+        }
+    }
+
+    /**
+     * {@code ServletInputStream} delivering the body in chunks provided by the test.
+     */
+    private static class ChunkedInputStream extends ServletInputStream
+    {
+
+        private ReadListener listener;
+        private byte[]       chunk    = new byte[0];
+        private int          position = 0;
+        private boolean      finished = false;
+
+        /**
+         * Delivers the provided chunk to the {@code ReadListener}.
+         *
+         * @return {@code true} when the {@code ReadListener} read the whole chunk.
+         */
+        boolean feed(String chunk) throws Exception
+        {
+            this.chunk = chunk.getBytes(StandardCharsets.UTF_8);
+            this.position = 0;
+            listener.onDataAvailable();
+            return position == this.chunk.length;
+        }
+
+        void finish() throws Exception
+        {
+            finished = true;
+            listener.onAllDataRead();
+        }
+
+        @Override public boolean isFinished()
+        {
+            return finished;
+        }
+
+        @Override public boolean isReady()
+        {
+            return position < chunk.length;
+        }
+
+        @Override public void setReadListener(ReadListener listener)
+        {
+            this.listener = listener;
+        }
+
+        @Override public int read()
+        {
+            return position < chunk.length ? chunk[position++] & 0xFF : -1;
+        }
+
+        @Override public int read(byte[] b, int off, int len)
+        {
+            int count = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class AuditLogTest
+{
+
+    private static Path file() throws Exception
+    {
+        Path file = Files.createTempFile("audit", ".log");
+        Files.delete(file);
+        file.toFile().deleteOnExit();
+        AuditLog.namesFile(file).toFile().deleteOnExit();
+
+        return file;
+    }
+
+    @Test
+    public void recordsFailedChecks() throws Exception
+    {
+        Path               file    = file();
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("username")).thenReturn("a\tvery long name");
+        when(request.getParameter("age")).thenReturn("-4");
+
+        try (AuditLog auditLog = AuditLog.open(file, 4096)) {
+            HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+            auditLog.attach(parameters);
+
+            assertFalse(parameters.getText("username").notLongerThan(8));
+            assertTrue(parameters.getText("username").isPresent());
+            assertFalse(parameters.getText("username").isMatch(Pattern.compile("^[a-z]+$")));
+            assertFalse(parameters.getInt("age").isBetween(18, 130));
+            assertFalse(parameters.getText("email").isPresent());
+            auditLog.record(CheckCode.IS_LESS_THAN, "price", 12.5, 10.25);
+        }
+
+        String[] lines = decode(file);
+        assertEquals(5, lines.length);
+        assertLine(lines[0], "username", "notLongerThan", "8", "a\tvery long name".hashCode());
+        assertLine(lines[1], "username", "isMatch", "#", "a\tvery long name".hashCode());
+        assertLine(lines[2], "age", "isBetween", "18,130", -4);
+        assertLine(lines[3], "email", "isPresent", "", 0);
+        assertLine(lines[4], "price", "isLessThan", "10.25", Double.valueOf(12.5).hashCode());
+    }
+
+    @Test
+    public void overwritesOldestRecords() throws Exception
+    {
+        Path file = file();
+        try (AuditLog auditLog = AuditLog.open(file, 1024)) {
+            for (int x = 0; x < 1000; x++)
+                auditLog.record(CheckCode.IS_LENGTH, "field", "value", x);
+        }
+
+        String[] lines = decode(file);
+        assertTrue(lines.length > 30);
+        assertTrue(lines.length < 100);
+        for (int x = 0; x < lines.length; x++)
+            assertLine(lines[x], "field", "isLength", Integer.toString(1000 - lines.length + x), "value".hashCode());
+
+        try (AuditLog auditLog = AuditLog.open(file, 1024)) {
+            auditLog.record(CheckCode.IS_LENGTH, "other", "value", 1000);
+        }
+
+        String[] reopened = decode(file);
+        assertLine(reopened[reopened.length - 1], "other", "isLength", "1000", "value".hashCode());
+        assertLine(reopened[reopened.length - 2], "field", "isLength", "999", "value".hashCode());
+    }
+
+    @Test
+    public void rejectsOtherCapacity() throws Exception
+    {
+        Path file = file();
+        AuditLog.open(file, 1024).close();
+        long size = Files.size(file);
+
+        try {
+            AuditLog.open(file, 2048);
+            fail();
+        } catch (IOException e) {
+            assertEquals(size, Files.size(file));
+        }
+    }
+
+    @Test
+    public void recordsFailedChecksOfEveryType() throws Exception
+    {
+        Path               file    = file();
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("count")).thenReturn("3");
+        when(request.getParameter("accepted")).thenReturn("false");
+        when(request.getParameter("id")).thenReturn("123e4567-e89b-12d3-a456-426614174000");
+
+        try (AuditLog auditLog = AuditLog.open(file, 4096)) {
+            HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+            auditLog.attach(parameters);
+
+            assertFalse(parameters.getLong("count").isGreaterThan(5L));
+            assertFalse(parameters.getBoolean("accepted").isTrue());
+            assertFalse(parameters.getUuid("id").isVersion(4));
+        }
+
+        String[] lines = decode(file);
+        assertEquals(3, lines.length);
+        assertLine(lines[0], "count", "isGreaterThan", "5", Long.valueOf(3).hashCode());
+        assertLine(lines[1], "accepted", "isTrue", "", Boolean.FALSE.hashCode());
+        assertLine(lines[2], "id", "isVersion", "4", UUID.fromString("123e4567-e89b-12d3-a456-426614174000").hashCode());
+    }
+
+    private static String[] decode(Path file) throws Exception
+    {
+        StringBuilder builder = new StringBuilder();
+        AuditLogDecoder.decode(file, builder);
+
+        return builder.toString().split("\n");
+    }
+
+    private static void assertLine(String line, String name, String check, String arguments, int valueHash)
+    {
+        String[] fields = line.split("\t", -1);
+        assertEquals(5, fields.length);
+        assertEquals(name, fields[1]);
+        assertEquals(check, fields[2]);
+        assertTrue(fields[3] + " " + arguments, fields[3].startsWith(arguments));
+        assertEquals(String.format("#%08x", valueHash), fields[4]);
+    }
+}
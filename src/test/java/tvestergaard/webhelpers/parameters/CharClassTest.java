@@ -0,0 +1,80 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+public class CharClassTest
+{
+
+    @Test
+    public void matchesRegularExpression() throws Exception
+    {
+        String[][] classes = {
+                {"A-Za-z0-9_-", "[A-Za-z0-9_-]"},
+                {"0-9", "[0-9]"},
+                {" -~", "[ -~]"},
+                {"a-z\u00E0-\u00FF\u0400-\u04FF", "[a-z\u00E0-\u00FF\u0400-\u04FF]"},
+        };
+
+        for (String[] entry : classes) {
+            CharClass charClass = CharClass.of(entry[0]);
+            Pattern   pattern   = Pattern.compile(entry[1]);
+            for (char c = 0; c < 0x600; c++)
+                assertEquals(entry[0] + " " + (int) c, pattern.matcher(String.valueOf(c)).matches(), charClass.contains(c));
+        }
+    }
+
+    @Test
+    public void or() throws Exception
+    {
+        CharClass charClass = CharClass.of("\u0100-\u0110\u0200").or(CharClass.of("\u0111-\u0120a")).or(CharClass.DIGITS);
+
+        assertTrue(charClass.contains('a'));
+        assertTrue(charClass.contains('5'));
+        assertTrue(charClass.contains('\u0100'));
+        assertTrue(charClass.contains('\u0111'));
+        assertTrue(charClass.contains('\u0120'));
+        assertTrue(charClass.contains('\u0200'));
+        assertFalse(charClass.contains('\u0121'));
+        assertFalse(charClass.contains('b'));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void outOfOrder() throws Exception
+    {
+        CharClass.of("z-a");
+    }
+
+    @Test
+    public void checks() throws Exception
+    {
+        List<Integer> failures = new ArrayList<>();
+
+        assertTrue(parameter("user_name-1").isInCharset(CharClass.of("A-Za-z0-9_-")));
+        assertTrue(parameter("abc123").isAlphanumeric());
+        assertFalse(parameter("abc-123").isAlphanumeric((p, index) -> failures.add(index)));
+        assertTrue(parameter("0123456789").isDigits());
+        assertFalse(parameter("12a").isDigits((p, index) -> failures.add(index)));
+        assertFalse(parameter("").isDigits((p, index) -> failures.add(index)));
+        assertTrue(parameter("Hello, World!").isAsciiPrintable());
+        assertFalse(parameter("tab\there").isAsciiPrintable((p, index) -> failures.add(index)));
+        assertFalse(parameter("na\u00EFve").isInCharset(CharClass.ALPHANUMERIC, (p, c, index) -> failures.add(index)));
+
+        assertEquals(Integer.valueOf(3), failures.get(0));
+        assertEquals(Integer.valueOf(2), failures.get(1));
+        assertEquals(Integer.valueOf(0), failures.get(2));
+        assertEquals(Integer.valueOf(3), failures.get(3));
+        assertEquals(Integer.valueOf(2), failures.get(4));
+    }
+
+    private static TextParameter<String> parameter(String value)
+    {
+        return new TextParameter<>("name", value, Collections.emptyList());
+    }
+}
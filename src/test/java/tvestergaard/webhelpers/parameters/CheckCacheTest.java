@@ -0,0 +1,117 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class CheckCacheTest
+{
+
+    @Test
+    public void memoizesByCheckAndValue() throws Exception
+    {
+        CheckCache        cache    = new CheckCache(1 << 20);
+        AtomicInteger     calls    = new AtomicInteger();
+        PureCheck<String> check    = value -> calls.incrementAndGet() > 0 && value.startsWith("a");
+        PureCheck<String> other    = value -> calls.incrementAndGet() > 0 && value.startsWith("b");
+
+        for (int x = 0; x < 10; x++) {
+            assertTrue(cache.test(check, "abc", PureCheck::test));
+            assertFalse(cache.test(check, "bcd", PureCheck::test));
+            assertTrue(cache.test(other, "bcd", PureCheck::test));
+        }
+
+        assertEquals(3, calls.get());
+        assertEquals(3, cache.size());
+        assertEquals(27, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0.9, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void admitsFrequentValues() throws Exception
+    {
+        CheckCache        cache = new CheckCache(64 * 100 + 2 * 4 * 100);
+        PureCheck<String> check = value -> true;
+
+        for (int round = 0; round < 100; round++) {
+            for (int x = 0; x < 100; x++)
+                cache.test(check, String.format("h%03d", x), PureCheck::test);
+            for (int x = 0; x < 100; x++)
+                cache.test(check, String.format("%05d", round * 100 + x), PureCheck::test);
+        }
+
+        long hits = cache.getHitCount();
+        for (int x = 0; x < 100; x++)
+            cache.test(check, String.format("h%03d", x), PureCheck::test);
+
+        assertTrue(cache.getHitCount() - hits > 90);
+        assertTrue(cache.getRejectionCount() > 9000);
+        assertTrue(cache.getWeight() <= 64 * 100 + 2 * 4 * 100);
+    }
+
+    @Test
+    public void evictsStaleValues() throws Exception
+    {
+        CheckCache        cache = new CheckCache(64 * 100 + 2 * 4 * 100);
+        PureCheck<String> check = value -> true;
+
+        for (int x = 0; x < 100; x++)
+            cache.test(check, String.format("s%03d", x), PureCheck::test);
+        for (int round = 0; round < 5; round++)
+            for (int x = 0; x < 100; x++)
+                cache.test(check, String.format("n%03d", x), PureCheck::test);
+
+        assertTrue(cache.getEvictionCount() > 50);
+        assertEquals(100, cache.size());
+    }
+
+    @Test
+    public void sketchCountsConcurrentIncrements() throws Exception
+    {
+        CheckCache.FrequencySketch sketch  = new CheckCache.FrequencySketch(1 << 12);
+        Thread[]                   threads = new Thread[4];
+        for (int x = 0; x < threads.length; x++) {
+            threads[x] = new Thread(() -> {
+                for (int hash = 0; hash < 1000; hash++)
+                    for (int y = 0; y < 3; y++)
+                        sketch.increment(hash);
+            });
+            threads[x].start();
+        }
+        for (Thread thread : threads)
+            thread.join();
+
+        for (int hash = 0; hash < 1000; hash++)
+            assertEquals(12, sketch.frequency(hash));
+    }
+
+    @Test
+    public void textParameters() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("agent")).thenReturn("Mozilla/5.0");
+
+        CheckCache                   cache      = new CheckCache(1 << 20);
+        Pattern                      pattern    = Pattern.compile("^Mozilla/\\d");
+        HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+        parameters.setCheckCache(cache);
+
+        assertTrue(parameters.getText("agent").isMatch(pattern));
+        assertTrue(parameters.onText("agent", parameter -> parameter.isMatch(pattern)));
+        assertFalse(parameters.getText("agent").notMatch(pattern));
+        assertFalse(parameters.getText("agent").isValid(String::isEmpty));
+        assertEquals(2, cache.getHitCount());
+
+        TextParameter<String> uncached = new TextParameter<>("agent", "Mozilla/5.0", Collections.emptyList());
+        assertTrue(uncached.isMatch(pattern));
+        assertEquals(2, cache.getHitCount());
+    }
+}
@@ -0,0 +1,131 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class ConstantTableTest
+{
+
+    private enum Color
+    {
+        RED, GREEN, BLUE, CYAN, MAGENTA, YELLOW, BLACK, WHITE, ORANGE, PURPLE, BROWN, GRAY
+    }
+
+    @Test
+    public void ofEnum() throws Exception
+    {
+        ConstantTable<Color> table = ConstantTable.of(Color.class);
+
+        assertSame(table, ConstantTable.of(Color.class));
+        assertEquals(Color.values().length, table.size());
+        for (Color color : Color.values())
+            assertSame(color, table.get(color.name()));
+
+        assertNull(table.get("red"));
+        assertNull(table.get("REDD"));
+        assertNull(table.get(""));
+        assertNull(table.get(null));
+    }
+
+    @Test
+    public void ofEnumIgnoringCaseWithAliases() throws Exception
+    {
+        ConstantTable<Color> table = ConstantTable.of(Color.class, true, Collections.singletonMap("grey", Color.GRAY));
+
+        assertSame(Color.RED, table.get("red"));
+        assertSame(Color.MAGENTA, table.get("MaGeNtA"));
+        assertSame(Color.GRAY, table.get("GREY"));
+        assertNull(table.get("pink"));
+    }
+
+    @Test
+    public void ofLargeMap() throws Exception
+    {
+        Map<String, Integer> constants = new HashMap<>();
+        for (int x = 0; x < 1000; x++)
+            constants.put("key" + x, x);
+
+        ConstantTable<Integer> table = ConstantTable.of(constants, false);
+        for (int x = 0; x < 1000; x++)
+            assertEquals(Integer.valueOf(x), table.get("key" + x));
+        assertNull(table.get("key1000"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ofThrowsOnDuplicateKeys() throws Exception
+    {
+        ConstantTable.of(Color.class, true, Collections.singletonMap("Red", Color.RED));
+    }
+
+    @Test
+    public void getBooleanAndEnum() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("subscribe")).thenReturn("Yes");
+        when(request.getParameter("color")).thenReturn("BLUE");
+        when(request.getParameter("unknown")).thenReturn("maybe");
+
+        HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+        String[]                     malformed  = new String[1];
+        parameters.addBooleanFailureHandler(new BooleanParameter.FailureHandler<String>()
+        {
+            @Override public void isWellFormedFailure(ConvertedParameter<String, Boolean> parameter, String text)
+            {
+                malformed[0] = text;
+            }
+        });
+
+        assertTrue(parameters.isBoolean("subscribe"));
+        assertTrue(parameters.getBoolean("subscribe").isTrue());
+        assertFalse(parameters.isBoolean("unknown"));
+        assertFalse(parameters.isBoolean("missing"));
+
+        assertFalse(parameters.onBoolean("unknown", parameter -> fail()));
+        assertEquals("maybe", malformed[0]);
+        assertTrue(parameters.onBoolean("missing", parameter -> assertNull(parameter.getValue())));
+
+        assertTrue(parameters.isEnum("color", Color.class));
+        assertSame(Color.BLUE, parameters.getEnum("color", Color.class).getValue());
+        assertFalse(parameters.isEnum("unknown", Color.class));
+        assertNull(parameters.getEnum("unknown", Color.class).getValue());
+        assertFalse(parameters.onEnum("unknown", Color.class, parameter -> fail()));
+    }
+
+    @Test
+    public void enumFailureHandler() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("color")).thenReturn("BLUE");
+        when(request.getParameter("unknown")).thenReturn("maybe");
+
+        HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+        Object[]                     failures   = new Object[3];
+        parameters.addEnumFailureHandler(new EnumParameter.FailureHandler<String>()
+        {
+            @Override public void isWellFormedFailure(EnumParameter<String, ?> parameter, String text)
+            {
+                failures[0] = text;
+            }
+
+            @Override public void isEqualFailure(EnumParameter<String, ?> parameter, Enum<?> other)
+            {
+                failures[1] = parameter.getValue();
+                failures[2] = other;
+            }
+        });
+
+        assertFalse(parameters.getEnum("unknown", Color.class).isWellFormed());
+        assertEquals("maybe", failures[0]);
+        assertFalse(parameters.getEnum("color", Color.class).isEqual(Color.RED));
+        assertSame(Color.BLUE, failures[1]);
+        assertSame(Color.RED, failures[2]);
+    }
+}
@@ -0,0 +1,174 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CrossFieldConstraintsTest
+{
+
+    private static Parameters<String> parameters(String... mappings)
+    {
+        Map<String, String> values = new HashMap<>();
+        for (int x = 0; x < mappings.length; x += 2)
+            values.put(mappings[x], mappings[x + 1]);
+
+        return new HttpServletRequestParameters(null)
+        {
+            @Override protected String lookup(String name)
+            {
+                return values.get(name);
+            }
+        };
+    }
+
+    private static CrossFieldConstraints<String> period()
+    {
+        return new CrossFieldConstraints<String>()
+                .field("start", Parameters::getInt, start -> start.isPresent())
+                .field("end", Parameters::getInt, end -> end.isPresent())
+                .constraint("endAfterStart", Arrays.asList("start", "end"),
+                            fields -> fields.<IntParameter<String>>get("end").isGreaterThan(fields.getValue("start")));
+    }
+
+    @Test
+    public void validate() throws Exception
+    {
+        Validator<Parameters<String>> validator = period().compile();
+
+        assertTrue(validator.validate(parameters("start", "5", "end", "10")));
+        assertFalse(validator.validate(parameters("start", "10", "end", "5")));
+        assertFalse(validator.validate(parameters("start", "5")));
+        assertFalse(validator.validate(parameters("start", "five", "end", "10")));
+    }
+
+    @Test
+    public void validateNotifiesFailureHandlers() throws Exception
+    {
+        CrossFieldConstraints<String> constraints = period();
+        List<String>                  failures    = new ArrayList<>();
+        constraints.addFailureHandler(new CrossFieldConstraints.FailureHandler<String>()
+        {
+            @Override public void conversionFailure(String name, ParameterConversionException exception)
+            {
+                failures.add("conversion " + name);
+            }
+
+            @Override public void constraintFailure(String name, CrossFieldConstraints.Fields<String> fields)
+            {
+                failures.add("constraint " + name + " " + fields.getValue("start"));
+            }
+        });
+
+        Validator<Parameters<String>> validator = constraints.compile();
+        validator.validate(parameters("start", "10", "end", "5"));
+        validator.validate(parameters("start", "five", "end", "10"));
+
+        assertEquals(Arrays.asList("constraint endAfterStart 10", "conversion start"), failures);
+    }
+
+    @Test
+    public void validateConvertsFieldsOnce() throws Exception
+    {
+        int[] conversions = new int[1];
+        Validator<Parameters<String>> validator = new CrossFieldConstraints<String>()
+                .field("share", (parameters, name) -> {
+                    conversions[0]++;
+                    return parameters.getInt(name);
+                })
+                .constraint("positive", Collections.singletonList("share"), fields -> fields.<Integer>getValue("share") > 0)
+                .constraint("belowHundred", Collections.singletonList("share"), fields -> fields.<Integer>getValue("share") < 100)
+                .compile();
+
+        assertTrue(validator.validate(parameters("share", "40")));
+        assertEquals(1, conversions[0]);
+    }
+
+    @Test
+    public void validateInTopologicalOrder() throws Exception
+    {
+        List<String> evaluated = new ArrayList<>();
+        Validator<Parameters<String>> validator = new CrossFieldConstraints<String>()
+                .field("type", Parameters::getText)
+                .field("cardNumber", Parameters::getText)
+                .constraint("cardNumberRequired", Arrays.asList("type", "cardNumber"), Collections.singletonList("knownType"),
+                            fields -> {
+                                evaluated.add("cardNumberRequired");
+                                return !"card".equals(fields.getValue("type")) ||
+                                       fields.<TextParameter<String>>get("cardNumber").isPresent();
+                            })
+                .constraint("knownType", Collections.singletonList("type"), fields -> {
+                    evaluated.add("knownType");
+                    return fields.<TextParameter<String>>get("type").isIn(Arrays.asList("card", "invoice"));
+                })
+                .compile();
+
+        assertTrue(validator.validate(parameters("type", "card", "cardNumber", "4111111111111111")));
+        assertEquals(Arrays.asList("knownType", "cardNumberRequired"), evaluated);
+
+        evaluated.clear();
+        assertFalse(validator.validate(parameters("type", "card")));
+        assertEquals(Arrays.asList("knownType", "cardNumberRequired"), evaluated);
+
+        evaluated.clear();
+        assertFalse(validator.validate(parameters("type", "cash")));
+        assertEquals(Collections.singletonList("knownType"), evaluated);
+    }
+
+    @Test
+    public void validateSkipsConstraintsOfFailedFields() throws Exception
+    {
+        int[] evaluated = new int[1];
+        Validator<Parameters<String>> validator = new CrossFieldConstraints<String>()
+                .field("first", Parameters::getInt, first -> first.isBetween(0, 100))
+                .field("second", Parameters::getInt, second -> second.isBetween(0, 100))
+                .constraint("sum", Arrays.asList("first", "second"), fields -> {
+                    evaluated[0]++;
+                    return fields.<Integer>getValue("first") + fields.<Integer>getValue("second") == 100;
+                })
+                .compile();
+
+        assertTrue(validator.validate(parameters("first", "40", "second", "60")));
+        assertFalse(validator.validate(parameters("first", "40", "second", "50")));
+        assertFalse(validator.validate(parameters("first", "140", "second", "-40")));
+        assertFalse(validator.validate(parameters("first", "40", "second", "sixty")));
+        assertEquals(2, evaluated[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getUndeclaredField() throws Exception
+    {
+        new CrossFieldConstraints<String>()
+                .field("start", Parameters::getInt)
+                .field("end", Parameters::getInt)
+                .constraint("endAfterStart", Collections.singletonList("end"), fields -> fields.getValue("start") != null)
+                .compile()
+                .validate(parameters("start", "5", "end", "10"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileUndeclaredField() throws Exception
+    {
+        new CrossFieldConstraints<String>()
+                .field("start", Parameters::getInt)
+                .constraint("endAfterStart", Arrays.asList("start", "end"), fields -> true)
+                .compile();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void compileCycle() throws Exception
+    {
+        new CrossFieldConstraints<String>()
+                .field("start", Parameters::getInt)
+                .constraint("first", Collections.singletonList("start"), Collections.singletonList("second"), fields -> true)
+                .constraint("second", Collections.singletonList("start"), Collections.singletonList("first"), fields -> true)
+                .compile();
+    }
+}
@@ -0,0 +1,82 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class DecimalParameterTest
+{
+
+    @Test
+    public void parse() throws Exception
+    {
+        assertEquals(12345, Decimal.parse("123.45", 2));
+        assertEquals(12300, Decimal.parse("123", 2));
+        assertEquals(12340, Decimal.parse("+123.4", 2));
+        assertEquals(-50, Decimal.parse("-.5", 2));
+        assertEquals(100, Decimal.parse("1.000", 2));
+        assertEquals(Long.MAX_VALUE, Decimal.parse("92233720368547758.07", 2));
+        assertEquals(-Long.MAX_VALUE, Decimal.parse("-9223372036854775807", 0));
+
+        for (String text : Arrays.asList("1.234", "92233720368547758.08", "99999999999999999999", "", "-", ".",
+                                         "1.2.3", "1e5", " 1", "0x10", null))
+            assertEquals(text, Decimal.INVALID, Decimal.parse(text, 2));
+    }
+
+    @Test
+    public void checks() throws Exception
+    {
+        DecimalParameter<String> price = new DecimalParameter<>("price", "19.99", 2, Arrays.asList());
+
+        assertTrue(price.isWellFormed());
+        assertEquals(1999, price.getUnscaledValue());
+        assertEquals(new BigDecimal("19.99"), price.toBigDecimal());
+        assertTrue(price.isPositive());
+        assertTrue(price.notNegative());
+        assertTrue(price.isBetween(Decimal.of("0.01", 2), Decimal.of("20", 0)));
+        assertTrue(price.isBetween(Decimal.of("19.99", 2), Decimal.of("19.990", 3)));
+        assertFalse(price.isBetween(Decimal.of("19.99", 2), Decimal.of("20", 0), false));
+        assertFalse(price.isBetween(Decimal.of("19.991", 3), Decimal.of("1000000000000", 6)));
+        assertFalse(price.isNegative());
+        assertEquals(3, price.getFailureCount());
+    }
+
+    @Test
+    public void compare() throws Exception
+    {
+        assertTrue(Decimal.of("1.5", 1).compareTo(Decimal.of("1.49", 2)) > 0);
+        assertEquals(0, Decimal.of("1.5", 1).compareTo(Decimal.of("1.500", 3)));
+        assertTrue(Decimal.of(Long.MAX_VALUE, 0).compareTo(Decimal.of(1, 18)) > 0);
+        assertTrue(Decimal.of(-Long.MAX_VALUE, 0).compareTo(Decimal.of(1, 18)) < 0);
+    }
+
+    @Test
+    public void getDecimal() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("amount")).thenReturn("10.5");
+        when(request.getParameter("precise")).thenReturn("10.555");
+
+        HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+        String[]                     malformed  = new String[1];
+        parameters.addDecimalFailureHandler(new DecimalParameter.FailureHandler<String>()
+        {
+            @Override public void isWellFormedFailure(ConvertedParameter<String, Decimal> parameter, String text)
+            {
+                malformed[0] = text;
+            }
+        });
+
+        assertTrue(parameters.isDecimal("amount", 2));
+        assertFalse(parameters.isDecimal("precise", 2));
+        assertEquals(Decimal.of(1050, 2), parameters.getDecimal("amount", 2).getValue());
+        assertFalse(parameters.onDecimal("precise", 2, parameter -> fail()));
+        assertEquals("10.555", malformed[0]);
+    }
+}
@@ -0,0 +1,71 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class HttpHeaderParametersTest
+{
+
+    @Test
+    public void headers() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getHeaderNames()).thenReturn(Collections.enumeration(Arrays.asList(
+                "host", "x-request-id", "Accept-Language", "Content-Length", "X-Custom")));
+        when(request.getHeader("host")).thenReturn("example.com");
+        when(request.getHeader("x-request-id")).thenReturn("123e4567-e89b-12d3-a456-426614174000");
+        when(request.getHeader("Accept-Language")).thenReturn("da, en;q=0.8");
+        when(request.getHeader("Content-Length")).thenReturn("42");
+        when(request.getHeader("X-Custom")).thenReturn("value");
+
+        HttpHeaderParameters parameters = new HttpHeaderParameters(request);
+
+        assertEquals("example.com", parameters.get(HeaderName.HOST));
+        assertTrue(parameters.getUuid("X-Request-ID").isWellFormed());
+        assertEquals("da, en;q=0.8", parameters.getText(HeaderName.ACCEPT_LANGUAGE).getValue());
+        assertEquals(Integer.valueOf(42), parameters.getInt("content-length").getValue());
+        assertEquals("value", parameters.getText("x-CUSTOM").getValue());
+        assertNull(parameters.get(HeaderName.AUTHORIZATION));
+        assertNull(parameters.getText("X-Custom-2").getValue());
+        assertFalse(parameters.onText(HeaderName.USER_AGENT, parameter -> parameter.isPresent()));
+        assertEquals(HeaderName.of("x-request-id"), HeaderName.X_REQUEST_ID);
+    }
+
+    @Test
+    public void headerNamesApplyTextNormalizer() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getHeaderNames()).thenReturn(Collections.enumeration(Collections.singletonList("Accept")));
+        when(request.getHeader("Accept")).thenReturn("  text/html  ");
+
+        HttpHeaderParameters parameters = new HttpHeaderParameters(request);
+        parameters.setTextNormalizer(TextNormalizer.of(TextNormalizer.Step.TRIM));
+
+        assertEquals("text/html", parameters.getText("Accept").getValue());
+        assertEquals("text/html", parameters.getText(HeaderName.ACCEPT).getValue());
+        assertTrue(parameters.onText(HeaderName.ACCEPT, parameter -> parameter.isLength(9)));
+    }
+
+    @Test
+    public void cookies() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getCookies()).thenReturn(new Cookie[]{new Cookie("session", "abc"), new Cookie("theme", "dark"),
+                                                           new Cookie("session", "shadowed")});
+
+        CookieParameters parameters = new CookieParameters(request);
+        assertEquals("abc", parameters.getText("session").getValue());
+        assertEquals("dark", parameters.getText("theme").getValue());
+        assertNull(parameters.getText("Theme").getValue());
+
+        assertNull(new CookieParameters(Mockito.mock(HttpServletRequest.class)).getText("session").getValue());
+    }
+}
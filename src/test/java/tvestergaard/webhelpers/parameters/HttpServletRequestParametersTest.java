@@ -0,0 +1,193 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class HttpServletRequestParametersTest
+{
+
+    private static HttpServletRequestParameters parameters()
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("first")).thenReturn("a");
+        when(request.getParameter("second")).thenReturn("abc");
+        when(request.getParameter("number")).thenReturn("5");
+
+        return new HttpServletRequestParameters(request);
+    }
+
+    @Test
+    public void onTextReusesParameter() throws Exception
+    {
+        HttpServletRequestParameters parameters = parameters();
+        Object[]                     seen       = new Object[2];
+
+        assertFalse(parameters.onText("first", parameter -> {
+            seen[0] = parameter;
+            assertEquals("first", parameter.getName());
+            assertEquals("a", parameter.getValue());
+            parameter.isLength(3);
+        }));
+
+        assertTrue(parameters.onText("second", parameter -> {
+            seen[1] = parameter;
+            assertEquals("second", parameter.getName());
+            assertEquals("abc", parameter.getValue());
+            assertEquals(0, parameter.getFailureCount());
+            parameter.isLength(3);
+        }));
+
+        assertSame(seen[0], seen[1]);
+    }
+
+    @Test
+    public void onTextNestedCreatesParameter() throws Exception
+    {
+        HttpServletRequestParameters parameters = parameters();
+
+        assertTrue(parameters.onText("first", outer -> {
+            assertTrue(parameters.onText("second", inner -> {
+                assertNotSame(outer, inner);
+                assertEquals("abc", inner.getValue());
+            }));
+            assertEquals("a", outer.getValue());
+        }));
+    }
+
+    @Test
+    public void onIntReusesParameter() throws Exception
+    {
+        HttpServletRequestParameters parameters = parameters();
+        Object[]                     seen       = new Object[2];
+
+        assertFalse(parameters.onInt("number", parameter -> {
+            seen[0] = parameter;
+            parameter.isGreaterThan(5);
+        }));
+
+        assertTrue(parameters.onInt("number", parameter -> {
+            seen[1] = parameter;
+            assertEquals(Integer.valueOf(5), parameter.getValue());
+            parameter.notGreaterThan(5);
+        }));
+
+        assertSame(seen[0], seen[1]);
+    }
+
+    @Test(expected = ParameterConversionException.class)
+    public void onIntThrowsParameterConversionException() throws Exception
+    {
+        parameters().onInt("first", parameter -> {
+        });
+    }
+
+    private static HttpServletRequestParameters parameters(Map<String, String> values)
+    {
+        return new HttpServletRequestParameters(null)
+        {
+            @Override protected String lookup(String name)
+            {
+                return values.get(name);
+            }
+        };
+    }
+
+    private static List<String> validateTexts(Map<String, String> values, List<String> names, int threshold)
+    {
+        HttpServletRequestParameters parameters = parameters(values);
+        List<String>                 failures   = new ArrayList<>();
+        Thread                       caller     = Thread.currentThread();
+        parameters.setParallelThreshold(threshold);
+        parameters.setForkJoinPool(new ForkJoinPool(4));
+        parameters.addTextFailureHandler(new TextParameter.FailureHandler<String>()
+        {
+            @Override public void notLongerThanFailure(TextParameter<String> parameter, int upper)
+            {
+                assertSame(caller, Thread.currentThread());
+                failures.add(parameter.getName() + " notLongerThan " + parameter.getFailureCount());
+            }
+
+            @Override public void isAlphanumericFailure(TextParameter<String> parameter, int index)
+            {
+                assertSame(caller, Thread.currentThread());
+                failures.add(parameter.getName() + " isAlphanumeric " + index + " " + parameter.getFailureCount());
+            }
+        });
+
+        Consumer<TextParameter<String>> checks = parameter -> {
+            parameter.notLongerThan(5);
+            parameter.isAlphanumeric();
+        };
+        boolean passed = parameters.onTexts(names, checks);
+        assertEquals(failures.isEmpty(), passed);
+        failures.add(0, "passed " + parameters.onTexts(names.subList(0, 10), checks));
+
+        return failures;
+    }
+
+    @Test
+    public void onTextsInParallelNotifiesInOrder() throws Exception
+    {
+        Map<String, String> values = new HashMap<>();
+        List<String>        names  = new ArrayList<>();
+        for (int x = 0; x < 5000; x++) {
+            String name = "field" + x;
+            names.add(name);
+            values.put(name, x % 7 == 0 ? "a-" + x + "-xyz" : x % 11 == 0 ? "abcdefg" : "a" + x % 100);
+        }
+
+        List<String> parallel   = validateTexts(values, names, 100);
+        List<String> sequential = validateTexts(values, names, Integer.MAX_VALUE);
+        assertEquals(sequential, parallel);
+        assertEquals("passed false", parallel.get(0));
+        assertEquals("field0 notLongerThan 1", parallel.get(1));
+        assertEquals("field0 isAlphanumeric 1 2", parallel.get(2));
+        assertTrue(parallel.size() > 1000);
+    }
+
+    @Test
+    public void onIntsInParallelReplaysFailuresBeforeConversionException() throws Exception
+    {
+        Map<String, String> values = new HashMap<>();
+        List<String>        names  = new ArrayList<>();
+        for (int x = 0; x < 5000; x++) {
+            String name = "field" + x;
+            names.add(name);
+            values.put(name, x == 3000 ? "three thousand" : Integer.toString(x));
+        }
+
+        HttpServletRequestParameters parameters = parameters(values);
+        List<String>                 failures   = new ArrayList<>();
+        parameters.setParallelThreshold(100);
+        parameters.setForkJoinPool(new ForkJoinPool(4));
+        parameters.addIntFailureHandler(new NumberParameter.FailureHandler<String, Integer>()
+        {
+            @Override public void isLessThanFailure(ComparableParameter<String, Integer> parameter, Integer upper)
+            {
+                failures.add(parameter.getName());
+            }
+        });
+
+        try {
+            parameters.onInts(names, parameter -> parameter.isLessThan(2990));
+            fail();
+        } catch (ParameterConversionException e) {
+            assertEquals(10, failures.size());
+            assertEquals("field2990", failures.get(0));
+            assertEquals("field2999", failures.get(9));
+        }
+
+        assertTrue(parameters.onInts(names.subList(0, 2990), parameter -> parameter.isLessThan(2990)));
+    }
+}
@@ -0,0 +1,114 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class InetParameterTest
+{
+
+    @Test
+    public void parse() throws Exception
+    {
+        for (String text : Arrays.asList("192.0.2.1", "2001:db8::8a2e:370:7334", "::1", "::ffff:10.0.0.1", "fe80::1:2")) {
+            InetParameter<String> parameter = new InetParameter<>("ip", text, Arrays.asList());
+            assertEquals(text, InetAddress.getByName(text), parameter.getValue());
+        }
+
+        InetParameter<String> ipv4 = new InetParameter<>("ip", "10.1.2.3", Arrays.asList());
+        assertEquals(4, ipv4.getVersion());
+        assertEquals(0, ipv4.getHighBits());
+        assertEquals(0xFFFF0A010203L, ipv4.getLowBits());
+
+        for (String text : Arrays.asList("10.1.2", "example.com", "::1%eth0", "1:2:3:4:5:6:7:8:9", ""))
+            assertFalse(String.valueOf(text), new InetParameter<>("ip", text, Arrays.asList()).isWellFormed());
+    }
+
+    @Test
+    public void ranges() throws Exception
+    {
+        InetRanges ranges = InetRanges.of("10.0.0.0/8", "192.168.1.0/24", "192.168.1.128/25", "203.0.113.7",
+                                          "2001:db8::/32", "fd00::/8", "::1");
+        assertEquals(7, ranges.size());
+
+        assertTrue(contains(ranges, "10.255.0.1"));
+        assertTrue(contains(ranges, "192.168.1.200"));
+        assertTrue(contains(ranges, "192.168.1.0"));
+        assertTrue(contains(ranges, "203.0.113.7"));
+        assertTrue(contains(ranges, "2001:db8:ffff::1"));
+        assertTrue(contains(ranges, "fdab::1"));
+        assertTrue(contains(ranges, "::1"));
+        assertTrue(contains(ranges, "::ffff:10.0.0.1"));
+
+        assertFalse(contains(ranges, "11.0.0.1"));
+        assertFalse(contains(ranges, "192.168.2.1"));
+        assertFalse(contains(ranges, "203.0.113.8"));
+        assertFalse(contains(ranges, "2001:db9::1"));
+        assertFalse(contains(ranges, "::2"));
+
+        assertTrue(contains(InetRanges.of("0.0.0.0/0"), "1.2.3.4"));
+        assertFalse(contains(InetRanges.of("0.0.0.0/0"), "2001:db8::1"));
+        assertTrue(contains(InetRanges.of("::/0"), "2001:db8::1"));
+        assertFalse(contains(InetRanges.of(), "1.2.3.4"));
+
+        for (String range : Arrays.asList("10.0.0.0/33", "10.0.0.0/", "10.0.0/8", "::/129", "::/-1"))
+            try {
+                InetRanges.of(range);
+                fail(range);
+            } catch (IllegalArgumentException e) {
+            }
+    }
+
+    @Test
+    public void rangesMatchLinearScan() throws Exception
+    {
+        Random       random = new Random(36);
+        List<String> ranges = new ArrayList<>();
+        List<int[]>  pairs  = new ArrayList<>();
+        for (int x = 0; x < 2000; x++) {
+            int address = random.nextInt();
+            int length  = 8 + random.nextInt(25);
+            pairs.add(new int[]{address, length});
+            ranges.add(format(address) + "/" + length);
+        }
+
+        InetRanges set = InetRanges.of(ranges);
+        for (int x = 0; x < 20000; x++) {
+            int     address  = x % 2 == 0 ? random.nextInt() : pairs.get(x % pairs.size())[0] ^ random.nextInt(256);
+            boolean expected = false;
+            for (int[] pair : pairs)
+                expected |= (address ^ pair[0]) >>> (32 - pair[1]) == 0;
+            assertEquals(format(address), expected, contains(set, format(address)));
+        }
+    }
+
+    @Test
+    public void checks() throws Exception
+    {
+        InetRanges            denied    = InetRanges.of("198.51.100.0/24");
+        InetParameter<String> parameter = new InetParameter<>("ip", "198.51.100.42", Arrays.asList());
+        InetRanges[]          failed    = new InetRanges[1];
+
+        assertTrue(parameter.isInRanges(denied));
+        assertFalse(parameter.notInRanges(denied, (p, ranges) -> failed[0] = ranges));
+        assertSame(denied, failed[0]);
+        assertEquals(1, parameter.getFailureCount());
+    }
+
+    private static boolean contains(InetRanges ranges, String address)
+    {
+        InetParameter<String> parameter = new InetParameter<>("ip", address, Arrays.asList());
+        return ranges.contains(parameter.getHighBits(), parameter.getLowBits());
+    }
+
+    private static String format(int address)
+    {
+        return (address >>> 24) + "." + (address >>> 16 & 0xFF) + "." + (address >>> 8 & 0xFF) + "." + (address & 0xFF);
+    }
+}
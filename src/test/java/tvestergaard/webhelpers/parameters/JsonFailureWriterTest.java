@@ -0,0 +1,100 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class JsonFailureWriterTest
+{
+
+    private static String json(JsonFailureWriter<?> writer) throws Exception
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.writeTo(out);
+        assertEquals(writer.getContentLength(), out.size());
+
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void writesFailedChecks() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("username")).thenReturn("a very long name");
+        when(request.getParameter("age")).thenReturn("-4");
+
+        HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+        JsonFailureWriter<String>    writer     = new JsonFailureWriter<>();
+        writer.attach(parameters);
+
+        assertFalse(parameters.getText("username").notLongerThan(8));
+        assertFalse(parameters.getText("username").isMatch(Pattern.compile("^[a-z]+\\d?$")));
+        assertFalse(parameters.getInt("age").isBetween(18, 130));
+        assertFalse(parameters.getText("email").isPresent());
+
+        assertEquals(4, writer.getFailureCount());
+        assertEquals("{\"failures\":[" +
+                     "{\"name\":\"username\",\"check\":\"notLongerThan\",\"code\":25,\"arguments\":[8]}," +
+                     "{\"name\":\"username\",\"check\":\"isMatch\",\"code\":" + CheckCode.IS_MATCH.getCode() +
+                     ",\"arguments\":[\"^[a-z]+\\\\d?$\"]}," +
+                     "{\"name\":\"age\",\"check\":\"isBetween\",\"code\":" + CheckCode.IS_BETWEEN.getCode() +
+                     ",\"arguments\":[18,130,true]}," +
+                     "{\"name\":\"email\",\"check\":\"isPresent\",\"code\":1,\"arguments\":[]}]}", json(writer));
+    }
+
+    @Test
+    public void escapesStrings() throws Exception
+    {
+        JsonFailureWriter<String> writer = new JsonFailureWriter<>();
+        writer.write("na\"me\\", CheckCode.IS_EQUAL, "tab\t\u00E9\u20AC\uD83D\uDE00");
+        writer.write("na\"me\\", CheckCode.IS_IN, Arrays.asList(1, 2.5, Double.NaN, null, Long.MIN_VALUE, false));
+
+        assertEquals("{\"failures\":[" +
+                     "{\"name\":\"na\\\"me\\\\\",\"check\":\"isEqual\",\"code\":" + CheckCode.IS_EQUAL.getCode() +
+                     ",\"arguments\":[\"tab\\u0009\u00E9\u20AC\uD83D\uDE00\"]}," +
+                     "{\"name\":\"na\\\"me\\\\\",\"check\":\"isIn\",\"code\":" + CheckCode.IS_IN.getCode() +
+                     ",\"arguments\":[[1,2.5,null,null,-9223372036854775808,false]]}]}", json(writer));
+    }
+
+    @Test
+    public void declaredNamesMatchUndeclaredNames() throws Exception
+    {
+        JsonFailureWriter<String> writer = new JsonFailureWriter<>();
+        writer.write("items[17].qty", CheckCode.IS_POSITIVE);
+        writer.declare("username");
+        writer.write("username", CheckCode.IS_PRESENT);
+        writer.declare("username");
+        writer.write("username", CheckCode.NOT_EMPTY);
+
+        assertEquals("{\"failures\":[" +
+                     "{\"name\":\"items[17].qty\",\"check\":\"isPositive\",\"code\":" + CheckCode.IS_POSITIVE.getCode() +
+                     ",\"arguments\":[]}," +
+                     "{\"name\":\"username\",\"check\":\"isPresent\",\"code\":1,\"arguments\":[]}," +
+                     "{\"name\":\"username\",\"check\":\"notEmpty\",\"code\":" + CheckCode.NOT_EMPTY.getCode() +
+                     ",\"arguments\":[]}]}", json(writer));
+    }
+
+    @Test
+    public void resetDiscardsFailures() throws Exception
+    {
+        JsonFailureWriter<String> writer = new JsonFailureWriter<>();
+        assertEquals("{\"failures\":[]}", json(writer));
+
+        for (int x = 0; x < 1000; x++)
+            writer.write("field", CheckCode.IS_LENGTH, -x);
+        assertEquals(1000, writer.getFailureCount());
+        assertTrue(json(writer).endsWith(",\"arguments\":[-999]}]}"));
+
+        writer.reset();
+        assertEquals(0, writer.getFailureCount());
+        assertEquals("{\"failures\":[]}", json(writer));
+    }
+}
@@ -0,0 +1,106 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class JsonParametersTest
+{
+
+    private static final String DOCUMENT = "{\n" +
+                                           "  \"name\": \"Thomas \\\"T\\\" \\u00c6\",\n" +
+                                           "  \"age\": 25,\n" +
+                                           "  \"admin\": false,\n" +
+                                           "  \"nickname\": null,\n" +
+                                           "  \"ignored\": {\"deep\": [1, 2, {\"x\": \"\\n\"}], \"s\": \"a\\/b\"},\n" +
+                                           "  \"address\": {\"city\": \"Copenhagen\", \"zip\": \"2100\", \"lines\": [\"a\", \"b\"]},\n" +
+                                           "  \"a/b\": {\"m~n\": -1.5e3},\n" +
+                                           "  \"age\": 99\n" +
+                                           "}";
+
+    @Test
+    public void lookup() throws Exception
+    {
+        JsonParameters parameters = new JsonParameters("name", "age", "admin", "nickname", "address.city",
+                                                       "/address/zip", "address.lines.1", "address.lines.7",
+                                                       "/a~1b/m~0n", "address", "missing.field")
+                .read(new StringReader(DOCUMENT));
+
+        assertEquals("Thomas \"T\" \u00c6", parameters.getText("name").getValue());
+        assertEquals(Integer.valueOf(25), parameters.getInt("age").getValue());
+        assertFalse(parameters.getBoolean("admin").getValue());
+        assertNull(parameters.getText("nickname").getValue());
+        assertEquals("Copenhagen", parameters.getText("address.city").getValue());
+        assertEquals(Integer.valueOf(2100), parameters.getInt("/address/zip").getValue());
+        assertEquals("b", parameters.getText("address.lines.1").getValue());
+        assertNull(parameters.getText("address.lines.7").getValue());
+        assertEquals("-1.5e3", parameters.getText("/a~1b/m~0n").getValue());
+        assertNull(parameters.getText("address").getValue());
+        assertNull(parameters.getText("missing.field").getValue());
+        assertNull(parameters.getText("ignored").getValue());
+    }
+
+    @Test
+    public void skipsAcrossBufferBoundaries() throws Exception
+    {
+        StringBuilder document = new StringBuilder("{\"ignored\": [");
+        for (int x = 0; x < 5000; x++)
+            document.append("\"value \\\"").append(x).append("\\\"\", ");
+        document.append("{}], \"long\": \"");
+        for (int x = 0; x < 10000; x++)
+            document.append((char) ('a' + x % 26));
+        document.append("\", \"after\": 7}");
+
+        JsonParameters parameters = new JsonParameters("long", "after").read(new StringReader(document.toString()));
+        assertEquals(10000, parameters.getText("long").getValue().length());
+        assertEquals(Integer.valueOf(7), parameters.getInt("after").getValue());
+    }
+
+    @Test
+    public void malformed() throws Exception
+    {
+        for (String document : Arrays.asList("{", "{\"a\" 1}", "{\"a\": 1,}", "[1 2]", "{\"a\": 01}", "{\"a\": 1.}",
+                                             "{\"a\": tru}", "\"unterminated", "{\"a\": \"\\x\"}", "{} {}",
+                                             "{\"ignored\": [1, }", "{\"a\": \"\u0001\"}", "", "-"))
+            try {
+                new JsonParameters("a").read(new StringReader(document));
+                fail(document);
+            } catch (JsonFormatException e) {
+            }
+    }
+
+    @Test
+    public void maxDepth() throws Exception
+    {
+        StringBuilder document = new StringBuilder();
+        for (int x = 0; x < 10; x++)
+            document.append('[');
+        for (int x = 0; x < 10; x++)
+            document.append(']');
+
+        new JsonParameters(Arrays.asList("a"), 10).read(new StringReader(document.toString()));
+        try {
+            new JsonParameters(Arrays.asList("a"), 9).read(new StringReader(document.toString()));
+            fail();
+        } catch (JsonFormatException e) {
+        }
+    }
+
+    @Test
+    public void segments() throws Exception
+    {
+        assertEquals(Arrays.asList("a", "b", "0"), JsonParameters.segments("a.b.0"));
+        assertEquals(Arrays.asList("a/b", "c~d", ""), JsonParameters.segments("/a~1b/c~0d/"));
+        assertEquals(Arrays.asList(), JsonParameters.segments(""));
+
+        for (String path : Arrays.asList("a..b", ".a", "/a~2", "/a~"))
+            try {
+                JsonParameters.segments(path);
+                fail(path);
+            } catch (IllegalArgumentException e) {
+            }
+    }
+}
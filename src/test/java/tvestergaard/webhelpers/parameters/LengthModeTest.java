@@ -0,0 +1,87 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static tvestergaard.webhelpers.parameters.LengthMode.*;
+
+public class LengthModeTest
+{
+
+    private static final String ASCII     = "plain text";
+    private static final String ACCENTS   = "e\u0301te\u0301";
+    private static final String EMOJI     = "\uD83D\uDC4D\uD83C\uDFFD";
+    private static final String FAMILY    = "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67";
+    private static final String FLAGS     = "\uD83C\uDDE9\uD83C\uDDF0\uD83C\uDDEC\uD83C\uDDE7";
+    private static final String NEWLINES  = "a\r\nb\n\rc";
+    private static final String SURROGATE = "a\uD800b";
+
+    @Test
+    public void utf16() throws Exception
+    {
+        assertEquals(10, UTF16.length(ASCII));
+        assertEquals(4, UTF16.length(EMOJI));
+    }
+
+    @Test
+    public void codePoints() throws Exception
+    {
+        for (String text : new String[]{ASCII, ACCENTS, EMOJI, FAMILY, FLAGS, NEWLINES, SURROGATE})
+            assertEquals(text.codePointCount(0, text.length()), CODE_POINTS.length(text));
+    }
+
+    @Test
+    public void utf8Bytes() throws Exception
+    {
+        for (String text : new String[]{ASCII, ACCENTS, EMOJI, FAMILY, FLAGS, NEWLINES, SURROGATE, "\u00E6\u4E2D"})
+            assertEquals(text.getBytes(StandardCharsets.UTF_8).length, UTF8_BYTES.length(text));
+    }
+
+    @Test
+    public void graphemes() throws Exception
+    {
+        assertEquals(10, GRAPHEMES.length(ASCII));
+        assertEquals(3, GRAPHEMES.length(ACCENTS));
+        assertEquals(1, GRAPHEMES.length(EMOJI));
+        assertEquals(1, GRAPHEMES.length(FAMILY));
+        assertEquals(2, GRAPHEMES.length(FLAGS));
+        assertEquals(6, GRAPHEMES.length(NEWLINES));
+        assertEquals(3, GRAPHEMES.length("ab" + ACCENTS.substring(0, 2)));
+    }
+
+    @Test
+    public void stopsAtLimit() throws Exception
+    {
+        String text = String.join("", Collections.nCopies(1000, ACCENTS));
+
+        assertTrue(GRAPHEMES.length(text, 5) > 5);
+        assertTrue(GRAPHEMES.length(text, 5) < 10);
+        assertTrue(UTF8_BYTES.length(text, 5) > 5);
+        assertTrue(CODE_POINTS.length(text, 5) > 5);
+        assertEquals(3000, GRAPHEMES.length(text, 3000));
+    }
+
+    @Test
+    public void checks() throws Exception
+    {
+        List<Integer>         failures  = new ArrayList<>();
+        TextParameter<String> parameter = new TextParameter<>("name", FAMILY, Collections.emptyList());
+
+        assertTrue(parameter.isLength(1, GRAPHEMES));
+        assertTrue(parameter.isLength(5, CODE_POINTS));
+        assertFalse(parameter.isLength(5, UTF16, (p, length) -> failures.add(length)));
+        assertTrue(parameter.isShorterThan(2, GRAPHEMES));
+        assertFalse(parameter.isShorterThan(18, UTF8_BYTES, (p, length) -> failures.add(length)));
+        assertTrue(parameter.isLongerThan(17, UTF8_BYTES));
+        assertFalse(parameter.isLongerThan(1, GRAPHEMES, (p, upper) -> failures.add(upper)));
+        assertEquals(3, parameter.getFailureCount());
+        assertEquals(Integer.valueOf(5), failures.get(0));
+        assertEquals(Integer.valueOf(18), failures.get(1));
+        assertEquals(Integer.valueOf(1), failures.get(2));
+    }
+}
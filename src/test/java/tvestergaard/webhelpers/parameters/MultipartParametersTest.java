@@ -0,0 +1,216 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class MultipartParametersTest
+{
+
+    private static final String BOUNDARY = "----boundary7MA4YWxk";
+
+    private static CompletableFuture<Parameters<String>> read(MultipartParameters parameters, ChunkedInputStream input)
+            throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getContentType()).thenReturn("multipart/form-data; boundary=\"" + BOUNDARY + "\"");
+        when(request.getInputStream()).thenReturn(input);
+
+        return parameters.read(request).toCompletableFuture();
+    }
+
+    private static String field(String name, String value)
+    {
+        return "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" + value + "\r\n";
+    }
+
+    private static String file(String name, String filename, String content)
+    {
+        return "--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"" + name + "\"; filename=\"" + filename +
+               "\"\r\nContent-Type: text/plain\r\n\r\n" + content + "\r\n";
+    }
+
+    @Test
+    public void read() throws Exception
+    {
+        MultipartParameters                   parameters = new MultipartParameters(1 << 20, 10, 64, 1 << 16, 16);
+        ChunkedInputStream                    input      = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result     = read(parameters, input);
+
+        String body = "preamble\r\n" + field("name", "Thomas\r\n--not-a-boundary") + field("age", "25") +
+                      file("small", "a.txt", "tiny") + file("large", "b.txt", "0123456789abcdefghij") +
+                      field("name", "ignored") + "--" + BOUNDARY + "--\r\nepilogue";
+        for (int x = 0; x < body.length(); x += 7)
+            input.feed(body.substring(x, Math.min(body.length(), x + 7)));
+        input.finish();
+
+        assertSame(parameters, result.get());
+        assertEquals("Thomas\r\n--not-a-boundary", parameters.getText("name").getValue());
+        assertEquals(Integer.valueOf(25), parameters.getInt("age").getValue());
+        assertNull(parameters.getText("small").getValue());
+
+        MultipartFile small = parameters.getFile("small");
+        assertEquals("a.txt", small.getFilename());
+        assertEquals("text/plain", small.getContentType());
+        assertEquals("tiny", text(small.getContent()));
+        assertFalse(small.isSpilled());
+
+        MultipartFile large = parameters.getFile("large");
+        assertEquals(20, large.getSize());
+        assertEquals("0123456789abcdefghij", text(large.getContent()));
+        assertTrue(large.isSpilled());
+    }
+
+    @Test
+    public void readRejectsFailedFieldCheck() throws Exception
+    {
+        MultipartParameters parameters = new MultipartParameters(1 << 20, 10, 64, 1024, 512);
+        parameters.addFieldCheck("name", parameter -> parameter.notLongerThan(4));
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(parameters, input);
+
+        input.feed(field("name", "Thomas") + "--" + BOUNDARY);
+        assertEquals("name", rejection(result).getName());
+        assertFalse(input.feed(file("upload", "a.txt", "never read")));
+    }
+
+    @Test
+    public void readRejectsLargeParts() throws Exception
+    {
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(new MultipartParameters(1 << 20, 10, 4, 1024, 512), input);
+        input.feed(field("name", "Thomas"));
+        assertEquals("name", rejection(result).getName());
+
+        input = new ChunkedInputStream();
+        result = read(new MultipartParameters(1 << 20, 10, 64, 8, 4), input);
+        input.feed(file("upload", "a.txt", "0123456789"));
+        assertEquals("upload", rejection(result).getName());
+    }
+
+    @Test
+    public void readRejectsLargeHeaderBlocks() throws Exception
+    {
+        StringBuilder headers = new StringBuilder();
+        for (int x = 0; x < 200; x++)
+            headers.append("X-Padding-").append(x).append(": 0123456789abcdef0123456789abcdef\r\n");
+
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(new MultipartParameters(1 << 20, 10, 64, 1024, 512), input);
+        input.feed("--" + BOUNDARY + "\r\nContent-Disposition: form-data; name=\"name\"\r\n" + headers + "\r\nThomas\r\n");
+        assertEquals("name", rejection(result).getName());
+
+        input = new ChunkedInputStream();
+        result = read(new MultipartParameters(1 << 20, 256, 64, 1024, 512), input);
+        StringBuilder body = new StringBuilder();
+        for (int x = 0; x < 200; x++)
+            body.append(field("name" + x, "0123456789abcdef0123456789abcdef"));
+        input.feed(body + "--" + BOUNDARY + "--\r\n");
+        input.finish();
+        assertEquals("0123456789abcdef0123456789abcdef", result.get().getText("name199").getValue());
+    }
+
+    @Test
+    public void readRejectsTruncatedBody() throws Exception
+    {
+        ChunkedInputStream                    input  = new ChunkedInputStream();
+        CompletableFuture<Parameters<String>> result = read(new MultipartParameters(1 << 20, 10, 64, 1024, 512), input);
+
+        input.feed(field("name", "Thomas"));
+        input.finish();
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    public void parameter() throws Exception
+    {
+        String header = "form-data; name=\"a;b\"; filename=\"x\\\"y.txt\"; size=12";
+        assertEquals("a;b", MultipartParameters.parameter(header, "name"));
+        assertEquals("x\"y.txt", MultipartParameters.parameter(header, "filename"));
+        assertEquals("12", MultipartParameters.parameter(header, "SIZE"));
+        assertNull(MultipartParameters.parameter(header, "missing"));
+        assertEquals("abc", MultipartParameters.parameter("multipart/form-data; boundary=abc", "boundary"));
+    }
+
+    private static String text(ByteBuffer buffer)
+    {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static FormRejectedException rejection(CompletableFuture<Parameters<String>> result) throws Exception
+    {
+        try {
+            result.get();
+            fail();
+            return null;
+        } catch (ExecutionException e) {
+            return (FormRejectedException) e.getCause();
+        }
+    }
+
+    /**
+     * {@code ServletInputStream} delivering the body in chunks provided by the test.
+     */
+    private static class ChunkedInputStream extends ServletInputStream
+    {
+
+        private ReadListener listener;
+        private byte[]       chunk    = new byte[0];
+        private int          position = 0;
+        private boolean      finished = false;
+
+        boolean feed(String chunk) throws Exception
+        {
+            this.chunk = chunk.getBytes(StandardCharsets.UTF_8);
+            this.position = 0;
+            listener.onDataAvailable();
+            return position == this.chunk.length;
+        }
+
+        void finish() throws Exception
+        {
+            finished = true;
+            listener.onAllDataRead();
+        }
+
+        @Override public boolean isFinished()
+        {
+            return finished;
+        }
+
+        @Override public boolean isReady()
+        {
+            return position < chunk.length;
+        }
+
+        @Override public void setReadListener(ReadListener listener)
+        {
+            this.listener = listener;
+        }
+
+        @Override public int read()
+        {
+            return position < chunk.length ? chunk[position++] & 0xFF : -1;
+        }
+
+        @Override public int read(byte[] b, int off, int len)
+        {
+            int count = Math.min(len, chunk.length - position);
+            System.arraycopy(chunk, position, b, off, count);
+            position += count;
+            return count;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class RequestArenaTest
+{
+
+    @Test
+    public void parametersAreReused() throws Exception
+    {
+        HttpServletRequest first = Mockito.mock(HttpServletRequest.class);
+        when(first.getParameter("name")).thenReturn("first");
+        HttpServletRequest second = Mockito.mock(HttpServletRequest.class);
+        when(second.getParameter("name")).thenReturn("second");
+
+        Parameters<String> parameters;
+        try (RequestArena arena = RequestArena.open()) {
+            parameters = arena.parameters(first);
+            parameters.addTextFailureHandler(new TextParameter.FailureHandler<String>()
+            {
+            });
+            assertEquals("first", parameters.getText("name").getValue());
+        }
+
+        try (RequestArena arena = RequestArena.open()) {
+            assertSame(parameters, arena.parameters(second));
+            assertEquals("second", parameters.getText("name").getValue());
+            assertTrue(((HttpServletRequestParameters) parameters).textParameterFailureHandlers.isEmpty());
+        }
+    }
+
+    @Test
+    public void settingsAreReset() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("name")).thenReturn("  value  ");
+
+        try (RequestArena arena = RequestArena.open()) {
+            HttpServletRequestParameters parameters = arena.parameters(request);
+            parameters.setTextNormalizer(TextNormalizer.of(TextNormalizer.Step.TRIM));
+            parameters.setParallelThreshold(1);
+            assertEquals("value", parameters.getText("name").getValue());
+        }
+
+        try (RequestArena arena = RequestArena.open()) {
+            HttpServletRequestParameters parameters = arena.parameters(request);
+            assertEquals("  value  ", parameters.getText("name").getValue());
+            assertTrue(parameters.onText("name", parameter -> parameter.isLength(9)));
+        }
+    }
+
+    @Test
+    public void nestedOpenLeavesOuterArena() throws Exception
+    {
+        HttpServletRequest outer = Mockito.mock(HttpServletRequest.class);
+        when(outer.getParameter("name")).thenReturn("outer");
+        HttpServletRequest inner = Mockito.mock(HttpServletRequest.class);
+        when(inner.getParameter("name")).thenReturn("inner");
+
+        Parameters<String> parameters;
+        try (RequestArena arena = RequestArena.open()) {
+            parameters = arena.parameters(outer);
+            try (RequestArena nested = RequestArena.open()) {
+                assertNotSame(arena, nested);
+                assertEquals("inner", nested.parameters(inner).getText("name").getValue());
+            }
+            assertEquals("outer", parameters.getText("name").getValue());
+        }
+
+        try (RequestArena arena = RequestArena.open()) {
+            assertSame(parameters, arena.parameters(outer));
+        }
+    }
+
+    @Test
+    public void removeReleasesPooledArena() throws Exception
+    {
+        Parameters<String> parameters;
+        try (RequestArena arena = RequestArena.open()) {
+            parameters = arena.parameters(null);
+        }
+
+        RequestArena.remove();
+
+        try (RequestArena arena = RequestArena.open()) {
+            assertNotSame(parameters, arena.parameters(null));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void useAfterCloseThrowsWhenLeakDetected() throws Exception
+    {
+        RequestArena.setLeakDetection(true);
+        try {
+            RequestArena arena = RequestArena.open();
+            arena.close();
+            arena.parameters(null);
+        } finally {
+            RequestArena.setLeakDetection(false);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class RuleLoaderTest
+{
+
+    private static final String RULES = "# The rules used by the tests.\n" +
+                                        "username text isPresent\n" +
+                                        "username text notLongerThan 8\n" +
+                                        "username text isMatch ^[a-z_]+$\n" +
+                                        "role     text isIn admin, user\n" +
+                                        "\n" +
+                                        "age      int  isBetween 18 130\n";
+
+    private static Parameters<String> parameters(String username, String role, String age)
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("username")).thenReturn(username);
+        when(request.getParameter("role")).thenReturn(role);
+        when(request.getParameter("age")).thenReturn(age);
+
+        return new HttpServletRequestParameters(request);
+    }
+
+    @Test
+    public void validate() throws Exception
+    {
+        Validator<Parameters<String>> validator = RuleLoader.load(new StringReader(RULES));
+
+        assertTrue(validator.validate(parameters("thomas", "admin", "25")));
+        assertTrue(validator.validate(parameters("thomas", null, "25")));
+        assertFalse(validator.validate(parameters(null, "admin", "25")));
+        assertFalse(validator.validate(parameters("thomas_vestergaard", "admin", "25")));
+        assertFalse(validator.validate(parameters("Thomas", "admin", "25")));
+        assertFalse(validator.validate(parameters("thomas", "root", "25")));
+        assertFalse(validator.validate(parameters("thomas", "user", "17")));
+        assertFalse(validator.validate(parameters("thomas", "user", "twenty")));
+        assertFalse(validator.validate(parameters("thomas", "user", null)));
+    }
+
+    @Test
+    public void loadDefinesConstantCopy() throws Exception
+    {
+        Validator<Parameters<String>> first  = RuleLoader.load(new StringReader(RULES));
+        Validator<Parameters<String>> second = RuleLoader.load(new StringReader("age int isBetween 0 17\n"));
+
+        assertEquals(CompiledRules.class.getName(), first.getClass().getName());
+        assertNotSame(CompiledRules.class, first.getClass());
+        assertNotSame(first.getClass(), second.getClass());
+        assertTrue(first.validate(parameters("thomas", "admin", "25")));
+        assertFalse(second.validate(parameters("thomas", "admin", "25")));
+    }
+
+    @Test
+    public void validateNotifiesFailureHandlers() throws Exception
+    {
+        Validator<Parameters<String>> validator = RuleLoader.load(new StringReader(RULES));
+        Parameters<String>            parameters = parameters("Thomas_Vestergaard", "user", "25");
+        int[]                         failures   = new int[2];
+        parameters.addTextFailureHandler(new TextParameter.FailureHandler<String>()
+        {
+            @Override public void notLongerThanFailure(TextParameter<String> parameter, int lower)
+            {
+                failures[0]++;
+            }
+
+            @Override public void isMatchFailure(TextParameter<String> parameter, java.util.regex.Pattern pattern)
+            {
+                failures[1]++;
+            }
+        });
+
+        assertFalse(validator.validate(parameters));
+        assertEquals(1, failures[0]);
+        assertEquals(1, failures[1]);
+    }
+
+    @Test
+    public void validateEmptyRules() throws Exception
+    {
+        assertTrue(RuleLoader.load(new StringReader("# Nothing to check.\n")).validate(parameters(null, null, null)));
+    }
+
+    @Test(expected = RuleFormatException.class)
+    public void loadThrowsRuleFormatExceptionOnUnknownType() throws Exception
+    {
+        RuleLoader.load(new StringReader("username date isPresent\n"));
+    }
+
+    @Test(expected = RuleFormatException.class)
+    public void loadThrowsRuleFormatExceptionOnUnknownCheck() throws Exception
+    {
+        RuleLoader.load(new StringReader("age int isEmpty\n"));
+    }
+
+    @Test(expected = RuleFormatException.class)
+    public void loadThrowsRuleFormatExceptionOnMalformedArgument() throws Exception
+    {
+        RuleLoader.load(new StringReader("age int isGreaterThan eighteen\n"));
+    }
+
+    @Test
+    public void loadReportsLine() throws Exception
+    {
+        try {
+            RuleLoader.load(new StringReader("username text isPresent\n\nusername text isLength\n"));
+            fail();
+        } catch (RuleFormatException e) {
+            assertEquals(3, e.getLine());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+public class StructuredNamesTest
+{
+
+    @Test
+    public void segments() throws Exception
+    {
+        assertEquals(Arrays.asList("items", 17, "qty"), StructuredNames.segments("items[17].qty"));
+        assertEquals(Arrays.asList("order", "lines", 2, "price"), StructuredNames.segments("order.lines[2][price]"));
+        assertEquals(Arrays.asList("a", "01", "b"), StructuredNames.segments("a[01][b]"));
+        assertEquals(Arrays.asList("items[3"), StructuredNames.segments("items[3"));
+        assertEquals(Arrays.asList("a..b"), StructuredNames.segments("a..b"));
+    }
+
+    @Test
+    public void indices() throws Exception
+    {
+        StructuredNames names = StructuredNames.of(Arrays.asList("items[10].qty", "items[2].qty", "items[2].sku",
+                                                                 "items[10][sku]", "order.lines[0].price", "name"));
+
+        assertArrayEquals(new int[]{2, 10}, names.indices("items"));
+        assertArrayEquals(new int[]{0}, names.indices("order.lines"));
+        assertArrayEquals(new int[0], names.indices("name"));
+        assertArrayEquals(new int[0], names.indices("missing"));
+        assertEquals("items[10][sku]", names.name("items", 10, "sku"));
+        assertEquals("items[2].qty", names.name("items", 2, "qty"));
+        assertNull(names.name("items", 3, "qty"));
+        assertTrue(names.contains("order.lines"));
+        assertFalse(names.contains("order.items"));
+    }
+
+    @Test
+    public void deeplyNestedName() throws Exception
+    {
+        StringBuilder deep = new StringBuilder("a");
+        for (int x = 0; x < 10000; x++)
+            deep.append("[0]");
+        StringBuilder limit = new StringBuilder("b");
+        for (int x = 1; x < StructuredNames.MAX_DEPTH; x++)
+            limit.append("[0]");
+
+        assertEquals(Arrays.asList(deep.toString()), StructuredNames.segments(deep.toString()));
+        assertEquals(StructuredNames.MAX_DEPTH, StructuredNames.segments(limit.toString()).size());
+
+        StructuredNames names = StructuredNames.of(Arrays.asList(deep.toString(), limit.toString()));
+        assertTrue(names.contains(deep.toString()));
+        assertArrayEquals(new int[0], names.indices("a"));
+        assertArrayEquals(new int[]{0}, names.indices("b"));
+        assertTrue(names.contains(limit.toString()));
+    }
+
+    @Test
+    public void forEach() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("items[0].qty")).thenReturn("3");
+        when(request.getParameter("items[1].qty")).thenReturn("-1");
+        when(request.getParameter("items[2].sku")).thenReturn("A-1");
+
+        StructuredNames names = StructuredNames.of(Arrays.asList("items[0].qty", "items[1].qty", "items[2].sku"));
+        HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+
+        List<String> seen = new ArrayList<>();
+        assertFalse(names.forEach("items", "qty", parameters::getText, (index, qty) -> {
+            seen.add(index + "=" + qty.getValue());
+            qty.isPresent();
+        }));
+        assertEquals(Arrays.asList("0=3", "1=-1", "2=null"), seen);
+
+        assertTrue(names.forEach("items", "sku", parameters::getText, (index, sku) -> {
+        }));
+    }
+}
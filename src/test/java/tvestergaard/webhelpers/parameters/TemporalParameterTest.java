@@ -0,0 +1,124 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class TemporalParameterTest
+{
+
+    @Test
+    public void parseDate() throws Exception
+    {
+        for (String text : Arrays.asList("1970-01-01", "2000-02-29", "1600-03-01", "0001-01-01", "9999-12-31", "2024-12-31"))
+            assertEquals(LocalDate.parse(text).toEpochDay(), Iso8601.parseDate(text));
+
+        LocalDate date = LocalDate.of(1899, 1, 1);
+        for (int x = 0; x < 100000; x += 7, date = date.plusDays(7))
+            assertEquals(date.toEpochDay(), Iso8601.parseDate(date.toString()));
+
+        for (String text : Arrays.asList("1900-02-29", "2023-04-31", "2023-13-01", "2023-00-10", "2023-1-01",
+                                         "2023/01/01", "20230101", "2023-01-01T", "", null))
+            assertEquals(Iso8601.INVALID, Iso8601.parseDate(text));
+    }
+
+    @Test
+    public void parseInstant() throws Exception
+    {
+        for (String text : Arrays.asList("2017-06-01T12:30:00Z", "2017-06-01T12:30Z", "2017-06-01T12:30:15.123456Z",
+                                         "2017-06-01T12:30:15.5+02:00", "1969-12-31T23:59:59.999-05:30"))
+            assertEquals(OffsetDateTime.parse(text).toInstant().toEpochMilli(), Iso8601.parseInstant(text));
+
+        for (String text : Arrays.asList("2017-06-01T24:00:00Z", "2017-06-01T12:60Z", "2017-06-01T12:30:00",
+                                         "2017-06-01T12:30:00.Z", "2017-06-01T12:30:00+2:00", "2017-06-01 12:30:00Z",
+                                         "2017-06-01T12:30:00Z ", "2017-06-01T12:30:00+19:00"))
+            assertEquals(text, Iso8601.INVALID, Iso8601.parseInstant(text));
+    }
+
+    @Test
+    public void parseDuration() throws Exception
+    {
+        for (String text : Arrays.asList("PT0S", "P2D", "PT1H30M", "P1DT2H3M4.5S", "PT0.001S", "-PT15M", "PT36H"))
+            assertEquals(Duration.parse(text).toMillis(), Iso8601.parseDuration(text));
+
+        for (String text : Arrays.asList("P", "PT", "P1H", "PT1D", "PT1M1H", "PT1.5M", "1D", "P1DT",
+                                         "PT9999999999999999999S", "P106751991168D"))
+            assertEquals(text, Iso8601.INVALID, Iso8601.parseDuration(text));
+    }
+
+    @Test
+    public void checks() throws Exception
+    {
+        DateParameter<String> date = new DateParameter<>("date", "2017-06-15", Arrays.asList());
+        assertTrue(date.isWellFormed());
+        assertEquals(LocalDate.of(2017, 6, 15), date.getValue());
+        assertTrue(date.isAfter(LocalDate.of(2017, 6, 14)));
+        assertFalse(date.isBefore(LocalDate.of(2017, 6, 15)));
+        assertTrue(date.isWithin(LocalDate.of(2017, 6, 15), LocalDate.of(2017, 6, 15)));
+        assertEquals(1, date.getFailureCount());
+
+        InstantParameter<String> instant = new InstantParameter<>("instant", "2017-06-15T10:00:00Z", Arrays.asList());
+        assertEquals(Instant.parse("2017-06-15T10:00:00Z"), instant.getValue());
+        assertTrue(instant.isBefore(Instant.parse("2017-06-15T10:00:00.001Z")));
+
+        DurationParameter<String> duration = new DurationParameter<>("duration", "PT90M", Arrays.asList());
+        assertTrue(duration.isWithin(Duration.ofHours(1), Duration.ofHours(2)));
+        assertEquals(5400000, duration.getMillis());
+    }
+
+    @Test
+    public void primitiveBounds() throws Exception
+    {
+        DateParameter<String> date     = new DateParameter<>("date", "2017-06-15", Arrays.asList());
+        long                  epochDay = LocalDate.of(2017, 6, 15).toEpochDay();
+        assertTrue(date.isBefore(epochDay + 1));
+        assertTrue(date.isAfter(epochDay - 1));
+        assertTrue(date.isWithin(epochDay, epochDay));
+        assertEquals(0, date.getFailureCount());
+
+        LocalDate[] bounds = new LocalDate[2];
+        assertFalse(date.isWithin(epochDay + 1, epochDay + 2, (parameter, lower, upper) -> {
+            bounds[0] = lower;
+            bounds[1] = upper;
+        }));
+        assertEquals(LocalDate.of(2017, 6, 16), bounds[0]);
+        assertEquals(LocalDate.of(2017, 6, 17), bounds[1]);
+
+        InstantParameter<String> instant = new InstantParameter<>("instant", "2017-06-15T10:00:00Z", Arrays.asList());
+        assertFalse(instant.isAfter(Instant.parse("2017-06-15T10:00:00Z").toEpochMilli()));
+        assertEquals(Instant.parse("2017-06-15T10:00:00Z"), instant.getValue());
+        assertSame(instant.getValue(), instant.getValue());
+    }
+
+    @Test
+    public void malformedIsReportedThroughCallback() throws Exception
+    {
+        String[] malformed = new String[1];
+        DateParameter.FailureHandler<String> handler = new DateParameter.FailureHandler<String>()
+        {
+            @Override public void isWellFormedFailure(ConvertedParameter<String, LocalDate> parameter, String text)
+            {
+                malformed[0] = text;
+            }
+        };
+
+        DateParameter<String> date = new DateParameter<>("date", "2017-02-30", Arrays.asList(handler));
+        assertNull(date.getValue());
+        assertFalse(date.isWellFormed());
+        assertEquals("2017-02-30", malformed[0]);
+
+        assertTrue(new DateParameter<String>("date", null, Arrays.asList()).isWellFormed());
+    }
+
+    @Test(expected = NullParameterValueException.class)
+    public void checkThrowsNullValueException() throws Exception
+    {
+        new DateParameter<String>("date", "invalid", Arrays.asList()).isAfter(LocalDate.MIN);
+    }
+}
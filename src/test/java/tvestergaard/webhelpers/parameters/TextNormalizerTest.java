@@ -0,0 +1,62 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import javax.servlet.http.HttpServletRequest;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+import static tvestergaard.webhelpers.parameters.TextNormalizer.Step.*;
+
+public class TextNormalizerTest
+{
+
+    @Test
+    public void scan() throws Exception
+    {
+        assertEquals(0, TextNormalizer.scan(""));
+        assertEquals(0, TextNormalizer.scan("abc"));
+        assertEquals(0, TextNormalizer.scan("lower case @[`{ text"));
+        assertEquals(2, TextNormalizer.scan("A"));
+        assertEquals(2, TextNormalizer.scan("abcdZ"));
+        assertEquals(2, TextNormalizer.scan("abcdefgH"));
+        assertEquals(1, TextNormalizer.scan("abc\u00E9"));
+        assertEquals(1, TextNormalizer.scan("ABCDE\u0100"));
+    }
+
+    @Test
+    public void normalize() throws Exception
+    {
+        TextNormalizer normalizer = TextNormalizer.of(TRIM, NFC).then(CASE_FOLD);
+        String         ascii      = "already normalized";
+
+        assertSame(ascii, normalizer.normalize(ascii));
+        assertSame(ascii, TextNormalizer.NONE.normalize(ascii));
+        assertNull(normalizer.normalize(null));
+        assertEquals("mixed case", normalizer.normalize("  Mixed CASE\t"));
+        assertEquals("\u00E9t\u00E9", normalizer.normalize("E\u0301T\u00C9"));
+        assertEquals("strasse", normalizer.normalize("Stra\u00DFe"));
+        assertEquals("fi2", TextNormalizer.of(NFKC).normalize("\uFB01\u00B2"));
+        assertEquals(" A ", TextNormalizer.of(NFC).normalize(" A "));
+    }
+
+    @Test
+    public void setTextNormalizer() throws Exception
+    {
+        HttpServletRequest request = Mockito.mock(HttpServletRequest.class);
+        when(request.getParameter("email")).thenReturn(" User@Example.COM ");
+
+        HttpServletRequestParameters parameters = new HttpServletRequestParameters(request);
+        assertEquals(" User@Example.COM ", parameters.getText("email").getValue());
+
+        parameters.setTextNormalizer(TextNormalizer.of(TRIM, CASE_FOLD));
+        TextParameter<String> email = parameters.getText("email");
+        assertEquals("user@example.com", email.getValue());
+        assertEquals(" User@Example.COM ", email.getRawValue());
+        assertTrue(parameters.onText("email", parameter -> {
+            assertEquals("user@example.com", parameter.getValue());
+            parameter.isEmail();
+        }));
+    }
+}
@@ -0,0 +1,92 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class TextScannersTest
+{
+
+    @Test
+    public void corpus() throws Exception
+    {
+        int lines = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("text-scanners-corpus.txt"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                String[] parts    = line.split(" ", 3);
+                boolean  expected = parts[1].equals("+");
+                assertEquals(line, expected, scan(parts[0], parts[2]));
+                lines++;
+            }
+        }
+
+        assertTrue(lines > 80);
+    }
+
+    @Test
+    public void ipv6() throws Exception
+    {
+        long[] bits = new long[2];
+
+        assertTrue(TextScanners.ipv6("2001:db8::ff00:42:8329", 0, 22, bits));
+        assertEquals(0x20010DB800000000L, bits[0]);
+        assertEquals(0x0000FF0000428329L, bits[1]);
+
+        assertTrue(TextScanners.ipv6("::1", 0, 3, bits));
+        assertEquals(0, bits[0]);
+        assertEquals(1, bits[1]);
+
+        assertTrue(TextScanners.ipv6("::ffff:192.0.2.128", 0, 18, bits));
+        assertEquals(0, bits[0]);
+        assertEquals(0x0000FFFFC0000280L, bits[1]);
+
+        assertTrue(TextScanners.ipv6("fe80::", 0, 6, bits));
+        assertEquals(0xFE80000000000000L, bits[0]);
+        assertEquals(0, bits[1]);
+
+        assertEquals(0xC0000280L, TextScanners.ipv4("192.0.2.128", 0, 11));
+    }
+
+    @Test
+    public void checks() throws Exception
+    {
+        TextParameter<String> email = new TextParameter<>("email", "user@example.com", Arrays.asList());
+        TextParameter<String> host  = new TextParameter<>("host", "user@example.com", Arrays.asList());
+        String[]              failed = new String[1];
+
+        assertTrue(email.isEmail());
+        assertFalse(email.isUrl(parameter -> failed[0] = parameter.getName()));
+        assertFalse(host.isHostname());
+        assertFalse(host.isInetAddress());
+
+        assertEquals("email", failed[0]);
+        assertEquals(1, email.getFailureCount());
+        assertEquals(2, host.getFailureCount());
+    }
+
+    private static boolean scan(String kind, String text)
+    {
+        switch (kind) {
+            case "hostname":
+                return TextScanners.isHostname(text);
+            case "inet":
+                return TextScanners.isInetAddress(text);
+            case "email":
+                return TextScanners.isEmail(text);
+            case "url":
+                return TextScanners.isUrl(text);
+            default:
+                throw new IllegalArgumentException(kind);
+        }
+    }
+}
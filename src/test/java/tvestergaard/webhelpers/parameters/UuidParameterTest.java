@@ -0,0 +1,79 @@
+package tvestergaard.webhelpers.parameters;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.*;
+
+public class UuidParameterTest
+{
+
+    @Test
+    public void parse() throws Exception
+    {
+        for (int x = 0; x < 1000; x++) {
+            UUID uuid = UUID.randomUUID();
+            assertEquals(uuid, new UuidParameter<>("id", uuid.toString(), Arrays.asList()).getValue());
+            assertEquals(uuid, new UuidParameter<>("id", uuid.toString().toUpperCase(), Arrays.asList()).getValue());
+        }
+
+        UUID max = new UUID(-1, -1);
+        assertEquals(max, new UuidParameter<>("id", "ffffffff-ffff-ffff-ffff-ffffffffffff", Arrays.asList()).getValue());
+    }
+
+    @Test
+    public void malformedIsReportedThroughCallback() throws Exception
+    {
+        List<String> malformed = new ArrayList<>();
+        UuidParameter.FailureHandler<String> handler = new UuidParameter.FailureHandler<String>()
+        {
+            @Override public void isWellFormedFailure(ConvertedParameter<String, UUID> parameter, String text)
+            {
+                malformed.add(text);
+            }
+        };
+
+        List<String> texts = Arrays.asList("123e4567-e89b-12d3-a456-42661417400", "123e4567-e89b-12d3-a456-4266141740000",
+                                           "123e4567+e89b-12d3-a456-426614174000", "123e4567-e89b-12d3-a456-42661417400g",
+                                           "123e4567e89b12d3a456426614174000----", "1-2-3-4-5",
+                                           "123e4567-e89b-12d3-a456-42661417400\u0660");
+        for (String text : texts) {
+            UuidParameter<String> parameter = new UuidParameter<>("id", text, Arrays.asList(handler));
+            assertNull(parameter.getValue());
+            assertFalse(parameter.isWellFormed());
+        }
+
+        assertEquals(texts, malformed);
+    }
+
+    @Test
+    public void checks() throws Exception
+    {
+        UUID                  random    = UUID.randomUUID();
+        UuidParameter<String> parameter = new UuidParameter<>("id", random.toString(), Arrays.asList());
+
+        assertTrue(parameter.isVersion(4));
+        assertTrue(parameter.isVariant(2));
+        assertFalse(parameter.isVersion(1));
+        assertEquals(random.getMostSignificantBits(), parameter.getMostSignificantBits());
+
+        List<UUID> uuids = new ArrayList<>();
+        for (int x = 0; x < 100; x++)
+            uuids.add(UUID.randomUUID());
+        uuids.add(new UUID(0, 0));
+
+        UuidSet set = UuidSet.of(uuids);
+        assertEquals(101, set.size());
+        for (UUID uuid : uuids)
+            assertTrue(set.contains(uuid));
+        assertFalse(set.contains(random));
+
+        assertFalse(parameter.isInSet(set));
+        assertTrue(new UuidParameter<String>("id", uuids.get(17).toString(), Arrays.asList()).isInSet(set));
+        assertEquals(2, parameter.getFailureCount());
+    }
+}